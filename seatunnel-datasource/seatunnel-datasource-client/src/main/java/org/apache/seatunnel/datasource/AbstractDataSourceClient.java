@@ -18,39 +18,31 @@
 package org.apache.seatunnel.datasource;
 
 import org.apache.seatunnel.api.configuration.util.OptionRule;
-import org.apache.seatunnel.common.utils.ExceptionUtils;
-import org.apache.seatunnel.datasource.classloader.DatasourceClassLoader;
-import org.apache.seatunnel.datasource.classloader.DatasourceLoadConfig;
+import org.apache.seatunnel.datasource.classloader.DatasourcePlugin;
+import org.apache.seatunnel.datasource.classloader.DatasourcePluginRegistry;
 import org.apache.seatunnel.datasource.exception.DataSourceSDKException;
 import org.apache.seatunnel.datasource.plugin.api.DataSourceChannel;
-import org.apache.seatunnel.datasource.plugin.api.DataSourceFactory;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginInfo;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
 import org.apache.seatunnel.datasource.service.DataSourceService;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.File;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 @Slf4j
 public abstract class AbstractDataSourceClient implements DataSourceService {
-    private static final String ST_WEB_BASEDIR_PATH = "ST_WEB_BASEDIR_PATH";
-    //    private ClassLoader datasourceClassLoader; // thradlocal
-    private ThreadLocal<ClassLoader> datasourceClassLoader = new ThreadLocal<>();
+
+    private final DatasourcePluginRegistry pluginRegistry;
 
     private Map<String, DataSourcePluginInfo> supportedDataSourceInfo = new HashMap<>();
 
@@ -58,50 +50,19 @@ public abstract class AbstractDataSourceClient implements DataSourceService {
 
     protected List<DataSourcePluginInfo> supportedDataSources = new ArrayList<>();
 
-    private List<DataSourceChannel> dataSourceChannels = new ArrayList<>();
-
-    private Map<String, DataSourceChannel> classLoaderChannel = new HashMap<>();
-
     protected AbstractDataSourceClient() {
-        AtomicInteger dataSourceIndex = new AtomicInteger();
-        for (String pluginName : DatasourceLoadConfig.pluginSet) {
-            log.info("plugin set : " + pluginName);
-            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
-            if (DatasourceLoadConfig.classLoaderChannel.get(pluginName.toUpperCase()) != null) {
-                log.info(pluginName + " is exist");
-                continue;
-            }
-            Thread.currentThread().setContextClassLoader(getCustomClassloader(pluginName));
-            try {
-                Class<?> clazz =
-                        Class.forName(
-                                DatasourceLoadConfig.classLoaderFactoryName.get(
-                                        pluginName.toUpperCase()),
-                                true,
-                                Thread.currentThread().getContextClassLoader());
-                DataSourceFactory factory =
-                        (DataSourceFactory) clazz.getDeclaredConstructor().newInstance();
-                log.info("factory : " + factory);
-                Set<DataSourcePluginInfo> dataSourcePluginInfos = factory.supportedDataSources();
-                dataSourcePluginInfos.forEach(
-                        dataSourceInfo -> {
-                            supportedDataSourceInfo.put(
-                                    dataSourceInfo.getName().toUpperCase(), dataSourceInfo);
-                            supportedDataSourceIndex.put(
-                                    dataSourceInfo.getName().toUpperCase(), dataSourceIndex.get());
-                            supportedDataSources.add(dataSourceInfo);
-                            log.info("factory : " + dataSourceInfo);
-                        });
-                DatasourceLoadConfig.classLoaderChannel.put(
-                        pluginName.toUpperCase(), factory.createChannel());
-                log.info(
-                        DatasourceLoadConfig.classLoaderChannel
-                                .get(pluginName.toUpperCase())
-                                .toString());
-            } catch (Exception e) {
-                log.warn("datasource " + pluginName + "is error" + ExceptionUtils.getMessage(e));
+        pluginRegistry =
+                new DatasourcePluginRegistry(Thread.currentThread().getContextClassLoader());
+        int dataSourceIndex = 0;
+        for (DatasourcePlugin plugin : pluginRegistry.getPlugins()) {
+            for (DataSourcePluginInfo dataSourceInfo : plugin.getDataSourcePluginInfos()) {
+                supportedDataSourceInfo.put(dataSourceInfo.getName().toUpperCase(), dataSourceInfo);
+                supportedDataSourceIndex.put(
+                        dataSourceInfo.getName().toUpperCase(), dataSourceIndex);
+                supportedDataSources.add(dataSourceInfo);
+                log.info("factory : " + dataSourceInfo);
             }
-            Thread.currentThread().setContextClassLoader(contextClassLoader);
+            dataSourceIndex++;
         }
         if (supportedDataSourceInfo.isEmpty()) {
             throw new DataSourceSDKException("No supported data source found");
@@ -111,12 +72,9 @@ public abstract class AbstractDataSourceClient implements DataSourceService {
     @Override
     public Boolean checkDataSourceConnectivity(
             String pluginName, Map<String, String> dataSourceParams) {
-        updateClassLoader(pluginName);
-        boolean isConnect =
-                getDataSourceChannel(pluginName)
-                        .checkDataSourceConnectivity(pluginName, dataSourceParams);
-        classLoaderRestore();
-        return isConnect;
+        return callWithPluginClassLoader(
+                pluginName,
+                channel -> channel.checkDataSourceConnectivity(pluginName, dataSourceParams));
     }
 
     @Override
@@ -125,28 +83,20 @@ public abstract class AbstractDataSourceClient implements DataSourceService {
     }
 
     protected DataSourceChannel getDataSourceChannel(String pluginName) {
-        checkNotNull(pluginName, "pluginName cannot be null");
-
-        return DatasourceLoadConfig.classLoaderChannel.get(pluginName.toUpperCase());
+        return getPlugin(pluginName).getChannel();
     }
 
     @Override
     public OptionRule queryDataSourceFieldByName(String pluginName) {
-        updateClassLoader(pluginName);
-        OptionRule dataSourceOptions =
-                getDataSourceChannel(pluginName).getDataSourceOptions(pluginName);
-        classLoaderRestore();
-        return dataSourceOptions;
+        return callWithPluginClassLoader(
+                pluginName, channel -> channel.getDataSourceOptions(pluginName));
     }
 
     @Override
     public OptionRule queryMetadataFieldByName(String pluginName) {
-        updateClassLoader(pluginName);
-        OptionRule datasourceMetadataFieldsByDataSourceName =
-                getDataSourceChannel(pluginName)
-                        .getDatasourceMetadataFieldsByDataSourceName(pluginName);
-        classLoaderRestore();
-        return datasourceMetadataFieldsByDataSourceName;
+        return callWithPluginClassLoader(
+                pluginName,
+                channel -> channel.getDatasourceMetadataFieldsByDataSourceName(pluginName));
     }
 
     @Override
@@ -155,21 +105,28 @@ public abstract class AbstractDataSourceClient implements DataSourceService {
             String databaseName,
             Map<String, String> requestParams,
             Map<String, String> options) {
-        updateClassLoader(pluginName);
-        List<String> tables =
-                getDataSourceChannel(pluginName)
-                        .getTables(pluginName, requestParams, databaseName, options);
-        classLoaderRestore();
-        return tables;
+        return callWithPluginClassLoader(
+                pluginName,
+                channel -> channel.getTables(pluginName, requestParams, databaseName, options));
     }
 
     @Override
     public List<String> getDatabases(String pluginName, Map<String, String> requestParams) {
-        updateClassLoader(pluginName);
-        List<String> databases =
-                getDataSourceChannel(pluginName).getDatabases(pluginName, requestParams);
-        classLoaderRestore();
-        return databases;
+        return callWithPluginClassLoader(
+                pluginName, channel -> channel.getDatabases(pluginName, requestParams));
+    }
+
+    @Override
+    public Boolean canAbleGetAllTables(String pluginName) {
+        return getDataSourceChannel(pluginName).canAbleGetAllTables();
+    }
+
+    @Override
+    public Map<String, List<String>> getAllTables(
+            String pluginName, Map<String, String> requestParams, List<String> databaseNames) {
+        return callWithPluginClassLoader(
+                pluginName,
+                channel -> channel.getAllTables(pluginName, requestParams, databaseNames));
     }
 
     @Override
@@ -178,12 +135,10 @@ public abstract class AbstractDataSourceClient implements DataSourceService {
             Map<String, String> requestParams,
             String databaseName,
             String tableName) {
-        updateClassLoader(pluginName);
-        List<TableField> tableFields =
-                getDataSourceChannel(pluginName)
-                        .getTableFields(pluginName, requestParams, databaseName, tableName);
-        classLoaderRestore();
-        return tableFields;
+        return callWithPluginClassLoader(
+                pluginName,
+                channel ->
+                        channel.getTableFields(pluginName, requestParams, databaseName, tableName));
     }
 
     @Override
@@ -192,12 +147,11 @@ public abstract class AbstractDataSourceClient implements DataSourceService {
             Map<String, String> requestParams,
             String databaseName,
             List<String> tableNames) {
-        updateClassLoader(pluginName);
-        Map<String, List<TableField>> tableFields =
-                getDataSourceChannel(pluginName)
-                        .getTableFields(pluginName, requestParams, databaseName, tableNames);
-        classLoaderRestore();
-        return tableFields;
+        return callWithPluginClassLoader(
+                pluginName,
+                channel ->
+                        channel.getTableFields(
+                                pluginName, requestParams, databaseName, tableNames));
     }
 
     @Override
@@ -207,100 +161,43 @@ public abstract class AbstractDataSourceClient implements DataSourceService {
             String databaseName,
             String tableName,
             String updateFieldType) {
-        updateClassLoader(pluginName);
-        Pair<String, String> tableSyncMaxValue =
-                getDataSourceChannel(pluginName)
-                        .getTableSyncMaxValue(
+        return callWithPluginClassLoader(
+                pluginName,
+                channel ->
+                        channel.getTableSyncMaxValue(
                                 pluginName,
                                 requestParams,
                                 databaseName,
                                 tableName,
-                                updateFieldType);
-        classLoaderRestore();
-        return tableSyncMaxValue;
+                                updateFieldType));
     }
 
-    private ClassLoader getCustomClassloader(String pluginName) {
-        String getenv =
-                System.getenv(ST_WEB_BASEDIR_PATH) == null
-                        ? System.getProperty(ST_WEB_BASEDIR_PATH)
-                        : System.getenv(ST_WEB_BASEDIR_PATH);
-        log.info("ST_WEB_BASEDIR_PATH is : " + getenv);
-        String libPath = StringUtils.isEmpty(getenv) ? "/datasource" : (getenv + "/datasource");
-
-        File jarDirectory = new File(libPath);
-        File[] jarFiles =
-                jarDirectory.listFiles(
-                        (dir, name) -> {
-                            String pluginUpperCase = pluginName.toUpperCase();
-                            String nameLowerCase = name.toLowerCase();
-                            if (pluginUpperCase.equals("KAFKA")) {
-                                return !nameLowerCase.contains("kingbase")
-                                        && nameLowerCase.startsWith(
-                                                DatasourceLoadConfig.classLoaderJarName.get(
-                                                        pluginUpperCase));
-                            } else {
-                                return nameLowerCase.startsWith(
-                                        DatasourceLoadConfig.classLoaderJarName.get(
-                                                pluginUpperCase));
-                            }
-                        });
-
-        log.info("jar file length :" + (jarFiles == null ? 0 : jarFiles.length));
-        log.info(
-                "jar file name :"
-                        + (jarFiles == null
-                                ? 0
-                                : jarFiles.length == 0 ? "no jar" : jarFiles[0].getName()));
-        DatasourceClassLoader customClassLoader =
-                DatasourceLoadConfig.datasourceClassLoaders.get(pluginName.toUpperCase());
-        try {
-            if (customClassLoader == null) {
-                jarFiles = jarFiles == null ? new File[0] : jarFiles;
-                URL[] urls = new URL[jarFiles.length];
-                for (int i = 0; i < jarFiles.length; i++) {
-                    try {
-                        urls[i] = jarFiles[i].toURI().toURL();
-                    } catch (MalformedURLException e) {
-                        e.printStackTrace();
-                    }
-                }
-                customClassLoader =
-                        new DatasourceClassLoader(
-                                urls, Thread.currentThread().getContextClassLoader());
-                DatasourceLoadConfig.datasourceClassLoaders.put(
-                        pluginName.toUpperCase(), customClassLoader);
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        log.info("custom loader is:" + customClassLoader);
-        return customClassLoader;
+    @Override
+    public Connection getConnection(String pluginName, Map<String, String> requestParams) {
+        return callWithPluginClassLoader(
+                pluginName, channel -> channel.getConnection(pluginName, requestParams));
     }
 
-    private void updateClassLoader(String pluginName) {
-        log.info("update class loader");
-        datasourceClassLoader.set(Thread.currentThread().getContextClassLoader());
-        ClassLoader customClassLoader = getCustomClassloader(pluginName);
-        Thread.currentThread().setContextClassLoader(customClassLoader);
-        log.info(customClassLoader.toString());
+    private DatasourcePlugin getPlugin(String pluginName) {
+        checkNotNull(pluginName, "pluginName cannot be null");
+        DatasourcePlugin plugin = pluginRegistry.getPlugin(pluginName);
+        if (plugin == null) {
+            throw new DataSourceSDKException("Datasource plugin %s is not loaded", pluginName);
+        }
+        return plugin;
     }
 
-    private void classLoaderRestore() {
+    /** Runs the call with the plugin classloader as context classloader and always restores it. */
+    private <T> T callWithPluginClassLoader(
+            String pluginName, Function<DataSourceChannel, T> call) {
+        DatasourcePlugin plugin = getPlugin(pluginName);
+        Thread currentThread = Thread.currentThread();
+        ClassLoader contextClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(plugin.getClassLoader());
         try {
-            log.info("close class loader");
-            Thread.currentThread().setContextClassLoader(datasourceClassLoader.get());
-        } catch (Exception e) {
-            log.info("loader catch");
+            return call.apply(plugin.getChannel());
+        } finally {
+            currentThread.setContextClassLoader(contextClassLoader);
         }
     }
-
-    @Override
-    public Connection getConnection(String pluginName, Map<String, String> requestParams) {
-        updateClassLoader(pluginName);
-        Connection connection =
-                getDataSourceChannel(pluginName).getConnection(pluginName, requestParams);
-        classLoaderRestore();
-        return connection;
-    }
 }
@@ -40,7 +40,7 @@ public class DatasourceClassLoader extends URLClassLoader {
 
     @Override
     public Class<?> loadClass(String name) throws ClassNotFoundException {
-        log.info("load class for name : " + name);
+        log.debug("load class for name : {}", name);
         try {
             for (String alwaysParentFirstPattern :
                     DatasourceLoadConfig.DEFAULT_PARENT_FIRST_PATTERNS) {
@@ -50,7 +50,7 @@ public class DatasourceClassLoader extends URLClassLoader {
             }
             return findClass(name);
         } catch (ClassNotFoundException e) {
-            log.info("load class from parentClassLoader : " + name);
+            log.debug("load class from parentClassLoader : {}", name);
             try {
 
                 return parentClassLoader.loadClass(name);
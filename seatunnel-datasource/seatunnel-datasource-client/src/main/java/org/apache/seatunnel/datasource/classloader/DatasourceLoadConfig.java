@@ -16,8 +16,6 @@
  */
 package org.apache.seatunnel.datasource.classloader;
 
-import org.apache.seatunnel.datasource.plugin.api.DataSourceChannel;
-
 import com.google.common.collect.Sets;
 
 import java.util.HashMap;
@@ -152,8 +150,4 @@ public class DatasourceLoadConfig {
                     "JDBC-Db2",
                     "FakeSource",
                     "Console");
-
-    public static Map<String, DatasourceClassLoader> datasourceClassLoaders = new HashMap<>();
-
-    public static Map<String, DataSourceChannel> classLoaderChannel = new HashMap<>();
 }
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.datasource.classloader;
+
+import org.apache.seatunnel.common.utils.ExceptionUtils;
+import org.apache.seatunnel.datasource.plugin.api.DataSourceFactory;
+import org.apache.seatunnel.datasource.plugin.api.utils.JdbcConnectionPool;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the jars, classloader and channel of every datasource plugin once and keeps them in an
+ * immutable, case-insensitive map, so that a datasource call is a map lookup instead of a scan of
+ * the plugin directory.
+ *
+ * <p>When {@code ST_WEB_DATASOURCE_HOT_RELOAD} is {@code true} the plugin directory is watched and
+ * a plugin whose jars change is loaded again and swapped in. The replaced plugin's channel, its
+ * pooled connections and its classloader are closed once the calls still using it had time to
+ * finish.
+ */
+@Slf4j
+public class DatasourcePluginRegistry {
+    private static final String ST_WEB_BASEDIR_PATH = "ST_WEB_BASEDIR_PATH";
+    private static final String ST_WEB_DATASOURCE_HOT_RELOAD = "ST_WEB_DATASOURCE_HOT_RELOAD";
+    // jars are usually copied with several writes, let them settle before reloading
+    private static final long RELOAD_QUIET_PERIOD_MILLIS = 2000L;
+    // calls that looked up the replaced plugin before the swap may still be running
+    private static final long RETIRED_PLUGIN_CLOSE_DELAY_MILLIS = 60000L;
+
+    private final File libDirectory;
+
+    private final ClassLoader parentClassLoader;
+
+    private volatile Map<String, DatasourcePlugin> plugins;
+
+    private ScheduledExecutorService retiredPluginCloser;
+
+    public DatasourcePluginRegistry(ClassLoader parentClassLoader) {
+        this.parentClassLoader = parentClassLoader;
+        String basedir = getEnvOrProperty(ST_WEB_BASEDIR_PATH);
+        this.libDirectory =
+                new File(StringUtils.isEmpty(basedir) ? "/datasource" : (basedir + "/datasource"));
+        log.info("Load datasource plugins from {}", libDirectory.getAbsolutePath());
+
+        File[] jarFiles = listJarFiles();
+        Map<String, DatasourcePlugin> loaded = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String pluginName : DatasourceLoadConfig.pluginSet) {
+            DatasourcePlugin plugin = loadPlugin(pluginName.toUpperCase(), jarFiles);
+            if (plugin != null) {
+                loaded.put(plugin.getPluginName(), plugin);
+            }
+        }
+        this.plugins = Collections.unmodifiableMap(loaded);
+
+        if (Boolean.parseBoolean(getEnvOrProperty(ST_WEB_DATASOURCE_HOT_RELOAD))) {
+            this.retiredPluginCloser =
+                    Executors.newSingleThreadScheduledExecutor(
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "datasource-plugin-closer");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+            Thread watcher = new Thread(this::watchPluginJars, "datasource-plugin-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+        }
+    }
+
+    /** @return the plugin, or null if it is unknown or failed to load */
+    public DatasourcePlugin getPlugin(String pluginName) {
+        return plugins.get(pluginName);
+    }
+
+    public Collection<DatasourcePlugin> getPlugins() {
+        return plugins.values();
+    }
+
+    private DatasourcePlugin loadPlugin(String pluginName, File[] jarFiles) {
+        List<URL> urls = new ArrayList<>();
+        for (File jarFile : jarFiles) {
+            if (isPluginJar(pluginName, jarFile.getName().toLowerCase())) {
+                try {
+                    urls.add(jarFile.toURI().toURL());
+                } catch (MalformedURLException e) {
+                    log.warn("Invalid jar file {}", jarFile, e);
+                }
+            }
+        }
+        log.info("Datasource plugin {} uses jars {}", pluginName, urls);
+        DatasourceClassLoader classLoader =
+                new DatasourceClassLoader(urls.toArray(new URL[0]), parentClassLoader);
+        Thread currentThread = Thread.currentThread();
+        ClassLoader contextClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(classLoader);
+        try {
+            Class<?> clazz =
+                    Class.forName(
+                            DatasourceLoadConfig.classLoaderFactoryName.get(pluginName),
+                            true,
+                            classLoader);
+            DataSourceFactory factory =
+                    (DataSourceFactory) clazz.getDeclaredConstructor().newInstance();
+            return new DatasourcePlugin(
+                    pluginName,
+                    classLoader,
+                    factory.createChannel(),
+                    factory.supportedDataSources());
+        } catch (Exception e) {
+            log.warn("datasource " + pluginName + " is error " + ExceptionUtils.getMessage(e));
+            return null;
+        } finally {
+            currentThread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private File[] listJarFiles() {
+        File[] jarFiles = libDirectory.listFiles((dir, name) -> name.endsWith(".jar"));
+        return jarFiles == null ? new File[0] : jarFiles;
+    }
+
+    private static boolean isPluginJar(String pluginName, String fileNameLowerCase) {
+        String jarPrefix = DatasourceLoadConfig.classLoaderJarName.get(pluginName);
+        if (jarPrefix == null || !fileNameLowerCase.startsWith(jarPrefix)) {
+            return false;
+        }
+        // the kafka prefix also matches the kingbase jar
+        return !pluginName.equals("KAFKA") || !fileNameLowerCase.contains("kingbase");
+    }
+
+    private void watchPluginJars() {
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            libDirectory
+                    .toPath()
+                    .register(
+                            watchService,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE);
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey watchKey = watchService.take();
+                Thread.sleep(RELOAD_QUIET_PERIOD_MILLIS);
+                Set<String> changedPlugins = new HashSet<>();
+                for (WatchEvent<?> event : watchKey.pollEvents()) {
+                    if (!(event.context() instanceof Path)) {
+                        continue;
+                    }
+                    String fileName = ((Path) event.context()).toString().toLowerCase();
+                    for (String pluginName : DatasourceLoadConfig.pluginSet) {
+                        if (isPluginJar(pluginName.toUpperCase(), fileName)) {
+                            changedPlugins.add(pluginName.toUpperCase());
+                        }
+                    }
+                }
+                if (!watchKey.reset()) {
+                    log.warn("Datasource plugin directory {} is no longer valid", libDirectory);
+                    return;
+                }
+                if (!changedPlugins.isEmpty()) {
+                    reload(changedPlugins);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Can not watch datasource plugin directory {}", libDirectory, e);
+        }
+    }
+
+    private void reload(Set<String> pluginNames) {
+        File[] jarFiles = listJarFiles();
+        Map<String, DatasourcePlugin> reloaded = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        reloaded.putAll(plugins);
+        List<DatasourcePlugin> retired = new ArrayList<>();
+        for (String pluginName : pluginNames) {
+            DatasourcePlugin plugin = loadPlugin(pluginName, jarFiles);
+            if (plugin != null) {
+                DatasourcePlugin previous = reloaded.put(pluginName, plugin);
+                if (previous != null) {
+                    retired.add(previous);
+                }
+                log.info("Datasource plugin {} reloaded", pluginName);
+            }
+        }
+        plugins = Collections.unmodifiableMap(reloaded);
+        for (DatasourcePlugin plugin : retired) {
+            retiredPluginCloser.schedule(
+                    () -> close(plugin), RETIRED_PLUGIN_CLOSE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void close(DatasourcePlugin plugin) {
+        Thread currentThread = Thread.currentThread();
+        ClassLoader contextClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(plugin.getClassLoader());
+        try {
+            plugin.getChannel().close();
+        } catch (Exception e) {
+            log.warn(
+                    "Close channel of replaced datasource plugin {} failed",
+                    plugin.getPluginName(),
+                    e);
+        } finally {
+            currentThread.setContextClassLoader(contextClassLoader);
+        }
+        JdbcConnectionPool.closePools(plugin.getClassLoader());
+        try {
+            plugin.getClassLoader().close();
+            log.info("Replaced datasource plugin {} closed", plugin.getPluginName());
+        } catch (IOException e) {
+            log.warn(
+                    "Close classloader of replaced datasource plugin {} failed",
+                    plugin.getPluginName(),
+                    e);
+        }
+    }
+
+    private static String getEnvOrProperty(String key) {
+        String value = System.getenv(key);
+        return value == null ? System.getProperty(key) : value;
+    }
+}
@@ -89,6 +89,25 @@ public interface DataSourceService {
      */
     List<String> getDatabases(String pluginName, Map<String, String> requestParams);
 
+    /**
+     * whether the tables of all databases are read at once by {@link #getAllTables}
+     *
+     * @param pluginName plugin name
+     * @return true if the plugin reads them with one catalog query
+     */
+    Boolean canAbleGetAllTables(String pluginName);
+
+    /**
+     * get data source table names of many databases
+     *
+     * @param pluginName plugin name
+     * @param requestParams connection params
+     * @param databaseNames database names
+     * @return table names by database name
+     */
+    Map<String, List<String>> getAllTables(
+            String pluginName, Map<String, String> requestParams, List<String> databaseNames);
+
     /**
      * get data source table fields
      *
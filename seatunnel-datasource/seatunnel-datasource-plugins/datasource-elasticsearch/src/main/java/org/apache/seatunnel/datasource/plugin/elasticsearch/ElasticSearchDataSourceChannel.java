@@ -21,8 +21,10 @@ import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
 
 import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.datasource.plugin.api.DataSourceChannel;
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginConfig;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.SharedClientCache;
 import org.apache.seatunnel.datasource.plugin.elasticsearch.client.EsRestClient;
 
 import org.apache.commons.lang3.StringUtils;
@@ -38,6 +40,14 @@ public class ElasticSearchDataSourceChannel implements DataSourceChannel {
 
     private static final String DATABASE = "default";
 
+    // RestClient is thread safe and pools its own connections, one per datasource is enough
+    private static final SharedClientCache<EsRestClient> CLIENTS =
+            new SharedClientCache<>(
+                    "elasticsearch client",
+                    DataSourcePluginConfig.getLong("elasticsearch.client.idle-timeout-ms", 300000L),
+                    requestParams ->
+                            EsRestClient.createInstance(ConfigFactory.parseMap(requestParams)));
+
     @Override
     public boolean canAbleGetSchema() {
         return true;
@@ -61,10 +71,7 @@ public class ElasticSearchDataSourceChannel implements DataSourceChannel {
             Map<String, String> option) {
         databaseCheck(database);
 
-        try (EsRestClient client =
-                EsRestClient.createInstance(ConfigFactory.parseMap(requestParams))) {
-            return client.listIndex(option.get("filterName"));
-        }
+        return CLIENTS.execute(requestParams, client -> client.listIndex(option.get("filterName")));
     }
 
     @Override
@@ -76,11 +83,12 @@ public class ElasticSearchDataSourceChannel implements DataSourceChannel {
     @Override
     public boolean checkDataSourceConnectivity(
             @NonNull String pluginName, @NonNull Map<String, String> requestParams) {
-        try (EsRestClient client =
-                EsRestClient.createInstance(ConfigFactory.parseMap(requestParams))) {
-            client.getClusterInfo();
+        try {
+            CLIENTS.execute(requestParams, EsRestClient::getClusterInfo);
             return true;
         } catch (Throwable e) {
+            // do not keep a client built from settings that cannot reach the cluster
+            CLIENTS.invalidate(requestParams);
             throw new DataSourcePluginException(
                     "check ElasticSearch connectivity failed, " + e.getMessage(), e);
         }
@@ -93,14 +101,10 @@ public class ElasticSearchDataSourceChannel implements DataSourceChannel {
             @NonNull String database,
             @NonNull String table) {
         databaseCheck(database);
-        try (EsRestClient client =
-                EsRestClient.createInstance(ConfigFactory.parseMap(requestParams))) {
-            Map<String, String> fieldTypeMapping = client.getFieldTypeMapping(table);
-            List<TableField> fields = new ArrayList<>();
-            fieldTypeMapping.forEach(
-                    (fieldName, fieldType) ->
-                            fields.add(convertToTableField(fieldName, fieldType)));
-            return fields;
+        try {
+            Map<String, String> fieldTypeMapping =
+                    CLIENTS.execute(requestParams, client -> client.getFieldTypeMapping(table));
+            return convertToTableFields(fieldTypeMapping);
         } catch (Exception ex) {
             throw new DataSourcePluginException("Get table fields failed", ex);
         }
@@ -113,12 +117,23 @@ public class ElasticSearchDataSourceChannel implements DataSourceChannel {
             @NonNull String database,
             @NonNull List<String> tables) {
         databaseCheck(database);
-        Map<String, List<TableField>> tableFields = new HashMap<>();
-        tables.forEach(
-                table ->
-                        tableFields.put(
-                                table, getTableFields(pluginName, requestParams, database, table)));
-        return tableFields;
+        try {
+            Map<String, Map<String, String>> fieldTypeMappings =
+                    CLIENTS.execute(requestParams, client -> client.getFieldTypeMappings(tables));
+            Map<String, List<TableField>> tableFields = new HashMap<>();
+            tables.forEach(
+                    table ->
+                            tableFields.put(
+                                    table, convertToTableFields(fieldTypeMappings.get(table))));
+            return tableFields;
+        } catch (Exception ex) {
+            throw new DataSourcePluginException("Get table fields failed", ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        CLIENTS.close();
     }
 
     private static void databaseCheck(@NonNull String database) {
@@ -127,6 +142,13 @@ public class ElasticSearchDataSourceChannel implements DataSourceChannel {
         }
     }
 
+    private List<TableField> convertToTableFields(Map<String, String> fieldTypeMapping) {
+        List<TableField> fields = new ArrayList<>();
+        fieldTypeMapping.forEach(
+                (fieldName, fieldType) -> fields.add(convertToTableField(fieldName, fieldType)));
+        return fields;
+    }
+
     private TableField convertToTableField(String fieldName, String fieldType) {
         TableField tableField = new TableField();
         tableField.setName(fieldName);
@@ -17,6 +17,9 @@
 
 package org.apache.seatunnel.datasource.plugin.elasticsearch.client;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonFactory;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
@@ -46,6 +49,7 @@ import lombok.extern.slf4j.Slf4j;
 import javax.net.ssl.SSLContext;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -60,6 +64,11 @@ public class EsRestClient implements AutoCloseable {
 
     private static final int SOCKET_TIMEOUT = 5 * 60 * 1000;
 
+    // stays below the default http.max_initial_line_length of 4kb
+    private static final int MAPPING_REQUEST_MAX_LENGTH = 3000;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private final RestClient restClient;
 
     private EsRestClient(RestClient restClient) {
@@ -324,6 +333,148 @@ public class EsRestClient implements AutoCloseable {
         return mapping;
     }
 
+    /**
+     * get es field name and type mapping relation of many indices, with one {@code _mapping}
+     * request per {@code MAPPING_REQUEST_MAX_LENGTH} characters of index names
+     *
+     * @param indices index names
+     * @return {key-> index name,value->{key-> field name,value->es type}}, indices the cluster does
+     *     not report under the requested name, e.g. aliases, are fetched one by one
+     */
+    public Map<String, Map<String, String>> getFieldTypeMappings(List<String> indices) {
+        Map<String, Map<String, String>> mappings = new HashMap<>();
+        StringBuilder names = new StringBuilder();
+        for (String index : indices) {
+            if (names.length() > 0
+                    && names.length() + index.length() + 1 > MAPPING_REQUEST_MAX_LENGTH) {
+                mappings.putAll(getFieldTypeMappings(names.toString()));
+                names.setLength(0);
+            }
+            if (names.length() > 0) {
+                names.append(',');
+            }
+            names.append(index);
+        }
+        if (names.length() > 0) {
+            mappings.putAll(getFieldTypeMappings(names.toString()));
+        }
+        for (String index : indices) {
+            if (!mappings.containsKey(index)) {
+                mappings.put(index, getFieldTypeMapping(index));
+            }
+        }
+        return mappings;
+    }
+
+    private Map<String, Map<String, String>> getFieldTypeMappings(String indexNames) {
+        String endpoint = String.format("/%s/_mapping", indexNames);
+        Request request = new Request("GET", endpoint);
+        request.addParameter("ignore_unavailable", "true");
+        // only the field types, not the analyzers, meta fields and other settings of each index
+        request.addParameter("filter_path", "*.mappings.**.type");
+        try {
+            Response response = restClient.performRequest(request);
+            if (response == null) {
+                throw new ResponseException("GET " + endpoint + " response null");
+            }
+            if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+                throw new ResponseException(
+                        String.format(
+                                "GET %s response status code=%d",
+                                endpoint, response.getStatusLine().getStatusCode()));
+            }
+            try (InputStream content = response.getEntity().getContent()) {
+                return readFieldTypeMappings(content);
+            }
+        } catch (IOException ex) {
+            throw new ResponseException(ex);
+        }
+    }
+
+    /**
+     * Read {@code {index: {mappings: {properties: ...}}}}, or {@code {mappings: {type: {properties:
+     * ...}}}} before 7.x, in one streaming pass without building a tree of the whole response.
+     *
+     * <p>Runtime fields of the {@code runtime} section are fields too, as {@link
+     * #getFieldTypeMapping(String)} reads them, and win over a property of the same name the way
+     * they shadow it in searches.
+     */
+    static Map<String, Map<String, String>> readFieldTypeMappings(InputStream content)
+            throws IOException {
+        Map<String, Map<String, String>> mappings = new HashMap<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return mappings;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String index = parser.getCurrentName();
+                Map<String, String> mapping = new HashMap<>();
+                mappings.put(index, mapping);
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    if (parser.nextToken() == JsonToken.START_OBJECT && "mappings".equals(field)) {
+                        readMappings(parser, mapping);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        return mappings;
+    }
+
+    private static void readMappings(JsonParser parser, Map<String, String> mapping)
+            throws IOException {
+        Map<String, String> runtimeFields = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+            } else if ("properties".equals(field)) {
+                readProperties(parser, mapping);
+            } else if ("runtime".equals(field)) {
+                readProperties(parser, runtimeFields);
+            } else {
+                // a mapping type of an index created before 7.x
+                readMappings(parser, mapping);
+            }
+        }
+        mapping.putAll(runtimeFields);
+    }
+
+    private static void readProperties(JsonParser parser, Map<String, String> mapping)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            String type = null;
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String property = parser.getCurrentName();
+                    JsonToken token = parser.nextToken();
+                    if ("type".equals(property) && token == JsonToken.VALUE_STRING) {
+                        type = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+            if (type == null) {
+                log.warn(
+                        String.format(
+                                "fail to get elasticsearch field %s mapping type,so give a default type text",
+                                field));
+                type = "text";
+            }
+            mapping.put(field, type);
+        }
+    }
+
     private static Map<String, String> getFieldTypeMappingFromProperties(JsonNode properties) {
         Map<String, String> mapping = new HashMap<>();
         for (Iterator<String> it = properties.fieldNames(); it.hasNext(); ) {
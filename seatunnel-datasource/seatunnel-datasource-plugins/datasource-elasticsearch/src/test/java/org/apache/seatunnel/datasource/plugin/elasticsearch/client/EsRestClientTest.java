@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.datasource.plugin.elasticsearch.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+class EsRestClientTest {
+
+    @Test
+    void readTypelessMappings() throws IOException {
+        // GET /orders,users/_mapping?filter_path=*.mappings.**.type of a 7.x cluster
+        Map<String, Map<String, String>> mappings =
+                readFieldTypeMappings(
+                        "{\"orders\":{\"mappings\":{\"properties\":{"
+                                + "\"id\":{\"type\":\"long\"},"
+                                + "\"created\":{\"type\":\"date\"},"
+                                + "\"buyer\":{\"properties\":{\"name\":{\"type\":\"keyword\"}}}}}},"
+                                + "\"users\":{\"mappings\":{\"properties\":{"
+                                + "\"name\":{\"type\":\"text\"}}}}}");
+
+        Assertions.assertEquals(
+                ImmutableMap.of("id", "long", "created", "date", "buyer", "text"),
+                mappings.get("orders"));
+        Assertions.assertEquals(ImmutableMap.of("name", "text"), mappings.get("users"));
+        Assertions.assertEquals(2, mappings.size());
+    }
+
+    @Test
+    void readTypedMappings() throws IOException {
+        // an index created before 7.x keeps its mapping type
+        Map<String, Map<String, String>> mappings =
+                readFieldTypeMappings(
+                        "{\"legacy\":{\"mappings\":{\"doc\":{\"properties\":{"
+                                + "\"id\":{\"type\":\"integer\"},"
+                                + "\"price\":{\"type\":\"scaled_float\"}}}}}}");
+
+        Assertions.assertEquals(
+                ImmutableMap.of("id", "integer", "price", "scaled_float"), mappings.get("legacy"));
+    }
+
+    @Test
+    void readRuntimeFields() throws IOException {
+        Map<String, Map<String, String>> mappings =
+                readFieldTypeMappings(
+                        "{\"logs\":{\"mappings\":{"
+                                + "\"runtime\":{\"day\":{\"type\":\"keyword\"},"
+                                + "\"status\":{\"type\":\"long\"}},"
+                                + "\"properties\":{\"status\":{\"type\":\"keyword\"},"
+                                + "\"message\":{\"type\":\"text\"}}}}}");
+
+        // a runtime field shadows the property of the same name
+        Assertions.assertEquals(
+                ImmutableMap.of("day", "keyword", "status", "long", "message", "text"),
+                mappings.get("logs"));
+    }
+
+    @Test
+    void readIndexWithoutFields() throws IOException {
+        // an index reported without mappings has no fields, an empty response has no indices
+        Assertions.assertEquals(
+                ImmutableMap.of("empty", Collections.emptyMap()),
+                readFieldTypeMappings("{\"empty\":{}}"));
+        Assertions.assertTrue(readFieldTypeMappings("{}").isEmpty());
+    }
+
+    private static Map<String, Map<String, String>> readFieldTypeMappings(String json)
+            throws IOException {
+        return EsRestClient.readFieldTypeMappings(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.seatunnel.datasource.plugin.api.DataSourceChannel;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
 import org.apache.seatunnel.datasource.plugin.hive.client.HiveClient;
+import org.apache.seatunnel.datasource.plugin.hive.client.HiveMetaStoreClientPool;
 
 import org.apache.commons.lang.StringUtils;
 
@@ -88,12 +89,20 @@ public class HiveDataSourceChannel implements DataSourceChannel {
             @NonNull String database,
             @NonNull List<String> tables) {
         Map<String, List<TableField>> tableFields = new HashMap<>(tables.size());
-        for (String table : tables) {
-            tableFields.put(table, getTableFields(requestParams, database, table));
+        // one borrowed metastore client for all tables instead of one per table
+        try (HiveClient hiveClient = HiveClient.createInstance(requestParams)) {
+            for (String table : tables) {
+                tableFields.put(table, hiveClient.getFields(database, table));
+            }
         }
         return tableFields;
     }
 
+    @Override
+    public void close() {
+        HiveMetaStoreClientPool.closeAll();
+    }
+
     protected boolean checkHiveConnectivity(Map<String, String> requestParams) {
         try (HiveClient ignored = HiveClient.createInstance(requestParams)) {
             System.out.println(ignored.getAllDatabases());
@@ -18,30 +18,33 @@
 package org.apache.seatunnel.datasource.plugin.hive.client;
 
 import org.apache.seatunnel.common.utils.ExceptionUtils;
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginConfig;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
 import org.apache.seatunnel.datasource.plugin.hive.HiveConstants;
 import org.apache.seatunnel.datasource.plugin.hive.HiveOptionRule;
 
-import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.conf.HiveConf;
 import org.apache.hadoop.hive.metastore.HiveMetaStoreClient;
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
 import org.apache.hadoop.hive.metastore.api.FieldSchema;
 import org.apache.hadoop.hive.metastore.api.Table;
 import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.thrift.TException;
+import org.apache.thrift.transport.TTransportException;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -49,17 +52,57 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @Slf4j
 public class HiveClient implements AutoCloseable {
 
-    private final HiveMetaStoreClient hiveMetaStoreClient;
+    // the metastore answers getTableObjectsByName in batches of hive.metastore.batch.retrieve.max
+    private static final int TABLE_BATCH_SIZE =
+            DataSourcePluginConfig.getInt("hive.table-batch-size", 300);
 
-    public HiveClient(HiveMetaStoreClient hiveMetaStoreClient) {
+    // names the metastore can match with its own pattern syntax, where only '*' and '|' are special
+    private static final Pattern PUSHDOWN_FILTER = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final IMetaStoreClient hiveMetaStoreClient;
+
+    private final HiveMetaStoreClientPool.PooledClient pooledClient;
+
+    private boolean broken;
+
+    public HiveClient(IMetaStoreClient hiveMetaStoreClient) {
         this.hiveMetaStoreClient = hiveMetaStoreClient;
+        this.pooledClient = null;
     }
 
+    HiveClient(HiveMetaStoreClientPool.PooledClient pooledClient) {
+        this.hiveMetaStoreClient = pooledClient.getClient();
+        this.pooledClient = pooledClient;
+    }
+
+    /**
+     * Borrow a metastore client for {@code reqParam} from the pool of its metastore and kerberos
+     * parameters, closing the returned client hands it back.
+     */
     public static HiveClient createInstance(Map<String, String> reqParam) {
         checkNotNull(
                 reqParam.get(HiveOptionRule.METASTORE_URI.key()),
                 "hive metastore_uri cannot be null");
         String metastoreUri = reqParam.get(HiveOptionRule.METASTORE_URI.key());
+        return new HiveClient(
+                HiveMetaStoreClientPool.borrow(
+                        poolKey(reqParam), metastoreUri, () -> createMetaStoreClient(reqParam)));
+    }
+
+    private static String poolKey(Map<String, String> reqParam) {
+        // everything that changes how the client is created or logged in is part of the key
+        return String.join(
+                "|",
+                reqParam.get(HiveOptionRule.METASTORE_URI.key()),
+                String.valueOf(reqParam.get(HiveOptionRule.KERBEROS_PRINCIPAL.key())),
+                String.valueOf(reqParam.get(HiveOptionRule.KERBEROS_KEYTAB_PATH.key())),
+                String.valueOf(reqParam.get(HiveOptionRule.KERBEROS_KRB5_CONF_PATH.key())),
+                String.valueOf(reqParam.get(HiveOptionRule.HDFS_SITE_PATH.key())),
+                String.valueOf(reqParam.get(HiveOptionRule.HIVE_SITE_PATH.key())));
+    }
+
+    private static HiveMetaStoreClient createMetaStoreClient(Map<String, String> reqParam) {
+        String metastoreUri = reqParam.get(HiveOptionRule.METASTORE_URI.key());
         String kerberosPrincipal = reqParam.get(HiveOptionRule.KERBEROS_PRINCIPAL.key());
         String kerberosKrb5ConfPath = reqParam.get(HiveOptionRule.KERBEROS_KRB5_CONF_PATH.key());
         String kerberosKeytabPath = reqParam.get(HiveOptionRule.KERBEROS_KEYTAB_PATH.key());
@@ -85,7 +128,7 @@ public class HiveClient implements AutoCloseable {
             }
             log.info("hive client conf:{}", hiveConf);
 
-            return new HiveClient(new HiveMetaStoreClient(hiveConf));
+            return new HiveMetaStoreClient(hiveConf);
         } catch (Exception e) {
             String errorMsg =
                     String.format(
@@ -123,6 +166,10 @@ public class HiveClient implements AutoCloseable {
 
     @Override
     public void close() {
+        if (pooledClient != null) {
+            pooledClient.release(broken);
+            return;
+        }
         try {
             if (hiveMetaStoreClient != null) {
                 hiveMetaStoreClient.close();
@@ -140,6 +187,7 @@ public class HiveClient implements AutoCloseable {
                     .filter(db -> !systemDatabases.contains(db))
                     .collect(Collectors.toList());
         } catch (Exception e) {
+            markBrokenIfDisconnected(e);
             log.error(ExceptionUtils.getMessage(e));
             throw new DataSourcePluginException("get database names failed", e);
         }
@@ -147,10 +195,9 @@ public class HiveClient implements AutoCloseable {
 
     public List<String> getAllTables(String dbName, String filterName, Integer size) {
         try {
-
-            List<String> tables = hiveMetaStoreClient.getTables(dbName, "*");
+            List<String> tables = hiveMetaStoreClient.getTables(dbName, tablePattern(filterName));
             List<String> filteredTables = new ArrayList<>();
-            // hive api whether to support filtering directly
+            // the metastore matches case-insensitively, keep the case-sensitive filter on top
             if (StringUtils.isNotEmpty(filterName)) {
                 for (String tableName : tables) {
                     if (tableName.contains(filterName)) {
@@ -160,38 +207,67 @@ public class HiveClient implements AutoCloseable {
             } else {
                 filteredTables.addAll(tables);
             }
+            int limit = size != null && size > 0 ? size : Integer.MAX_VALUE;
             // filter Iceberg table
-            this.filteredIcebergTable(filteredTables, dbName);
-            if (size != null && size > 0) {
-                return filteredTables.subList(0, Math.min(size, filteredTables.size()));
-            }
-            return filteredTables;
+            return filterIcebergTables(dbName, filteredTables, limit);
         } catch (Exception e) {
+            markBrokenIfDisconnected(e);
             log.error(ExceptionUtils.getMessage(e));
             throw new DataSourcePluginException("get table names failed", e);
         }
     }
 
-    // 过滤掉 Iceberg 表
-    private void filteredIcebergTable(List<String> filteredTables, String dbName)
+    private static String tablePattern(String filterName) {
+        if (StringUtils.isNotEmpty(filterName) && PUSHDOWN_FILTER.matcher(filterName).matches()) {
+            return "*" + filterName + "*";
+        }
+        return "*";
+    }
+
+    /**
+     * Drop the Iceberg tables of {@code tableNames}, reading the table objects in batches and
+     * stopping as soon as {@code limit} tables are kept. Tables dropped in between are skipped.
+     */
+    private List<String> filterIcebergTables(String dbName, List<String> tableNames, int limit)
             throws TException {
-        if (CollectionUtils.isNotEmpty(filteredTables)) {
-            Iterator<String> iterator = filteredTables.iterator();
-            while (iterator.hasNext()) {
-                String element = iterator.next();
-                if (isIcebergTable(dbName, element)) {
-                    iterator.remove();
+        List<String> result = new ArrayList<>(Math.min(tableNames.size(), limit));
+        for (int from = 0; from < tableNames.size() && result.size() < limit; ) {
+            int to = Math.min(from + TABLE_BATCH_SIZE, tableNames.size());
+            List<String> batch = tableNames.subList(from, to);
+            Set<String> keptTables = new HashSet<>(batch.size());
+            for (Table table : hiveMetaStoreClient.getTableObjectsByName(dbName, batch)) {
+                if (!isIcebergTable(table)) {
+                    keptTables.add(table.getTableName());
+                }
+            }
+            for (String tableName : batch) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                if (keptTables.contains(tableName)) {
+                    result.add(tableName);
                 }
             }
+            from = to;
         }
+        return result;
     }
 
     // 判断是否为 Iceberg 表
-    private boolean isIcebergTable(String dbName, String tableName) throws TException {
-        Table table = hiveMetaStoreClient.getTable(dbName, tableName);
+    private static boolean isIcebergTable(Table table) {
         Map<String, String> parameters = table.getParameters();
-        String tableType = parameters.get("table_type");
-        return "ICEBERG".equals(tableType);
+        return parameters != null && "ICEBERG".equals(parameters.get("table_type"));
+    }
+
+    private void markBrokenIfDisconnected(Throwable e) {
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof TTransportException) {
+                broken = true;
+                return;
+            }
+            cause = cause.getCause();
+        }
     }
 
     public List<TableField> getFields(String dbName, String tableName) {
@@ -212,6 +288,7 @@ public class HiveClient implements AutoCloseable {
                     });
             return tableFields;
         } catch (TException e) {
+            markBrokenIfDisconnected(e);
             log.error(ExceptionUtils.getMessage(e));
             throw new DataSourcePluginException("get table fields failed", e);
         }
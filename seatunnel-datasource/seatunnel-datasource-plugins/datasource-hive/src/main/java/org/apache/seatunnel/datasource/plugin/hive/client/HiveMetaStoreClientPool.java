@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.hive.client;
+
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginConfig;
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
+
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
+import org.apache.thrift.TException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small pools of metastore clients, one per distinct set of metastore and kerberos parameters.
+ *
+ * <p>A metastore client is not thread safe, so a borrowed client belongs to one caller until it is
+ * released. Clients are validated when they were idle for a while, closed after being idle for
+ * {@code idle-timeout-ms} or older than {@code max-lifetime-ms}, which also makes kerberos logins
+ * happen again before the ticket of a long-lived connection expires.
+ *
+ * <p>The settings are read from the {@code hive-metastore-pool.*} keys of {@link
+ * DataSourcePluginConfig} when a pool is created.
+ */
+@Slf4j
+public class HiveMetaStoreClientPool {
+
+    private static final String CONFIG_PREFIX = "hive-metastore-pool.";
+
+    private static final String MAX_SIZE = CONFIG_PREFIX + "max-size";
+
+    private static final String IDLE_TIMEOUT_MS = CONFIG_PREFIX + "idle-timeout-ms";
+
+    private static final String MAX_LIFETIME_MS = CONFIG_PREFIX + "max-lifetime-ms";
+
+    private static final String BORROW_TIMEOUT_MS = CONFIG_PREFIX + "borrow-timeout-ms";
+
+    private static final String VALIDATE_AFTER_IDLE_MS = CONFIG_PREFIX + "validate-after-idle-ms";
+
+    private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 300000L;
+
+    private static final String VALIDATION_CONF_KEY = "hive.metastore.try.direct.sql";
+
+    private static final Map<String, HiveMetaStoreClientPool> POOLS = new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService EVICTOR =
+            Executors.newSingleThreadScheduledExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "hive-metastore-client-pool-evictor");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+
+    static {
+        long period =
+                Math.max(
+                        DataSourcePluginConfig.getLong(IDLE_TIMEOUT_MS, DEFAULT_IDLE_TIMEOUT_MILLIS)
+                                / 2,
+                        1000L);
+        EVICTOR.scheduleWithFixedDelay(
+                HiveMetaStoreClientPool::evictIdleClients, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /** Opens a new metastore client, including the kerberos login it needs. */
+    @FunctionalInterface
+    public interface ClientFactory {
+        IMetaStoreClient create() throws Exception;
+    }
+
+    private final String metastoreUri;
+
+    private final ClientFactory clientFactory;
+
+    private final int maxSize = Math.max(DataSourcePluginConfig.getInt(MAX_SIZE, 4), 1);
+
+    private final long idleTimeoutMillis =
+            DataSourcePluginConfig.getLong(IDLE_TIMEOUT_MS, DEFAULT_IDLE_TIMEOUT_MILLIS);
+
+    private final long maxLifetimeMillis =
+            DataSourcePluginConfig.getLong(MAX_LIFETIME_MS, 1800000L);
+
+    private final long borrowTimeoutMillis =
+            DataSourcePluginConfig.getLong(BORROW_TIMEOUT_MS, 30000L);
+
+    private final long validateAfterIdleMillis =
+            DataSourcePluginConfig.getLong(VALIDATE_AFTER_IDLE_MS, 30000L);
+
+    private final Semaphore permits = new Semaphore(maxSize, true);
+
+    // most recently used first, so the tail holds the clients idle for the longest time
+    private final Deque<PooledClient> idleClients = new ConcurrentLinkedDeque<>();
+
+    private volatile long lastBorrowMillis = System.currentTimeMillis();
+
+    private volatile boolean closed;
+
+    private HiveMetaStoreClientPool(String metastoreUri, ClientFactory clientFactory) {
+        this.metastoreUri = metastoreUri;
+        this.clientFactory = clientFactory;
+    }
+
+    /**
+     * Borrow a client of the pool identified by {@code poolKey}, opening it with {@code
+     * clientFactory} when the pool has no idle one. The client must be handed back with {@link
+     * PooledClient#release(boolean)}.
+     */
+    public static PooledClient borrow(
+            String poolKey, String metastoreUri, ClientFactory clientFactory) {
+        while (true) {
+            HiveMetaStoreClientPool pool =
+                    POOLS.computeIfAbsent(
+                            poolKey, k -> new HiveMetaStoreClientPool(metastoreUri, clientFactory));
+            PooledClient client = pool.borrow();
+            if (client != null) {
+                return client;
+            }
+            // the pool was dropped by the evictor right after we looked it up
+        }
+    }
+
+    /** Close all pools and stop evicting, called when the plugin is unloaded. */
+    public static void closeAll() {
+        EVICTOR.shutdownNow();
+        for (String poolKey : POOLS.keySet()) {
+            HiveMetaStoreClientPool pool = POOLS.remove(poolKey);
+            if (pool != null) {
+                pool.close();
+            }
+        }
+    }
+
+    private PooledClient borrow() {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new DataSourcePluginException(
+                        String.format(
+                                "Timeout after %d ms waiting for a hive metastore client of %s",
+                                borrowTimeoutMillis, metastoreUri));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataSourcePluginException(
+                    "Interrupted while waiting for a hive metastore client of " + metastoreUri, e);
+        }
+        if (closed) {
+            permits.release();
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        lastBorrowMillis = now;
+        try {
+            PooledClient pooledClient;
+            while ((pooledClient = idleClients.pollFirst()) != null) {
+                if (now - pooledClient.createMillis < maxLifetimeMillis
+                        && (now - pooledClient.idleSinceMillis < validateAfterIdleMillis
+                                || isValid(pooledClient.client))) {
+                    pooledClient.returned = false;
+                    return pooledClient;
+                }
+                closeQuietly(pooledClient.client);
+            }
+            return new PooledClient(this, clientFactory.create(), now);
+        } catch (Exception e) {
+            permits.release();
+            if (e instanceof DataSourcePluginException) {
+                throw (DataSourcePluginException) e;
+            }
+            throw new DataSourcePluginException(
+                    String.format(
+                            "Using this hive uris [%s] to initialize "
+                                    + "hive metastore client instance failed",
+                            metastoreUri),
+                    e);
+        }
+    }
+
+    private void release(PooledClient pooledClient, boolean broken) {
+        try {
+            long now = System.currentTimeMillis();
+            if (broken || closed || now - pooledClient.createMillis >= maxLifetimeMillis) {
+                closeQuietly(pooledClient.client);
+                return;
+            }
+            pooledClient.idleSinceMillis = now;
+            idleClients.offerFirst(pooledClient);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void evictIdleClients(long now) {
+        PooledClient pooledClient;
+        while ((pooledClient = idleClients.peekLast()) != null
+                && now - pooledClient.idleSinceMillis >= idleTimeoutMillis) {
+            if (idleClients.removeLastOccurrence(pooledClient)) {
+                closeQuietly(pooledClient.client);
+            }
+        }
+    }
+
+    private boolean isUnused(long now) {
+        return idleClients.isEmpty()
+                && permits.availablePermits() == maxSize
+                && now - lastBorrowMillis >= idleTimeoutMillis;
+    }
+
+    private void close() {
+        closed = true;
+        PooledClient pooledClient;
+        while ((pooledClient = idleClients.pollFirst()) != null) {
+            closeQuietly(pooledClient.client);
+        }
+    }
+
+    private static void evictIdleClients() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, HiveMetaStoreClientPool> poolEntry : POOLS.entrySet()) {
+            HiveMetaStoreClientPool pool = poolEntry.getValue();
+            try {
+                pool.evictIdleClients(now);
+                if (pool.isUnused(now) && POOLS.remove(poolEntry.getKey(), pool)) {
+                    pool.close();
+                    log.info("Drop unused hive metastore client pool of {}", pool.metastoreUri);
+                }
+            } catch (Exception e) {
+                log.warn("Evict idle hive metastore clients of {} failed", pool.metastoreUri, e);
+            }
+        }
+    }
+
+    private static boolean isValid(IMetaStoreClient client) {
+        try {
+            // a cheap round trip that does not touch the metastore database
+            client.getMetaConf(VALIDATION_CONF_KEY);
+            return true;
+        } catch (TException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static void closeQuietly(IMetaStoreClient client) {
+        try {
+            client.close();
+        } catch (Exception e) {
+            log.warn("Close hive metastore client failed", e);
+        }
+    }
+
+    /** A borrowed client, releasing it returns it to its pool unless it is broken. */
+    public static final class PooledClient {
+        private final HiveMetaStoreClientPool pool;
+        private final IMetaStoreClient client;
+        private final long createMillis;
+        private volatile long idleSinceMillis;
+        private boolean returned;
+
+        private PooledClient(
+                HiveMetaStoreClientPool pool, IMetaStoreClient client, long createMillis) {
+            this.pool = pool;
+            this.client = client;
+            this.createMillis = createMillis;
+            this.idleSinceMillis = createMillis;
+        }
+
+        public IMetaStoreClient getClient() {
+            return client;
+        }
+
+        public void release(boolean broken) {
+            if (!returned) {
+                returned = true;
+                pool.release(this, broken);
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.datasource.plugin.hive.client;
+
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginConfig;
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
+
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
+import org.apache.thrift.transport.TTransportException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class HiveMetaStoreClientPoolTest {
+
+    private final List<FakeClient> createdClients = new ArrayList<>();
+
+    private String poolKey;
+
+    @BeforeEach
+    public void setUp() {
+        // every test gets its own pool, the pools are shared by the whole class loader
+        poolKey = UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        DataSourcePluginConfig.configure(Collections.emptyMap());
+    }
+
+    @Test
+    public void testBorrowTimesOutWhenAllClientsAreInUse() {
+        configure("max-size", "1", "borrow-timeout-ms", "100");
+        HiveMetaStoreClientPool.PooledClient borrowed = borrow();
+
+        DataSourcePluginException exception =
+                Assertions.assertThrows(DataSourcePluginException.class, this::borrow);
+        Assertions.assertTrue(exception.getMessage().contains("Timeout after 100 ms"));
+
+        borrowed.release(false);
+        HiveMetaStoreClientPool.PooledClient reused = borrow();
+        Assertions.assertSame(borrowed.getClient(), reused.getClient());
+        Assertions.assertEquals(1, createdClients.size());
+        reused.release(false);
+    }
+
+    @Test
+    public void testClientOlderThanMaxLifetimeIsReplaced() throws InterruptedException {
+        configure("max-lifetime-ms", "50");
+        HiveMetaStoreClientPool.PooledClient borrowed = borrow();
+        borrowed.release(false);
+        Thread.sleep(100);
+
+        HiveMetaStoreClientPool.PooledClient replaced = borrow();
+
+        Assertions.assertNotSame(borrowed.getClient(), replaced.getClient());
+        Assertions.assertEquals(2, createdClients.size());
+        Assertions.assertTrue(createdClients.get(0).closed);
+        // released after its lifetime, it is closed instead of pooled
+        Thread.sleep(100);
+        replaced.release(false);
+        Assertions.assertTrue(createdClients.get(1).closed);
+    }
+
+    @Test
+    public void testDisconnectedClientIsNotReturnedToThePool() {
+        HiveClient hiveClient = new HiveClient(borrow());
+        createdClients.get(0).failure = new TTransportException("connection reset");
+
+        Assertions.assertThrows(DataSourcePluginException.class, hiveClient::getAllDatabases);
+        hiveClient.close();
+
+        Assertions.assertTrue(createdClients.get(0).closed);
+        HiveMetaStoreClientPool.PooledClient next = borrow();
+        Assertions.assertEquals(2, createdClients.size());
+        next.release(false);
+    }
+
+    @Test
+    public void testClientIsReturnedAfterOtherFailures() {
+        HiveClient hiveClient = new HiveClient(borrow());
+        createdClients.get(0).failure = new RuntimeException("no such database");
+
+        Assertions.assertThrows(DataSourcePluginException.class, hiveClient::getAllDatabases);
+        hiveClient.close();
+
+        Assertions.assertFalse(createdClients.get(0).closed);
+        HiveMetaStoreClientPool.PooledClient next = borrow();
+        Assertions.assertEquals(1, createdClients.size());
+        next.release(false);
+    }
+
+    private HiveMetaStoreClientPool.PooledClient borrow() {
+        return HiveMetaStoreClientPool.borrow(
+                poolKey,
+                "thrift://localhost:9083",
+                () -> {
+                    FakeClient client = new FakeClient();
+                    createdClients.add(client);
+                    return client.proxy;
+                });
+    }
+
+    private static void configure(String... keysAndValues) {
+        Map<String, String> settings = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            settings.put("hive-metastore-pool." + keysAndValues[i], keysAndValues[i + 1]);
+        }
+        DataSourcePluginConfig.configure(settings);
+    }
+
+    /** A metastore client that answers every call but fails the next one when told to. */
+    private static class FakeClient {
+        private volatile boolean closed;
+        private volatile Exception failure;
+
+        private final IMetaStoreClient proxy =
+                (IMetaStoreClient)
+                        Proxy.newProxyInstance(
+                                getClass().getClassLoader(),
+                                new Class<?>[] {IMetaStoreClient.class},
+                                (proxy, method, args) -> {
+                                    if ("close".equals(method.getName())) {
+                                        closed = true;
+                                        return null;
+                                    }
+                                    if (failure != null) {
+                                        Exception e = failure;
+                                        failure = null;
+                                        throw e;
+                                    }
+                                    return method.getReturnType() == List.class
+                                            ? new ArrayList<>()
+                                            : null;
+                                });
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.datasource.plugin.api.DataSourceChannel;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.JdbcConnectionPool;
 import org.apache.seatunnel.datasource.plugin.api.utils.JdbcUtils;
 
 import org.apache.commons.lang3.StringUtils;
@@ -102,8 +103,8 @@ public class ClickhouseJdbcDataSourceChannel implements DataSourceChannel {
     @Override
     public boolean checkDataSourceConnectivity(
             @NonNull String pluginName, @NonNull Map<String, String> requestParams) {
-        try (Connection ignored = getConnection(requestParams)) {
-            return true;
+        try (Connection connection = getConnection(requestParams)) {
+            return JdbcConnectionPool.isValid(connection);
         } catch (Exception e) {
             throw new DataSourcePluginException("Check jdbc connectivity failed", e);
         }
@@ -152,9 +153,10 @@ public class ClickhouseJdbcDataSourceChannel implements DataSourceChannel {
 
     private String getPrimaryKey(DatabaseMetaData metaData, String dbName, String tableName)
             throws SQLException {
-        ResultSet primaryKeysInfo = metaData.getPrimaryKeys(dbName, "%", tableName);
-        while (primaryKeysInfo.next()) {
-            return primaryKeysInfo.getString("COLUMN_NAME");
+        try (ResultSet primaryKeysInfo = metaData.getPrimaryKeys(dbName, "%", tableName)) {
+            while (primaryKeysInfo.next()) {
+                return primaryKeysInfo.getString("COLUMN_NAME");
+            }
         }
         return null;
     }
@@ -174,8 +176,12 @@ public class ClickhouseJdbcDataSourceChannel implements DataSourceChannel {
         if (requestParams.containsKey(ClickhouseOptionRule.USER.key())) {
             String username = requestParams.get(ClickhouseOptionRule.USER.key());
             String password = requestParams.get(ClickhouseOptionRule.PASSWORD.key());
-            return DriverManager.getConnection(url, username, password);
+            return JdbcConnectionPool.getConnection(
+                    url,
+                    username,
+                    password,
+                    () -> DriverManager.getConnection(url, username, password));
         }
-        return DriverManager.getConnection(url);
+        return JdbcConnectionPool.getConnection(url, () -> DriverManager.getConnection(url));
     }
 }
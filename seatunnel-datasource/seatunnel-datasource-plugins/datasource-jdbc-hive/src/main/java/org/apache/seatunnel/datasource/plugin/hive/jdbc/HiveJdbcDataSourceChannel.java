@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.datasource.plugin.api.DataSourceChannel;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.JdbcConnectionPool;
 
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -105,8 +106,8 @@ public class HiveJdbcDataSourceChannel implements DataSourceChannel {
     }
 
     protected boolean checkJdbcConnectivity(Map<String, String> requestParams) {
-        try (Connection ignored = getHiveConnection(requestParams)) {
-            return true;
+        try (Connection connection = getHiveConnection(requestParams)) {
+            return JdbcConnectionPool.isValid(connection);
         } catch (Exception e) {
             throw new DataSourcePluginException(
                     "check jdbc connectivity failed, " + e.getMessage(), e);
@@ -155,7 +156,8 @@ public class HiveJdbcDataSourceChannel implements DataSourceChannel {
         }
 
         String jdbcUrl = requestParams.get(HiveJdbcOptionRule.URL.key());
-        return DriverManager.getConnection(jdbcUrl, connProps);
+        return JdbcConnectionPool.getConnection(
+                jdbcUrl, connProps, () -> DriverManager.getConnection(jdbcUrl, connProps));
     }
 
     protected List<String> getDataBaseNames(Map<String, String> requestParams)
@@ -178,12 +180,15 @@ public class HiveJdbcDataSourceChannel implements DataSourceChannel {
     protected List<String> getTableNames(Map<String, String> requestParams, String dbName) {
         List<String> tableNames = new ArrayList<>();
         try (Connection connection = getHiveConnection(requestParams)) {
-            ResultSet resultSet =
-                    connection.getMetaData().getTables(null, dbName, null, new String[] {"TABLE"});
-            while (resultSet.next()) {
-                String tableName = resultSet.getString("TABLE_NAME");
-                if (StringUtils.isNotBlank(tableName)) {
-                    tableNames.add(tableName);
+            try (ResultSet resultSet =
+                    connection
+                            .getMetaData()
+                            .getTables(null, dbName, null, new String[] {"TABLE"})) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString("TABLE_NAME");
+                    if (StringUtils.isNotBlank(tableName)) {
+                        tableNames.add(tableName);
+                    }
                 }
             }
             return tableNames;
@@ -198,21 +203,22 @@ public class HiveJdbcDataSourceChannel implements DataSourceChannel {
         try (Connection connection = getHiveConnection(requestParams)) {
             DatabaseMetaData metaData = connection.getMetaData();
             String primaryKey = getPrimaryKey(metaData, dbName, tableName);
-            ResultSet resultSet = metaData.getColumns(null, dbName, tableName, null);
-            while (resultSet.next()) {
-                TableField tableField = new TableField();
-                String columnName = resultSet.getString("COLUMN_NAME");
-                tableField.setPrimaryKey(false);
-                if (StringUtils.isNotBlank(primaryKey) && primaryKey.equals(columnName)) {
-                    tableField.setPrimaryKey(true);
+            try (ResultSet resultSet = metaData.getColumns(null, dbName, tableName, null)) {
+                while (resultSet.next()) {
+                    TableField tableField = new TableField();
+                    String columnName = resultSet.getString("COLUMN_NAME");
+                    tableField.setPrimaryKey(false);
+                    if (StringUtils.isNotBlank(primaryKey) && primaryKey.equals(columnName)) {
+                        tableField.setPrimaryKey(true);
+                    }
+                    tableField.setName(columnName);
+                    tableField.setType(resultSet.getString("TYPE_NAME"));
+                    tableField.setComment(resultSet.getString("REMARKS"));
+                    Object nullable = resultSet.getObject("IS_NULLABLE");
+                    boolean isNullable = convertToBoolean(nullable);
+                    tableField.setNullable(isNullable);
+                    tableFields.add(tableField);
                 }
-                tableField.setName(columnName);
-                tableField.setType(resultSet.getString("TYPE_NAME"));
-                tableField.setComment(resultSet.getString("REMARKS"));
-                Object nullable = resultSet.getObject("IS_NULLABLE");
-                boolean isNullable = convertToBoolean(nullable);
-                tableField.setNullable(isNullable);
-                tableFields.add(tableField);
             }
         } catch (SQLException | IOException e) {
             throw new DataSourcePluginException("get table fields failed", e);
@@ -222,9 +228,10 @@ public class HiveJdbcDataSourceChannel implements DataSourceChannel {
 
     private String getPrimaryKey(DatabaseMetaData metaData, String dbName, String tableName)
             throws SQLException {
-        ResultSet primaryKeysInfo = metaData.getPrimaryKeys(dbName, "%", tableName);
-        if (primaryKeysInfo.next()) {
-            return primaryKeysInfo.getString("COLUMN_NAME");
+        try (ResultSet primaryKeysInfo = metaData.getPrimaryKeys(dbName, "%", tableName)) {
+            if (primaryKeysInfo.next()) {
+                return primaryKeysInfo.getString("COLUMN_NAME");
+            }
         }
         return null;
     }
@@ -22,6 +22,8 @@ import org.apache.seatunnel.common.utils.SeaTunnelException;
 import org.apache.seatunnel.datasource.plugin.api.DataSourceChannel;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.JdbcConnectionPool;
+import org.apache.seatunnel.datasource.plugin.api.utils.JdbcMetadataUtils;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -36,6 +38,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -45,6 +48,23 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @Slf4j
 public class OracleDataSourceChannel implements DataSourceChannel {
 
+    private static final String SELECT_TABLE_FIELDS_SQL =
+            "SELECT t.TABLE_NAME, t.COLUMN_NAME, t.DATA_TYPE AS TYPE_NAME, c.COMMENTS AS REMARKS, "
+                    + "DECODE(t.NULLABLE, 'N', 'NO', 'YES') AS IS_NULLABLE, "
+                    + "CASE WHEN pk.COLUMN_NAME IS NULL THEN 0 ELSE 1 END AS IS_PRIMARY_KEY "
+                    + "FROM ALL_TAB_COLUMNS t "
+                    + "LEFT JOIN ALL_COL_COMMENTS c ON c.OWNER = t.OWNER "
+                    + "AND c.TABLE_NAME = t.TABLE_NAME AND c.COLUMN_NAME = t.COLUMN_NAME "
+                    + "LEFT JOIN (SELECT cc.OWNER, cc.TABLE_NAME, cc.COLUMN_NAME "
+                    + "FROM ALL_CONSTRAINTS con JOIN ALL_CONS_COLUMNS cc "
+                    + "ON cc.OWNER = con.OWNER AND cc.CONSTRAINT_NAME = con.CONSTRAINT_NAME "
+                    + "WHERE con.CONSTRAINT_TYPE = 'P' AND cc.POSITION = 1) pk "
+                    + "ON pk.OWNER = t.OWNER AND pk.TABLE_NAME = t.TABLE_NAME "
+                    + "AND pk.COLUMN_NAME = t.COLUMN_NAME "
+                    + "WHERE t.OWNER = ? AND t.TABLE_NAME IN ("
+                    + JdbcMetadataUtils.TABLE_NAMES_PLACEHOLDER
+                    + ") ORDER BY t.TABLE_NAME, t.COLUMN_ID";
+
     @Override
     public OptionRule getDataSourceOptions(@NonNull String pluginName) {
         return OracleDataSourceConfig.OPTION_RULE;
@@ -156,8 +176,8 @@ public class OracleDataSourceChannel implements DataSourceChannel {
     @Override
     public boolean checkDataSourceConnectivity(
             @NonNull String pluginName, @NonNull Map<String, String> requestParams) {
-        try (Connection ignored = getConnection(requestParams)) {
-            return true;
+        try (Connection connection = getConnection(requestParams)) {
+            return JdbcConnectionPool.isValid(connection);
         } catch (Exception e) {
             throw new DataSourcePluginException("check jdbc connectivity failed", e);
         }
@@ -193,8 +213,8 @@ public class OracleDataSourceChannel implements DataSourceChannel {
                     tableField.setName(columnName);
                     tableField.setType(resultSet.getString("TYPE_NAME"));
                     tableField.setComment(resultSet.getString("REMARKS"));
-                    Object nullable = resultSet.getObject("IS_NULLABLE");
-                    tableField.setNullable(Boolean.TRUE.toString().equals(nullable.toString()));
+                    String isNullable = resultSet.getString("IS_NULLABLE");
+                    tableField.setNullable("YES".equalsIgnoreCase(isNullable));
                     tableFields.add(tableField);
                 }
             }
@@ -210,14 +230,43 @@ public class OracleDataSourceChannel implements DataSourceChannel {
             @NonNull Map<String, String> requestParams,
             @NonNull String database,
             @NonNull List<String> tables) {
-        return null;
+        Map<String, List<String>> tableNamesBySchema = new LinkedHashMap<>();
+        for (String table : tables) {
+            String[] split = table.split("\\.");
+            if (split.length != 2) {
+                throw new SeaTunnelException(
+                        "The tableName for oracle must be schemaName.tableName, but tableName is "
+                                + table);
+            }
+            tableNamesBySchema.computeIfAbsent(split[0], key -> new ArrayList<>()).add(split[1]);
+        }
+        // one dictionary query per schema instead of two metadata round trips per table
+        Map<String, List<TableField>> tableFields = new LinkedHashMap<>();
+        try (Connection connection = getConnection(requestParams)) {
+            for (Map.Entry<String, List<String>> entry : tableNamesBySchema.entrySet()) {
+                String schemaName = entry.getKey();
+                JdbcMetadataUtils.getTableFields(
+                                connection,
+                                SELECT_TABLE_FIELDS_SQL,
+                                schemaName,
+                                entry.getValue(),
+                                JdbcMetadataUtils::isNullable)
+                        .forEach(
+                                (tableName, fields) ->
+                                        tableFields.put(schemaName + "." + tableName, fields));
+            }
+        } catch (ClassNotFoundException | SQLException e) {
+            throw new DataSourcePluginException("get table fields failed", e);
+        }
+        return tableFields;
     }
 
     private String getPrimaryKey(DatabaseMetaData metaData, String dbName, String tableName)
             throws SQLException {
-        ResultSet primaryKeysInfo = metaData.getPrimaryKeys(dbName, "%", tableName);
-        while (primaryKeysInfo.next()) {
-            return primaryKeysInfo.getString("COLUMN_NAME");
+        try (ResultSet primaryKeysInfo = metaData.getPrimaryKeys(dbName, "%", tableName)) {
+            while (primaryKeysInfo.next()) {
+                return primaryKeysInfo.getString("COLUMN_NAME");
+            }
         }
         return null;
     }
@@ -230,8 +279,12 @@ public class OracleDataSourceChannel implements DataSourceChannel {
         if (requestParams.containsKey(OracleOptionRule.USER.key())) {
             String username = requestParams.get(OracleOptionRule.USER.key());
             String password = requestParams.get(OracleOptionRule.PASSWORD.key());
-            return DriverManager.getConnection(url, username, password);
+            return JdbcConnectionPool.getConnection(
+                    url,
+                    username,
+                    password,
+                    () -> DriverManager.getConnection(url, username, password));
         }
-        return DriverManager.getConnection(url);
+        return JdbcConnectionPool.getConnection(url, () -> DriverManager.getConnection(url));
     }
 }
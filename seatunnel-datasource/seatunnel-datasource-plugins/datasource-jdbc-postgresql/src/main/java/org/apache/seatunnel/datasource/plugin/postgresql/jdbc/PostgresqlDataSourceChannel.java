@@ -21,6 +21,8 @@ import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.datasource.plugin.api.DataSourceChannel;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.JdbcConnectionPool;
+import org.apache.seatunnel.datasource.plugin.api.utils.JdbcMetadataUtils;
 import org.apache.seatunnel.datasource.plugin.api.utils.JdbcUtils;
 
 import org.apache.commons.lang3.StringUtils;
@@ -36,6 +38,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +47,29 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @Slf4j
 public class PostgresqlDataSourceChannel implements DataSourceChannel {
 
+    /** Serial columns are reported the way the driver reports them through {@code getColumns}. */
+    private static final String SELECT_TABLE_FIELDS_SQL =
+            "SELECT c.relname AS TABLE_NAME, a.attname AS COLUMN_NAME, "
+                    + "CASE WHEN pg_get_expr(d.adbin, d.adrelid) LIKE 'nextval(%' "
+                    + "AND t.typname IN ('int2', 'int4', 'int8') THEN CASE t.typname "
+                    + "WHEN 'int2' THEN 'smallserial' WHEN 'int4' THEN 'serial' "
+                    + "ELSE 'bigserial' END ELSE t.typname END AS TYPE_NAME, "
+                    + "col_description(a.attrelid, a.attnum) AS REMARKS, "
+                    + "CASE WHEN a.attnotnull THEN 'NO' ELSE 'YES' END AS IS_NULLABLE, "
+                    + "CASE WHEN i.indrelid IS NULL THEN 0 ELSE 1 END AS IS_PRIMARY_KEY "
+                    + "FROM pg_catalog.pg_attribute a "
+                    + "JOIN pg_catalog.pg_class c ON c.oid = a.attrelid "
+                    + "JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace "
+                    + "JOIN pg_catalog.pg_type t ON t.oid = a.atttypid "
+                    + "LEFT JOIN pg_catalog.pg_attrdef d "
+                    + "ON d.adrelid = a.attrelid AND d.adnum = a.attnum "
+                    + "LEFT JOIN pg_catalog.pg_index i ON i.indrelid = a.attrelid "
+                    + "AND i.indisprimary AND i.indkey[0] = a.attnum "
+                    + "WHERE n.nspname = ? AND c.relname IN ("
+                    + JdbcMetadataUtils.TABLE_NAMES_PLACEHOLDER
+                    + ") AND a.attnum > 0 AND NOT a.attisdropped "
+                    + "ORDER BY c.relname, a.attnum";
+
     @Override
     public OptionRule getDataSourceOptions(@NonNull String pluginName) {
         return PostgresqlDataSourceConfig.OPTION_RULE;
@@ -140,8 +166,8 @@ public class PostgresqlDataSourceChannel implements DataSourceChannel {
     @Override
     public boolean checkDataSourceConnectivity(
             @NonNull String pluginName, @NonNull Map<String, String> requestParams) {
-        try (Connection ignored = getConnection(requestParams)) {
-            return true;
+        try (Connection connection = getConnection(requestParams)) {
+            return JdbcConnectionPool.isValid(connection);
         } catch (Exception e) {
             throw new DataSourcePluginException("check jdbc connectivity failed", e);
         }
@@ -177,8 +203,8 @@ public class PostgresqlDataSourceChannel implements DataSourceChannel {
                     tableField.setName(columnName);
                     tableField.setType(resultSet.getString("TYPE_NAME"));
                     tableField.setComment(resultSet.getString("REMARKS"));
-                    Object nullable = resultSet.getObject("IS_NULLABLE");
-                    tableField.setNullable(Boolean.TRUE.toString().equals(nullable.toString()));
+                    String isNullable = resultSet.getString("IS_NULLABLE");
+                    tableField.setNullable("YES".equalsIgnoreCase(isNullable));
                     tableFields.add(tableField);
                 }
             }
@@ -194,14 +220,42 @@ public class PostgresqlDataSourceChannel implements DataSourceChannel {
             @NonNull Map<String, String> requestParams,
             @NonNull String database,
             @NonNull List<String> tables) {
-        return null;
+        Map<String, List<String>> tableNamesBySchema = new LinkedHashMap<>();
+        for (String table : tables) {
+            String[] split = table.split("\\.");
+            if (split.length != 2) {
+                throw new DataSourcePluginException(
+                        "Postgresql tableName should composed by schemaName.tableName");
+            }
+            tableNamesBySchema.computeIfAbsent(split[0], key -> new ArrayList<>()).add(split[1]);
+        }
+        // one catalog query per schema instead of two metadata round trips per table
+        Map<String, List<TableField>> tableFields = new LinkedHashMap<>();
+        try (Connection connection = getConnection(requestParams, database)) {
+            for (Map.Entry<String, List<String>> entry : tableNamesBySchema.entrySet()) {
+                String schemaName = entry.getKey();
+                JdbcMetadataUtils.getTableFields(
+                                connection,
+                                SELECT_TABLE_FIELDS_SQL,
+                                schemaName,
+                                entry.getValue(),
+                                JdbcMetadataUtils::isNullable)
+                        .forEach(
+                                (tableName, fields) ->
+                                        tableFields.put(schemaName + "." + tableName, fields));
+            }
+        } catch (SQLException | ClassNotFoundException e) {
+            throw new DataSourcePluginException("get table fields failed", e);
+        }
+        return tableFields;
     }
 
     private String getPrimaryKey(DatabaseMetaData metaData, String dbName, String tableName)
             throws SQLException {
-        ResultSet primaryKeysInfo = metaData.getPrimaryKeys(dbName, "%", tableName);
-        while (primaryKeysInfo.next()) {
-            return primaryKeysInfo.getString("COLUMN_NAME");
+        try (ResultSet primaryKeysInfo = metaData.getPrimaryKeys(dbName, "%", tableName)) {
+            while (primaryKeysInfo.next()) {
+                return primaryKeysInfo.getString("COLUMN_NAME");
+            }
         }
         return null;
     }
@@ -221,8 +275,12 @@ public class PostgresqlDataSourceChannel implements DataSourceChannel {
         if (requestParams.containsKey(PostgresqlOptionRule.USER.key())) {
             String username = requestParams.get(PostgresqlOptionRule.USER.key());
             String password = requestParams.get(PostgresqlOptionRule.PASSWORD.key());
-            return DriverManager.getConnection(url, username, password);
+            return JdbcConnectionPool.getConnection(
+                    url,
+                    username,
+                    password,
+                    () -> DriverManager.getConnection(url, username, password));
         }
-        return DriverManager.getConnection(url);
+        return JdbcConnectionPool.getConnection(url, () -> DriverManager.getConnection(url));
     }
 }
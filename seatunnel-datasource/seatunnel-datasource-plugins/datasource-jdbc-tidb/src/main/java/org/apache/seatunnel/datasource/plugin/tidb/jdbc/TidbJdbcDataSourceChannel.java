@@ -21,7 +21,10 @@ import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.datasource.plugin.api.DataSourceChannel;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.JdbcConnectionPool;
+import org.apache.seatunnel.datasource.plugin.api.utils.JdbcMetadataUtils;
 import org.apache.seatunnel.datasource.plugin.api.utils.JdbcUtils;
+import org.apache.seatunnel.datasource.plugin.api.utils.MysqlMetadataUtils;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -37,8 +40,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -102,8 +103,8 @@ public class TidbJdbcDataSourceChannel implements DataSourceChannel {
     @Override
     public boolean checkDataSourceConnectivity(
             @NonNull String pluginName, @NonNull Map<String, String> requestParams) {
-        try (Connection ignored = getConnection(requestParams)) {
-            return true;
+        try (Connection connection = getConnection(requestParams)) {
+            return JdbcConnectionPool.isValid(connection);
         } catch (Exception e) {
             throw new DataSourcePluginException("check jdbc connectivity failed", e);
         }
@@ -130,8 +131,8 @@ public class TidbJdbcDataSourceChannel implements DataSourceChannel {
                     tableField.setName(columnName);
                     tableField.setType(resultSet.getString("TYPE_NAME"));
                     tableField.setComment(resultSet.getString("REMARKS"));
-                    Object nullable = resultSet.getObject("IS_NULLABLE");
-                    tableField.setNullable(Boolean.TRUE.toString().equals(nullable.toString()));
+                    String isNullable = resultSet.getString("IS_NULLABLE");
+                    tableField.setNullable("YES".equalsIgnoreCase(isNullable));
                     tableFields.add(tableField);
                 }
             }
@@ -147,20 +148,39 @@ public class TidbJdbcDataSourceChannel implements DataSourceChannel {
             @NonNull Map<String, String> requestParams,
             @NonNull String database,
             @NonNull List<String> tables) {
-        return tables.parallelStream()
-                .collect(
-                        Collectors.toMap(
-                                Function.identity(),
-                                table ->
-                                        getTableFields(
-                                                pluginName, requestParams, database, table)));
+        // one information_schema query instead of two metadata round trips per table
+        try (Connection connection = getConnection(requestParams, database)) {
+            return MysqlMetadataUtils.getTableFields(
+                    connection, database, tables, JdbcMetadataUtils::isNullable);
+        } catch (ClassNotFoundException | SQLException e) {
+            throw new DataSourcePluginException("get table fields failed", e);
+        }
+    }
+
+    @Override
+    public boolean canAbleGetAllTables() {
+        return true;
+    }
+
+    @Override
+    public Map<String, List<String>> getAllTables(
+            @NonNull String pluginName,
+            @NonNull Map<String, String> requestParams,
+            @NonNull List<String> databases) {
+        // one information_schema query instead of one getTables round trip per database
+        try (Connection connection = getConnection(requestParams)) {
+            return MysqlMetadataUtils.getTableNames(connection, databases);
+        } catch (ClassNotFoundException | SQLException e) {
+            throw new DataSourcePluginException("get table names failed", e);
+        }
     }
 
     private String getPrimaryKey(DatabaseMetaData metaData, String dbName, String tableName)
             throws SQLException {
-        ResultSet primaryKeysInfo = metaData.getPrimaryKeys(dbName, "%", tableName);
-        while (primaryKeysInfo.next()) {
-            return primaryKeysInfo.getString("COLUMN_NAME");
+        try (ResultSet primaryKeysInfo = metaData.getPrimaryKeys(dbName, "%", tableName)) {
+            while (primaryKeysInfo.next()) {
+                return primaryKeysInfo.getString("COLUMN_NAME");
+            }
         }
         return null;
     }
@@ -185,6 +205,7 @@ public class TidbJdbcDataSourceChannel implements DataSourceChannel {
             info.put("user", requestParams.get(TidbOptionRule.USER.key()));
             info.put("password", requestParams.get(TidbOptionRule.PASSWORD.key()));
         }
-        return DriverManager.getConnection(url, info);
+        return JdbcConnectionPool.getConnection(
+                url, info, () -> DriverManager.getConnection(url, info));
     }
 }
@@ -19,8 +19,11 @@ package org.apache.seatunnel.datasource.plugin.kafka;
 
 import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.datasource.plugin.api.DataSourceChannel;
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginConfig;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.SampledSchemaLoader;
+import org.apache.seatunnel.datasource.plugin.api.utils.SharedClientCache;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -32,7 +35,6 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,6 +48,37 @@ public class KafkaDataSourceChannel implements DataSourceChannel {
     private static final DescribeClusterOptions DEFAULT_TIMEOUT_OPTIONS =
             new DescribeClusterOptions().timeoutMs(60 * 1000);
 
+    private static final String CONFIG_PREFIX = "kafka.";
+
+    private static final int SAMPLE_RECORDS_PER_PARTITION =
+            DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.records-per-partition", 100);
+
+    private static final int SAMPLE_MAX_RECORDS =
+            DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.max-records", 1000);
+
+    private static final long SAMPLE_TIMEOUT_MILLIS =
+            DataSourcePluginConfig.getLong(CONFIG_PREFIX + "schema.timeout-ms", 10000L);
+
+    // AdminClient is thread safe, one per datasource saves a bootstrap on every call
+    private static final SharedClientCache<AdminClient> ADMIN_CLIENTS =
+            new SharedClientCache<>(
+                    "kafka admin client",
+                    DataSourcePluginConfig.getLong(
+                            CONFIG_PREFIX + "admin-client.idle-timeout-ms", 300000L),
+                    requestParams ->
+                            AdminClient.create(
+                                    KafkaRequestParamsUtils.parsePropertiesFromRequestParams(
+                                            requestParams)));
+
+    private static final SampledSchemaLoader SCHEMA_LOADER =
+            new SampledSchemaLoader(
+                    "kafka topic",
+                    DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.threads", 4),
+                    DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.queue-capacity", 1000),
+                    SAMPLE_TIMEOUT_MILLIS,
+                    DataSourcePluginConfig.getLong(CONFIG_PREFIX + "schema.cache-ttl-ms", 300000L),
+                    DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.cache-max-size", 1000));
+
     @Override
     public OptionRule getDataSourceOptions(@NonNull String pluginName) {
         return KafkaOptionRule.optionRule();
@@ -63,8 +96,10 @@ public class KafkaDataSourceChannel implements DataSourceChannel {
             String database,
             Map<String, String> option) {
         checkArgument(StringUtils.equalsIgnoreCase(database, DATABASE), "database must be default");
-        try (AdminClient adminClient = createAdminClient(requestParams)) {
-            Set<String> strings = adminClient.listTopics().names().get();
+        try {
+            Set<String> strings =
+                    ADMIN_CLIENTS.execute(
+                            requestParams, adminClient -> adminClient.listTopics().names().get());
             return new ArrayList<>(strings);
         } catch (Exception ex) {
             throw new DataSourcePluginException(
@@ -81,12 +116,18 @@ public class KafkaDataSourceChannel implements DataSourceChannel {
     @Override
     public boolean checkDataSourceConnectivity(
             @NonNull String pluginName, @NonNull Map<String, String> requestParams) {
-        try (AdminClient adminClient = createAdminClient(requestParams)) {
+        try {
             // just test the connection
-            DescribeClusterResult describeClusterResult =
-                    adminClient.describeCluster(DEFAULT_TIMEOUT_OPTIONS);
-            return CollectionUtils.isNotEmpty(describeClusterResult.nodes().get());
+            return ADMIN_CLIENTS.execute(
+                    requestParams,
+                    adminClient -> {
+                        DescribeClusterResult describeClusterResult =
+                                adminClient.describeCluster(DEFAULT_TIMEOUT_OPTIONS);
+                        return CollectionUtils.isNotEmpty(describeClusterResult.nodes().get());
+                    });
         } catch (Exception ex) {
+            // do not keep a client built from settings that cannot reach the cluster
+            ADMIN_CLIENTS.invalidate(requestParams);
             throw new DataSourcePluginException(
                     "check kafka connectivity failed, " + ex.getMessage(), ex);
         }
@@ -99,7 +140,15 @@ public class KafkaDataSourceChannel implements DataSourceChannel {
             @NonNull String database,
             @NonNull String table) {
         checkArgument(StringUtils.equalsIgnoreCase(database, DATABASE), "database must be default");
-        return Collections.emptyList();
+        try {
+            return SCHEMA_LOADER.load(
+                    requestParams, table, topic -> inferTableFields(requestParams, topic));
+        } catch (Exception ex) {
+            throw new DataSourcePluginException(
+                    String.format(
+                            "infer schema of kafka topic %s failed, %s", table, ex.getMessage()),
+                    ex);
+        }
     }
 
     @Override
@@ -109,11 +158,32 @@ public class KafkaDataSourceChannel implements DataSourceChannel {
             @NonNull String database,
             @NonNull List<String> tables) {
         checkArgument(StringUtils.equalsIgnoreCase(database, DATABASE), "database must be default");
-        return Collections.emptyMap();
+        // sample the topics in parallel, each with its own short-lived consumer
+        return SCHEMA_LOADER.loadAll(
+                requestParams, tables, topic -> inferTableFields(requestParams, topic));
+    }
+
+    @Override
+    public void close() {
+        ADMIN_CLIENTS.close();
+        SCHEMA_LOADER.close();
     }
 
-    private AdminClient createAdminClient(Map<String, String> requestParams) {
-        return AdminClient.create(
-                KafkaRequestParamsUtils.parsePropertiesFromRequestParams(requestParams));
+    private static List<TableField> inferTableFields(
+            Map<String, String> requestParams, String topic) {
+        List<byte[]> values =
+                KafkaTopicSampler.sample(
+                        requestParams,
+                        topic,
+                        SAMPLE_RECORDS_PER_PARTITION,
+                        SAMPLE_MAX_RECORDS,
+                        SAMPLE_TIMEOUT_MILLIS);
+        List<TableField> fields = KafkaSchemaInferrer.inferFields(values);
+        log.info(
+                "Inferred {} fields of kafka topic {} from {} records",
+                fields.size(),
+                topic,
+                values.size());
+        return fields;
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.kafka;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.SampledSchemaBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Infers the fields of a topic from sampled JSON record values.
+ *
+ * <p>Every top level key of the sampled objects becomes a field, typed and merged by {@link
+ * SampledSchemaBuilder}. JSON integers are {@code bigint} and nested objects are {@code string}.
+ * Values that are not JSON objects are skipped.
+ */
+@Slf4j
+public class KafkaSchemaInferrer {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private KafkaSchemaInferrer() {}
+
+    public static List<TableField> inferFields(List<byte[]> values) {
+        SampledSchemaBuilder schemaBuilder = new SampledSchemaBuilder();
+        for (byte[] value : values) {
+            JsonNode node = readTree(value);
+            if (node == null || !node.isObject()) {
+                continue;
+            }
+            Map<String, String> fieldTypes = new LinkedHashMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = it.next();
+                fieldTypes.put(field.getKey(), typeOf(field.getValue()));
+            }
+            schemaBuilder.addRecord(fieldTypes);
+        }
+        return schemaBuilder.build();
+    }
+
+    private static JsonNode readTree(byte[] value) {
+        if (value == null || value.length == 0) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readTree(value);
+        } catch (IOException e) {
+            log.debug("Skip a kafka record value that is not json: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** @return the type of {@code node}, or null when the value says nothing about the type */
+    private static String typeOf(JsonNode node) {
+        if (node.isNull() || node.isMissingNode()) {
+            return SampledSchemaBuilder.NULL;
+        }
+        if (node.isBoolean()) {
+            return SampledSchemaBuilder.BOOLEAN;
+        }
+        if (node.isIntegralNumber()) {
+            return node.canConvertToLong()
+                    ? SampledSchemaBuilder.BIGINT
+                    : SampledSchemaBuilder.DECIMAL;
+        }
+        if (node.isNumber()) {
+            return SampledSchemaBuilder.DOUBLE;
+        }
+        if (node.isArray()) {
+            String elementType = null;
+            for (JsonNode element : node) {
+                String type = typeOf(element);
+                if (!SampledSchemaBuilder.NULL.equals(type)) {
+                    elementType = SampledSchemaBuilder.merge(elementType, type);
+                }
+            }
+            // null for an empty array, the next sample may tell more
+            return SampledSchemaBuilder.arrayOf(elementType);
+        }
+        return SampledSchemaBuilder.STRING;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Reads the last records of every partition of a topic with a short-lived consumer that is assigned
+ * the partitions directly, so no consumer group is joined and no offsets are committed.
+ */
+@Slf4j
+public class KafkaTopicSampler {
+
+    private static final String CLIENT_ID = "seatunnel-web-schema-sampler";
+
+    private KafkaTopicSampler() {}
+
+    /**
+     * @param recordsPerPartition how many of the latest records to read from each partition
+     * @param maxRecords how many records to read from the topic at most
+     * @param timeoutMillis how long sampling may take, including the metadata and offset lookups,
+     *     the records read so far are returned then
+     * @return the sampled record values, without tombstones
+     */
+    public static List<byte[]> sample(
+            Map<String, String> requestParams,
+            String topic,
+            int recordsPerPartition,
+            int maxRecords,
+            long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        List<byte[]> values = new ArrayList<>();
+        try (KafkaConsumer<byte[], byte[]> consumer =
+                new KafkaConsumer<>(consumerProperties(requestParams, maxRecords))) {
+            List<PartitionInfo> partitionInfos =
+                    consumer.partitionsFor(topic, remainingTime(deadline));
+            if (partitionInfos == null || partitionInfos.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<TopicPartition> partitions = new ArrayList<>(partitionInfos.size());
+            for (PartitionInfo partitionInfo : partitionInfos) {
+                partitions.add(new TopicPartition(topic, partitionInfo.partition()));
+            }
+            Map<TopicPartition, Long> beginningOffsets =
+                    consumer.beginningOffsets(partitions, remainingTime(deadline));
+            Map<TopicPartition, Long> endOffsets =
+                    consumer.endOffsets(partitions, remainingTime(deadline));
+            Map<TopicPartition, Long> startOffsets = new HashMap<>();
+            for (TopicPartition partition : partitions) {
+                long endOffset = endOffsets.getOrDefault(partition, 0L);
+                long startOffset =
+                        Math.max(
+                                beginningOffsets.getOrDefault(partition, 0L),
+                                endOffset - recordsPerPartition);
+                if (startOffset < endOffset) {
+                    startOffsets.put(partition, startOffset);
+                }
+            }
+            if (startOffsets.isEmpty()) {
+                return Collections.emptyList();
+            }
+            consumer.assign(startOffsets.keySet());
+            startOffsets.forEach(consumer::seek);
+
+            Map<TopicPartition, Long> pending = new HashMap<>(startOffsets);
+            while (!pending.isEmpty() && values.size() < maxRecords) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    log.info("Sampling topic {} timed out after {} records", topic, values.size());
+                    break;
+                }
+                for (ConsumerRecord<byte[], byte[]> record :
+                        consumer.poll(Duration.ofMillis(Math.min(remaining, 1000L)))) {
+                    if (record.value() != null && values.size() < maxRecords) {
+                        values.add(record.value());
+                    }
+                }
+                // compaction and transaction markers leave gaps, so compare positions, not records
+                pending.entrySet()
+                        .removeIf(
+                                entry ->
+                                        consumer.position(entry.getKey())
+                                                >= endOffsets.get(entry.getKey()));
+            }
+        }
+        return values;
+    }
+
+    // the lookups share the deadline, a lookup started after it fails with a TimeoutException
+    private static Duration remainingTime(long deadline) {
+        return Duration.ofMillis(Math.max(deadline - System.currentTimeMillis(), 0L));
+    }
+
+    private static Properties consumerProperties(
+            Map<String, String> requestParams, int maxRecords) {
+        Properties properties =
+                KafkaRequestParamsUtils.parsePropertiesFromRequestParams(requestParams);
+        // keep a configured client id visible to quotas and acls
+        String clientId = properties.getProperty(ConsumerConfig.CLIENT_ID_CONFIG);
+        properties.put(
+                ConsumerConfig.CLIENT_ID_CONFIG,
+                clientId == null ? CLIENT_ID : clientId + "-" + CLIENT_ID);
+        properties.put(
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG,
+                ByteArrayDeserializer.class.getName());
+        properties.put(
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG,
+                ByteArrayDeserializer.class.getName());
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        properties.put(
+                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(Math.max(maxRecords, 1)));
+        return properties;
+    }
+}
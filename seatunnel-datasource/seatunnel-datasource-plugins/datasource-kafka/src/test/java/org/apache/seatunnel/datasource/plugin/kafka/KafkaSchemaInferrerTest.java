@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.kafka;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+class KafkaSchemaInferrerTest {
+
+    @Test
+    void inferFields() {
+        List<TableField> fields =
+                KafkaSchemaInferrer.inferFields(
+                        values(
+                                "{\"id\": 1, \"name\": \"a\", \"score\": 1, \"tags\": [\"x\"]}",
+                                "{\"id\": 2, \"name\": null, \"score\": 1.5, \"tags\": [],"
+                                        + " \"extra\": {\"k\": true}}",
+                                "not json",
+                                "[1, 2]"));
+        Assertions.assertEquals(5, fields.size());
+        assertField(fields.get(0), "id", "bigint", false);
+        assertField(fields.get(1), "name", "string", true);
+        assertField(fields.get(2), "score", "double", false);
+        assertField(fields.get(3), "tags", "array<string>", false);
+        assertField(fields.get(4), "extra", "string", true);
+    }
+
+    @Test
+    void inferMixedTypes() {
+        List<TableField> fields =
+                KafkaSchemaInferrer.inferFields(
+                        values(
+                                "{\"a\": 1, \"b\": [1], \"c\": null, \"d\": 99999999999999999999}",
+                                "{\"a\": \"1\", \"b\": [2.5], \"c\": null, \"d\": 1}"));
+        assertField(fields.get(0), "a", "string", false);
+        assertField(fields.get(1), "b", "array<double>", false);
+        assertField(fields.get(2), "c", "string", true);
+        assertField(fields.get(3), "d", "decimal(38, 18)", false);
+    }
+
+    @Test
+    void inferNothingFromEmptySample() {
+        Assertions.assertTrue(KafkaSchemaInferrer.inferFields(new ArrayList<>()).isEmpty());
+        Assertions.assertTrue(KafkaSchemaInferrer.inferFields(values("", "plain text")).isEmpty());
+    }
+
+    private static List<byte[]> values(String... values) {
+        List<byte[]> bytes = new ArrayList<>();
+        for (String value : values) {
+            bytes.add(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes;
+    }
+
+    private static void assertField(TableField field, String name, String type, boolean nullable) {
+        Assertions.assertEquals(name, field.getName());
+        Assertions.assertEquals(type, field.getType());
+        Assertions.assertEquals(nullable, field.getNullable());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apache.seatunnel.datasource.plugin.mongodb;
+
+import org.bson.Document;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.EstimatedDocumentCountOptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a bounded sample of the documents of a collection.
+ *
+ * <p>{@code $sample} only uses a random cursor when the sample is less than 5% of the collection,
+ * otherwise it scans and sorts the whole collection. Smaller collections are therefore read with a
+ * find limited to the sample size instead. Both queries run with a server side time limit.
+ */
+public class MongoCollectionSampler {
+
+    private static final long SAMPLE_RANDOM_CURSOR_RATIO = 20L;
+
+    private MongoCollectionSampler() {}
+
+    public static List<Document> sample(
+            MongoClient mongoClient,
+            String database,
+            String collection,
+            int sampleSize,
+            long timeoutMillis) {
+        MongoCollection<Document> mongoCollection =
+                mongoClient.getDatabase(database).getCollection(collection);
+        // answered from the collection metadata, it does not scan
+        long count =
+                mongoCollection.estimatedDocumentCount(
+                        new EstimatedDocumentCountOptions()
+                                .maxTime(timeoutMillis, TimeUnit.MILLISECONDS));
+        List<Document> documents = new ArrayList<>((int) Math.min(count, sampleSize));
+        if (count == 0) {
+            return documents;
+        }
+        if (count < sampleSize * SAMPLE_RANDOM_CURSOR_RATIO) {
+            return mongoCollection
+                    .find()
+                    .limit(sampleSize)
+                    .maxTime(timeoutMillis, TimeUnit.MILLISECONDS)
+                    .into(documents);
+        }
+        return mongoCollection
+                .aggregate(Collections.singletonList(Aggregates.sample(sampleSize)))
+                .allowDiskUse(false)
+                .maxTime(timeoutMillis, TimeUnit.MILLISECONDS)
+                .into(documents);
+    }
+}
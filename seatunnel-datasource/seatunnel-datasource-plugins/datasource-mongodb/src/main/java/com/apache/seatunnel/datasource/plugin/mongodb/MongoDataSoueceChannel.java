@@ -19,21 +19,30 @@ package com.apache.seatunnel.datasource.plugin.mongodb;
 
 import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.datasource.plugin.api.DataSourceChannel;
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginConfig;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.SampledSchemaLoader;
+import org.apache.seatunnel.datasource.plugin.api.utils.SharedClientCache;
 
 import org.apache.commons.lang3.StringUtils;
+import org.bson.Document;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.mongodb.ConnectionString;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoIterable;
+import com.mongodb.client.model.Filters;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
@@ -42,6 +51,38 @@ public class MongoDataSoueceChannel implements DataSourceChannel {
 
     private static final String DATABASE = "default";
 
+    private static final String CONFIG_PREFIX = "mongodb.";
+
+    private static final int SAMPLE_SIZE =
+            DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.sample-size", 100);
+
+    private static final long SAMPLE_TIMEOUT_MILLIS =
+            DataSourcePluginConfig.getLong(CONFIG_PREFIX + "schema.timeout-ms", 10000L);
+
+    private static final Set<String> SYSTEM_DATABASES = ImmutableSet.of("admin", "config", "local");
+
+    private static final String SYSTEM_COLLECTION_PREFIX = "system.";
+
+    // MongoClient is thread safe and pools its own connections, one per datasource is enough
+    private static final SharedClientCache<MongoClient> CLIENTS =
+            new SharedClientCache<>(
+                    "mongodb client",
+                    DataSourcePluginConfig.getLong(
+                            CONFIG_PREFIX + "client.idle-timeout-ms", 300000L),
+                    requestParams ->
+                            MongoClients.create(
+                                    MongoRequestParamsUtils.parseStringFromRequestParams(
+                                            requestParams)));
+
+    private static final SampledSchemaLoader SCHEMA_LOADER =
+            new SampledSchemaLoader(
+                    "mongodb collection",
+                    DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.threads", 4),
+                    DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.queue-capacity", 1000),
+                    SAMPLE_TIMEOUT_MILLIS,
+                    DataSourcePluginConfig.getLong(CONFIG_PREFIX + "schema.cache-ttl-ms", 300000L),
+                    DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.cache-max-size", 1000));
+
     @Override
     public OptionRule getDataSourceOptions(@NonNull String pluginName) {
         return MongoOptionRule.optionRule();
@@ -58,8 +99,37 @@ public class MongoDataSoueceChannel implements DataSourceChannel {
             String database,
             Map<String, String> options) {
         checkArgument(StringUtils.equalsIgnoreCase(database, DATABASE), "database must be default");
-
-        return Collections.emptyList();
+        String uriDatabase = getUriDatabase(requestParams);
+        List<String> tables =
+                CLIENTS.execute(
+                        requestParams,
+                        mongoClient -> {
+                            if (uriDatabase != null) {
+                                return listCollections(mongoClient, uriDatabase, "");
+                            }
+                            // no database in the uri, list the collections of all databases
+                            List<String> collections = new ArrayList<>();
+                            for (String databaseName : mongoClient.listDatabaseNames()) {
+                                if (!SYSTEM_DATABASES.contains(databaseName)) {
+                                    collections.addAll(
+                                            listCollections(
+                                                    mongoClient, databaseName, databaseName + "."));
+                                }
+                            }
+                            return collections;
+                        });
+        String filterName = options == null ? null : options.get("filterName");
+        if (StringUtils.isNotEmpty(filterName)) {
+            tables =
+                    tables.stream()
+                            .filter(table -> StringUtils.containsIgnoreCase(table, filterName))
+                            .collect(Collectors.toList());
+        }
+        String size = options == null ? null : options.get("size");
+        if (StringUtils.isNotEmpty(size) && Integer.parseInt(size) > 0) {
+            tables = tables.subList(0, Math.min(Integer.parseInt(size), tables.size()));
+        }
+        return tables;
     }
 
     @Override
@@ -75,32 +145,120 @@ public class MongoDataSoueceChannel implements DataSourceChannel {
             @NonNull String database,
             @NonNull String table) {
         checkArgument(StringUtils.equalsIgnoreCase(database, DATABASE), "database must be default");
-        return Collections.emptyList();
+        try {
+            return SCHEMA_LOADER.load(
+                    requestParams,
+                    table,
+                    collection -> inferTableFields(requestParams, collection));
+        } catch (Exception e) {
+            throw new DataSourcePluginException(
+                    String.format(
+                            "infer schema of MongoDB collection %s failed, %s",
+                            table, e.getMessage()),
+                    e);
+        }
+    }
+
+    @Override
+    public Map<String, List<TableField>> getTableFields(
+            @NonNull String pluginName,
+            @NonNull Map<String, String> requestParams,
+            @NonNull String database,
+            @NonNull List<String> tables) {
+        checkArgument(StringUtils.equalsIgnoreCase(database, DATABASE), "database must be default");
+        return SCHEMA_LOADER.loadAll(
+                requestParams, tables, collection -> inferTableFields(requestParams, collection));
     }
 
     @Override
     public boolean checkDataSourceConnectivity(
             @NonNull String pluginName, @NonNull Map<String, String> requestParams) {
 
-        try (MongoClient mongoClient = createMongoClient(requestParams)) {
+        try {
             // Verify if the connection to mongodb was successful
-            MongoIterable<String> databaseNames = mongoClient.listDatabaseNames();
-            if (databaseNames.iterator().hasNext()) {
-                log.info("mongoDB connection successful");
-                return true;
-            } else {
-                return false;
-            }
+            return CLIENTS.execute(
+                    requestParams,
+                    mongoClient -> {
+                        MongoIterable<String> databaseNames = mongoClient.listDatabaseNames();
+                        if (databaseNames.iterator().hasNext()) {
+                            log.info("mongoDB connection successful");
+                            return true;
+                        } else {
+                            return false;
+                        }
+                    });
         } catch (Exception e) {
+            // do not keep a client built from settings that cannot reach the server
+            CLIENTS.invalidate(requestParams);
             throw new DataSourcePluginException(
                     "check MongoDB connectivity failed, " + e.getMessage(), e);
         }
     }
 
-    // Resolve the URI in requestParams of Map type
-    private MongoClient createMongoClient(Map<String, String> requestParams) {
+    @Override
+    public void close() {
+        CLIENTS.close();
+        SCHEMA_LOADER.close();
+    }
 
-        return MongoClients.create(
-                MongoRequestParamsUtils.parseStringFromRequestParams(requestParams));
+    private static List<TableField> inferTableFields(
+            Map<String, String> requestParams, String table) {
+        String uriDatabase = getUriDatabase(requestParams);
+        String databaseName;
+        String collection;
+        if (uriDatabase != null) {
+            databaseName = uriDatabase;
+            collection = table;
+        } else {
+            // listed as database.collection, collection names may contain dots themselves
+            int dot = table.indexOf('.');
+            checkArgument(
+                    dot > 0,
+                    String.format(
+                            "table %s must be database.collection without a uri database", table));
+            databaseName = table.substring(0, dot);
+            collection = table.substring(dot + 1);
+        }
+        List<Document> documents =
+                CLIENTS.execute(
+                        requestParams,
+                        mongoClient ->
+                                MongoCollectionSampler.sample(
+                                        mongoClient,
+                                        databaseName,
+                                        collection,
+                                        SAMPLE_SIZE,
+                                        SAMPLE_TIMEOUT_MILLIS));
+        List<TableField> fields = MongoSchemaInferrer.inferFields(documents);
+        log.info(
+                "Inferred {} fields of MongoDB collection {} from {} documents",
+                fields.size(),
+                table,
+                documents.size());
+        return fields;
+    }
+
+    private static List<String> listCollections(
+            MongoClient mongoClient, String databaseName, String prefix) {
+        List<String> collections = new ArrayList<>();
+        // views are skipped, sampling one would run its whole pipeline
+        for (Document collection :
+                mongoClient
+                        .getDatabase(databaseName)
+                        .listCollections()
+                        .filter(Filters.eq("type", "collection"))) {
+            String name = collection.getString("name");
+            if (!name.startsWith(SYSTEM_COLLECTION_PREFIX)) {
+                collections.add(prefix + name);
+            }
+        }
+        return collections;
+    }
+
+    // Resolve the URI in requestParams of Map type
+    private static String getUriDatabase(Map<String, String> requestParams) {
+        return new ConnectionString(
+                        MongoRequestParamsUtils.parseStringFromRequestParams(requestParams))
+                .getDatabase();
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.apache.seatunnel.datasource.plugin.mongodb;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.SampledSchemaBuilder;
+
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.Decimal128;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Infers the fields of a collection from sampled documents.
+ *
+ * <p>Every top level key of the sampled documents becomes a field, typed and merged by {@link
+ * SampledSchemaBuilder}. Object ids and nested documents are {@code string}, dates and timestamps
+ * are {@code timestamp}. {@code _id} is the primary key.
+ */
+public class MongoSchemaInferrer {
+
+    private static final String ID_FIELD = "_id";
+
+    private MongoSchemaInferrer() {}
+
+    public static List<TableField> inferFields(List<Document> documents) {
+        SampledSchemaBuilder schemaBuilder = new SampledSchemaBuilder();
+        for (Document document : documents) {
+            Map<String, String> fieldTypes = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> field : document.entrySet()) {
+                fieldTypes.put(field.getKey(), typeOf(field.getValue()));
+            }
+            schemaBuilder.addRecord(fieldTypes);
+        }
+        List<TableField> fields = schemaBuilder.build();
+        for (TableField field : fields) {
+            if (ID_FIELD.equals(field.getName())) {
+                field.setPrimaryKey(true);
+                field.setNullable(false);
+            }
+        }
+        return fields;
+    }
+
+    /** @return the type of {@code value}, or null when the value says nothing about the type */
+    private static String typeOf(Object value) {
+        if (value == null) {
+            return SampledSchemaBuilder.NULL;
+        }
+        if (value instanceof Boolean) {
+            return SampledSchemaBuilder.BOOLEAN;
+        }
+        if (value instanceof Integer) {
+            return SampledSchemaBuilder.INT;
+        }
+        if (value instanceof Long) {
+            return SampledSchemaBuilder.BIGINT;
+        }
+        if (value instanceof Double) {
+            return SampledSchemaBuilder.DOUBLE;
+        }
+        if (value instanceof Decimal128) {
+            return SampledSchemaBuilder.DECIMAL;
+        }
+        if (value instanceof Date || value instanceof BsonTimestamp) {
+            return SampledSchemaBuilder.TIMESTAMP;
+        }
+        if (value instanceof Binary || value instanceof byte[]) {
+            return SampledSchemaBuilder.BYTES;
+        }
+        if (value instanceof Collection) {
+            String elementType = null;
+            for (Object element : (Collection<?>) value) {
+                String type = typeOf(element);
+                if (!SampledSchemaBuilder.NULL.equals(type)) {
+                    elementType = SampledSchemaBuilder.merge(elementType, type);
+                }
+            }
+            // null for an empty array, the next sample may tell more
+            return SampledSchemaBuilder.arrayOf(elementType);
+        }
+        // strings, object ids, nested documents and the remaining bson types
+        return SampledSchemaBuilder.STRING;
+    }
+}
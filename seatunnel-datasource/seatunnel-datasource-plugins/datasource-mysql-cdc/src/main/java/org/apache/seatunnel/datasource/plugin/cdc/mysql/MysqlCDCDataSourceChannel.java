@@ -21,6 +21,9 @@ import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.datasource.plugin.api.DataSourceChannel;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.JdbcConnectionPool;
+import org.apache.seatunnel.datasource.plugin.api.utils.JdbcMetadataUtils;
+import org.apache.seatunnel.datasource.plugin.api.utils.MysqlMetadataUtils;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -35,7 +38,6 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -97,11 +99,23 @@ public class MysqlCDCDataSourceChannel implements DataSourceChannel {
             Map<String, String> requestParams,
             String database,
             List<String> tables) {
-        Map<String, List<TableField>> tableFields = new HashMap<>(tables.size());
-        for (String table : tables) {
-            tableFields.put(table, getTableFields(requestParams, database, table));
+        return getTableFields(requestParams, database, tables);
+    }
+
+    @Override
+    public boolean canAbleGetAllTables() {
+        return true;
+    }
+
+    @Override
+    public Map<String, List<String>> getAllTables(
+            String pluginName, Map<String, String> requestParams, List<String> databases) {
+        // one information_schema query instead of one getTables round trip per database
+        try (Connection connection = init(requestParams)) {
+            return MysqlMetadataUtils.getTableNames(connection, databases);
+        } catch (SQLException e) {
+            throw new DataSourcePluginException("get table names failed", e);
         }
-        return tableFields;
     }
 
     @SuppressWarnings("checkstyle:MagicNumber")
@@ -165,7 +179,8 @@ public class MysqlCDCDataSourceChannel implements DataSourceChannel {
             info.put("user", requestParams.get(MysqlCDCOptionRule.USERNAME.key()));
             info.put("password", requestParams.get(MysqlCDCOptionRule.PASSWORD.key()));
         }
-        return DriverManager.getConnection(url, info);
+        return JdbcConnectionPool.getConnection(
+                url, info, () -> DriverManager.getConnection(url, info));
     }
 
     protected List<String> getDataBaseNames(Map<String, String> requestParams) throws SQLException {
@@ -221,21 +236,21 @@ public class MysqlCDCDataSourceChannel implements DataSourceChannel {
         try (Connection connection = init(requestParams); ) {
             DatabaseMetaData metaData = connection.getMetaData();
             String primaryKey = getPrimaryKey(metaData, dbName, tableName);
-            ResultSet resultSet = metaData.getColumns(dbName, null, tableName, null);
-            while (resultSet.next()) {
-                TableField tableField = new TableField();
-                String columnName = resultSet.getString("COLUMN_NAME");
-                tableField.setPrimaryKey(false);
-                if (StringUtils.isNotBlank(primaryKey) && primaryKey.equals(columnName)) {
-                    tableField.setPrimaryKey(true);
+            try (ResultSet resultSet = metaData.getColumns(dbName, null, tableName, null)) {
+                while (resultSet.next()) {
+                    TableField tableField = new TableField();
+                    String columnName = resultSet.getString("COLUMN_NAME");
+                    tableField.setPrimaryKey(false);
+                    if (StringUtils.isNotBlank(primaryKey) && primaryKey.equals(columnName)) {
+                        tableField.setPrimaryKey(true);
+                    }
+                    tableField.setName(columnName);
+                    tableField.setType(resultSet.getString("TYPE_NAME"));
+                    tableField.setComment(resultSet.getString("REMARKS"));
+                    String isNullable = resultSet.getString("IS_NULLABLE");
+                    tableField.setNullable("YES".equalsIgnoreCase(isNullable));
+                    tableFields.add(tableField);
                 }
-                tableField.setName(columnName);
-                tableField.setType(resultSet.getString("TYPE_NAME"));
-                tableField.setComment(resultSet.getString("REMARKS"));
-                Object nullable = resultSet.getObject("IS_NULLABLE");
-                boolean isNullable = convertToBoolean(nullable);
-                tableField.setNullable(isNullable);
-                tableFields.add(tableField);
             }
         } catch (SQLException e) {
             throw new DataSourcePluginException("get table fields failed", e);
@@ -243,11 +258,23 @@ public class MysqlCDCDataSourceChannel implements DataSourceChannel {
         return tableFields;
     }
 
+    protected Map<String, List<TableField>> getTableFields(
+            Map<String, String> requestParams, String dbName, List<String> tableNames) {
+        // one information_schema query instead of two metadata round trips per table
+        try (Connection connection = init(requestParams)) {
+            return MysqlMetadataUtils.getTableFields(
+                    connection, dbName, tableNames, JdbcMetadataUtils::isNullable);
+        } catch (SQLException e) {
+            throw new DataSourcePluginException("get table fields failed", e);
+        }
+    }
+
     private String getPrimaryKey(DatabaseMetaData metaData, String dbName, String tableName)
             throws SQLException {
-        ResultSet primaryKeysInfo = metaData.getPrimaryKeys(dbName, "%", tableName);
-        while (primaryKeysInfo.next()) {
-            return primaryKeysInfo.getString("COLUMN_NAME");
+        try (ResultSet primaryKeysInfo = metaData.getPrimaryKeys(dbName, "%", tableName)) {
+            while (primaryKeysInfo.next()) {
+                return primaryKeysInfo.getString("COLUMN_NAME");
+            }
         }
         return null;
     }
@@ -256,14 +283,4 @@ public class MysqlCDCDataSourceChannel implements DataSourceChannel {
         return MYSQL_SYSTEM_DATABASES.stream()
                 .noneMatch(systemDatabase -> StringUtils.equalsIgnoreCase(systemDatabase, dbName));
     }
-
-    private boolean convertToBoolean(Object value) {
-        if (value instanceof Boolean) {
-            return (Boolean) value;
-        }
-        if (value instanceof String) {
-            return value.equals("TRUE");
-        }
-        return false;
-    }
 }
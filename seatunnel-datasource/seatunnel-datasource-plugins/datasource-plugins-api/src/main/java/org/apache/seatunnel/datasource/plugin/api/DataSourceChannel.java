@@ -26,6 +26,8 @@ import com.google.common.collect.ImmutableList;
 import lombok.NonNull;
 
 import java.sql.Connection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -67,6 +69,33 @@ public interface DataSourceChannel {
         return false;
     }
 
+    /**
+     * whether {@link #getAllTables} reads the tables of all databases at once, callers fan out
+     * {@link #getTables} per database themselves otherwise
+     */
+    default boolean canAbleGetAllTables() {
+        return false;
+    }
+
+    /**
+     * get the tables of many databases
+     *
+     * @param pluginName plugin name
+     * @param requestParams connection params
+     * @param databases database names
+     * @return table names by database, in the order of the given databases
+     */
+    default Map<String, List<String>> getAllTables(
+            @NonNull String pluginName,
+            @NonNull Map<String, String> requestParams,
+            @NonNull List<String> databases) {
+        Map<String, List<String>> tables = new LinkedHashMap<>();
+        for (String database : databases) {
+            tables.put(database, getTables(pluginName, requestParams, database, new HashMap<>()));
+        }
+        return tables;
+    }
+
     List<TableField> getTableFields(
             @NonNull String pluginName,
             @NonNull Map<String, String> requestParams,
@@ -109,4 +138,12 @@ public interface DataSourceChannel {
     default Connection getConnection(String pluginName, Map<String, String> requestParams) {
         return null;
     }
+
+    /**
+     * Release the clients, pools and threads the channel keeps, called once the plugin was replaced
+     * and its classloader is about to be closed. The pooled jdbc connections opened through the
+     * plugin classloader are closed by the caller, see {@link
+     * org.apache.seatunnel.datasource.plugin.api.utils.JdbcConnectionPool#closePools}.
+     */
+    default void close() {}
 }
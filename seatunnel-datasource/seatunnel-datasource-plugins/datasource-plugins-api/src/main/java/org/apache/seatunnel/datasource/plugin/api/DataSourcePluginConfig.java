@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.datasource.plugin.api;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of the datasource plugins, e.g. the sizes of their connection pools, taken from the
+ * {@code seatunnel-web.datasource-plugin} section of the application configuration before any
+ * plugin is loaded. Keys are relative to that section, e.g. {@code jdbc-pool.max-size}, and every
+ * setting has a default, so plugins also work when nothing was configured.
+ */
+public final class DataSourcePluginConfig {
+
+    private static volatile Map<String, String> settings = Collections.emptyMap();
+
+    private DataSourcePluginConfig() {}
+
+    public static void configure(Map<String, String> pluginSettings) {
+        settings = Collections.unmodifiableMap(new HashMap<>(pluginSettings));
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = settings.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = settings.get(key);
+        return value == null ? defaultValue : Long.parseLong(value.trim());
+    }
+}
@@ -0,0 +1,479 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.datasource.plugin.api.utils;
+
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small connection pools for the metadata calls of the JDBC datasource channels, one per distinct
+ * set of connection parameters.
+ *
+ * <p>The connection itself is opened by the {@link ConnectionFactory} of the channel, so that
+ * {@code DriverManager} sees the driver through the plugin classloader. Closing a borrowed
+ * connection returns it to its pool. Connections are validated when they were idle for a while,
+ * closed after being idle for {@code idle-timeout-ms} or older than {@code max-lifetime-ms}, and a
+ * pool without connections is dropped after being unused for the idle timeout. Catalog, auto-commit
+ * and read-only changes of a caller are undone before the connection goes back to the pool, and
+ * {@link Connection#isValid} always validates, so that connectivity checks do not pass on a pooled
+ * connection without a round trip.
+ *
+ * <p>The settings are read from the {@code jdbc-pool.*} keys of {@link DataSourcePluginConfig}.
+ */
+@Slf4j
+public class JdbcConnectionPool {
+
+    private static final String CONFIG_PREFIX = "jdbc-pool.";
+
+    private static final int MAX_SIZE =
+            DataSourcePluginConfig.getInt(CONFIG_PREFIX + "max-size", 8);
+
+    private static final long IDLE_TIMEOUT_MILLIS =
+            DataSourcePluginConfig.getLong(CONFIG_PREFIX + "idle-timeout-ms", 300000L);
+
+    // also bounds what a driver keeps for statements a caller forgot to close
+    private static final long MAX_LIFETIME_MILLIS =
+            DataSourcePluginConfig.getLong(CONFIG_PREFIX + "max-lifetime-ms", 1800000L);
+
+    private static final long BORROW_TIMEOUT_MILLIS =
+            DataSourcePluginConfig.getLong(CONFIG_PREFIX + "borrow-timeout-ms", 30000L);
+
+    private static final long VALIDATE_AFTER_IDLE_MILLIS =
+            DataSourcePluginConfig.getLong(CONFIG_PREFIX + "validate-after-idle-ms", 5000L);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private static final String VALIDATION_QUERY = "SELECT 1";
+
+    private static final Map<PoolKey, JdbcConnectionPool> POOLS = new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService EVICTOR =
+            Executors.newSingleThreadScheduledExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "jdbc-connection-pool-evictor");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+
+    static {
+        long period = Math.max(IDLE_TIMEOUT_MILLIS / 2, 1000L);
+        EVICTOR.scheduleWithFixedDelay(
+                JdbcConnectionPool::evictIdleConnections, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /** Opens a new physical connection, usually {@code () -> DriverManager.getConnection(...)}. */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection connect() throws SQLException;
+    }
+
+    private final String url;
+
+    private final ConnectionFactory connectionFactory;
+
+    private final ClassLoader classLoader;
+
+    private final Semaphore permits = new Semaphore(MAX_SIZE, true);
+
+    // most recently used first, so the tail holds the connections idle for the longest time
+    private final Deque<PooledEntry> idleEntries = new ConcurrentLinkedDeque<>();
+
+    private volatile long lastBorrowMillis = System.currentTimeMillis();
+
+    private volatile boolean closed;
+
+    private JdbcConnectionPool(String url, ConnectionFactory connectionFactory) {
+        this.url = url;
+        this.connectionFactory = connectionFactory;
+        this.classLoader = connectionFactory.getClass().getClassLoader();
+    }
+
+    public static Connection getConnection(String url, ConnectionFactory connectionFactory)
+            throws SQLException {
+        return getConnection(url, new Properties(), connectionFactory);
+    }
+
+    public static Connection getConnection(
+            String url, String user, String password, ConnectionFactory connectionFactory)
+            throws SQLException {
+        Properties info = new Properties();
+        if (user != null) {
+            info.put("user", user);
+        }
+        if (password != null) {
+            info.put("password", password);
+        }
+        return getConnection(url, info, connectionFactory);
+    }
+
+    /**
+     * Borrow a connection for {@code url} and {@code info}, opening it with {@code
+     * connectionFactory} when the pool has no idle one.
+     */
+    public static Connection getConnection(
+            String url, Properties info, ConnectionFactory connectionFactory) throws SQLException {
+        PoolKey key =
+                new PoolKey(
+                        connectionFactory.getClass().getClassLoader(),
+                        ParamsDigestUtils.sha256(info, url));
+        while (true) {
+            JdbcConnectionPool pool =
+                    POOLS.computeIfAbsent(key, k -> new JdbcConnectionPool(url, connectionFactory));
+            Connection connection = pool.borrow();
+            if (connection != null) {
+                return connection;
+            }
+            // the pool was dropped by the evictor right after we looked it up
+        }
+    }
+
+    /**
+     * Close the pools of the connections opened through {@code classLoader}, i.e. of a plugin that
+     * is unloaded. Borrowed connections are closed when they are returned.
+     */
+    public static void closePools(ClassLoader classLoader) {
+        for (Map.Entry<PoolKey, JdbcConnectionPool> poolEntry : POOLS.entrySet()) {
+            JdbcConnectionPool pool = poolEntry.getValue();
+            if (pool.classLoader == classLoader && POOLS.remove(poolEntry.getKey(), pool)) {
+                pool.close();
+                log.info("Close jdbc connection pool of {}", pool.url);
+            }
+        }
+    }
+
+    private Connection borrow() throws SQLException {
+        try {
+            if (!permits.tryAcquire(BORROW_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException(
+                        String.format(
+                                "Timeout after %d ms waiting for a connection to %s",
+                                BORROW_TIMEOUT_MILLIS, url));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection to " + url, e);
+        }
+        if (closed) {
+            permits.release();
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        lastBorrowMillis = now;
+        try {
+            PooledEntry entry;
+            while ((entry = idleEntries.pollFirst()) != null) {
+                if (now - entry.createMillis < MAX_LIFETIME_MILLIS
+                        && (now - entry.idleSinceMillis < VALIDATE_AFTER_IDLE_MILLIS
+                                || isValid(entry.connection))) {
+                    return wrap(entry);
+                }
+                closeQuietly(entry.connection);
+            }
+            return wrap(new PooledEntry(connectionFactory.connect(), now));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(PooledEntry entry, PooledConnectionHandler handler) {
+        try {
+            long now = System.currentTimeMillis();
+            if (handler.broken
+                    || closed
+                    || now - entry.createMillis >= MAX_LIFETIME_MILLIS
+                    || entry.connection.isClosed()) {
+                closeQuietly(entry.connection);
+                return;
+            }
+            resetState(entry, handler);
+            entry.idleSinceMillis = now;
+            idleEntries.offerFirst(entry);
+        } catch (SQLException e) {
+            closeQuietly(entry.connection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** Undo what the caller changed, the next caller expects the state of a new connection. */
+    private static void resetState(PooledEntry entry, PooledConnectionHandler handler)
+            throws SQLException {
+        Connection connection = entry.connection;
+        if (handler.autoCommitChanged && connection.getAutoCommit() != entry.initialAutoCommit) {
+            if (!connection.getAutoCommit()) {
+                // do not commit what the caller left open
+                connection.rollback();
+            }
+            connection.setAutoCommit(entry.initialAutoCommit);
+        }
+        if (handler.readOnlyChanged && connection.isReadOnly() != entry.initialReadOnly) {
+            connection.setReadOnly(entry.initialReadOnly);
+        }
+        if (handler.catalogChanged && entry.initialCatalog != null) {
+            connection.setCatalog(entry.initialCatalog);
+        }
+    }
+
+    private Connection wrap(PooledEntry entry) {
+        return (Connection)
+                Proxy.newProxyInstance(
+                        JdbcConnectionPool.class.getClassLoader(),
+                        new Class<?>[] {Connection.class},
+                        new PooledConnectionHandler(entry));
+    }
+
+    private void evictIdleConnections(long now) {
+        PooledEntry entry;
+        while ((entry = idleEntries.peekLast()) != null
+                && now - entry.idleSinceMillis >= IDLE_TIMEOUT_MILLIS) {
+            if (idleEntries.removeLastOccurrence(entry)) {
+                closeQuietly(entry.connection);
+            }
+        }
+    }
+
+    private boolean isUnused(long now) {
+        return idleEntries.isEmpty()
+                && permits.availablePermits() == MAX_SIZE
+                && now - lastBorrowMillis >= IDLE_TIMEOUT_MILLIS;
+    }
+
+    private void close() {
+        closed = true;
+        PooledEntry entry;
+        while ((entry = idleEntries.pollFirst()) != null) {
+            closeQuietly(entry.connection);
+        }
+    }
+
+    private static void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<PoolKey, JdbcConnectionPool> poolEntry : POOLS.entrySet()) {
+            JdbcConnectionPool pool = poolEntry.getValue();
+            try {
+                pool.evictIdleConnections(now);
+                if (pool.isUnused(now) && POOLS.remove(poolEntry.getKey(), pool)) {
+                    pool.close();
+                    log.info("Drop unused jdbc connection pool of {}", pool.url);
+                }
+            } catch (Exception e) {
+                log.warn("Evict idle jdbc connections of {} failed", pool.url, e);
+            }
+        }
+    }
+
+    /**
+     * Validate {@code connection} with a round trip, also for drivers without {@link
+     * Connection#isValid}. A pooled connection that fails is not handed out again.
+     */
+    public static boolean isValid(Connection connection) {
+        return isValid(connection, VALIDATION_TIMEOUT_SECONDS);
+    }
+
+    private static boolean isValid(Connection connection, int timeoutSeconds) {
+        try {
+            return connection.isValid(timeoutSeconds);
+        } catch (SQLException | AbstractMethodError e) {
+            // some drivers do not implement isValid
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutSeconds);
+            statement.execute(VALIDATION_QUERY);
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static int validationTimeoutSeconds(Object[] args) {
+        int timeout = args != null && args.length > 0 ? (Integer) args[0] : 0;
+        return timeout > 0 ? timeout : VALIDATION_TIMEOUT_SECONDS;
+    }
+
+    private static boolean isConnectionBroken(SQLException e) {
+        String sqlState = e.getSQLState();
+        return e instanceof SQLNonTransientConnectionException
+                || e instanceof SQLRecoverableException
+                || (sqlState != null && sqlState.startsWith("08"));
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Close jdbc connection failed", e);
+        }
+    }
+
+    /**
+     * Identifies a pool by the plugin classloader itself, so pools never hand out another plugin's
+     * connections, and by the digest of the connection parameters, which keeps passwords out of the
+     * key.
+     */
+    static final class PoolKey {
+        private final ClassLoader classLoader;
+        private final String digest;
+
+        PoolKey(ClassLoader classLoader, String digest) {
+            this.classLoader = classLoader;
+            this.digest = digest;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PoolKey)) {
+                return false;
+            }
+            PoolKey other = (PoolKey) o;
+            return classLoader == other.classLoader && digest.equals(other.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(classLoader) + digest.hashCode();
+        }
+    }
+
+    private static class PooledEntry {
+        private final Connection connection;
+        private final long createMillis;
+        private volatile long idleSinceMillis;
+        // the state of the new connection, captured before a caller first changes it
+        private String initialCatalog;
+        private boolean initialAutoCommit;
+        private boolean initialReadOnly;
+        private boolean initialCatalogCaptured;
+        private boolean initialAutoCommitCaptured;
+        private boolean initialReadOnlyCaptured;
+
+        private PooledEntry(Connection connection, long createMillis) {
+            this.connection = connection;
+            this.createMillis = createMillis;
+            this.idleSinceMillis = createMillis;
+        }
+    }
+
+    private class PooledConnectionHandler implements InvocationHandler {
+        private final PooledEntry entry;
+        private boolean returned;
+        private boolean broken;
+        private boolean catalogChanged;
+        private boolean autoCommitChanged;
+        private boolean readOnlyChanged;
+
+        private PooledConnectionHandler(PooledEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(entry, this);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || entry.connection.isClosed();
+                case "isValid":
+                    if (returned) {
+                        return false;
+                    }
+                    // never skipped like on borrow, callers use it to check the datasource
+                    boolean valid = isValid(entry.connection, validationTimeoutSeconds(args));
+                    broken |= !valid;
+                    return valid;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + entry.connection;
+                default:
+                    break;
+            }
+            if (returned) {
+                throw new SQLException("Connection is closed");
+            }
+            captureInitialState(method.getName());
+            try {
+                return method.invoke(entry.connection, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException && isConnectionBroken((SQLException) cause)) {
+                    broken = true;
+                }
+                throw cause;
+            }
+        }
+
+        private void captureInitialState(String methodName) throws SQLException {
+            switch (methodName) {
+                case "setCatalog":
+                    if (!entry.initialCatalogCaptured) {
+                        entry.initialCatalog = entry.connection.getCatalog();
+                        entry.initialCatalogCaptured = true;
+                    }
+                    catalogChanged = true;
+                    break;
+                case "setAutoCommit":
+                    if (!entry.initialAutoCommitCaptured) {
+                        entry.initialAutoCommit = entry.connection.getAutoCommit();
+                        entry.initialAutoCommitCaptured = true;
+                    }
+                    autoCommitChanged = true;
+                    break;
+                case "setReadOnly":
+                    if (!entry.initialReadOnlyCaptured) {
+                        entry.initialReadOnly = entry.connection.isReadOnly();
+                        entry.initialReadOnlyCaptured = true;
+                    }
+                    readOnlyChanged = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
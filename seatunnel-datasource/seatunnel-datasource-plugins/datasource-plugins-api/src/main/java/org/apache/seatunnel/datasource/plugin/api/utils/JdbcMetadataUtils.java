@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.datasource.plugin.api.utils;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+public class JdbcMetadataUtils {
+
+    /** Replaced by the bind markers of one batch of table names. */
+    public static final String TABLE_NAMES_PLACEHOLDER = "${tableNames}";
+
+    /** Replaced by the bind markers of one batch of schema names. */
+    public static final String SCHEMA_NAMES_PLACEHOLDER = "${schemaNames}";
+
+    // stays below the 1000 elements an Oracle IN list can take
+    private static final int NAMES_BATCH_SIZE = 500;
+
+    /**
+     * Read the fields of many tables of one schema with one query per batch of table names, instead
+     * of one {@code getColumns} and one {@code getPrimaryKeys} call per table.
+     *
+     * <p>{@code sql} binds the schema as its first parameter and contains {@link
+     * #TABLE_NAMES_PLACEHOLDER} where the table names go. Its rows must have the columns
+     * TABLE_NAME, COLUMN_NAME, TYPE_NAME, REMARKS, IS_NULLABLE and IS_PRIMARY_KEY (1 or 0), ordered
+     * by table and column position.
+     *
+     * @return the fields of every requested table, in request order, empty for unknown tables
+     */
+    public static Map<String, List<TableField>> getTableFields(
+            Connection connection,
+            String sql,
+            String schema,
+            Collection<String> tableNames,
+            Predicate<Object> isNullable)
+            throws SQLException {
+        return getTableFields(
+                connection,
+                sql,
+                schema,
+                tableNames,
+                resultSet -> resultSet.getString("TYPE_NAME"),
+                isNullable);
+    }
+
+    /**
+     * Same as {@link #getTableFields(Connection, String, String, Collection, Predicate)}, for
+     * dialects whose rows carry the column type in another shape than the TYPE_NAME of {@code
+     * getColumns}. {@code typeNameReader} turns the current row into that type name.
+     */
+    public static Map<String, List<TableField>> getTableFields(
+            Connection connection,
+            String sql,
+            String schema,
+            Collection<String> tableNames,
+            TypeNameReader typeNameReader,
+            Predicate<Object> isNullable)
+            throws SQLException {
+        Map<String, List<TableField>> tableFields = new LinkedHashMap<>();
+        for (String tableName : tableNames) {
+            tableFields.put(tableName, new ArrayList<>());
+        }
+        queryInBatches(
+                connection,
+                sql,
+                TABLE_NAMES_PLACEHOLDER,
+                schema,
+                new ArrayList<>(tableFields.keySet()),
+                resultSet -> {
+                    List<TableField> fields = tableFields.get(resultSet.getString("TABLE_NAME"));
+                    if (fields == null) {
+                        return;
+                    }
+                    TableField tableField = new TableField();
+                    tableField.setName(resultSet.getString("COLUMN_NAME"));
+                    tableField.setType(typeNameReader.read(resultSet));
+                    tableField.setComment(resultSet.getString("REMARKS"));
+                    tableField.setNullable(isNullable.test(resultSet.getObject("IS_NULLABLE")));
+                    tableField.setPrimaryKey(resultSet.getInt("IS_PRIMARY_KEY") == 1);
+                    fields.add(tableField);
+                });
+        return tableFields;
+    }
+
+    /** @return whether an IS_NULLABLE value of {@code getColumns} or a dictionary query is YES */
+    public static boolean isNullable(Object nullable) {
+        return nullable != null && "YES".equalsIgnoreCase(nullable.toString());
+    }
+
+    /**
+     * Read the table names of many schemas with one query per batch of schema names, instead of one
+     * {@code getTables} call per schema.
+     *
+     * <p>{@code sql} contains {@link #SCHEMA_NAMES_PLACEHOLDER} where the schema names go. Its rows
+     * must have the columns TABLE_SCHEMA and TABLE_NAME.
+     *
+     * @return the table names of every requested schema, in request order, empty for unknown
+     *     schemas
+     */
+    public static Map<String, List<String>> getTableNames(
+            Connection connection, String sql, Collection<String> schemas) throws SQLException {
+        Map<String, List<String>> tableNames = new LinkedHashMap<>();
+        for (String schema : schemas) {
+            tableNames.put(schema, new ArrayList<>());
+        }
+        queryInBatches(
+                connection,
+                sql,
+                SCHEMA_NAMES_PLACEHOLDER,
+                null,
+                new ArrayList<>(tableNames.keySet()),
+                resultSet -> {
+                    List<String> names = tableNames.get(resultSet.getString("TABLE_SCHEMA"));
+                    String tableName = resultSet.getString("TABLE_NAME");
+                    if (names != null && StringUtils.isNotBlank(tableName)) {
+                        names.add(tableName);
+                    }
+                });
+        return tableNames;
+    }
+
+    /** Binds {@code schema}, if any, as first parameter and then one batch of {@code names}. */
+    private static void queryInBatches(
+            Connection connection,
+            String sql,
+            String placeholder,
+            String schema,
+            List<String> names,
+            RowReader rowReader)
+            throws SQLException {
+        for (int from = 0; from < names.size(); from += NAMES_BATCH_SIZE) {
+            List<String> batch =
+                    names.subList(from, Math.min(from + NAMES_BATCH_SIZE, names.size()));
+            String batchSql =
+                    sql.replace(
+                            placeholder, String.join(",", Collections.nCopies(batch.size(), "?")));
+            try (PreparedStatement statement = connection.prepareStatement(batchSql)) {
+                int index = 1;
+                if (schema != null) {
+                    statement.setString(index++, schema);
+                }
+                for (String name : batch) {
+                    statement.setString(index++, name);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        rowReader.read(resultSet);
+                    }
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface TypeNameReader {
+        String read(ResultSet resultSet) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        void read(ResultSet resultSet) throws SQLException;
+    }
+}
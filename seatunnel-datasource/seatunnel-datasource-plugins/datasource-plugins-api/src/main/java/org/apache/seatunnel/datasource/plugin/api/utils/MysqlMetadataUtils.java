@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.datasource.plugin.api.utils;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Batched metadata lookups of the MySQL family (MySQL, MySQL CDC, TiDB, StarRocks), which all
+ * expose the MySQL information_schema and are read with MySQL Connector/J.
+ */
+public class MysqlMetadataUtils {
+
+    private static final String KEY_COLUMNS_PLACEHOLDER = "${keyColumns}";
+
+    static final String SELECT_TABLE_FIELDS_SQL =
+            "SELECT c.TABLE_NAME, c.COLUMN_NAME, c.DATA_TYPE, c.COLUMN_TYPE, "
+                    + "c.COLUMN_COMMENT AS REMARKS, c.IS_NULLABLE, "
+                    + "CASE WHEN k.COLUMN_NAME IS NULL THEN 0 ELSE 1 END AS IS_PRIMARY_KEY "
+                    + "FROM information_schema.COLUMNS c "
+                    + "LEFT JOIN information_schema.KEY_COLUMN_USAGE k "
+                    + "ON k.TABLE_SCHEMA = c.TABLE_SCHEMA AND k.TABLE_NAME = c.TABLE_NAME "
+                    + "AND k.COLUMN_NAME = c.COLUMN_NAME AND k.CONSTRAINT_NAME = 'PRIMARY' "
+                    + KEY_COLUMNS_PLACEHOLDER
+                    + " WHERE c.TABLE_SCHEMA = ? AND c.TABLE_NAME IN ("
+                    + JdbcMetadataUtils.TABLE_NAMES_PLACEHOLDER
+                    + ") ORDER BY c.TABLE_NAME, c.ORDINAL_POSITION";
+
+    static final String SELECT_ALL_TABLES_SQL =
+            "SELECT TABLE_SCHEMA, TABLE_NAME FROM information_schema.TABLES "
+                    + "WHERE TABLE_TYPE = 'BASE TABLE' AND TABLE_SCHEMA IN ("
+                    + JdbcMetadataUtils.SCHEMA_NAMES_PLACEHOLDER
+                    + ") ORDER BY TABLE_SCHEMA, TABLE_NAME";
+
+    private static final Set<String> NUMERIC_TYPES =
+            new HashSet<>(
+                    Arrays.asList(
+                            "TINYINT",
+                            "SMALLINT",
+                            "MEDIUMINT",
+                            "INT",
+                            "BIGINT",
+                            "FLOAT",
+                            "DOUBLE",
+                            "DECIMAL"));
+
+    private static final Set<String> SPATIAL_TYPES =
+            new HashSet<>(
+                    Arrays.asList(
+                            "GEOMETRY",
+                            "POINT",
+                            "LINESTRING",
+                            "POLYGON",
+                            "MULTIPOINT",
+                            "MULTILINESTRING",
+                            "MULTIPOLYGON",
+                            "GEOMETRYCOLLECTION",
+                            "GEOMCOLLECTION"));
+
+    private static final String TINY_INT_1_IS_BIT = "tinyInt1isBit";
+
+    private static final String TRANSFORMED_BIT_IS_BOOLEAN = "transformedBitIsBoolean";
+
+    private static final String USE_INFORMATION_SCHEMA = "useInformationSchema";
+
+    /**
+     * Read the fields of many tables of {@code database} with one information_schema query per
+     * batch of table names. The fields are the ones {@code getColumns} and {@code getPrimaryKeys}
+     * give for each table:
+     *
+     * <ul>
+     *   <li>the type is the TYPE_NAME of Connector/J, so {@code tinyint(1)} is BIT (or BOOLEAN)
+     *       unless the url turns {@code tinyInt1isBit} off
+     *   <li>only the first column {@code getPrimaryKeys} returns is a primary key, which is the
+     *       primary key column with the lowest name, or the first column of the key when the url
+     *       turns {@code useInformationSchema} on
+     * </ul>
+     */
+    public static Map<String, List<TableField>> getTableFields(
+            Connection connection,
+            String database,
+            Collection<String> tableNames,
+            Predicate<Object> isNullable)
+            throws SQLException {
+        return getTableFields(
+                connection, SELECT_TABLE_FIELDS_SQL, database, tableNames, isNullable);
+    }
+
+    /**
+     * Read the base tables of many databases with one information_schema query per batch of
+     * database names, in the order {@code getTables} returns them.
+     */
+    public static Map<String, List<String>> getTableNames(
+            Connection connection, Collection<String> databases) throws SQLException {
+        return JdbcMetadataUtils.getTableNames(connection, SELECT_ALL_TABLES_SQL, databases);
+    }
+
+    static Map<String, List<TableField>> getTableFields(
+            Connection connection,
+            String sql,
+            String database,
+            Collection<String> tableNames,
+            Predicate<Object> isNullable)
+            throws SQLException {
+        String url = connection.getMetaData().getURL();
+        boolean tinyInt1isBit = getUrlFlag(url, TINY_INT_1_IS_BIT, true);
+        boolean transformedBitIsBoolean = getUrlFlag(url, TRANSFORMED_BIT_IS_BOOLEAN, false);
+        boolean firstKeyColumn = getUrlFlag(url, USE_INFORMATION_SCHEMA, false);
+        Map<String, List<TableField>> tableFields =
+                JdbcMetadataUtils.getTableFields(
+                        connection,
+                        sql.replace(
+                                KEY_COLUMNS_PLACEHOLDER,
+                                firstKeyColumn ? "AND k.ORDINAL_POSITION = 1" : ""),
+                        database,
+                        tableNames,
+                        resultSet ->
+                                getTypeName(
+                                        resultSet.getString("DATA_TYPE"),
+                                        resultSet.getString("COLUMN_TYPE"),
+                                        tinyInt1isBit,
+                                        transformedBitIsBoolean),
+                        isNullable);
+        tableFields.values().forEach(MysqlMetadataUtils::keepFirstPrimaryKey);
+        return tableFields;
+    }
+
+    /** The TYPE_NAME Connector/J derives from the type of a column. */
+    static String getTypeName(
+            String dataType,
+            String columnType,
+            boolean tinyInt1isBit,
+            boolean transformedBitIsBoolean) {
+        String typeName = dataType.toUpperCase(Locale.ROOT);
+        String fullType = StringUtils.defaultString(columnType).toLowerCase(Locale.ROOT);
+        if (SPATIAL_TYPES.contains(typeName)) {
+            return "GEOMETRY";
+        }
+        if (!NUMERIC_TYPES.contains(typeName)) {
+            return typeName;
+        }
+        if (fullType.contains("unsigned") || fullType.contains("zerofill")) {
+            return typeName + " UNSIGNED";
+        }
+        if ("TINYINT".equals(typeName) && tinyInt1isBit && fullType.contains("(1)")) {
+            return transformedBitIsBoolean ? "BOOLEAN" : "BIT";
+        }
+        return typeName;
+    }
+
+    /** A boolean connection property set in the query of a Connector/J url. */
+    static boolean getUrlFlag(String url, String name, boolean defaultValue) {
+        String query = StringUtils.substringAfter(StringUtils.defaultString(url), "?");
+        for (String property : StringUtils.split(query, '&')) {
+            if (name.equalsIgnoreCase(StringUtils.substringBefore(property, "="))) {
+                String value = StringUtils.substringAfter(property, "=");
+                return "true".equalsIgnoreCase(value) || "yes".equalsIgnoreCase(value);
+            }
+        }
+        return defaultValue;
+    }
+
+    // without useInformationSchema getPrimaryKeys sorts the key columns by name, the channels
+    // only mark its first row
+    private static void keepFirstPrimaryKey(List<TableField> fields) {
+        TableField primaryKey = null;
+        for (TableField field : fields) {
+            if (field.getPrimaryKey()
+                    && (primaryKey == null
+                            || field.getName().compareTo(primaryKey.getName()) < 0)) {
+                primaryKey = field;
+            }
+        }
+        for (TableField field : fields) {
+            field.setPrimaryKey(field == primaryKey);
+        }
+    }
+}
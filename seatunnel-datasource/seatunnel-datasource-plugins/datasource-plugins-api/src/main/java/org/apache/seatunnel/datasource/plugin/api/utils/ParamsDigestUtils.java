@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.datasource.plugin.api.utils;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keys of pools and caches that are shared per set of datasource parameters. The parameters hold
+ * passwords and secret keys, so keys are SHA-256 digests of them instead of the parameters in plain
+ * text, which would end up in heap dumps and logged keys.
+ */
+public final class ParamsDigestUtils {
+
+    private ParamsDigestUtils() {}
+
+    /** @return the digest of {@code params} in key order, followed by {@code values} */
+    public static String sha256(Map<?, ?> params, String... values) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (Map.Entry<?, ?> param : new TreeMap<Object, Object>(params).entrySet()) {
+            putString(hasher, String.valueOf(param.getKey()));
+            putString(hasher, String.valueOf(param.getValue()));
+        }
+        for (String value : values) {
+            putString(hasher, value);
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        // length prefixed, so that no two different parameter sets hash the same bytes
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        hasher.putInt(value == null ? -1 : bytes.length).putBytes(bytes);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.api.utils;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merges the field types seen in sampled records of a schemaless source, e.g. kafka messages or
+ * mongodb documents, into {@link TableField}s.
+ *
+ * <p>Types use the engine type names. Numbers widen from {@code int} over {@code bigint} to {@code
+ * double}, with {@code decimal(38, 18)} above all of them, arrays of one primitive type become
+ * {@code array<...>}, and any other mix falls back to {@code string}. Fields keep the order they
+ * were first seen in, and are nullable when they were null or missing in any sampled record.
+ */
+public class SampledSchemaBuilder {
+
+    /** The type of a null value, it makes the field nullable without telling its type. */
+    public static final String NULL = "null";
+
+    public static final String STRING = "string";
+    public static final String BOOLEAN = "boolean";
+    public static final String INT = "int";
+    public static final String BIGINT = "bigint";
+    public static final String DOUBLE = "double";
+    public static final String DECIMAL = "decimal(38, 18)";
+    public static final String TIMESTAMP = "timestamp";
+    public static final String BYTES = "bytes";
+
+    private static final String ARRAY_PREFIX = "array<";
+
+    private final Map<String, FieldStats> fields = new LinkedHashMap<>();
+
+    private int records;
+
+    /**
+     * Add one sampled record.
+     *
+     * @param fieldTypes field name to type, {@link #NULL} for null values and {@code null} when the
+     *     value says nothing about the type, e.g. an empty array
+     */
+    public SampledSchemaBuilder addRecord(Map<String, String> fieldTypes) {
+        records++;
+        for (Map.Entry<String, String> field : fieldTypes.entrySet()) {
+            FieldStats stats = fields.computeIfAbsent(field.getKey(), k -> new FieldStats());
+            stats.present++;
+            String type = field.getValue();
+            if (NULL.equals(type)) {
+                stats.nullable = true;
+            } else if (type != null) {
+                stats.type = merge(stats.type, type);
+            }
+        }
+        return this;
+    }
+
+    public List<TableField> build() {
+        List<TableField> tableFields = new ArrayList<>(fields.size());
+        for (Map.Entry<String, FieldStats> field : fields.entrySet()) {
+            FieldStats stats = field.getValue();
+            TableField tableField = new TableField();
+            tableField.setName(field.getKey());
+            tableField.setType(stats.type == null ? STRING : stats.type);
+            tableField.setNullable(stats.nullable || stats.present < records);
+            tableField.setPrimaryKey(false);
+            tableFields.add(tableField);
+        }
+        return tableFields;
+    }
+
+    /** @return {@code array<elementType>}, or {@code string} for arrays of non primitive types */
+    public static String arrayOf(String elementType) {
+        if (elementType == null) {
+            return null;
+        }
+        return isPrimitive(elementType) ? ARRAY_PREFIX + elementType + ">" : STRING;
+    }
+
+    /** @return the narrowest type both {@code current} and {@code type} fit in */
+    public static String merge(String current, String type) {
+        if (current == null || current.equals(type)) {
+            return type;
+        }
+        if (type == null) {
+            return current;
+        }
+        int currentRank = numberRank(current);
+        int rank = numberRank(type);
+        if (currentRank >= 0 && rank >= 0) {
+            return currentRank > rank ? current : type;
+        }
+        if (current.startsWith(ARRAY_PREFIX) && type.startsWith(ARRAY_PREFIX)) {
+            return arrayOf(merge(elementType(current), elementType(type)));
+        }
+        return STRING;
+    }
+
+    private static String elementType(String arrayType) {
+        return arrayType.substring(ARRAY_PREFIX.length(), arrayType.length() - 1);
+    }
+
+    private static int numberRank(String type) {
+        switch (type) {
+            case INT:
+                return 0;
+            case BIGINT:
+                return 1;
+            case DOUBLE:
+                return 2;
+            case DECIMAL:
+                return 3;
+            default:
+                return -1;
+        }
+    }
+
+    private static boolean isPrimitive(String type) {
+        return STRING.equals(type)
+                || BOOLEAN.equals(type)
+                || INT.equals(type)
+                || BIGINT.equals(type)
+                || DOUBLE.equals(type);
+    }
+
+    private static class FieldStats {
+        private String type;
+        private int present;
+        private boolean nullable;
+    }
+}
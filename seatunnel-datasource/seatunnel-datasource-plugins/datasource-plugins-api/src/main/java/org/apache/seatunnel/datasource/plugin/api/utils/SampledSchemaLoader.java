@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.api.utils;
+
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Loads the sampled schemas of the tables of a schemaless datasource, in parallel on a small daemon
+ * pool and cached per datasource and table for a while, so that browsing tables does not sample the
+ * same topic or collection again and again. Concurrent loads of the same table share one sample.
+ */
+@Slf4j
+public class SampledSchemaLoader {
+
+    private final String name;
+
+    private final int threads;
+
+    private final long sampleTimeoutMillis;
+
+    private final ThreadPoolExecutor executor;
+
+    // keyed by the digest of the datasource parameters and the table
+    private final Cache<String, List<TableField>> cache;
+
+    /**
+     * @param sampleTimeoutMillis how long one table may be sampled, the sampler itself must stop by
+     *     then, {@link #loadAll} gives up waiting on a table a round later
+     * @param queueCapacity tables waiting for a sampler thread, {@link #loadAll} fails when more
+     *     are waiting
+     */
+    public SampledSchemaLoader(
+            String name,
+            int threads,
+            int queueCapacity,
+            long sampleTimeoutMillis,
+            long cacheTtlMillis,
+            int cacheMaxSize) {
+        this.name = name;
+        this.threads = Math.max(threads, 1);
+        this.sampleTimeoutMillis = sampleTimeoutMillis;
+        this.cache =
+                CacheBuilder.newBuilder()
+                        .maximumSize(cacheMaxSize)
+                        .expireAfterWrite(cacheTtlMillis, TimeUnit.MILLISECONDS)
+                        .build();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor =
+                new ThreadPoolExecutor(
+                        this.threads,
+                        this.threads,
+                        60L,
+                        TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            name.replace(' ', '-')
+                                                    + "-sampler-"
+                                                    + threadNumber.getAndIncrement());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    /**
+     * @return a copy of the cached schema of {@code table}, sampled with {@code sampler} if needed
+     */
+    public List<TableField> load(
+            Map<String, String> requestParams,
+            String table,
+            Function<String, List<TableField>> sampler) {
+        return copyOf(loadCached(requestParams, table, sampler));
+    }
+
+    /**
+     * Load the schemas of {@code tables} in parallel. A table that fails or times out is logged and
+     * gets an empty schema, so one broken table does not fail the others.
+     */
+    public Map<String, List<TableField>> loadAll(
+            Map<String, String> requestParams,
+            List<String> tables,
+            Function<String, List<TableField>> sampler) {
+        Map<String, Future<List<TableField>>> futures = new LinkedHashMap<>();
+        try {
+            for (String table : tables) {
+                futures.put(
+                        table, executor.submit(() -> loadCached(requestParams, table, sampler)));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.values().forEach(f -> f.cancel(true));
+            // cancelled tables must not keep their queue slots
+            executor.purge();
+            throw new DataSourcePluginException(
+                    String.format(
+                            "Too many %s schemas are being sampled, please try again later", name),
+                    e);
+        }
+        // every sampler stops at its own timeout, wait for as many rounds as the pool needs
+        int rounds = (tables.size() + threads - 1) / threads;
+        long deadline = System.currentTimeMillis() + sampleTimeoutMillis * (rounds + 1);
+        Map<String, List<TableField>> tableFields = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<List<TableField>>> future : futures.entrySet()) {
+            try {
+                long remaining = Math.max(deadline - System.currentTimeMillis(), 0L);
+                tableFields.put(
+                        future.getKey(),
+                        copyOf(future.getValue().get(remaining, TimeUnit.MILLISECONDS)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(f -> f.cancel(true));
+                throw new DataSourcePluginException(
+                        String.format("load %s schemas interrupted", name), e);
+            } catch (ExecutionException | TimeoutException e) {
+                future.getValue().cancel(true);
+                log.warn("Load {} schema of {} failed", name, future.getKey(), e);
+                tableFields.put(future.getKey(), Collections.emptyList());
+            }
+        }
+        return tableFields;
+    }
+
+    /** Stop the sampler threads and drop the cached schemas, e.g. when the plugin is unloaded. */
+    public void close() {
+        executor.shutdownNow();
+        cache.invalidateAll();
+    }
+
+    private List<TableField> loadCached(
+            Map<String, String> requestParams,
+            String table,
+            Function<String, List<TableField>> sampler) {
+        String key = ParamsDigestUtils.sha256(requestParams, table);
+        try {
+            return cache.get(key, () -> sampler.apply(table));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new DataSourcePluginException(
+                    String.format("sample %s schema of %s failed", name, table), e.getCause());
+        }
+    }
+
+    private static List<TableField> copyOf(List<TableField> fields) {
+        // cached fields must not be changed by callers
+        List<TableField> copies = new ArrayList<>(fields.size());
+        for (TableField field : fields) {
+            TableField copy = new TableField();
+            copy.setType(field.getType());
+            copy.setName(field.getName());
+            copy.setComment(field.getComment());
+            copy.setPrimaryKey(field.getPrimaryKey());
+            copy.setDefaultValue(field.getDefaultValue());
+            copy.setNullable(field.getNullable());
+            copy.setProperties(
+                    field.getProperties() == null ? null : new HashMap<>(field.getProperties()));
+            copy.setUnSupport(field.getUnSupport());
+            copy.setOutputDataType(field.getOutputDataType());
+            copies.add(copy);
+        }
+        return copies;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.api.utils;
+
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shares one thread safe client, e.g. an elasticsearch {@code RestClient} or a kafka {@code
+ * AdminClient}, per distinct set of datasource parameters.
+ *
+ * <p>All callers of a datasource use the same client instead of bootstrapping a new one per call. A
+ * client is closed once it was not used for {@code idleTimeoutMillis}, never while a caller is
+ * still using it. Clients are keyed by the digest of the parameters, which hold credentials.
+ */
+@Slf4j
+public class SharedClientCache<C extends AutoCloseable> {
+
+    private static final ScheduledExecutorService EVICTOR =
+            Executors.newSingleThreadScheduledExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "shared-client-cache-evictor");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+
+    /** Creates the client of a datasource. */
+    @FunctionalInterface
+    public interface ClientFactory<C> {
+        C create(Map<String, String> requestParams) throws Exception;
+    }
+
+    /** Uses a shared client, which must not be closed or kept after returning. */
+    @FunctionalInterface
+    public interface ClientAction<C, T> {
+        T apply(C client) throws Exception;
+    }
+
+    private final String name;
+
+    private final long idleTimeoutMillis;
+
+    private final ClientFactory<C> clientFactory;
+
+    private final Map<String, CachedClient<C>> clients = new ConcurrentHashMap<>();
+
+    private final ScheduledFuture<?> evictTask;
+
+    private volatile boolean closed;
+
+    public SharedClientCache(String name, long idleTimeoutMillis, ClientFactory<C> clientFactory) {
+        this.name = name;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.clientFactory = clientFactory;
+        long period = Math.max(idleTimeoutMillis / 2, 1000L);
+        this.evictTask =
+                EVICTOR.scheduleWithFixedDelay(
+                        this::evictIdleClients, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Run {@code action} with the shared client of {@code requestParams}, checked exceptions are
+     * rethrown as {@link DataSourcePluginException}.
+     */
+    public <T> T execute(Map<String, String> requestParams, ClientAction<C, T> action) {
+        if (closed) {
+            throw new DataSourcePluginException(String.format("%s is closed", name));
+        }
+        String key = ParamsDigestUtils.sha256(requestParams);
+        CachedClient<C> cachedClient = acquire(key, requestParams);
+        if (closed && clients.remove(key, cachedClient)) {
+            // raced with close(), the client is closed once this call is done
+            cachedClient.invalidated = true;
+        }
+        try {
+            return action.apply(cachedClient.client);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DataSourcePluginException(
+                    String.format("%s request failed, %s", name, e.getMessage()), e);
+        } finally {
+            cachedClient.lastUsedMillis = System.currentTimeMillis();
+            release(cachedClient);
+        }
+    }
+
+    /**
+     * Drop the client of {@code requestParams}, e.g. after a failure. The next call creates a new
+     * one, the dropped client is closed as soon as its last caller is done.
+     */
+    public void invalidate(Map<String, String> requestParams) {
+        CachedClient<C> cachedClient = clients.remove(ParamsDigestUtils.sha256(requestParams));
+        if (cachedClient != null) {
+            invalidate(cachedClient);
+        }
+    }
+
+    /**
+     * Drop all clients and stop evicting, e.g. when the plugin is unloaded. Clients still in use
+     * are closed as soon as their last caller is done.
+     */
+    public void close() {
+        closed = true;
+        evictTask.cancel(false);
+        for (String key : clients.keySet()) {
+            CachedClient<C> cachedClient = clients.remove(key);
+            if (cachedClient != null) {
+                invalidate(cachedClient);
+            }
+        }
+    }
+
+    private CachedClient<C> acquire(String key, Map<String, String> requestParams) {
+        while (true) {
+            CachedClient<C> cachedClient = clients.get(key);
+            if (cachedClient == null) {
+                // creating a client connects to the datasource, so it runs outside the map, and a
+                // client created by a concurrent caller wins over ours
+                CachedClient<C> created = createClient(requestParams);
+                cachedClient = clients.putIfAbsent(key, created);
+                if (cachedClient == null) {
+                    cachedClient = created;
+                } else {
+                    close(created);
+                }
+            }
+            if (cachedClient.tryAcquire()) {
+                if (!cachedClient.invalidated) {
+                    return cachedClient;
+                }
+                release(cachedClient);
+            }
+            // evicted or invalidated since it was looked up
+            clients.remove(key, cachedClient);
+        }
+    }
+
+    private void release(CachedClient<C> cachedClient) {
+        if (cachedClient.inUse.decrementAndGet() == 0
+                && cachedClient.invalidated
+                && cachedClient.tryRetire()) {
+            close(cachedClient);
+        }
+    }
+
+    private void invalidate(CachedClient<C> cachedClient) {
+        cachedClient.invalidated = true;
+        if (cachedClient.tryRetire()) {
+            close(cachedClient);
+        }
+    }
+
+    private CachedClient<C> createClient(Map<String, String> requestParams) {
+        try {
+            return new CachedClient<>(clientFactory.create(requestParams));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DataSourcePluginException(
+                    String.format("Create %s failed, %s", name, e.getMessage()), e);
+        }
+    }
+
+    private void evictIdleClients() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, CachedClient<C>> entry : clients.entrySet()) {
+            CachedClient<C> cachedClient = entry.getValue();
+            try {
+                if (now - cachedClient.lastUsedMillis >= idleTimeoutMillis
+                        && cachedClient.tryRetire()) {
+                    clients.remove(entry.getKey(), cachedClient);
+                    close(cachedClient);
+                }
+            } catch (Exception e) {
+                log.warn("Evict idle {} failed", name, e);
+            }
+        }
+    }
+
+    private void close(CachedClient<C> cachedClient) {
+        if (!cachedClient.closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            cachedClient.client.close();
+        } catch (Exception e) {
+            log.warn("Close {} failed", name, e);
+        }
+    }
+
+    private static class CachedClient<C> {
+        private final C client;
+        // callers using the client, -1 once it is retired and no caller may take it any more
+        private final AtomicInteger inUse = new AtomicInteger();
+        private volatile long lastUsedMillis = System.currentTimeMillis();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean invalidated;
+
+        private CachedClient(C client) {
+            this.client = client;
+        }
+
+        private boolean tryAcquire() {
+            int count;
+            do {
+                count = inUse.get();
+                if (count < 0) {
+                    return false;
+                }
+            } while (!inUse.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        private boolean tryRetire() {
+            return inUse.compareAndSet(0, -1);
+        }
+    }
+}
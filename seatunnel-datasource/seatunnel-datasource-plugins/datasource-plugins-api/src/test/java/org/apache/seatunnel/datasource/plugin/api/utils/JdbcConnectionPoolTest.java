@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.datasource.plugin.api.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+public class JdbcConnectionPoolTest {
+
+    private final List<FakeConnection> opened = new ArrayList<>();
+
+    @Test
+    public void testReuseReturnedConnection() throws SQLException {
+        String url = "jdbc:fake://reuse";
+        Connection first = JdbcConnectionPool.getConnection(url, "root", "pwd", this::connect);
+        first.close();
+        Assertions.assertTrue(first.isClosed());
+        Assertions.assertThrows(SQLException.class, first::getCatalog);
+
+        Connection second = JdbcConnectionPool.getConnection(url, "root", "pwd", this::connect);
+        second.getCatalog();
+        second.close();
+        Assertions.assertEquals(1, opened.size());
+        Assertions.assertFalse(opened.get(0).closed);
+    }
+
+    @Test
+    public void testPoolPerConnectionParameters() throws SQLException {
+        String url = "jdbc:fake://params";
+        Properties info = new Properties();
+        info.put("user", "root");
+        try (Connection root = JdbcConnectionPool.getConnection(url, info, this::connect);
+                Connection other =
+                        JdbcConnectionPool.getConnection(url, "other", "pwd", this::connect)) {
+            Assertions.assertNotSame(root, other);
+        }
+        Assertions.assertEquals(2, opened.size());
+    }
+
+    @Test
+    public void testPoolPerPluginClassLoader() throws IOException {
+        try (URLClassLoader retired = new URLClassLoader(new URL[0]);
+                URLClassLoader reloaded = new URLClassLoader(new URL[0])) {
+            // the same parameters of a reloaded plugin never share the retired plugin's pool
+            Assertions.assertNotEquals(
+                    new JdbcConnectionPool.PoolKey(retired, "digest"),
+                    new JdbcConnectionPool.PoolKey(reloaded, "digest"));
+            Assertions.assertEquals(
+                    new JdbcConnectionPool.PoolKey(reloaded, "digest"),
+                    new JdbcConnectionPool.PoolKey(reloaded, "digest"));
+            Assertions.assertNotEquals(
+                    new JdbcConnectionPool.PoolKey(reloaded, "digest"),
+                    new JdbcConnectionPool.PoolKey(reloaded, "other"));
+        }
+    }
+
+    @Test
+    public void testDiscardBrokenConnection() throws SQLException {
+        String url = "jdbc:fake://broken";
+        Connection connection = JdbcConnectionPool.getConnection(url, this::connect);
+        opened.get(0).broken = true;
+        Assertions.assertThrows(SQLException.class, connection::getCatalog);
+        connection.close();
+        Assertions.assertTrue(opened.get(0).closed);
+
+        JdbcConnectionPool.getConnection(url, this::connect).close();
+        Assertions.assertEquals(2, opened.size());
+    }
+
+    @Test
+    public void testResetStateOnRelease() throws SQLException {
+        String url = "jdbc:fake://reset";
+        Connection connection = JdbcConnectionPool.getConnection(url, this::connect);
+        connection.setAutoCommit(false);
+        connection.setReadOnly(true);
+        connection.setCatalog("other");
+        connection.close();
+        FakeConnection fakeConnection = opened.get(0);
+        Assertions.assertTrue(fakeConnection.rolledBack);
+        Assertions.assertTrue(fakeConnection.autoCommit);
+        Assertions.assertFalse(fakeConnection.readOnly);
+        Assertions.assertEquals("fake", fakeConnection.catalog);
+
+        try (Connection reused = JdbcConnectionPool.getConnection(url, this::connect)) {
+            Assertions.assertEquals("fake", reused.getCatalog());
+        }
+        Assertions.assertEquals(1, opened.size());
+    }
+
+    @Test
+    public void testIsValidAlwaysValidates() throws SQLException {
+        String url = "jdbc:fake://valid";
+        JdbcConnectionPool.getConnection(url, this::connect).close();
+        // borrowed right after its release, so the pool itself skips the validation
+        Connection connection = JdbcConnectionPool.getConnection(url, this::connect);
+        Assertions.assertEquals(0, opened.get(0).validations);
+        opened.get(0).broken = true;
+        Assertions.assertFalse(connection.isValid(1));
+        Assertions.assertEquals(1, opened.get(0).validations);
+        connection.close();
+        Assertions.assertTrue(opened.get(0).closed);
+    }
+
+    private Connection connect() {
+        FakeConnection fakeConnection = new FakeConnection();
+        opened.add(fakeConnection);
+        return (Connection)
+                Proxy.newProxyInstance(
+                        getClass().getClassLoader(),
+                        new Class<?>[] {Connection.class},
+                        (proxy, method, args) -> {
+                            switch (method.getName()) {
+                                case "close":
+                                    fakeConnection.closed = true;
+                                    return null;
+                                case "isClosed":
+                                    return fakeConnection.closed;
+                                case "isValid":
+                                    fakeConnection.validations++;
+                                    return !fakeConnection.broken;
+                                case "getCatalog":
+                                    if (fakeConnection.broken) {
+                                        throw new SQLException("connection reset", "08S01");
+                                    }
+                                    return fakeConnection.catalog;
+                                case "setCatalog":
+                                    fakeConnection.catalog = (String) args[0];
+                                    return null;
+                                case "getAutoCommit":
+                                    return fakeConnection.autoCommit;
+                                case "setAutoCommit":
+                                    fakeConnection.autoCommit = (Boolean) args[0];
+                                    return null;
+                                case "isReadOnly":
+                                    return fakeConnection.readOnly;
+                                case "setReadOnly":
+                                    fakeConnection.readOnly = (Boolean) args[0];
+                                    return null;
+                                case "rollback":
+                                    fakeConnection.rolledBack = true;
+                                    return null;
+                                default:
+                                    return null;
+                            }
+                        });
+    }
+
+    private static class FakeConnection {
+        private boolean closed;
+        private boolean broken;
+        private int validations;
+        private String catalog = "fake";
+        private boolean autoCommit = true;
+        private boolean readOnly;
+        private boolean rolledBack;
+    }
+}
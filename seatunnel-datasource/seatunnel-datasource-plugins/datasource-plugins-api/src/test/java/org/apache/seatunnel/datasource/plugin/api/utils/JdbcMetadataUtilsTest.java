@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.datasource.plugin.api.utils;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/** Runs the batched lookups against tables of an in-memory H2 database shaped like the queries. */
+public class JdbcMetadataUtilsTest {
+
+    private static final String FIELDS_SQL =
+            "SELECT TABLE_NAME, COLUMN_NAME, TYPE_NAME, REMARKS, IS_NULLABLE, IS_PRIMARY_KEY "
+                    + "FROM TABLE_COLUMNS WHERE TABLE_SCHEMA = ? AND TABLE_NAME IN ("
+                    + JdbcMetadataUtils.TABLE_NAMES_PLACEHOLDER
+                    + ") ORDER BY TABLE_NAME, ORDINAL_POSITION";
+
+    private static final String TABLES_SQL =
+            "SELECT TABLE_SCHEMA, TABLE_NAME FROM SCHEMA_TABLES WHERE TABLE_SCHEMA IN ("
+                    + JdbcMetadataUtils.SCHEMA_NAMES_PLACEHOLDER
+                    + ") ORDER BY TABLE_SCHEMA, TABLE_NAME";
+
+    private Connection connection;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:jdbc_metadata_utils_test");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "CREATE TABLE TABLE_COLUMNS (TABLE_SCHEMA VARCHAR(64), TABLE_NAME VARCHAR(64), "
+                            + "COLUMN_NAME VARCHAR(64), ORDINAL_POSITION INT, TYPE_NAME VARCHAR(64), "
+                            + "REMARKS VARCHAR(64), IS_NULLABLE VARCHAR(3), IS_PRIMARY_KEY INT)");
+            statement.execute(
+                    "CREATE TABLE SCHEMA_TABLES (TABLE_SCHEMA VARCHAR(64), TABLE_NAME VARCHAR(64))");
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testGroupFieldsByTable() throws SQLException {
+        addTable("db", "users");
+        addTable("db", "orders");
+        addTable("other_db", "missing");
+
+        Map<String, List<TableField>> tableFields =
+                JdbcMetadataUtils.getTableFields(
+                        connection,
+                        FIELDS_SQL,
+                        "db",
+                        Arrays.asList("orders", "missing", "users"),
+                        JdbcMetadataUtils::isNullable);
+
+        Assertions.assertEquals(
+                Arrays.asList("orders", "missing", "users"), new ArrayList<>(tableFields.keySet()));
+        Assertions.assertTrue(tableFields.get("missing").isEmpty());
+        List<TableField> orders = tableFields.get("orders");
+        Assertions.assertEquals(2, orders.size());
+        Assertions.assertEquals("id", orders.get(0).getName());
+        Assertions.assertEquals("INT", orders.get(0).getType());
+        Assertions.assertTrue(orders.get(0).getPrimaryKey());
+        Assertions.assertFalse(orders.get(0).getNullable());
+        Assertions.assertEquals("name", orders.get(1).getName());
+        Assertions.assertEquals("user name", orders.get(1).getComment());
+        Assertions.assertFalse(orders.get(1).getPrimaryKey());
+        Assertions.assertTrue(orders.get(1).getNullable());
+    }
+
+    @Test
+    public void testIsNullable() {
+        // IS_NULLABLE holds YES, NO or an empty string for unknown, never true or false
+        Assertions.assertTrue(JdbcMetadataUtils.isNullable("YES"));
+        Assertions.assertTrue(JdbcMetadataUtils.isNullable("yes"));
+        Assertions.assertFalse(JdbcMetadataUtils.isNullable("NO"));
+        Assertions.assertFalse(JdbcMetadataUtils.isNullable(""));
+        Assertions.assertFalse(JdbcMetadataUtils.isNullable(null));
+    }
+
+    @Test
+    public void testQueryTableNamesInBatches() throws SQLException {
+        List<String> tables = new ArrayList<>();
+        for (int i = 0; i < 1001; i++) {
+            tables.add("t" + i);
+            addTable("db", "t" + i);
+        }
+
+        Map<String, List<TableField>> tableFields =
+                JdbcMetadataUtils.getTableFields(
+                        connection, FIELDS_SQL, "db", tables, JdbcMetadataUtils::isNullable);
+
+        Assertions.assertEquals(tables, new ArrayList<>(tableFields.keySet()));
+        for (List<TableField> fields : tableFields.values()) {
+            Assertions.assertEquals(2, fields.size());
+        }
+    }
+
+    @Test
+    public void testReadTypeName() throws SQLException {
+        addTable("db", "orders");
+
+        Map<String, List<TableField>> tableFields =
+                JdbcMetadataUtils.getTableFields(
+                        connection,
+                        FIELDS_SQL,
+                        "db",
+                        Arrays.asList("orders"),
+                        resultSet -> resultSet.getString("TYPE_NAME").toLowerCase(),
+                        JdbcMetadataUtils::isNullable);
+
+        Assertions.assertEquals("int", tableFields.get("orders").get(0).getType());
+    }
+
+    @Test
+    public void testGroupTableNamesBySchema() throws SQLException {
+        addTable("db1", "orders");
+        addTable("db2", "users");
+        addTable("db2", "orders");
+        addTable("db3", "orders");
+
+        Map<String, List<String>> tableNames =
+                JdbcMetadataUtils.getTableNames(
+                        connection, TABLES_SQL, Arrays.asList("db2", "db1", "missing"));
+
+        Assertions.assertEquals(
+                Arrays.asList("db2", "db1", "missing"), new ArrayList<>(tableNames.keySet()));
+        Assertions.assertEquals(Arrays.asList("orders", "users"), tableNames.get("db2"));
+        Assertions.assertEquals(Arrays.asList("orders"), tableNames.get("db1"));
+        Assertions.assertTrue(tableNames.get("missing").isEmpty());
+    }
+
+    /** Every table has an "id" primary key and a nullable "name" column. */
+    private void addTable(String schema, String table) throws SQLException {
+        try (PreparedStatement statement =
+                connection.prepareStatement(
+                        "INSERT INTO TABLE_COLUMNS VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            addColumn(statement, schema, table, "id", 1, "INT", null, "NO", 1);
+            addColumn(statement, schema, table, "name", 2, "VARCHAR", "user name", "YES", 0);
+            statement.executeBatch();
+        }
+        try (PreparedStatement statement =
+                connection.prepareStatement("INSERT INTO SCHEMA_TABLES VALUES (?, ?)")) {
+            statement.setString(1, schema);
+            statement.setString(2, table);
+            statement.executeUpdate();
+        }
+    }
+
+    private static void addColumn(
+            PreparedStatement statement,
+            String schema,
+            String table,
+            String column,
+            int position,
+            String type,
+            String remarks,
+            String nullable,
+            int primaryKey)
+            throws SQLException {
+        statement.setString(1, schema);
+        statement.setString(2, table);
+        statement.setString(3, column);
+        statement.setInt(4, position);
+        statement.setString(5, type);
+        statement.setString(6, remarks);
+        statement.setString(7, nullable);
+        statement.setInt(8, primaryKey);
+        statement.addBatch();
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.datasource.plugin.api.utils;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the information_schema query against an H2 database in MySQL mode, whose MYSQL_IS schema
+ * holds the information_schema rows a MySQL server returns for the test tables.
+ */
+public class MysqlMetadataUtilsTest {
+
+    private static final String SQL =
+            MysqlMetadataUtils.SELECT_TABLE_FIELDS_SQL.replace("information_schema.", "MYSQL_IS.");
+
+    private static final String TABLES_SQL =
+            MysqlMetadataUtils.SELECT_ALL_TABLES_SQL.replace("information_schema.", "MYSQL_IS.");
+
+    private Connection connection;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        connection =
+                DriverManager.getConnection("jdbc:h2:mem:mysql_metadata_utils_test;MODE=MySQL");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA MYSQL_IS");
+            statement.execute(
+                    "CREATE TABLE MYSQL_IS.COLUMNS (TABLE_SCHEMA VARCHAR(64), "
+                            + "TABLE_NAME VARCHAR(64), COLUMN_NAME VARCHAR(64), "
+                            + "ORDINAL_POSITION INT, DATA_TYPE VARCHAR(64), "
+                            + "COLUMN_TYPE VARCHAR(64), COLUMN_COMMENT VARCHAR(64), "
+                            + "IS_NULLABLE VARCHAR(3))");
+            statement.execute(
+                    "CREATE TABLE MYSQL_IS.KEY_COLUMN_USAGE (CONSTRAINT_NAME VARCHAR(64), "
+                            + "TABLE_SCHEMA VARCHAR(64), TABLE_NAME VARCHAR(64), "
+                            + "COLUMN_NAME VARCHAR(64), ORDINAL_POSITION INT)");
+            statement.execute(
+                    "CREATE TABLE MYSQL_IS.TABLES (TABLE_SCHEMA VARCHAR(64), "
+                            + "TABLE_NAME VARCHAR(64), TABLE_TYPE VARCHAR(64))");
+            statement.execute(
+                    "INSERT INTO MYSQL_IS.TABLES VALUES ('db2', 'users', 'BASE TABLE'), "
+                            + "('db1', 'orders', 'BASE TABLE'), ('db2', 'active_users', 'VIEW'), "
+                            + "('db2', 'accounts', 'BASE TABLE'), ('db3', 'orders', 'BASE TABLE')");
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testTypeNamesOfConnectorJ() throws SQLException {
+        addColumn("types", "flag", 1, "tinyint", "tinyint(1)");
+        addColumn("types", "level", 2, "tinyint", "tinyint");
+        addColumn("types", "big", 3, "bigint", "bigint unsigned");
+        addColumn("types", "ratio", 4, "decimal", "decimal(10,2) unsigned zerofill");
+        addColumn("types", "location", 5, "point", "point");
+        addColumn("types", "name", 6, "varchar", "varchar(32)");
+
+        List<TableField> fields = getTableFields("types");
+
+        Assertions.assertEquals(
+                Arrays.asList(
+                        "BIT",
+                        "TINYINT",
+                        "BIGINT UNSIGNED",
+                        "DECIMAL UNSIGNED",
+                        "GEOMETRY",
+                        "VARCHAR"),
+                types(fields));
+    }
+
+    @Test
+    public void testOnlyLowestNamedPrimaryKeyColumn() throws SQLException {
+        addColumn("orders", "user_id", 1, "int", "int", "NO");
+        addColumn("orders", "order_id", 2, "int", "int", "NO");
+        addColumn("orders", "code", 3, "varchar", "varchar(32)");
+        addKeyColumn("PRIMARY", "orders", "user_id", 1);
+        addKeyColumn("PRIMARY", "orders", "order_id", 2);
+        addKeyColumn("uk_code", "orders", "code", 1);
+        addColumn("users", "name", 1, "varchar", "varchar(32)");
+
+        Map<String, List<TableField>> tableFields =
+                MysqlMetadataUtils.getTableFields(
+                        connection,
+                        SQL,
+                        "db",
+                        Arrays.asList("orders", "users"),
+                        JdbcMetadataUtils::isNullable);
+
+        List<TableField> orders = tableFields.get("orders");
+        Assertions.assertEquals(3, orders.size());
+        Assertions.assertFalse(orders.get(0).getPrimaryKey());
+        Assertions.assertEquals("order_id", orders.get(1).getName());
+        Assertions.assertTrue(orders.get(1).getPrimaryKey());
+        Assertions.assertFalse(orders.get(2).getPrimaryKey());
+        Assertions.assertFalse(orders.get(0).getNullable());
+        Assertions.assertFalse(orders.get(1).getNullable());
+        Assertions.assertTrue(orders.get(2).getNullable());
+        Assertions.assertFalse(tableFields.get("users").get(0).getPrimaryKey());
+    }
+
+    @Test
+    public void testBaseTablesBySchema() throws SQLException {
+        Map<String, List<String>> tableNames =
+                JdbcMetadataUtils.getTableNames(
+                        connection, TABLES_SQL, Arrays.asList("db2", "db1", "missing"));
+
+        Assertions.assertEquals(
+                Arrays.asList("db2", "db1", "missing"), new ArrayList<>(tableNames.keySet()));
+        Assertions.assertEquals(Arrays.asList("accounts", "users"), tableNames.get("db2"));
+        Assertions.assertEquals(Arrays.asList("orders"), tableNames.get("db1"));
+        Assertions.assertTrue(tableNames.get("missing").isEmpty());
+    }
+
+    @Test
+    public void testTypeNameFollowsConnectionProperties() {
+        Assertions.assertEquals(
+                "BOOLEAN", MysqlMetadataUtils.getTypeName("tinyint", "tinyint(1)", true, true));
+        Assertions.assertEquals(
+                "TINYINT", MysqlMetadataUtils.getTypeName("tinyint", "tinyint(1)", false, false));
+        Assertions.assertEquals(
+                "TINYINT UNSIGNED",
+                MysqlMetadataUtils.getTypeName("tinyint", "tinyint(1) unsigned", true, false));
+        Assertions.assertEquals("BIT", MysqlMetadataUtils.getTypeName("bit", "bit(1)", true, true));
+    }
+
+    @Test
+    public void testGetUrlFlag() {
+        String url = "jdbc:mysql://localhost:3306/db?useSSL=false&TINYINT1ISBIT=false";
+        Assertions.assertFalse(MysqlMetadataUtils.getUrlFlag(url, "tinyInt1isBit", true));
+        Assertions.assertTrue(MysqlMetadataUtils.getUrlFlag(url, "transformedBitIsBoolean", true));
+        Assertions.assertTrue(
+                MysqlMetadataUtils.getUrlFlag(
+                        "jdbc:mysql://localhost:3306/db", "tinyInt1isBit", true));
+    }
+
+    private List<TableField> getTableFields(String table) throws SQLException {
+        return MysqlMetadataUtils.getTableFields(
+                        connection, SQL, "db", Arrays.asList(table), JdbcMetadataUtils::isNullable)
+                .get(table);
+    }
+
+    private static List<String> types(List<TableField> fields) {
+        List<String> types = new ArrayList<>();
+        for (TableField field : fields) {
+            types.add(field.getType());
+        }
+        return types;
+    }
+
+    private void addColumn(
+            String table, String column, int position, String dataType, String columnType)
+            throws SQLException {
+        addColumn(table, column, position, dataType, columnType, "YES");
+    }
+
+    private void addColumn(
+            String table,
+            String column,
+            int position,
+            String dataType,
+            String columnType,
+            String nullable)
+            throws SQLException {
+        try (PreparedStatement statement =
+                connection.prepareStatement(
+                        "INSERT INTO MYSQL_IS.COLUMNS VALUES ('db', ?, ?, ?, ?, ?, '', ?)")) {
+            statement.setString(1, table);
+            statement.setString(2, column);
+            statement.setInt(3, position);
+            statement.setString(4, dataType);
+            statement.setString(5, columnType);
+            statement.setString(6, nullable);
+            statement.executeUpdate();
+        }
+    }
+
+    private void addKeyColumn(String constraint, String table, String column, int position)
+            throws SQLException {
+        try (PreparedStatement statement =
+                connection.prepareStatement(
+                        "INSERT INTO MYSQL_IS.KEY_COLUMN_USAGE VALUES (?, 'db', ?, ?, ?)")) {
+            statement.setString(1, constraint);
+            statement.setString(2, table);
+            statement.setString(3, column);
+            statement.setInt(4, position);
+            statement.executeUpdate();
+        }
+    }
+}
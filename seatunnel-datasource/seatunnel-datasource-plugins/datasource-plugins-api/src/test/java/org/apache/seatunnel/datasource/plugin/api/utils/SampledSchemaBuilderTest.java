@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.api.utils;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SampledSchemaBuilderTest {
+
+    @Test
+    public void testMergeTypes() {
+        Assertions.assertEquals(
+                SampledSchemaBuilder.BIGINT,
+                SampledSchemaBuilder.merge(SampledSchemaBuilder.INT, SampledSchemaBuilder.BIGINT));
+        Assertions.assertEquals(
+                SampledSchemaBuilder.DECIMAL,
+                SampledSchemaBuilder.merge(
+                        SampledSchemaBuilder.DECIMAL, SampledSchemaBuilder.DOUBLE));
+        Assertions.assertEquals(
+                SampledSchemaBuilder.STRING,
+                SampledSchemaBuilder.merge(
+                        SampledSchemaBuilder.TIMESTAMP, SampledSchemaBuilder.BIGINT));
+        Assertions.assertEquals(
+                "array<bigint>",
+                SampledSchemaBuilder.merge(
+                        SampledSchemaBuilder.arrayOf(SampledSchemaBuilder.INT),
+                        SampledSchemaBuilder.arrayOf(SampledSchemaBuilder.BIGINT)));
+        Assertions.assertEquals(
+                SampledSchemaBuilder.STRING,
+                SampledSchemaBuilder.arrayOf(SampledSchemaBuilder.TIMESTAMP));
+    }
+
+    @Test
+    public void testBuildFields() {
+        Map<String, String> first = new LinkedHashMap<>();
+        first.put("id", SampledSchemaBuilder.INT);
+        first.put("created", SampledSchemaBuilder.TIMESTAMP);
+        first.put("tags", null);
+        Map<String, String> second = new LinkedHashMap<>();
+        second.put("id", SampledSchemaBuilder.INT);
+        second.put("created", SampledSchemaBuilder.NULL);
+        second.put("tags", "array<string>");
+        second.put("extra", SampledSchemaBuilder.BOOLEAN);
+
+        List<TableField> fields =
+                new SampledSchemaBuilder().addRecord(first).addRecord(second).build();
+        Assertions.assertEquals(4, fields.size());
+        assertField(fields.get(0), "id", SampledSchemaBuilder.INT, false);
+        assertField(fields.get(1), "created", SampledSchemaBuilder.TIMESTAMP, true);
+        assertField(fields.get(2), "tags", "array<string>", false);
+        assertField(fields.get(3), "extra", SampledSchemaBuilder.BOOLEAN, true);
+    }
+
+    private static void assertField(TableField field, String name, String type, boolean nullable) {
+        Assertions.assertEquals(name, field.getName());
+        Assertions.assertEquals(type, field.getType());
+        Assertions.assertEquals(nullable, field.getNullable());
+    }
+}
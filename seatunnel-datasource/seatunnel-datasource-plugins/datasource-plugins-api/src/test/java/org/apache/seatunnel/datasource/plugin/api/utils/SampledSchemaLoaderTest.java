@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.datasource.plugin.api.utils;
+
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class SampledSchemaLoaderTest {
+
+    private static final Map<String, String> PARAMS = Collections.singletonMap("hosts", "a");
+
+    private final List<String> sampled = Collections.synchronizedList(new ArrayList<>());
+
+    private SampledSchemaLoader loader;
+
+    @AfterEach
+    public void tearDown() {
+        loader.close();
+    }
+
+    @Test
+    public void testCachePerParametersAndTable() {
+        loader = new SampledSchemaLoader("test", 2, 10, 10000L, 60000L, 100);
+
+        loader.load(PARAMS, "orders", this::sample);
+        loader.load(PARAMS, "orders", this::sample);
+        loader.load(PARAMS, "users", this::sample);
+        loader.load(Collections.singletonMap("hosts", "b"), "orders", this::sample);
+
+        Assertions.assertEquals(Arrays.asList("orders", "users", "orders"), sampled);
+    }
+
+    @Test
+    public void testCacheIsBoundedBySize() {
+        loader = new SampledSchemaLoader("test", 2, 10, 10000L, 60000L, 1);
+
+        loader.load(PARAMS, "orders", this::sample);
+        loader.load(PARAMS, "users", this::sample);
+        loader.load(PARAMS, "users", this::sample);
+        loader.load(PARAMS, "orders", this::sample);
+
+        Assertions.assertEquals(Arrays.asList("orders", "users", "orders"), sampled);
+    }
+
+    @Test
+    public void testCallersGetCopiesOfAllAttributes() {
+        loader = new SampledSchemaLoader("test", 2, 10, 10000L, 60000L, 100);
+
+        TableField copy = loader.load(PARAMS, "orders", this::sample).get(0);
+        copy.getProperties().put("changed", "true");
+        copy.setType("string");
+
+        TableField cached = loader.load(PARAMS, "orders", this::sample).get(0);
+        Assertions.assertEquals("bigint", cached.getType());
+        Assertions.assertEquals("id", cached.getName());
+        Assertions.assertEquals("row id", cached.getComment());
+        Assertions.assertTrue(cached.getPrimaryKey());
+        Assertions.assertEquals("0", cached.getDefaultValue());
+        Assertions.assertFalse(cached.getNullable());
+        Assertions.assertEquals(
+                Collections.singletonMap("sampled", "true"), cached.getProperties());
+        Assertions.assertFalse(cached.getUnSupport());
+        Assertions.assertEquals("BIGINT", cached.getOutputDataType());
+    }
+
+    @Test
+    public void testRejectTablesBeyondTheQueue() {
+        loader = new SampledSchemaLoader("test", 1, 2, 10000L, 60000L, 100);
+        CountDownLatch release = new CountDownLatch(1);
+
+        DataSourcePluginException exception =
+                Assertions.assertThrows(
+                        DataSourcePluginException.class,
+                        () ->
+                                loader.loadAll(
+                                        PARAMS,
+                                        Arrays.asList("a", "b", "c", "d"),
+                                        table -> {
+                                            await(release);
+                                            return sample(table);
+                                        }));
+        Assertions.assertTrue(exception.getMessage().contains("Too many test schemas"));
+
+        // the cancelled tables left the queue, the running one may still hold the thread
+        release.countDown();
+        Map<String, List<TableField>> tableFields =
+                loader.loadAll(PARAMS, Arrays.asList("a", "b"), this::sample);
+        Assertions.assertEquals(Arrays.asList("a", "b"), new ArrayList<>(tableFields.keySet()));
+    }
+
+    @Test
+    public void testFailedTableGetsEmptySchema() {
+        loader = new SampledSchemaLoader("test", 2, 10, 10000L, 60000L, 100);
+
+        Map<String, List<TableField>> tableFields =
+                loader.loadAll(
+                        PARAMS,
+                        Arrays.asList("orders", "broken"),
+                        table -> {
+                            if ("broken".equals(table)) {
+                                throw new DataSourcePluginException("no such table");
+                            }
+                            return sample(table);
+                        });
+
+        Assertions.assertEquals(1, tableFields.get("orders").size());
+        Assertions.assertTrue(tableFields.get("broken").isEmpty());
+    }
+
+    private List<TableField> sample(String table) {
+        sampled.add(table);
+        TableField field = new TableField();
+        field.setType("bigint");
+        field.setName("id");
+        field.setComment("row id");
+        field.setPrimaryKey(true);
+        field.setDefaultValue("0");
+        field.setNullable(false);
+        field.setProperties(new HashMap<>(Collections.singletonMap("sampled", "true")));
+        field.setUnSupport(false);
+        field.setOutputDataType("BIGINT");
+        return Collections.singletonList(field);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.api.utils;
+
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class SharedClientCacheTest {
+
+    private final List<FakeClient> created = Collections.synchronizedList(new ArrayList<>());
+
+    private final SharedClientCache<FakeClient> cache =
+            new SharedClientCache<>("fake client", 60000L, params -> create());
+
+    @Test
+    public void testShareClientPerParameters() {
+        Map<String, String> params = Collections.singletonMap("hosts", "a");
+        FakeClient first = cache.execute(params, client -> client);
+        FakeClient second = cache.execute(params, client -> client);
+        FakeClient other = cache.execute(Collections.singletonMap("hosts", "b"), client -> client);
+        Assertions.assertSame(first, second);
+        Assertions.assertNotSame(first, other);
+        Assertions.assertEquals(2, created.size());
+    }
+
+    @Test
+    public void testInvalidateWhileInUse() {
+        Map<String, String> params = Collections.singletonMap("hosts", "a");
+        FakeClient first =
+                cache.execute(
+                        params,
+                        client -> {
+                            cache.invalidate(params);
+                            Assertions.assertFalse(client.closed);
+                            return client;
+                        });
+        Assertions.assertTrue(first.closed);
+        FakeClient second = cache.execute(params, client -> client);
+        Assertions.assertNotSame(first, second);
+        Assertions.assertFalse(second.closed);
+    }
+
+    @Test
+    public void testCloseWhileInUse() {
+        Map<String, String> params = Collections.singletonMap("hosts", "a");
+        FakeClient idle = cache.execute(Collections.singletonMap("hosts", "b"), client -> client);
+        FakeClient used =
+                cache.execute(
+                        params,
+                        client -> {
+                            cache.close();
+                            Assertions.assertFalse(client.closed);
+                            return client;
+                        });
+        Assertions.assertTrue(idle.closed);
+        Assertions.assertTrue(used.closed);
+        Assertions.assertThrows(
+                DataSourcePluginException.class, () -> cache.execute(params, client -> client));
+    }
+
+    @Test
+    public void testConcurrentCreationSharesOneClient() throws Exception {
+        Map<String, String> params = Collections.singletonMap("hosts", "a");
+        CountDownLatch bothCreating = new CountDownLatch(2);
+        SharedClientCache<FakeClient> slowCache =
+                new SharedClientCache<>(
+                        "slow client",
+                        60000L,
+                        p -> {
+                            // both callers are creating a client before either one is cached
+                            bothCreating.countDown();
+                            bothCreating.await(10, TimeUnit.SECONDS);
+                            return create();
+                        });
+        try {
+            CompletableFuture<FakeClient> first =
+                    CompletableFuture.supplyAsync(() -> slowCache.execute(params, c -> c));
+            CompletableFuture<FakeClient> second =
+                    CompletableFuture.supplyAsync(() -> slowCache.execute(params, c -> c));
+
+            Assertions.assertSame(
+                    first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(2, created.size());
+            FakeClient shared = first.get();
+            for (FakeClient client : created) {
+                Assertions.assertEquals(client != shared, client.closed);
+            }
+        } finally {
+            slowCache.close();
+        }
+    }
+
+    @Test
+    public void testWrapCheckedException() {
+        Map<String, String> params = Collections.singletonMap("hosts", "a");
+        DataSourcePluginException exception =
+                Assertions.assertThrows(
+                        DataSourcePluginException.class,
+                        () ->
+                                cache.execute(
+                                        params,
+                                        client -> {
+                                            throw new IOException("timeout");
+                                        }));
+        Assertions.assertTrue(exception.getCause() instanceof IOException);
+    }
+
+    private FakeClient create() {
+        FakeClient client = new FakeClient();
+        created.add(client);
+        return client;
+    }
+
+    private static class FakeClient implements AutoCloseable {
+        private volatile boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.s3;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.SampledSchemaBuilder;
+
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.orc.OrcFile;
+import org.apache.orc.Reader;
+import org.apache.orc.TypeDescription;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the schema out of an orc file tail with the orc {@link Reader}, which fetches the post
+ * script and footer from the end of the file and none of the stripes.
+ *
+ * <p>ORC schemas carry no nullability, so every field is nullable.
+ */
+public class OrcFooterReader {
+
+    private static final byte[] MAGIC = "ORC".getBytes(StandardCharsets.US_ASCII);
+
+    private OrcFooterReader() {}
+
+    public static boolean isOrcMagic(byte[] bytes) {
+        if (bytes.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (bytes[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static List<TableField> readSchema(FileSystem fs, FileStatus file) throws IOException {
+        TypeDescription schema;
+        // the length of the listing spares the reader a status request
+        try (Reader reader =
+                OrcFile.createReader(
+                        file.getPath(),
+                        OrcFile.readerOptions(fs.getConf())
+                                .filesystem(fs)
+                                .maxLength(file.getLen()))) {
+            schema = reader.getSchema();
+        }
+        List<String> names = schema.getFieldNames();
+        List<TypeDescription> children = schema.getChildren();
+        List<TableField> fields = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            TableField field = new TableField();
+            field.setName(names.get(i));
+            field.setType(typeOf(children.get(i)));
+            field.setNullable(true);
+            field.setPrimaryKey(false);
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    private static String typeOf(TypeDescription type) {
+        switch (type.getCategory()) {
+            case BOOLEAN:
+                return SampledSchemaBuilder.BOOLEAN;
+            case BYTE:
+                return "tinyint";
+            case SHORT:
+                return "smallint";
+            case INT:
+                return SampledSchemaBuilder.INT;
+            case LONG:
+                return SampledSchemaBuilder.BIGINT;
+            case FLOAT:
+                return "float";
+            case DOUBLE:
+                return SampledSchemaBuilder.DOUBLE;
+            case BINARY:
+                return SampledSchemaBuilder.BYTES;
+            case TIMESTAMP:
+                return SampledSchemaBuilder.TIMESTAMP;
+            case DECIMAL:
+                return SampledSchemaBuilder.DECIMAL;
+            case DATE:
+                return "date";
+            case LIST:
+                String elementType = typeOf(type.getChildren().get(0));
+                if (isArrayElement(elementType)) {
+                    return "array<" + elementType + ">";
+                }
+                return SampledSchemaBuilder.STRING;
+            case STRING:
+            case VARCHAR:
+            case CHAR:
+            default:
+                // maps, structs and unions as well
+                return SampledSchemaBuilder.STRING;
+        }
+    }
+
+    private static boolean isArrayElement(String type) {
+        switch (type) {
+            case "string":
+            case "boolean":
+            case "tinyint":
+            case "smallint":
+            case "int":
+            case "bigint":
+            case "float":
+            case "double":
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.s3;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.SampledSchemaBuilder;
+
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.util.HadoopStreams;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.SeekableInputStream;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the schema out of a parquet footer with {@link ParquetFileReader}, which fetches the footer
+ * length and then the footer itself from the end of the file. Row group metadata is skipped.
+ *
+ * <p>Nested groups other than lists of primitives become {@code string}.
+ */
+public class ParquetFooterReader {
+
+    private static final byte[] MAGIC = "PAR1".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ParquetReadOptions READ_OPTIONS =
+            ParquetReadOptions.builder()
+                    .withMetadataFilter(ParquetMetadataConverter.SKIP_ROW_GROUPS)
+                    .build();
+
+    private ParquetFooterReader() {}
+
+    public static boolean isParquetMagic(byte[] bytes) {
+        if (bytes.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (bytes[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static List<TableField> readSchema(FileSystem fs, FileStatus file) throws IOException {
+        MessageType schema;
+        try (ParquetFileReader reader =
+                ParquetFileReader.open(new StatusInputFile(fs, file), READ_OPTIONS)) {
+            schema = reader.getFooter().getFileMetaData().getSchema();
+        }
+        List<TableField> fields = new ArrayList<>(schema.getFieldCount());
+        for (Type column : schema.getFields()) {
+            TableField field = new TableField();
+            field.setName(column.getName());
+            field.setType(typeOf(column));
+            field.setNullable(column.getRepetition() != Type.Repetition.REQUIRED);
+            field.setPrimaryKey(false);
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    private static String typeOf(Type type) {
+        if (type.isPrimitive()) {
+            return primitiveTypeOf(type.asPrimitiveType());
+        }
+        GroupType group = type.asGroupType();
+        if (group.getLogicalTypeAnnotation()
+                instanceof LogicalTypeAnnotation.ListLogicalTypeAnnotation) {
+            String elementType = listElementType(group);
+            if (elementType != null) {
+                return "array<" + elementType + ">";
+            }
+        }
+        return SampledSchemaBuilder.STRING;
+    }
+
+    /** @return the primitive element type of a list, the three level or the legacy two level one */
+    private static String listElementType(GroupType list) {
+        if (list.getFieldCount() != 1) {
+            return null;
+        }
+        Type element = list.getType(0);
+        if (!element.isPrimitive()) {
+            GroupType repeated = element.asGroupType();
+            if (repeated.getFieldCount() != 1) {
+                return null;
+            }
+            element = repeated.getType(0);
+        }
+        if (!element.isPrimitive()) {
+            return null;
+        }
+        String elementType = primitiveTypeOf(element.asPrimitiveType());
+        return isArrayElement(elementType) ? elementType : null;
+    }
+
+    private static String primitiveTypeOf(PrimitiveType type) {
+        LogicalTypeAnnotation annotation = type.getLogicalTypeAnnotation();
+        if (annotation instanceof LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) {
+            return SampledSchemaBuilder.DECIMAL;
+        }
+        switch (type.getPrimitiveTypeName()) {
+            case BOOLEAN:
+                return SampledSchemaBuilder.BOOLEAN;
+            case INT32:
+                if (annotation instanceof LogicalTypeAnnotation.IntLogicalTypeAnnotation) {
+                    LogicalTypeAnnotation.IntLogicalTypeAnnotation intType =
+                            (LogicalTypeAnnotation.IntLogicalTypeAnnotation) annotation;
+                    if (intType.isSigned() && intType.getBitWidth() == 8) {
+                        return "tinyint";
+                    }
+                    if (intType.isSigned() && intType.getBitWidth() == 16) {
+                        return "smallint";
+                    }
+                }
+                if (annotation instanceof LogicalTypeAnnotation.DateLogicalTypeAnnotation) {
+                    return "date";
+                }
+                if (annotation instanceof LogicalTypeAnnotation.TimeLogicalTypeAnnotation) {
+                    return "time";
+                }
+                return SampledSchemaBuilder.INT;
+            case INT64:
+                if (annotation instanceof LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) {
+                    return SampledSchemaBuilder.TIMESTAMP;
+                }
+                if (annotation instanceof LogicalTypeAnnotation.TimeLogicalTypeAnnotation) {
+                    return "time";
+                }
+                return SampledSchemaBuilder.BIGINT;
+            case INT96:
+                return SampledSchemaBuilder.TIMESTAMP;
+            case FLOAT:
+                return "float";
+            case DOUBLE:
+                return SampledSchemaBuilder.DOUBLE;
+            case BINARY:
+            case FIXED_LEN_BYTE_ARRAY:
+            default:
+                if (annotation instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation
+                        || annotation instanceof LogicalTypeAnnotation.EnumLogicalTypeAnnotation
+                        || annotation instanceof LogicalTypeAnnotation.JsonLogicalTypeAnnotation) {
+                    return SampledSchemaBuilder.STRING;
+                }
+                return SampledSchemaBuilder.BYTES;
+        }
+    }
+
+    private static boolean isArrayElement(String type) {
+        switch (type) {
+            case "string":
+            case "boolean":
+            case "tinyint":
+            case "smallint":
+            case "int":
+            case "bigint":
+            case "float":
+            case "double":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * A parquet file opened on the given filesystem with the length of its listing, so neither a
+     * filesystem of the global cache nor a status request is needed.
+     */
+    private static class StatusInputFile implements InputFile {
+        private final FileSystem fs;
+        private final FileStatus file;
+
+        private StatusInputFile(FileSystem fs, FileStatus file) {
+            this.fs = fs;
+            this.file = file;
+        }
+
+        @Override
+        public long getLength() {
+            return file.getLen();
+        }
+
+        @Override
+        public SeekableInputStream newStream() throws IOException {
+            return HadoopStreams.wrap(fs.open(file.getPath()));
+        }
+    }
+}
@@ -14,25 +14,73 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.seatunnel.datasource.plugin.s3;
 
 import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.datasource.plugin.api.DataSourceChannel;
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginConfig;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginException;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.SampledSchemaLoader;
+import org.apache.seatunnel.datasource.plugin.api.utils.SharedClientCache;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
 
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Browses a bucket as databases and tables: the top level prefixes are the databases, the files and
+ * partition directories right below a prefix are its tables.
+ *
+ * <p>Listings are streamed page by page and stop as soon as enough names were found. The schema of
+ * a directory is the schema of its first data file, see {@link S3FileSchemaReader}.
+ */
+@Slf4j
 public class S3DatasourceChannel implements DataSourceChannel {
+
+    private static final String CONFIG_PREFIX = "s3.";
+
+    private static final Path ROOT = new Path("/");
+
+    // the filesystem is thread safe, newInstance keeps it out of the global cache that close()
+    // would break for everyone else
+    private static final SharedClientCache<FileSystem> CLIENTS =
+            new SharedClientCache<>(
+                    "s3 filesystem",
+                    DataSourcePluginConfig.getLong(
+                            CONFIG_PREFIX + "client.idle-timeout-ms", 300000L),
+                    requestParams -> FileSystem.newInstance(getConfiguration(requestParams)));
+
+    // ETags keep schemas of unchanged files for good, this cache only saves the HEAD requests
+    // of repeated lookups of the same table
+    private static final SampledSchemaLoader SCHEMA_LOADER =
+            new SampledSchemaLoader(
+                    "s3 file",
+                    DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.threads", 4),
+                    DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.queue-capacity", 1000),
+                    DataSourcePluginConfig.getLong(CONFIG_PREFIX + "schema.timeout-ms", 30000L),
+                    DataSourcePluginConfig.getLong(CONFIG_PREFIX + "schema.cache-ttl-ms", 30000L),
+                    DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.cache-max-size", 1000));
+
+    private static final S3FileSchemaReader SCHEMA_READER =
+            new S3FileSchemaReader(
+                    DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.head-bytes", 64 * 1024),
+                    DataSourcePluginConfig.getInt(CONFIG_PREFIX + "schema.head-lines", 100),
+                    DataSourcePluginConfig.getInt(
+                            CONFIG_PREFIX + "schema.file-cache-max-size", 10000));
+
     @Override
     public OptionRule getDataSourceOptions(@NonNull String pluginName) {
         return S3OptionRule.optionRule();
@@ -49,23 +97,41 @@ public class S3DatasourceChannel implements DataSourceChannel {
             Map<String, String> requestParams,
             String database,
             Map<String, String> options) {
-        throw new UnsupportedOperationException("getTables is not supported for S3 datasource");
+        if (isEmpty(database)) {
+            throw new DataSourcePluginException("database must not be empty");
+        }
+        String filterName = options == null ? null : options.get("filterName");
+        String size = options == null ? null : options.get("size");
+        int limit =
+                !isEmpty(size) && Integer.parseInt(size) > 0
+                        ? Integer.parseInt(size)
+                        : Integer.MAX_VALUE;
+        return CLIENTS.execute(
+                requestParams,
+                fs -> listNames(fs, new Path(ROOT, database), false, filterName, limit));
     }
 
     @Override
     public List<String> getDatabases(
             @NonNull String pluginName, @NonNull Map<String, String> requestParams) {
-        throw new UnsupportedOperationException("getDatabases is not supported for S3 datasource");
+        return CLIENTS.execute(
+                requestParams, fs -> listNames(fs, ROOT, true, null, Integer.MAX_VALUE));
     }
 
     @Override
     public boolean checkDataSourceConnectivity(
             @NonNull String pluginName, @NonNull Map<String, String> requestParams) {
-        Configuration conf = HadoopS3AConfiguration.getConfiguration(requestParams);
-        try (FileSystem fs = FileSystem.get(conf)) {
-            fs.listStatus(new Path("/"));
-            return true;
-        } catch (IOException e) {
+        try {
+            // fetches the first listing page only
+            return CLIENTS.execute(
+                    requestParams,
+                    fs -> {
+                        fs.listLocatedStatus(ROOT).hasNext();
+                        return true;
+                    });
+        } catch (Exception e) {
+            // do not keep a filesystem built from settings that cannot reach the bucket
+            CLIENTS.invalidate(requestParams);
             throw new DataSourcePluginException(
                     String.format("check s3 connectivity failed, config is: %s", requestParams), e);
         }
@@ -77,8 +143,18 @@ public class S3DatasourceChannel implements DataSourceChannel {
             @NonNull Map<String, String> requestParams,
             @NonNull String database,
             @NonNull String table) {
-        throw new UnsupportedOperationException(
-                "getTableFields is not supported for S3 datasource");
+        try {
+            return SCHEMA_LOADER.load(
+                    requestParams,
+                    database + Path.SEPARATOR + table,
+                    path -> inferTableFields(requestParams, path));
+        } catch (Exception e) {
+            throw new DataSourcePluginException(
+                    String.format(
+                            "infer schema of s3 path %s/%s failed, %s",
+                            database, table, e.getMessage()),
+                    e);
+        }
     }
 
     @Override
@@ -87,7 +163,95 @@ public class S3DatasourceChannel implements DataSourceChannel {
             @NonNull Map<String, String> requestParams,
             @NonNull String database,
             @NonNull List<String> tables) {
-        throw new UnsupportedOperationException(
-                "getTableFields is not supported for S3 datasource");
+        Map<String, List<TableField>> pathFields =
+                SCHEMA_LOADER.loadAll(
+                        requestParams,
+                        toPaths(database, tables),
+                        path -> inferTableFields(requestParams, path));
+        Map<String, List<TableField>> tableFields = new LinkedHashMap<>();
+        for (String table : tables) {
+            tableFields.put(table, pathFields.get(database + Path.SEPARATOR + table));
+        }
+        return tableFields;
+    }
+
+    @Override
+    public void close() {
+        CLIENTS.close();
+        SCHEMA_LOADER.close();
+    }
+
+    private static List<String> toPaths(String database, List<String> tables) {
+        List<String> paths = new ArrayList<>(tables.size());
+        for (String table : tables) {
+            paths.add(database + Path.SEPARATOR + table);
+        }
+        return paths;
+    }
+
+    private static List<TableField> inferTableFields(
+            Map<String, String> requestParams, String path) {
+        return CLIENTS.execute(
+                requestParams,
+                fs -> SCHEMA_READER.read(fs, findDataFile(fs, new Path(ROOT, path))));
+    }
+
+    /** @return {@code path} itself, or the first data file below it when it is a directory */
+    private static FileStatus findDataFile(FileSystem fs, Path path) throws IOException {
+        FileStatus status = fs.getFileStatus(path);
+        if (!status.isDirectory()) {
+            return status;
+        }
+        // a flat listing of the whole tree, streamed until the first data file
+        String prefix = status.getPath().toUri().getPath();
+        RemoteIterator<LocatedFileStatus> files = fs.listFiles(path, true);
+        while (files.hasNext()) {
+            LocatedFileStatus file = files.next();
+            String relativePath = file.getPath().toUri().getPath().substring(prefix.length());
+            if (file.getLen() > 0 && !isHiddenPath(relativePath)) {
+                return file;
+            }
+        }
+        throw new DataSourcePluginException(String.format("no data file found in %s", path));
+    }
+
+    private static List<String> listNames(
+            FileSystem fs, Path path, boolean directoriesOnly, String filterName, int limit)
+            throws IOException {
+        List<String> names = new ArrayList<>();
+        // S3A fetches the next page of the listing only when the current one is used up
+        RemoteIterator<LocatedFileStatus> statuses = fs.listLocatedStatus(path);
+        while (names.size() < limit && statuses.hasNext()) {
+            LocatedFileStatus status = statuses.next();
+            String name = status.getPath().getName();
+            if ((directoriesOnly && !status.isDirectory())
+                    || isHiddenPath(name)
+                    || (!isEmpty(filterName) && !name.contains(filterName))) {
+                continue;
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    /** Markers like _SUCCESS, _temporary or .crc files are not data. */
+    private static boolean isHiddenPath(String relativePath) {
+        for (String name : relativePath.split(Path.SEPARATOR)) {
+            if (name.startsWith("_") || name.startsWith(".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    private static Configuration getConfiguration(Map<String, String> requestParams) {
+        Configuration conf = HadoopS3AConfiguration.getConfiguration(requestParams);
+        // footers are fetched with ranged GETs instead of streaming the file from its start
+        conf.setIfUnset("fs.s3a.experimental.input.fadvise", "random");
+        return conf;
     }
 }
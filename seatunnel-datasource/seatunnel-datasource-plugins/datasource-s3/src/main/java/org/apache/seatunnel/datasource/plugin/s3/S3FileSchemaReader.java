@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.s3;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Infers the schema of one data file while reading as little of it as possible.
+ *
+ * <p>Parquet and orc schemas come from the footer, read by {@link ParquetFooterReader} and {@link
+ * OrcFooterReader} from the file tail only. Csv and json schemas come from the first lines, at most
+ * {@code headBytes} of them. Schemas are cached per file and version, the length and modification
+ * time of the listing, so an unchanged file is never read twice and no extra request is made to
+ * tell whether it changed. The least recently used files are dropped beyond {@code cacheMaxSize}.
+ */
+@Slf4j
+public class S3FileSchemaReader {
+
+    private final int headBytes;
+
+    private final int headLines;
+
+    private final Cache<String, CachedSchema> cache;
+
+    public S3FileSchemaReader(int headBytes, int headLines, int cacheMaxSize) {
+        this.headBytes = headBytes;
+        this.headLines = headLines;
+        this.cache = CacheBuilder.newBuilder().maximumSize(cacheMaxSize).build();
+    }
+
+    public List<TableField> read(FileSystem fs, FileStatus file) throws IOException {
+        String key = file.getPath().toString();
+        String version = versionOf(file);
+        CachedSchema cachedSchema = cache.getIfPresent(key);
+        if (cachedSchema != null && cachedSchema.version.equals(version)) {
+            return cachedSchema.fields;
+        }
+        List<TableField> fields = readUncached(fs, file);
+        cache.put(key, new CachedSchema(version, fields));
+        return fields;
+    }
+
+    private List<TableField> readUncached(FileSystem fs, FileStatus file) throws IOException {
+        Path path = file.getPath();
+        CompressionCodec codec = new CompressionCodecFactory(fs.getConf()).getCodec(path);
+        S3OptionRule.FileFormat format = formatOf(path, codec);
+        if (format == null) {
+            format = sniffFormat(fs, file, codec);
+        }
+        List<TableField> fields;
+        switch (format) {
+            case PARQUET:
+                fields = ParquetFooterReader.readSchema(fs, file);
+                break;
+            case ORC:
+                fields = OrcFooterReader.readSchema(fs, file);
+                break;
+            case JSON:
+                fields = TextSchemaInferrer.inferJson(readHeadLines(fs, path, codec));
+                break;
+            case CSV:
+            case TEXT:
+            default:
+                fields = TextSchemaInferrer.inferCsv(readHeadLines(fs, path, codec));
+        }
+        log.info("Inferred {} fields of {} file {}", fields.size(), format, path);
+        return fields;
+    }
+
+    /** @return the first lines within {@code headBytes}, without a line cut by that bound */
+    private List<String> readHeadLines(FileSystem fs, Path path, CompressionCodec codec)
+            throws IOException {
+        byte[] head = new byte[headBytes];
+        int read = 0;
+        boolean truncated = false;
+        try (InputStream in = open(fs, path, codec)) {
+            int n;
+            while (read < head.length && (n = in.read(head, read, head.length - read)) > 0) {
+                read += n;
+            }
+            truncated = read == head.length && in.read() >= 0;
+        }
+        String text = new String(head, 0, read, StandardCharsets.UTF_8);
+        if (!text.isEmpty() && text.charAt(0) == '\uFEFF') {
+            text = text.substring(1);
+        }
+        List<String> lines = new ArrayList<>(Arrays.asList(text.split("\r?\n", -1)));
+        if (truncated || lines.get(lines.size() - 1).isEmpty()) {
+            lines.remove(lines.size() - 1);
+        }
+        return lines.size() > headLines ? lines.subList(0, headLines) : lines;
+    }
+
+    private static InputStream open(FileSystem fs, Path path, CompressionCodec codec)
+            throws IOException {
+        FSDataInputStream in = fs.open(path);
+        if (codec == null) {
+            return in;
+        }
+        try {
+            return codec.createInputStream(in);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /** Tell a file without a known extension by its first bytes. */
+    private S3OptionRule.FileFormat sniffFormat(
+            FileSystem fs, FileStatus file, CompressionCodec codec) throws IOException {
+        byte[] magic = new byte[4];
+        int read = 0;
+        try (InputStream in = open(fs, file.getPath(), codec)) {
+            int n;
+            while (read < magic.length && (n = in.read(magic, read, magic.length - read)) > 0) {
+                read += n;
+            }
+        }
+        if (codec == null && ParquetFooterReader.isParquetMagic(magic)) {
+            return S3OptionRule.FileFormat.PARQUET;
+        }
+        if (codec == null && OrcFooterReader.isOrcMagic(magic)) {
+            return S3OptionRule.FileFormat.ORC;
+        }
+        return read > 0 && (magic[0] == '{' || magic[0] == '[')
+                ? S3OptionRule.FileFormat.JSON
+                : S3OptionRule.FileFormat.CSV;
+    }
+
+    static S3OptionRule.FileFormat formatOf(Path path, CompressionCodec codec) {
+        String name = path.getName().toLowerCase(Locale.ROOT);
+        if (codec != null && name.endsWith(codec.getDefaultExtension())) {
+            name = name.substring(0, name.length() - codec.getDefaultExtension().length());
+        }
+        // spark names its files like part-00000-<uuid>.c000.snappy.parquet
+        if (name.endsWith(".parquet")) {
+            return S3OptionRule.FileFormat.PARQUET;
+        }
+        if (name.endsWith(".orc")) {
+            return S3OptionRule.FileFormat.ORC;
+        }
+        if (name.endsWith(".json") || name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return S3OptionRule.FileFormat.JSON;
+        }
+        if (name.endsWith(".csv") || name.endsWith(".tsv")) {
+            return S3OptionRule.FileFormat.CSV;
+        }
+        if (name.endsWith(".txt")) {
+            return S3OptionRule.FileFormat.TEXT;
+        }
+        return null;
+    }
+
+    private static String versionOf(FileStatus file) {
+        return file.getLen() + "@" + file.getModificationTime();
+    }
+
+    private static class CachedSchema {
+        private final String version;
+        private final List<TableField> fields;
+
+        private CachedSchema(String version, List<TableField> fields) {
+            this.version = version;
+            this.fields = fields;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.s3;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.SampledSchemaBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Infers the fields of csv and json lines files from the first lines of the file.
+ *
+ * <p>A csv file must start with a header line, its delimiter is the most frequent of the common
+ * ones in that line. Values are typed by what they parse as, empty values make a field nullable.
+ * Every top level key of a json line becomes a field, nested objects are {@code string}.
+ */
+@Slf4j
+public class TextSchemaInferrer {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final char[] DELIMITERS = {',', '\t', '\u0001', '|', ';'};
+
+    private static final Pattern INTEGER = Pattern.compile("[-+]?\\d+");
+
+    private static final Pattern DECIMAL =
+            Pattern.compile("[-+]?(\\d+\\.\\d*|\\.\\d+)([eE][-+]?\\d+)?");
+
+    private TextSchemaInferrer() {}
+
+    public static List<TableField> inferCsv(List<String> lines) {
+        if (lines.isEmpty()) {
+            return new ArrayList<>();
+        }
+        char delimiter = detectDelimiter(lines.get(0));
+        List<String> header = splitCsvLine(lines.get(0), delimiter);
+        SampledSchemaBuilder schemaBuilder = new SampledSchemaBuilder();
+        Map<String, String> headerOnly = new LinkedHashMap<>();
+        for (String name : header) {
+            headerOnly.put(name, null);
+        }
+        if (lines.size() == 1) {
+            // no data, the header still names the fields
+            schemaBuilder.addRecord(headerOnly);
+        }
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            List<String> values = splitCsvLine(line, delimiter);
+            Map<String, String> fieldTypes = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                fieldTypes.put(
+                        header.get(i),
+                        i < values.size() ? typeOfText(values.get(i)) : SampledSchemaBuilder.NULL);
+            }
+            schemaBuilder.addRecord(fieldTypes);
+        }
+        return schemaBuilder.build();
+    }
+
+    public static List<TableField> inferJson(List<String> lines) {
+        SampledSchemaBuilder schemaBuilder = new SampledSchemaBuilder();
+        for (String line : lines) {
+            JsonNode node = readTree(line);
+            if (node == null || !node.isObject()) {
+                continue;
+            }
+            Map<String, String> fieldTypes = new LinkedHashMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = it.next();
+                fieldTypes.put(field.getKey(), typeOfJson(field.getValue()));
+            }
+            schemaBuilder.addRecord(fieldTypes);
+        }
+        return schemaBuilder.build();
+    }
+
+    static char detectDelimiter(String headerLine) {
+        char delimiter = DELIMITERS[0];
+        int maxCount = 0;
+        for (char candidate : DELIMITERS) {
+            int count = 0;
+            for (int i = 0; i < headerLine.length(); i++) {
+                if (headerLine.charAt(i) == candidate) {
+                    count++;
+                }
+            }
+            if (count > maxCount) {
+                maxCount = count;
+                delimiter = candidate;
+            }
+        }
+        return delimiter;
+    }
+
+    /** Splits a line at {@code delimiter}, except inside double quotes. */
+    static List<String> splitCsvLine(String line, char delimiter) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == delimiter && !quoted) {
+                values.add(value.toString().trim());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString().trim());
+        return values;
+    }
+
+    private static String typeOfText(String value) {
+        if (value.isEmpty()) {
+            return SampledSchemaBuilder.NULL;
+        }
+        if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+            return SampledSchemaBuilder.BOOLEAN;
+        }
+        if (INTEGER.matcher(value).matches()) {
+            try {
+                long number = Long.parseLong(value);
+                return number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE
+                        ? SampledSchemaBuilder.INT
+                        : SampledSchemaBuilder.BIGINT;
+            } catch (NumberFormatException e) {
+                return SampledSchemaBuilder.DECIMAL;
+            }
+        }
+        if (DECIMAL.matcher(value).matches()) {
+            return SampledSchemaBuilder.DOUBLE;
+        }
+        return SampledSchemaBuilder.STRING;
+    }
+
+    private static JsonNode readTree(String line) {
+        if (line.isEmpty()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readTree(line);
+        } catch (IOException e) {
+            log.debug("Skip a line that is not json: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** @return the type of {@code node}, or null when the value says nothing about the type */
+    private static String typeOfJson(JsonNode node) {
+        if (node.isNull() || node.isMissingNode()) {
+            return SampledSchemaBuilder.NULL;
+        }
+        if (node.isBoolean()) {
+            return SampledSchemaBuilder.BOOLEAN;
+        }
+        if (node.isIntegralNumber()) {
+            return node.canConvertToLong()
+                    ? SampledSchemaBuilder.BIGINT
+                    : SampledSchemaBuilder.DECIMAL;
+        }
+        if (node.isNumber()) {
+            return SampledSchemaBuilder.DOUBLE;
+        }
+        if (node.isArray()) {
+            String elementType = null;
+            for (JsonNode element : node) {
+                String type = typeOfJson(element);
+                if (!SampledSchemaBuilder.NULL.equals(type)) {
+                    elementType = SampledSchemaBuilder.merge(elementType, type);
+                }
+            }
+            // null for an empty array, the next line may tell more
+            return SampledSchemaBuilder.arrayOf(elementType);
+        }
+        return SampledSchemaBuilder.STRING;
+    }
+}
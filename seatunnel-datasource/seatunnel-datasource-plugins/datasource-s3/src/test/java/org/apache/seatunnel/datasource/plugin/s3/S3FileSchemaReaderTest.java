@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.s3;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.FilterFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.orc.OrcFile;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.Writer;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class S3FileSchemaReaderTest {
+
+    private static final MessageType PARQUET_SCHEMA =
+            MessageTypeParser.parseMessageType(
+                    "message test {"
+                            + " required int64 id;"
+                            + " optional binary name (UTF8);"
+                            + " optional int64 ts (TIMESTAMP_MILLIS);"
+                            + " optional int32 small (INT_16);"
+                            + " optional group scores (LIST) {"
+                            + "  repeated group list { optional int32 element; }"
+                            + " }"
+                            + " optional fixed_len_byte_array(16) amount (DECIMAL(38,18));"
+                            + " optional group address { optional binary city (UTF8); }"
+                            + "}");
+
+    @TempDir File dir;
+
+    private final AtomicInteger opens = new AtomicInteger();
+
+    private FileSystem fs;
+
+    private final S3FileSchemaReader reader = new S3FileSchemaReader(65536, 100, 10);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Configuration conf = new Configuration(false);
+        // counts the files opened on the local filesystem the test stands in for s3
+        fs =
+                new FilterFileSystem(FileSystem.getLocal(conf).getRawFileSystem()) {
+                    @Override
+                    public FSDataInputStream open(Path f, int bufferSize) throws IOException {
+                        opens.incrementAndGet();
+                        return super.open(f, bufferSize);
+                    }
+                };
+    }
+
+    @Test
+    void readParquetFooter() throws IOException {
+        Path path = writeParquet("part-00000.snappy.parquet");
+
+        List<TableField> fields = reader.read(fs, fs.getFileStatus(path));
+
+        Assertions.assertEquals(7, fields.size());
+        assertField(fields.get(0), "id", "bigint", false);
+        assertField(fields.get(1), "name", "string", true);
+        assertField(fields.get(2), "ts", "timestamp", true);
+        assertField(fields.get(3), "small", "smallint", true);
+        assertField(fields.get(4), "scores", "array<int>", true);
+        assertField(fields.get(5), "amount", "decimal(38, 18)", true);
+        assertField(fields.get(6), "address", "string", true);
+    }
+
+    @Test
+    void readOrcFooter() throws IOException {
+        Path path = new Path(dir.getPath(), "000000_0.orc");
+        Writer writer =
+                OrcFile.createWriter(
+                        path,
+                        OrcFile.writerOptions(fs.getConf())
+                                .fileSystem(fs)
+                                .setSchema(
+                                        TypeDescription.fromString(
+                                                "struct<id:bigint,name:varchar(10),"
+                                                        + "ts:timestamp,flag:boolean,"
+                                                        + "scores:array<int>,"
+                                                        + "amount:decimal(38,18),"
+                                                        + "tags:map<string,string>>")));
+        writer.close();
+
+        List<TableField> fields = reader.read(fs, fs.getFileStatus(path));
+
+        Assertions.assertEquals(7, fields.size());
+        assertField(fields.get(0), "id", "bigint", true);
+        assertField(fields.get(1), "name", "string", true);
+        assertField(fields.get(2), "ts", "timestamp", true);
+        assertField(fields.get(3), "flag", "boolean", true);
+        assertField(fields.get(4), "scores", "array<int>", true);
+        assertField(fields.get(5), "amount", "decimal(38, 18)", true);
+        assertField(fields.get(6), "tags", "string", true);
+    }
+
+    @Test
+    void sniffFileWithoutExtension() throws IOException {
+        Path path = writeParquet("part-00000");
+
+        List<TableField> fields = reader.read(fs, fs.getFileStatus(path));
+
+        assertField(fields.get(0), "id", "bigint", false);
+    }
+
+    @Test
+    void cacheUntilFileChanges() throws IOException {
+        Path path = writeParquet("data.parquet");
+        FileStatus file = fs.getFileStatus(path);
+
+        reader.read(fs, file);
+        int opened = opens.get();
+        reader.read(fs, file);
+        Assertions.assertEquals(opened, opens.get());
+
+        // a rewritten file is listed with another modification time
+        fs.setTimes(path, file.getModificationTime() + 1000, -1);
+        reader.read(fs, fs.getFileStatus(path));
+        Assertions.assertTrue(opens.get() > opened);
+    }
+
+    private Path writeParquet(String name) throws IOException {
+        Path path = new Path(dir.getPath(), name);
+        try (ParquetWriter<Group> writer =
+                ExampleParquetWriter.builder(path)
+                        .withConf(fs.getConf())
+                        .withType(PARQUET_SCHEMA)
+                        .build()) {
+            writer.write(new SimpleGroupFactory(PARQUET_SCHEMA).newGroup().append("id", 1L));
+        }
+        return path;
+    }
+
+    private static void assertField(TableField field, String name, String type, boolean nullable) {
+        Assertions.assertEquals(name, field.getName());
+        Assertions.assertEquals(type, field.getType());
+        Assertions.assertEquals(nullable, field.getNullable());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.datasource.plugin.s3;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+class TextSchemaInferrerTest {
+
+    @Test
+    void inferCsv() {
+        List<TableField> fields =
+                TextSchemaInferrer.inferCsv(
+                        Arrays.asList(
+                                "id|name|price|big|flag",
+                                "1|\"a|b\"|1.5|1|true",
+                                "2||2|12345678901|false"));
+        Assertions.assertEquals(5, fields.size());
+        assertField(fields.get(0), "id", "int", false);
+        assertField(fields.get(1), "name", "string", true);
+        assertField(fields.get(2), "price", "double", false);
+        assertField(fields.get(3), "big", "bigint", false);
+        assertField(fields.get(4), "flag", "boolean", false);
+    }
+
+    @Test
+    void inferJson() {
+        List<TableField> fields =
+                TextSchemaInferrer.inferJson(
+                        Arrays.asList(
+                                "{\"id\": 1, \"tags\": [\"x\"]}",
+                                "{\"id\": 2, \"tags\": [], \"extra\": {\"k\": 1}}",
+                                "{\"id\": 3, \"ta"));
+        Assertions.assertEquals(3, fields.size());
+        assertField(fields.get(0), "id", "bigint", false);
+        assertField(fields.get(1), "tags", "array<string>", false);
+        assertField(fields.get(2), "extra", "string", true);
+    }
+
+    private static void assertField(TableField field, String name, String type, boolean nullable) {
+        Assertions.assertEquals(name, field.getName());
+        Assertions.assertEquals(type, field.getType());
+        Assertions.assertEquals(nullable, field.getNullable());
+    }
+}
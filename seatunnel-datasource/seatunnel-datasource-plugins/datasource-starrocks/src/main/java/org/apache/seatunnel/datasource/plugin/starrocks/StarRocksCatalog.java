@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.table.catalog.exception.CatalogException;
 import org.apache.seatunnel.api.table.catalog.exception.DatabaseNotExistException;
 import org.apache.seatunnel.api.table.catalog.exception.TableNotExistException;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.JdbcConnectionPool;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -231,6 +232,7 @@ public class StarRocksCatalog {
         info.put("allowLoadLocalInfileInPath", "");
         info.put("user", username);
         info.put("password", pwd);
-        return DriverManager.getConnection(url, info);
+        return JdbcConnectionPool.getConnection(
+                url, info, () -> DriverManager.getConnection(url, info));
     }
 }
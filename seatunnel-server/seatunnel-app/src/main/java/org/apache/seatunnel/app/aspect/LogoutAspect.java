@@ -18,6 +18,7 @@
 package org.apache.seatunnel.app.aspect;
 
 import org.apache.seatunnel.app.dal.dao.IUserDao;
+import org.apache.seatunnel.app.security.AuthenticationCache;
 
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
@@ -43,6 +44,8 @@ public class LogoutAspect {
 
     @Resource private IUserDao userDaoImpl;
 
+    @Resource private AuthenticationCache authenticationCache;
+
     @Pointcut("execution(public * org.apache.seatunnel.app.controller.UserController.logout(..))")
     public void logoutPointCut() {}
 
@@ -53,5 +56,6 @@ public class LogoutAspect {
         HttpServletRequest request = attributes.getRequest();
         final Integer userId = (Integer) request.getAttribute(USER_ID);
         userDaoImpl.disableToken(userId);
+        authenticationCache.invalidateUser(userId);
     }
 }
@@ -17,144 +17,587 @@
 
 package org.apache.seatunnel.app.bean.connector;
 
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.apache.seatunnel.api.common.PluginIdentifier;
 import org.apache.seatunnel.api.configuration.util.OptionRule;
+import org.apache.seatunnel.api.table.factory.Factory;
+import org.apache.seatunnel.app.config.ConnectorCacheProperties;
 import org.apache.seatunnel.app.domain.response.connector.ConnectorFeature;
 import org.apache.seatunnel.app.domain.response.connector.ConnectorInfo;
 import org.apache.seatunnel.app.dynamicforms.FormStructure;
 import org.apache.seatunnel.app.thirdparty.framework.PluginDiscoveryUtil;
+import org.apache.seatunnel.app.thirdparty.framework.SeaTunnelOptionRuleWrapper;
 import org.apache.seatunnel.common.config.Common;
 import org.apache.seatunnel.common.config.DeployMode;
 import org.apache.seatunnel.common.constants.PluginType;
+import org.apache.seatunnel.common.utils.JsonUtils;
 import org.apache.seatunnel.server.common.SeatunnelErrorEnum;
 import org.apache.seatunnel.server.common.SeatunnelException;
 
 import org.springframework.stereotype.Component;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.AllArgsConstructor;
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
 
+import java.io.File;
 import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.ServiceConfigurationError;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * The connectors, their forms and option rules, discovered from the connector jars.
+ *
+ * <p>Every connector jar, and the classpath, is discovered on a class loader of its own on {@code
+ * discoveryThreads} threads. What was discovered is written to a snapshot keyed by the path, size
+ * and modification time of each jar. After a restart the jars unchanged since are taken from the
+ * snapshot, only their option rules, which can not be kept on disk, are loaded in the background or
+ * when first asked for. {@link #refresh()} discovers only the jars added or changed since and
+ * replaces the whole cache at once, readers never see a half refreshed cache.
+ *
+ * <p>The class loader of a jar stays open while its plugins are in the cache and is closed once a
+ * refresh replaces or drops them. A jar that can not be discovered is logged and left out, it is
+ * discovered again on the next refresh.
+ */
+@Slf4j
 @Component
 public class ConnectorCache {
 
-    private final ConcurrentMap<PluginType, List<ConnectorInfo>> downloadConnectorCache =
-            new ConcurrentHashMap<>();
+    private static final int SNAPSHOT_VERSION = 1;
 
-    private final ConcurrentMap<PluginType, List<ConnectorInfo>> allConnectorCache =
-            new ConcurrentHashMap<>();
+    private static final String SNAPSHOT_FILE = "connector-cache.json";
 
-    private final ConcurrentMap<PluginIdentifier, OptionRule> allConnectorOptionRule =
-            new ConcurrentHashMap<>();
+    private static final String CLASSPATH_UNIT = "classpath";
 
-    private List<ConnectorInfo> transformCache = new CopyOnWriteArrayList<>();
+    @Resource private ConnectorCacheProperties connectorCacheProperties;
 
-    private ConcurrentMap<String, FormStructure> sourceFormStructureCache =
-            new ConcurrentHashMap<>();
+    private volatile State state =
+            new State(new LinkedHashMap<>(), new ArrayList<>(), new ArrayList<>());
 
-    private ConcurrentMap<String, FormStructure> sinkFormStructureCache = new ConcurrentHashMap<>();
+    private ExecutorService discoveryExecutor;
 
-    private ConcurrentMap<String, FormStructure> transformFormStructureCache =
-            new ConcurrentHashMap<>();
+    private ClassLoader classpathClassLoader;
 
-    private Map<PluginIdentifier, ConnectorFeature> featureMap = new HashMap<>();
+    private String classpathFingerprint;
+
+    @PostConstruct
+    public void init() throws IOException {
+        discoveryExecutor =
+                Executors.newFixedThreadPool(
+                        Math.max(connectorCacheProperties.getDiscoveryThreads(), 1),
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("connector-discovery-%d")
+                                .setDaemon(true)
+                                .build());
+        Common.setDeployMode(DeployMode.CLIENT);
+        classpathClassLoader = PluginDiscoveryUtil.getClasspathClassLoader();
+        classpathFingerprint = getClasspathFingerprint();
+        synchronized (this) {
+            refresh(readSnapshot());
+        }
+        // plugins taken from the snapshot get their option rules off the startup thread,
+        // getOptionRule loads the jar of a plugin right away if it is asked for first
+        for (PluginUnit unit : state.units.values()) {
+            if (unit.optionRules == null) {
+                discoveryExecutor.execute(() -> preload(unit));
+            }
+        }
+    }
 
-    public ConnectorCache() throws IOException {
-        refresh();
+    @PreDestroy
+    public void close() {
+        discoveryExecutor.shutdownNow();
+        state.units.values().forEach(PluginUnit::close);
     }
 
     public List<ConnectorInfo> getAllConnectors(PluginType pluginType) {
-        return allConnectorCache.get(pluginType);
+        return state.allConnectors.get(pluginType);
     }
 
     public List<ConnectorInfo> getTransform() {
-        return transformCache;
+        return state.downloadedConnectors.get(PluginType.TRANSFORM);
     }
 
     public List<ConnectorInfo> getDownLoadConnector(PluginType pluginType) {
-        return downloadConnectorCache.get(pluginType);
+        return state.downloadedConnectors.get(pluginType);
     }
 
     public List<ConnectorInfo> getNotDownLoadConnector(PluginType pluginType) {
+        State current = state;
         Map<PluginIdentifier, ConnectorInfo> allConnectors =
-                allConnectorCache.get(pluginType).stream()
+                current.allConnectors.get(pluginType).stream()
                         .collect(
                                 Collectors.toMap(
                                         ConnectorInfo::getPluginIdentifier, Function.identity()));
-        downloadConnectorCache
+        current.downloadedConnectors
                 .get(pluginType)
                 .forEach(d -> allConnectors.remove(d.getPluginIdentifier()));
         return new ArrayList<>(allConnectors.values());
     }
 
     public ConnectorFeature getConnectorFeature(PluginIdentifier connectorInfo) {
-        return featureMap.get(connectorInfo);
+        return state.features.get(connectorInfo);
     }
 
+    /** Discover the connector jars added or changed since the last refresh. */
     public synchronized void refresh() throws IOException {
+        refresh(state.units);
+    }
+
+    private void refresh(Map<String, PluginUnit> reusable) throws IOException {
+        long start = System.currentTimeMillis();
         Common.setDeployMode(DeployMode.CLIENT);
-        Map<PluginType, LinkedHashMap<PluginIdentifier, OptionRule>> allConnectors =
-                PluginDiscoveryUtil.getAllConnectors();
-        allConnectorOptionRule.clear();
-        allConnectors.forEach((key, value) -> allConnectorOptionRule.putAll(value));
-
-        downloadConnectorCache.put(
-                PluginType.SOURCE,
-                PluginDiscoveryUtil.getDownloadedConnectors(allConnectors, PluginType.SOURCE));
-        downloadConnectorCache.put(
-                PluginType.SINK,
-                PluginDiscoveryUtil.getDownloadedConnectors(allConnectors, PluginType.SINK));
-        allConnectorCache.put(
-                PluginType.SOURCE,
-                PluginDiscoveryUtil.getAllConnectorsFromPluginMapping(PluginType.SOURCE));
-        allConnectorCache.put(
-                PluginType.SINK,
-                PluginDiscoveryUtil.getAllConnectorsFromPluginMapping(PluginType.SINK));
-        transformCache = PluginDiscoveryUtil.getTransforms(allConnectors);
-
-        sourceFormStructureCache =
-                PluginDiscoveryUtil.getDownloadedConnectorFormStructures(
-                        allConnectors, PluginType.SOURCE);
-        sinkFormStructureCache =
-                PluginDiscoveryUtil.getDownloadedConnectorFormStructures(
-                        allConnectors, PluginType.SINK);
-        transformFormStructureCache = PluginDiscoveryUtil.getTransformFormStructures(allConnectors);
-        syncSourceFeature();
-    }
-
-    private void syncSourceFeature() throws IOException {
-        featureMap = PluginDiscoveryUtil.getConnectorFeatures(PluginType.SOURCE);
-    }
-
-    public FormStructure getFormStructure(
-            @NonNull String pluginType, @NonNull String connectorName) {
+        Common.setStarter(true);
+
+        Map<String, URL> jars = new LinkedHashMap<>();
+        jars.put(CLASSPATH_UNIT, null);
+        for (URL jar : getConnectorJars()) {
+            jars.put(jar.toString(), jar);
+        }
+
+        Map<String, PluginUnit> units = new LinkedHashMap<>();
+        Map<String, Future<PluginUnit>> discovering = new LinkedHashMap<>();
+        for (Map.Entry<String, URL> entry : jars.entrySet()) {
+            String name = entry.getKey();
+            URL jar = entry.getValue();
+            String fingerprint = jar == null ? classpathFingerprint : getFingerprint(jar);
+            PluginUnit previous = reusable.get(name);
+            if (previous != null
+                    && fingerprint != null
+                    && fingerprint.equals(previous.fingerprint)) {
+                units.put(name, previous);
+            } else {
+                // keep the jar order, a plugin found in several jars is taken from the last one
+                units.put(name, null);
+                discovering.put(
+                        name, discoveryExecutor.submit(() -> discover(name, fingerprint, jar)));
+            }
+        }
+        for (Map.Entry<String, Future<PluginUnit>> entry : discovering.entrySet()) {
+            units.put(entry.getKey(), await(entry.getKey(), entry.getValue()));
+        }
+
+        State current =
+                new State(
+                        units,
+                        PluginDiscoveryUtil.getAllConnectorsFromPluginMapping(PluginType.SOURCE),
+                        PluginDiscoveryUtil.getAllConnectorsFromPluginMapping(PluginType.SINK));
+        state = current;
+        // readers of the previous state keep the option rules they already got
+        for (PluginUnit unit : reusable.values()) {
+            if (units.get(unit.name) != unit) {
+                unit.close();
+            }
+        }
+        log.info(
+                "Connector cache refreshed in {} ms, {} of {} connector jars discovered",
+                System.currentTimeMillis() - start,
+                discovering.size(),
+                units.size());
+        if (!discovering.isEmpty() || !units.keySet().equals(reusable.keySet())) {
+            writeSnapshot(current);
+        }
+    }
+
+    private PluginUnit discover(String name, String fingerprint, URL jar) {
+        URLClassLoader classLoader = null;
+        try {
+            if (jar != null) {
+                classLoader = newClassLoader(jar);
+            }
+            List<Factory> factories = discoverFactories(classLoader);
+            Map<PluginIdentifier, ConnectorFeature> features =
+                    PluginDiscoveryUtil.getConnectorFeatures(factories);
+            Map<PluginIdentifier, PluginEntry> plugins = new LinkedHashMap<>();
+            Map<PluginIdentifier, OptionRule> optionRules = new HashMap<>();
+            PluginDiscoveryUtil.getPlugins(factories)
+                    .forEach(
+                            (pluginType, rules) ->
+                                    rules.forEach(
+                                            (pluginIdentifier, optionRule) -> {
+                                                FormStructure formStructure =
+                                                        SeaTunnelOptionRuleWrapper.wrapper(
+                                                                optionRule,
+                                                                pluginIdentifier.getPluginName(),
+                                                                pluginType);
+                                                plugins.put(
+                                                        pluginIdentifier,
+                                                        new PluginEntry(
+                                                                pluginType,
+                                                                JsonUtils.toJsonString(
+                                                                        formStructure),
+                                                                features.get(pluginIdentifier)));
+                                                optionRules.put(pluginIdentifier, optionRule);
+                                            }));
+            return new PluginUnit(name, fingerprint, jar, plugins, optionRules, classLoader);
+        } catch (RuntimeException | LinkageError | ServiceConfigurationError e) {
+            // without a fingerprint the jar is discovered again on the next refresh
+            log.warn("Discover connectors in {} failed, they are left out", name, e);
+            closeQuietly(name, classLoader);
+            return new PluginUnit(
+                    name, null, jar, Collections.emptyMap(), Collections.emptyMap(), null);
+        }
+    }
+
+    // the connector jars and their factories are found through these, tests replace them
+
+    List<URL> getConnectorJars() throws IOException {
+        return PluginDiscoveryUtil.getConnectorJars();
+    }
+
+    URLClassLoader newClassLoader(URL jar) {
+        return PluginDiscoveryUtil.newConnectorClassLoader(jar);
+    }
+
+    /**
+     * @return the factories of a connector jar, or of the classpath if {@code classLoader} is null
+     */
+    List<Factory> discoverFactories(URLClassLoader classLoader) {
+        return classLoader == null
+                ? PluginDiscoveryUtil.discoverFactories(classpathClassLoader)
+                : PluginDiscoveryUtil.discoverConnectorFactories(classLoader);
+    }
+
+    private static void closeQuietly(String name, URLClassLoader classLoader) {
+        if (classLoader == null) {
+            return;
+        }
+        try {
+            classLoader.close();
+        } catch (IOException e) {
+            log.warn("Close class loader of connectors in {} failed", name, e);
+        }
+    }
+
+    private void preload(PluginUnit unit) {
+        try {
+            unit.getOptionRules();
+        } catch (RuntimeException | LinkageError e) {
+            log.warn("Load option rules of connectors in {} failed", unit.name, e);
+        }
+    }
+
+    private static PluginUnit await(String name, Future<PluginUnit> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SeatunnelException(
+                    SeatunnelErrorEnum.ILLEGAL_STATE, "Interrupted while discovering connectors");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SeatunnelException(
+                    SeatunnelErrorEnum.ILLEGAL_STATE,
+                    String.format(
+                            "Discover connectors in %s failed: %s", name, cause.getMessage()));
+        }
+    }
+
+    private Map<String, PluginUnit> readSnapshot() {
+        if (!connectorCacheProperties.isSnapshotEnabled()) {
+            return Collections.emptyMap();
+        }
+        Path file = getSnapshotFile();
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyMap();
+        }
+        try {
+            ConnectorCacheSnapshot snapshot =
+                    JsonUtils.parseObject(
+                            new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+                            ConnectorCacheSnapshot.class);
+            if (snapshot == null
+                    || snapshot.getVersion() != SNAPSHOT_VERSION
+                    || !classpathFingerprint.equals(snapshot.getClasspathFingerprint())) {
+                log.info("Connector snapshot {} is outdated, discover all connectors", file);
+                return Collections.emptyMap();
+            }
+            Map<String, PluginUnit> units = new HashMap<>();
+            for (ConnectorCacheSnapshot.Unit unit : snapshot.getUnits()) {
+                Map<PluginIdentifier, PluginEntry> plugins = new LinkedHashMap<>();
+                for (ConnectorCacheSnapshot.Plugin plugin : unit.getPlugins()) {
+                    plugins.put(
+                            PluginIdentifier.of(
+                                    plugin.getEngineType(),
+                                    plugin.getPluginType(),
+                                    plugin.getPluginName()),
+                            new PluginEntry(
+                                    PluginType.valueOf(
+                                            plugin.getPluginType().toUpperCase(Locale.ROOT)),
+                                    plugin.getFormStructure(),
+                                    plugin.getSupportColumnProjection() == null
+                                            ? null
+                                            : new ConnectorFeature(
+                                                    plugin.getSupportColumnProjection())));
+                }
+                URL jar = CLASSPATH_UNIT.equals(unit.getName()) ? null : new URL(unit.getName());
+                units.put(
+                        unit.getName(),
+                        new PluginUnit(
+                                unit.getName(), unit.getFingerprint(), jar, plugins, null, null));
+            }
+            log.info("Connector snapshot {} read, {} connector jars", file, units.size());
+            return units;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Read connector snapshot {} failed, discover all connectors", file, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    private void writeSnapshot(State current) {
+        if (!connectorCacheProperties.isSnapshotEnabled()) {
+            return;
+        }
+        ConnectorCacheSnapshot snapshot = new ConnectorCacheSnapshot();
+        snapshot.setVersion(SNAPSHOT_VERSION);
+        snapshot.setClasspathFingerprint(classpathFingerprint);
+        for (PluginUnit unit : current.units.values()) {
+            ConnectorCacheSnapshot.Unit snapshotUnit = new ConnectorCacheSnapshot.Unit();
+            snapshotUnit.setName(unit.name);
+            snapshotUnit.setFingerprint(unit.fingerprint);
+            unit.plugins.forEach(
+                    (pluginIdentifier, entry) -> {
+                        ConnectorCacheSnapshot.Plugin plugin = new ConnectorCacheSnapshot.Plugin();
+                        plugin.setEngineType(pluginIdentifier.getEngineType());
+                        plugin.setPluginType(pluginIdentifier.getPluginType());
+                        plugin.setPluginName(pluginIdentifier.getPluginName());
+                        plugin.setFormStructure(entry.formStructure);
+                        if (entry.feature != null) {
+                            plugin.setSupportColumnProjection(
+                                    entry.feature.isSupportColumnProjection());
+                        }
+                        snapshotUnit.getPlugins().add(plugin);
+                    });
+            snapshot.getUnits().add(snapshotUnit);
+        }
+
+        Path file = getSnapshotFile();
+        try {
+            Path directory = file.getParent();
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, "connector-cache-", ".tmp");
+            try {
+                Files.write(
+                        tempFile,
+                        JsonUtils.toJsonString(snapshot).getBytes(StandardCharsets.UTF_8));
+                try {
+                    Files.move(
+                            tempFile,
+                            file,
+                            StandardCopyOption.ATOMIC_MOVE,
+                            StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException | RuntimeException e) {
+            // the next start discovers all connectors again, nothing else depends on the file
+            log.warn("Write connector snapshot to {} failed", file, e);
+        }
+    }
+
+    private Path getSnapshotFile() {
+        return Paths.get(connectorCacheProperties.getSnapshotDir()).resolve(SNAPSHOT_FILE);
+    }
+
+    // forms are built by this application, a new build must not reuse forms of the old one
+    private static String getClasspathFingerprint() {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+            File file = new File(entry);
+            hasher.putString(entry, StandardCharsets.UTF_8)
+                    .putLong(file.length())
+                    .putLong(file.lastModified());
+        }
+        hasher.putBoolean(Common.connectorDir().toFile().exists());
+        return hasher.hash().toString();
+    }
+
+    private static String getFingerprint(URL jar) {
+        try {
+            File file = new File(jar.toURI());
+            return file.length() + ":" + file.lastModified();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            // unknown, discovered on every refresh
+            return null;
+        }
+    }
+
+    public String getFormStructure(@NonNull String pluginType, @NonNull String connectorName) {
         if (PluginType.SOURCE.getType().equals(pluginType)) {
-            return sourceFormStructureCache.get(connectorName);
+            return state.formStructures.get(PluginType.SOURCE).get(connectorName);
         }
 
         if (PluginType.TRANSFORM.getType().equals(pluginType)) {
-            return transformFormStructureCache.get(connectorName);
+            return state.formStructures.get(PluginType.TRANSFORM).get(connectorName);
         }
 
         if (PluginType.SINK.getType().equals(pluginType)) {
-            return sinkFormStructureCache.get(connectorName);
+            return state.formStructures.get(PluginType.SINK).get(connectorName);
         }
 
         throw new SeatunnelException(SeatunnelErrorEnum.UNSUPPORTED_CONNECTOR_TYPE, pluginType);
     }
 
     public OptionRule getOptionRule(@NonNull String pluginType, @NonNull String connectorName) {
-        return allConnectorOptionRule.get(
-                PluginIdentifier.of("seatunnel", pluginType, connectorName));
+        PluginIdentifier pluginIdentifier =
+                PluginIdentifier.of("seatunnel", pluginType, connectorName);
+        PluginUnit unit = state.pluginUnits.get(pluginIdentifier);
+        return unit == null ? null : unit.getOptionRules().get(pluginIdentifier);
+    }
+
+    @AllArgsConstructor
+    private static class PluginEntry {
+        private final PluginType pluginType;
+        private final String formStructure;
+        private final ConnectorFeature feature;
+    }
+
+    /** The plugins of one connector jar, or of the classpath. */
+    private class PluginUnit {
+        private final String name;
+        private final String fingerprint;
+        private final URL jar;
+        private final Map<PluginIdentifier, PluginEntry> plugins;
+        // not known for units taken from the snapshot until loaded
+        private volatile Map<PluginIdentifier, OptionRule> optionRules;
+        // the jar the option rules were loaded from, guarded by this
+        private URLClassLoader classLoader;
+        private boolean closed;
+
+        private PluginUnit(
+                String name,
+                String fingerprint,
+                URL jar,
+                Map<PluginIdentifier, PluginEntry> plugins,
+                Map<PluginIdentifier, OptionRule> optionRules,
+                URLClassLoader classLoader) {
+            this.name = name;
+            this.fingerprint = fingerprint;
+            this.jar = jar;
+            this.plugins = plugins;
+            this.optionRules = optionRules;
+            this.classLoader = classLoader;
+        }
+
+        private Map<PluginIdentifier, OptionRule> getOptionRules() {
+            Map<PluginIdentifier, OptionRule> rules = optionRules;
+            if (rules != null) {
+                return rules;
+            }
+            synchronized (this) {
+                if (optionRules == null) {
+                    long start = System.currentTimeMillis();
+                    URLClassLoader loader = jar == null ? null : newClassLoader(jar);
+                    Map<PluginIdentifier, OptionRule> loaded = new HashMap<>();
+                    try {
+                        PluginDiscoveryUtil.getPlugins(discoverFactories(loader))
+                                .values()
+                                .forEach(loaded::putAll);
+                    } catch (RuntimeException | LinkageError e) {
+                        closeQuietly(name, loader);
+                        throw e;
+                    }
+                    if (closed) {
+                        // a reader of a replaced unit still gets its rules, the jar is not kept
+                        closeQuietly(name, loader);
+                    } else {
+                        classLoader = loader;
+                    }
+                    optionRules = loaded;
+                    log.debug(
+                            "Option rules of connectors in {} loaded in {} ms",
+                            name,
+                            System.currentTimeMillis() - start);
+                }
+                return optionRules;
+            }
+        }
+
+        private synchronized void close() {
+            closed = true;
+            closeQuietly(name, classLoader);
+            classLoader = null;
+        }
+    }
+
+    /** Everything readers see, replaced as a whole by a refresh. */
+    private static class State {
+        private final Map<String, PluginUnit> units;
+        private final Map<PluginIdentifier, PluginUnit> pluginUnits = new HashMap<>();
+        private final Map<PluginType, List<ConnectorInfo>> allConnectors =
+                new EnumMap<>(PluginType.class);
+        private final Map<PluginType, List<ConnectorInfo>> downloadedConnectors =
+                new EnumMap<>(PluginType.class);
+        private final Map<PluginType, Map<String, String>> formStructures =
+                new EnumMap<>(PluginType.class);
+        private final Map<PluginIdentifier, ConnectorFeature> features = new HashMap<>();
+
+        private State(
+                Map<String, PluginUnit> units,
+                List<ConnectorInfo> allSources,
+                List<ConnectorInfo> allSinks) {
+            this.units = units;
+            allConnectors.put(PluginType.SOURCE, allSources);
+            allConnectors.put(PluginType.SINK, allSinks);
+            for (PluginType pluginType :
+                    new PluginType[] {PluginType.SOURCE, PluginType.SINK, PluginType.TRANSFORM}) {
+                downloadedConnectors.put(pluginType, new ArrayList<>());
+                formStructures.put(pluginType, new HashMap<>());
+            }
+            for (PluginUnit unit : units.values()) {
+                unit.plugins.forEach(
+                        (pluginIdentifier, entry) -> {
+                            if (pluginUnits.put(pluginIdentifier, unit) == null) {
+                                downloadedConnectors
+                                        .get(entry.pluginType)
+                                        .add(new ConnectorInfo(pluginIdentifier, null));
+                            }
+                            formStructures
+                                    .get(entry.pluginType)
+                                    .put(pluginIdentifier.getPluginName(), entry.formStructure);
+                            if (entry.feature != null) {
+                                features.put(pluginIdentifier, entry.feature);
+                            }
+                        });
+            }
+        }
     }
 }
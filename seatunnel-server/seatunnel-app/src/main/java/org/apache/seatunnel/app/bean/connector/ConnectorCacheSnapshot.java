@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.bean.connector;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** What {@link ConnectorCache} keeps on disk, everything but the option rules of the plugins. */
+@Data
+public class ConnectorCacheSnapshot {
+    private int version;
+
+    /** Digest of the classpath the forms were built with, the snapshot is void once it changes. */
+    private String classpathFingerprint;
+
+    private List<Unit> units = new ArrayList<>();
+
+    /** A connector jar, or the classpath, discovered at once. */
+    @Data
+    public static class Unit {
+        private String name;
+        private String fingerprint;
+        private List<Plugin> plugins = new ArrayList<>();
+    }
+
+    @Data
+    public static class Plugin {
+        private String engineType;
+        private String pluginType;
+        private String pluginName;
+
+        /** The form structure rendered as json. */
+        private String formStructure;
+
+        /** Only known for sources. */
+        private Boolean supportColumnProjection;
+    }
+}
@@ -652,6 +652,26 @@ public final class Constants {
 
     public static final String SEATUNNEL_TRANSFORMS_JAR_PATH = "seatunnel.transforms.jar.path";
 
+    /** seatunnel engine client pool */
+    public static final String ENGINE_CLIENT_POOL_SIZE = "seatunnel.engine.client.pool.size";
+
+    public static final String ENGINE_CLIENT_IDLE_TIMEOUT_MILLIS =
+            "seatunnel.engine.client.idle.timeout.ms";
+
+    public static final String ENGINE_CLIENT_RECONNECT_BACKOFF_MILLIS =
+            "seatunnel.engine.client.reconnect.backoff.ms";
+
+    public static final String ENGINE_CLIENT_MAX_RECONNECT_BACKOFF_MILLIS =
+            "seatunnel.engine.client.reconnect.backoff.max.ms";
+
+    public static final int DEFAULT_ENGINE_CLIENT_POOL_SIZE = 2;
+
+    public static final long DEFAULT_ENGINE_CLIENT_IDLE_TIMEOUT_MILLIS = 10 * 60 * 1_000L;
+
+    public static final long DEFAULT_ENGINE_CLIENT_RECONNECT_BACKOFF_MILLIS = 1_000L;
+
+    public static final long DEFAULT_ENGINE_CLIENT_MAX_RECONNECT_BACKOFF_MILLIS = 30 * 1_000L;
+
     /** default alert group id */
     public static final int DEFAULT_ALERT_GROUP_ID = 1;
 
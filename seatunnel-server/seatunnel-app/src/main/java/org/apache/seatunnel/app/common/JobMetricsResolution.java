@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.common;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/** The resolutions job metrics history is kept in, each one rolled up from the one before. */
+public enum JobMetricsResolution {
+    /** The rows written by the metrics monitor, one per pipeline every few seconds. */
+    RAW("raw", null, 5000L),
+    MINUTE("1m", ChronoUnit.MINUTES, 60000L),
+    HOUR("1h", ChronoUnit.HOURS, 3600000L),
+    DAY("1d", ChronoUnit.DAYS, 86400000L);
+
+    private final String code;
+
+    private final ChronoUnit unit;
+
+    private final long intervalMillis;
+
+    JobMetricsResolution(String code, ChronoUnit unit, long intervalMillis) {
+        this.code = code;
+        this.unit = unit;
+        this.intervalMillis = intervalMillis;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /** @return the resolution this one is rolled up from, null for {@link #RAW} */
+    public JobMetricsResolution getSource() {
+        return this == RAW ? null : values()[ordinal() - 1];
+    }
+
+    /** @return the resolution rolled up from this one, null for {@link #DAY} */
+    public JobMetricsResolution getTarget() {
+        return this == DAY ? null : values()[ordinal() + 1];
+    }
+
+    /** @return the start of the bucket {@code time} falls in */
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return unit == null ? time : time.truncatedTo(unit);
+    }
+
+    public LocalDateTime nextBucket(LocalDateTime bucket) {
+        return unit == null ? bucket : bucket.plus(1, unit);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "seatunnel-web.authentication-cache")
+public class AuthenticationCacheProperties {
+    /** Remember verified tokens and valid sessions instead of checking them on every request. */
+    private boolean enabled = true;
+
+    /** Upper bound of remembered tokens, and of remembered sessions. */
+    private long maximumSize = 10000L;
+
+    /**
+     * How long a valid session is trusted without asking the database. A logout or user change on
+     * this node takes effect immediately, on other nodes after at most this long.
+     */
+    private long sessionTtlMs = 60000L;
+
+    /** How long the claims of a verified token are kept. */
+    private long tokenTtlMs = 600000L;
+}
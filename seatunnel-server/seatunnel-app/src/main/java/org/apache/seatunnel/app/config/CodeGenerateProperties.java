@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.config;
+
+import org.apache.seatunnel.server.common.CodeGenerateUtils;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.PostConstruct;
+
+@Slf4j
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "seatunnel-web.code-generate")
+public class CodeGenerateProperties {
+    /**
+     * Worker id of this node in generated codes, 0 to 31 and unique per node sharing the database.
+     * Negative to take it from {@link CodeGenerateUtils#WORKER_ID_PROPERTY}, {@link
+     * CodeGenerateUtils#WORKER_ID_ENV} or the host name hash.
+     */
+    private int workerId = -1;
+
+    /**
+     * Fail at startup unless a worker id is given, for clusters where the host name hash of two
+     * nodes may be the same.
+     */
+    private boolean requireWorkerId = false;
+
+    @PostConstruct
+    public void init() {
+        if (workerId >= 0) {
+            CodeGenerateUtils.configure(workerId);
+        } else if (!CodeGenerateUtils.isWorkerIdPinned()) {
+            if (requireWorkerId) {
+                throw new IllegalArgumentException(
+                        "seatunnel-web.code-generate.worker-id must be set when "
+                                + "require-worker-id is enabled");
+            }
+            log.warn(
+                    "No worker id is configured, the code generator uses {} derived from the host "
+                            + "name. Two nodes sharing a database get the same one with a chance "
+                            + "of 1 in {} and may generate duplicate codes, set "
+                            + "seatunnel-web.code-generate.worker-id on every node of a cluster",
+                    CodeGenerateUtils.getInstance().getWorkerId(),
+                    CodeGenerateUtils.MAX_WORKER_ID + 1);
+        }
+        log.info("Code generator uses worker id {}", CodeGenerateUtils.getInstance().getWorkerId());
+    }
+}
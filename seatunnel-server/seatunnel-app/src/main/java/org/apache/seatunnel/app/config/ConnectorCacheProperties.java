@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+import java.io.File;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "seatunnel-web.connector-cache")
+public class ConnectorCacheProperties {
+    /** Threads discovering connector jars and building their forms in parallel. */
+    private int discoveryThreads = 4;
+
+    /** Keep the discovered connectors on disk, jars unchanged since are not discovered again. */
+    private boolean snapshotEnabled = true;
+
+    /** Directory the connector snapshot is written to. */
+    private String snapshotDir =
+            System.getProperty("user.dir") + File.separator + "connector-cache";
+}
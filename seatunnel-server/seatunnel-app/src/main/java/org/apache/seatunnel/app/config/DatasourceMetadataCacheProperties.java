@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "seatunnel-web.datasource-metadata-cache")
+public class DatasourceMetadataCacheProperties {
+    /** Serve databases, tables and table schemas of datasources from memory. */
+    private boolean enabled = true;
+
+    /** Upper bound of cached database lists, table lists and table schemas together. */
+    private long maximumSize = 10000L;
+
+    /** Entries older than this are dropped and loaded again from the datasource. */
+    private long expireAfterWriteMs = 600000L;
+
+    /** Entries read after being cached this long are reloaded in the background. */
+    private long refreshAfterWriteMs = 60000L;
+
+    /** Threads reloading entries in the background. */
+    private int refreshThreads = 2;
+}
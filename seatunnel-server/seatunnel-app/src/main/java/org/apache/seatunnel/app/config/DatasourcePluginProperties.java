@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.config;
+
+import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginConfig;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+import javax.annotation.PostConstruct;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "seatunnel-web")
+public class DatasourcePluginProperties {
+    /**
+     * Settings of the datasource plugins, e.g. {@code jdbc-pool.max-size}, handed to the plugins
+     * before the first one is loaded. A plugin uses its default for every setting not given here.
+     */
+    private Map<String, String> datasourcePlugin = new HashMap<>();
+
+    @PostConstruct
+    public void init() {
+        DataSourcePluginConfig.configure(datasourcePlugin);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "seatunnel-web.job-config-cache")
+public class JobConfigCacheProperties {
+    /** Reuse the rendered job config while the job version, tasks and datasources are unchanged. */
+    private boolean enabled = true;
+
+    /** Upper bound of cached job configs. */
+    private long maximumSize = 1000L;
+
+    /** Job configs not executed for this long are dropped. */
+    private long expireAfterAccessMs = 3600000L;
+
+    /** Upper bound of remembered DAG check results, an unchanged DAG is not checked again. */
+    private long dagCheckMaximumSize = 1000L;
+}
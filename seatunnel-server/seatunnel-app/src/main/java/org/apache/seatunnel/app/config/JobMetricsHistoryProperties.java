@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.config;
+
+import org.apache.seatunnel.app.common.JobMetricsResolution;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+import javax.annotation.PostConstruct;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "seatunnel-web.job-metrics-history")
+public class JobMetricsHistoryProperties {
+    /** Roll raw history up into 1m, 1h and 1d buckets and expire old rows. */
+    private boolean rollupEnabled = true;
+
+    /** How often the rollup and retention run. */
+    private long compactionIntervalMs = 60000L;
+
+    /**
+     * Raw rows may still arrive this long after their bucket ended, must exceed {@code
+     * writeMaxPauseMs} plus {@code writeFlushIntervalMs} for the queued samples to be rolled up.
+     */
+    private long compactionGraceMs = 90000L;
+
+    /** Buckets rolled up per statement, bounds the rows loaded at once. */
+    private int compactionBatchBuckets = 60;
+
+    /** Batches per resolution and run, a long backlog is caught up over several runs. */
+    private int compactionMaxBatches = 24;
+
+    /** Rows deleted per statement when expiring history. */
+    private int deleteBatchSize = 5000;
+
+    /**
+     * Retention of each resolution, 0 keeps it forever. Raw rows are kept by default, the history
+     * of a whole job is read from them when no time range and no number of points is asked for.
+     */
+    private long rawRetentionMs = 0L;
+
+    private long minuteRetentionMs = 1209600000L;
+
+    private long hourRetentionMs = 15552000000L;
+
+    private long dayRetentionMs = 0L;
+
+    /** Points the history chart asks for when the request does not say. */
+    private int defaultMaxPoints = 500;
+
+    /** Samples waiting to be written, newer samples are dropped while it is full. */
+    private int writeQueueCapacity = 20000;
+
+    /** Rows per insert statement, a full batch is flushed without waiting for the interval. */
+    private int writeBatchSize = 500;
+
+    /** Queued samples are flushed at least this often. */
+    private long writeFlushIntervalMs = 2000L;
+
+    /** A flush slower than this counts as database pressure and pauses writing. */
+    private long writeSlowFlushMs = 3000L;
+
+    /** Upper bound of the pause after slow or failed flushes, doubled per consecutive one. */
+    private long writeMaxPauseMs = 60000L;
+
+    @PostConstruct
+    public void validate() {
+        long maxWriteDelayMs = writeMaxPauseMs + writeFlushIntervalMs;
+        if (rollupEnabled && compactionGraceMs <= maxWriteDelayMs) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "seatunnel-web.job-metrics-history.compaction-grace-ms %d must exceed "
+                                    + "write-max-pause-ms plus write-flush-interval-ms %d, "
+                                    + "otherwise samples written late are missing in the rollups",
+                            compactionGraceMs, maxWriteDelayMs));
+        }
+    }
+
+    public long getRetentionMs(JobMetricsResolution resolution) {
+        switch (resolution) {
+            case RAW:
+                return rawRetentionMs;
+            case MINUTE:
+                return minuteRetentionMs;
+            case HOUR:
+                return hourRetentionMs;
+            default:
+                return dayRetentionMs;
+        }
+    }
+}
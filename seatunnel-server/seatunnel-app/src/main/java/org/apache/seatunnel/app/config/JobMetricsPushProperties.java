@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "seatunnel-web.job-metrics-push")
+public class JobMetricsPushProperties {
+    /** Push the metrics of running jobs to subscribed clients as server-sent events. */
+    private boolean enabled = true;
+
+    /** Metrics updates kept per running job and sent to a client when it subscribes. */
+    private int historySize = 60;
+
+    /** Upper bound of open subscriptions on this node. */
+    private int maxSubscribers = 1000;
+
+    /** Threads writing events to subscribed clients. */
+    private int senderThreads = 2;
+
+    /** A subscription is closed after this long, the client is expected to subscribe again. */
+    private long subscriptionTimeoutMs = 1800000L;
+
+    /** A client not taking an event for this long is dropped and its blocked send aborted. */
+    private long slowSubscriberTimeoutMs = 30000L;
+
+    /** Idle subscriptions get a comment this often, so closed connections are noticed. */
+    private long heartbeatIntervalMs = 30000L;
+
+    /** A subscribed job the engine does not report as running within this time is finished. */
+    private long startTimeoutMs = 120000L;
+
+    /** A ticket opening the stream must be used within this time. */
+    private long streamTicketTtlMs = 30000L;
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "seatunnel-web.job-tracker")
+public class JobTrackerProperties {
+    /** How often the status of all submitted jobs is checked. */
+    private long pollIntervalMs = 3000L;
+
+    /** Threads used to write the result of finished jobs back to the database. */
+    private int completionThreads = 2;
+
+    /** A job the engine can not report on for this long is completed as failed. */
+    private long statusUnknownTimeoutMs = 600000L;
+
+    /** How often job instances and pipeline metrics in the database are reconciled with engine. */
+    private long reconcileIntervalMs = 15000L;
+
+    /** Upper bound of status requests to the engine per reconcile, the rest wait a tick. */
+    private int reconcileMaxStatusChecks = 50;
+}
@@ -19,6 +19,7 @@ package org.apache.seatunnel.app.controller;
 import org.apache.seatunnel.app.bean.engine.EngineDataType;
 import org.apache.seatunnel.app.common.Result;
 import org.apache.seatunnel.app.domain.response.engine.Engine;
+import org.apache.seatunnel.app.domain.response.engine.EngineClientMetricsRes;
 import org.apache.seatunnel.app.service.IEngineService;
 
 import org.springframework.web.bind.annotation.GetMapping;
@@ -52,4 +53,10 @@ public class EngineController {
                         .map(EngineDataType.DataType::getName)
                         .collect(Collectors.toList()));
     }
+
+    @GetMapping("/client/metrics")
+    @ApiOperation(value = "metrics of the clients connected to the engine", httpMethod = "GET")
+    public Result<EngineClientMetricsRes> engineClientMetrics() {
+        return Result.success(engineService.getEngineClientMetrics());
+    }
 }
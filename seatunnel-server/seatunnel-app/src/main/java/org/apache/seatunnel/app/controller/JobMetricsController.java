@@ -20,6 +20,7 @@ package org.apache.seatunnel.app.controller;
 import org.apache.seatunnel.app.common.Result;
 import org.apache.seatunnel.app.dal.entity.JobMetricsHistory;
 import org.apache.seatunnel.app.domain.response.metrics.JobDAG;
+import org.apache.seatunnel.app.domain.response.metrics.JobMetricsHistoryWriterMetricsRes;
 import org.apache.seatunnel.app.domain.response.metrics.JobPipelineDetailMetricsRes;
 import org.apache.seatunnel.app.domain.response.metrics.JobPipelineSummaryMetricsRes;
 import org.apache.seatunnel.app.service.IJobMetricsService;
@@ -27,9 +28,12 @@ import org.apache.seatunnel.server.common.SeatunnelErrorEnum;
 import org.apache.seatunnel.server.common.SeatunnelException;
 
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.annotations.ApiOperation;
@@ -40,6 +44,8 @@ import javax.annotation.Resource;
 import java.io.IOException;
 import java.util.List;
 
+import static org.apache.seatunnel.server.common.Constants.TOKEN;
+
 /** @Description @ClassName JobMetricsController @Author zhang @Date 2023/7/6 18:30 */
 @RequestMapping("/seatunnel/api/v1/job/metrics")
 @RestController
@@ -56,6 +62,24 @@ public class JobMetricsController {
         return Result.success(jobMetricsService.getJobPipelineDetailMetricsRes(jobInstanceId));
     }
 
+    @PostMapping("/stream/ticket")
+    @ApiOperation(
+            value = "issue a single use ticket that opens the job pipeline metrics stream",
+            httpMethod = "POST")
+    public Result<String> streamTicket(
+            @ApiParam(value = "jobInstanceId", required = true) @RequestParam Long jobInstanceId,
+            @ApiParam(hidden = true) @RequestHeader(TOKEN) String token) {
+        return Result.success(jobMetricsService.createJobMetricsStreamTicket(jobInstanceId, token));
+    }
+
+    @GetMapping("/stream")
+    @ApiOperation(value = "push the job pipeline metrics while the job runs", httpMethod = "GET")
+    public SseEmitter stream(
+            @ApiParam(value = "jobInstanceId", required = true) @RequestParam Long jobInstanceId) {
+        // clients without the token header pass a ticket of stream/ticket, see the interceptor
+        return jobMetricsService.subscribeJobMetrics(jobInstanceId);
+    }
+
     @GetMapping("/dag")
     @ApiOperation(value = "get the job pipeline dag", httpMethod = "GET")
     public Result<JobDAG> getJobDAG(
@@ -76,12 +100,20 @@ public class JobMetricsController {
     public Result<List<JobMetricsHistory>> getJobMetricsHistory(
             @RequestParam("jobInstanceId") Long jobInstanceId,
             @RequestParam(value = "startTime", required = false) String startTime,
-            @RequestParam(value = "endTime", required = false) String endTime) {
+            @RequestParam(value = "endTime", required = false) String endTime,
+            @RequestParam(value = "maxPoints", required = false) Integer maxPoints) {
         if (jobInstanceId == null) {
             throw new SeatunnelException(
                     SeatunnelErrorEnum.UNKNOWN, "jobInstanceId cannot be null");
         }
         return Result.success(
-                jobMetricsService.getJobMetricsHistory(jobInstanceId, startTime, endTime));
+                jobMetricsService.getJobMetricsHistory(
+                        jobInstanceId, startTime, endTime, maxPoints));
+    }
+
+    @GetMapping("/history/writer/metrics")
+    @ApiOperation(value = "metrics of the job metrics history writer", httpMethod = "GET")
+    public Result<JobMetricsHistoryWriterMetricsRes> historyWriterMetrics() {
+        return Result.success(jobMetricsService.getJobMetricsHistoryWriterMetrics());
     }
 }
@@ -28,6 +28,7 @@ import org.apache.seatunnel.app.domain.request.datasource.DatasourceCheckReq;
 import org.apache.seatunnel.app.domain.request.datasource.DatasourceReq;
 import org.apache.seatunnel.app.domain.response.PageInfo;
 import org.apache.seatunnel.app.domain.response.datasource.DatasourceDetailRes;
+import org.apache.seatunnel.app.domain.response.datasource.DatasourceMetadataCacheMetricsRes;
 import org.apache.seatunnel.app.domain.response.datasource.DatasourceRes;
 import org.apache.seatunnel.app.service.IDatasourceService;
 import org.apache.seatunnel.app.utils.CartesianProductUtils;
@@ -301,8 +302,12 @@ public class SeatunnelDatasourceController extends BaseController {
     }
 
     @GetMapping("/databases")
-    Result<List<String>> getDatabases(@RequestParam("datasourceName") String datasourceName) {
-        return Result.success(datasourceService.queryDatabaseByDatasourceName(datasourceName));
+    Result<List<String>> getDatabases(
+            @RequestParam("datasourceName") String datasourceName,
+            @RequestParam(value = "forceRefresh", required = false, defaultValue = "false")
+                    Boolean forceRefresh) {
+        return Result.success(
+                datasourceService.queryDatabaseByDatasourceName(datasourceName, forceRefresh));
     }
 
     @GetMapping("/tables")
@@ -310,16 +315,21 @@ public class SeatunnelDatasourceController extends BaseController {
             @RequestParam("datasourceName") String datasourceName,
             @RequestParam("databaseName") String databaseName,
             @RequestParam("filterName") String filterName,
-            @RequestParam("size") Integer size) {
+            @RequestParam("size") Integer size,
+            @RequestParam(value = "forceRefresh", required = false, defaultValue = "false")
+                    Boolean forceRefresh) {
         return Result.success(
-                datasourceService.queryTableNames(datasourceName, databaseName, filterName, size));
+                datasourceService.queryTableNames(
+                        datasourceName, databaseName, filterName, size, forceRefresh));
     }
 
     @GetMapping("/schema")
     Result<List<TableField>> getTableFields(
             @RequestParam("datasourceId") String datasourceId,
             @RequestParam(value = "databaseName", required = false) String databaseName,
-            @RequestParam("tableName") String tableName) {
+            @RequestParam("tableName") String tableName,
+            @RequestParam(value = "forceRefresh", required = false, defaultValue = "false")
+                    Boolean forceRefresh) {
         DatasourceDetailRes res = datasourceService.queryDatasourceDetailById(datasourceId);
         if (StringUtils.isEmpty(databaseName)) {
             throw new SeatunnelException(
@@ -327,7 +337,7 @@ public class SeatunnelDatasourceController extends BaseController {
         }
         List<TableField> tableFields =
                 datasourceService.queryTableSchema(
-                        res.getDatasourceName(), databaseName, tableName);
+                        res.getDatasourceName(), databaseName, tableName, forceRefresh);
         return Result.success(tableFields);
     }
 
@@ -356,20 +366,19 @@ public class SeatunnelDatasourceController extends BaseController {
     }
 
     @GetMapping("/all-tables")
-    Result<List<DatabaseTables>> getTables(@RequestParam("datasourceId") String datasourceId) {
+    Result<List<DatabaseTables>> getTables(
+            @RequestParam("datasourceId") String datasourceId,
+            @RequestParam(value = "forceRefresh", required = false, defaultValue = "false")
+                    Boolean forceRefresh) {
         DatasourceDetailRes res = datasourceService.queryDatasourceDetailById(datasourceId);
-        List<DatabaseTables> tables = new ArrayList<>();
-        List<String> databases =
-                datasourceService.queryDatabaseByDatasourceName(res.getDatasourceName());
-        databases.forEach(
-                database -> {
-                    tables.add(
-                            new DatabaseTables(
-                                    database,
-                                    datasourceService.queryTableNames(
-                                            res.getDatasourceName(), database)));
-                });
-        return Result.success(tables);
+        return Result.success(
+                datasourceService.queryAllTables(res.getDatasourceName(), forceRefresh));
+    }
+
+    @GetMapping("/metadata-cache/metrics")
+    @ApiOperation(value = "metrics of the datasource metadata cache", httpMethod = "GET")
+    Result<DatasourceMetadataCacheMetricsRes> getMetadataCacheMetrics() {
+        return Result.success(datasourceService.getMetadataCacheMetrics());
     }
 
     public Map<Integer, String> userIdNameMap() {
@@ -21,6 +21,7 @@ import org.apache.seatunnel.app.dal.entity.JobInstance;
 import org.apache.seatunnel.app.dal.mapper.JobInstanceMapper;
 import org.apache.seatunnel.app.domain.dto.job.SeaTunnelJobInstanceDto;
 import org.apache.seatunnel.common.constants.JobMode;
+import org.apache.seatunnel.engine.core.job.JobStatus;
 
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import lombok.NonNull;
@@ -51,6 +52,11 @@ public interface IJobInstanceDao {
 
     List<JobInstance> getAllRunningJobInstance();
 
+    List<JobInstance> getJobInstancesByEngineIds(@NonNull List<String> jobEngineIds);
+
+    void updateJobStatus(
+            @NonNull List<Long> jobInstanceIds, @NonNull JobStatus jobStatus, Date endTime);
+
     JobInstance getJobExecutionStatus(@NonNull Long jobInstanceId);
 
     void deleteById(@NonNull Long jobInstanceId);
@@ -27,5 +27,7 @@ public interface IJobLineDao {
 
     void insertLines(List<JobLine> lines);
 
+    void deleteLinesByIds(List<Long> ids);
+
     List<JobLine> getLinesByVersionId(long jobVersionId);
 }
@@ -19,6 +19,7 @@ package org.apache.seatunnel.app.dal.dao;
 
 import org.apache.seatunnel.app.dal.entity.JobMetricsHistory;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface IJobMetricsHistoryDao {
@@ -34,7 +35,16 @@ public interface IJobMetricsHistoryDao {
     /** Get monitoring history records according to job instance ID and pipeline ID. */
     List<JobMetricsHistory> getByJobInstanceIdAndPipelineId(Long jobInstanceId, Integer pipelineId);
 
-    /** Query monitoring history based on homework instance ID and time range */
+    /** Query monitoring history of a job instance created in [startTime, endTime) */
     List<JobMetricsHistory> getByJobInstanceIdAndTimeRange(
-            Long jobInstanceId, String startTime, String endTime);
+            Long jobInstanceId, LocalDateTime startTime, LocalDateTime endTime);
+
+    /** Query monitoring history of all job instances created in [startTime, endTime) */
+    List<JobMetricsHistory> getByTimeRange(LocalDateTime startTime, LocalDateTime endTime);
+
+    /** The oldest create time at or after startTime, any create time when it is null */
+    LocalDateTime getFirstCreateTime(LocalDateTime startTime);
+
+    /** Delete monitoring history older than beforeTime, limit rows per statement */
+    int deleteBefore(LocalDateTime beforeTime, int limit);
 }
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.dal.dao;
+
+import org.apache.seatunnel.app.common.JobMetricsResolution;
+import org.apache.seatunnel.app.dal.entity.JobMetricsRollup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IJobMetricsRollupDao {
+
+    /** Replace the rollups of all jobs with bucket times in [startTime, endTime) */
+    void replace(
+            JobMetricsResolution resolution,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            List<JobMetricsRollup> rollups);
+
+    /** Query the rollups of all jobs with bucket times in [startTime, endTime) */
+    List<JobMetricsRollup> getByTimeRange(
+            JobMetricsResolution resolution, LocalDateTime startTime, LocalDateTime endTime);
+
+    /** Query the rollups of a job instance with bucket times in [startTime, endTime) */
+    List<JobMetricsRollup> getByJobInstanceIdAndTimeRange(
+            Long jobInstanceId,
+            JobMetricsResolution resolution,
+            LocalDateTime startTime,
+            LocalDateTime endTime);
+
+    /** The newest bucket time rolled up in the resolution, null when there is none */
+    LocalDateTime getLastBucketTime(JobMetricsResolution resolution);
+
+    /** The oldest bucket time at or after startTime, any bucket time when it is null */
+    LocalDateTime getFirstBucketTime(JobMetricsResolution resolution, LocalDateTime startTime);
+
+    /** Delete rollups older than beforeTime, limit rows per statement */
+    int deleteBefore(JobMetricsResolution resolution, LocalDateTime beforeTime, int limit);
+}
@@ -23,6 +23,7 @@ import org.apache.seatunnel.app.dal.mapper.JobInstanceMapper;
 import org.apache.seatunnel.app.domain.dto.job.SeaTunnelJobInstanceDto;
 import org.apache.seatunnel.app.utils.ServletUtils;
 import org.apache.seatunnel.common.constants.JobMode;
+import org.apache.seatunnel.engine.core.job.JobStatus;
 
 import org.springframework.stereotype.Repository;
 
@@ -32,6 +33,7 @@ import lombok.NonNull;
 
 import javax.annotation.Resource;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -92,6 +94,22 @@ public class JobInstanceDaoImpl implements IJobInstanceDao {
         return jobInstanceMapper.getAllRunningJobInstance();
     }
 
+    @Override
+    public List<JobInstance> getJobInstancesByEngineIds(@NonNull List<String> jobEngineIds) {
+        if (jobEngineIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return jobInstanceMapper.queryJobInstancesByEngineIds(jobEngineIds);
+    }
+
+    @Override
+    public void updateJobStatus(
+            @NonNull List<Long> jobInstanceIds, @NonNull JobStatus jobStatus, Date endTime) {
+        if (!jobInstanceIds.isEmpty()) {
+            jobInstanceMapper.updateJobStatusByIds(jobInstanceIds, jobStatus, endTime);
+        }
+    }
+
     @Override
     public List<JobInstance> getAllJobInstance(@NonNull List<Long> jobInstanceIdList) {
         return jobInstanceMapper.selectList(
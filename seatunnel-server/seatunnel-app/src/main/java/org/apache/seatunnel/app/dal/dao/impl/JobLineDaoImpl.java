@@ -51,6 +51,14 @@ public class JobLineDaoImpl implements IJobLineDao {
         jobLineMapper.insertBatchLines(lines);
     }
 
+    @Override
+    public void deleteLinesByIds(List<Long> ids) {
+        jobLineMapper.delete(
+                Wrappers.lambdaQuery(new JobLine())
+                        .in(JobLine::getId, ids)
+                        .eq(JobLine::getWorkspaceId, getCurrentWorkspaceId()));
+    }
+
     @Override
     public List<JobLine> getLinesByVersionId(long jobVersionId) {
         return jobLineMapper.selectList(
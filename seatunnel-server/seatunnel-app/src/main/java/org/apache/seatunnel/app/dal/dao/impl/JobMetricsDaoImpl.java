@@ -26,6 +26,7 @@ import lombok.NonNull;
 
 import javax.annotation.Resource;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.apache.seatunnel.app.utils.ServletUtils.getCurrentWorkspaceId;
@@ -40,6 +41,15 @@ public class JobMetricsDaoImpl implements IJobMetricsDao {
         return jobMetricsMapper.queryJobMetricsByInstanceId(jobInstanceId, getCurrentWorkspaceId());
     }
 
+    @Override
+    public List<JobMetrics> getByInstanceIds(@NonNull List<Long> jobInstanceIds) {
+        if (jobInstanceIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return jobMetricsMapper.queryJobMetricsByInstanceIds(
+                jobInstanceIds, getCurrentWorkspaceId());
+    }
+
     @Override
     public JobMetricsMapper getJobMetricsMapper() {
         return jobMetricsMapper;
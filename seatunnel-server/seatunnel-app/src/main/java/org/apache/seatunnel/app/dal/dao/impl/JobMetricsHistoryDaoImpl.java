@@ -25,6 +25,7 @@ import org.springframework.stereotype.Repository;
 
 import javax.annotation.Resource;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -58,8 +59,23 @@ public class JobMetricsHistoryDaoImpl implements IJobMetricsHistoryDao {
 
     @Override
     public List<JobMetricsHistory> getByJobInstanceIdAndTimeRange(
-            Long jobInstanceId, String startTime, String endTime) {
+            Long jobInstanceId, LocalDateTime startTime, LocalDateTime endTime) {
         return jobMetricsHistoryMapper.queryJobMetricsHistoryByInstanceIdAndTimeRange(
                 jobInstanceId, startTime, endTime);
     }
+
+    @Override
+    public List<JobMetricsHistory> getByTimeRange(LocalDateTime startTime, LocalDateTime endTime) {
+        return jobMetricsHistoryMapper.queryJobMetricsHistoryByTimeRange(startTime, endTime);
+    }
+
+    @Override
+    public LocalDateTime getFirstCreateTime(LocalDateTime startTime) {
+        return jobMetricsHistoryMapper.queryFirstCreateTime(startTime);
+    }
+
+    @Override
+    public int deleteBefore(LocalDateTime beforeTime, int limit) {
+        return jobMetricsHistoryMapper.deleteJobMetricsHistoryBefore(beforeTime, limit);
+    }
 }
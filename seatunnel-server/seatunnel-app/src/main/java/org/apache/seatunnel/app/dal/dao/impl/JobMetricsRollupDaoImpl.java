@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.dal.dao.impl;
+
+import org.apache.seatunnel.app.common.JobMetricsResolution;
+import org.apache.seatunnel.app.dal.dao.IJobMetricsRollupDao;
+import org.apache.seatunnel.app.dal.entity.JobMetricsRollup;
+import org.apache.seatunnel.app.dal.mapper.JobMetricsRollupMapper;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.Resource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class JobMetricsRollupDaoImpl implements IJobMetricsRollupDao {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    @Resource private JobMetricsRollupMapper jobMetricsRollupMapper;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void replace(
+            JobMetricsResolution resolution,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            List<JobMetricsRollup> rollups) {
+        // deleting first makes a rollup run that was interrupted safe to repeat
+        jobMetricsRollupMapper.deleteRollupsByTimeRange(resolution.getCode(), startTime, endTime);
+        for (int i = 0; i < rollups.size(); i += INSERT_BATCH_SIZE) {
+            jobMetricsRollupMapper.insertBatchRollups(
+                    rollups.subList(i, Math.min(i + INSERT_BATCH_SIZE, rollups.size())));
+        }
+    }
+
+    @Override
+    public List<JobMetricsRollup> getByTimeRange(
+            JobMetricsResolution resolution, LocalDateTime startTime, LocalDateTime endTime) {
+        return jobMetricsRollupMapper.queryRollupsByTimeRange(
+                resolution.getCode(), startTime, endTime);
+    }
+
+    @Override
+    public List<JobMetricsRollup> getByJobInstanceIdAndTimeRange(
+            Long jobInstanceId,
+            JobMetricsResolution resolution,
+            LocalDateTime startTime,
+            LocalDateTime endTime) {
+        return jobMetricsRollupMapper.queryRollupsByInstanceIdAndTimeRange(
+                jobInstanceId, resolution.getCode(), startTime, endTime);
+    }
+
+    @Override
+    public LocalDateTime getLastBucketTime(JobMetricsResolution resolution) {
+        return jobMetricsRollupMapper.queryLastBucketTime(resolution.getCode());
+    }
+
+    @Override
+    public LocalDateTime getFirstBucketTime(
+            JobMetricsResolution resolution, LocalDateTime startTime) {
+        return jobMetricsRollupMapper.queryFirstBucketTime(resolution.getCode(), startTime);
+    }
+
+    @Override
+    public int deleteBefore(JobMetricsResolution resolution, LocalDateTime beforeTime, int limit) {
+        return jobMetricsRollupMapper.deleteRollupsBefore(resolution.getCode(), beforeTime, limit);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.dal.entity;
+
+import org.apache.seatunnel.engine.core.job.JobStatus;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The job metrics history of one pipeline aggregated over a minute, an hour or a day. QPS and delay
+ * keep their min, max and average, row counts and status their last value in the bucket.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@TableName("t_st_job_metrics_rollup")
+public class JobMetricsRollup {
+
+    @TableId(value = "id", type = IdType.INPUT)
+    private Long id;
+
+    @TableField("job_instance_id")
+    private Long jobInstanceId;
+
+    @TableField("pipeline_id")
+    private Integer pipelineId;
+
+    /** One of the {@link org.apache.seatunnel.app.common.JobMetricsResolution} codes. */
+    @TableField("resolution")
+    private String resolution;
+
+    @TableField("bucket_time")
+    private LocalDateTime bucketTime;
+
+    /** How many raw rows the bucket covers, weights the averages when rolling up further. */
+    @TableField("sample_count")
+    private long sampleCount;
+
+    @TableField("read_row_count")
+    private long readRowCount;
+
+    @TableField("write_row_count")
+    private long writeRowCount;
+
+    @TableField("source_table_names")
+    private String sourceTableNames;
+
+    @TableField("sink_table_names")
+    private String sinkTableNames;
+
+    @TableField("read_qps_min")
+    private long readQpsMin;
+
+    @TableField("read_qps_max")
+    private long readQpsMax;
+
+    @TableField("read_qps_avg")
+    private double readQpsAvg;
+
+    @TableField("write_qps_min")
+    private long writeQpsMin;
+
+    @TableField("write_qps_max")
+    private long writeQpsMax;
+
+    @TableField("write_qps_avg")
+    private double writeQpsAvg;
+
+    @TableField("record_delay_min")
+    private long recordDelayMin;
+
+    @TableField("record_delay_max")
+    private long recordDelayMax;
+
+    @TableField("record_delay_avg")
+    private double recordDelayAvg;
+
+    @TableField("status")
+    private JobStatus status;
+
+    @TableField("create_time")
+    private LocalDateTime createTime;
+
+    @TableField("update_time")
+    private LocalDateTime updateTime;
+}
@@ -20,6 +20,7 @@ package org.apache.seatunnel.app.dal.mapper;
 import org.apache.seatunnel.app.dal.entity.JobInstance;
 import org.apache.seatunnel.app.domain.dto.job.SeaTunnelJobInstanceDto;
 import org.apache.seatunnel.common.constants.JobMode;
+import org.apache.seatunnel.engine.core.job.JobStatus;
 
 import org.apache.ibatis.annotations.Param;
 
@@ -44,4 +45,13 @@ public interface JobInstanceMapper extends BaseMapper<JobInstance> {
     JobInstance getJobExecutionStatus(@Param("jobInstanceId") Long jobInstanceId);
 
     List<JobInstance> getAllRunningJobInstance();
+
+    List<JobInstance> queryJobInstancesByEngineIds(
+            @Param("jobEngineIds") List<String> jobEngineIds);
+
+    /** Set the status of many job instances, a non null end time is kept if already set. */
+    int updateJobStatusByIds(
+            @Param("jobInstanceIds") List<Long> jobInstanceIds,
+            @Param("jobStatus") JobStatus jobStatus,
+            @Param("endTime") Date endTime);
 }
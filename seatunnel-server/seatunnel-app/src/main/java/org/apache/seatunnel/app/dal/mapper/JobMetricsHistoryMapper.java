@@ -24,6 +24,7 @@ import org.apache.ibatis.annotations.Param;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -41,9 +42,20 @@ public interface JobMetricsHistoryMapper extends BaseMapper<JobMetricsHistory> {
     List<JobMetricsHistory> queryJobMetricsHistoryByInstanceIdAndPipelineId(
             @Param("jobInstanceId") Long jobInstanceId, @Param("pipelineId") Integer pipelineId);
 
-    /** Query monitoring history based on homework instance ID and time range */
+    /** Query monitoring history of a job instance created in [startTime, endTime) */
     List<JobMetricsHistory> queryJobMetricsHistoryByInstanceIdAndTimeRange(
             @Param("jobInstanceId") Long jobInstanceId,
-            @Param("startTime") String startTime,
-            @Param("endTime") String endTime);
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    /** Query monitoring history of all job instances created in [startTime, endTime) */
+    List<JobMetricsHistory> queryJobMetricsHistoryByTimeRange(
+            @Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
+
+    /** The oldest create time at or after startTime, any create time when it is null */
+    LocalDateTime queryFirstCreateTime(@Param("startTime") LocalDateTime startTime);
+
+    /** Delete at most limit monitoring history records older than beforeTime */
+    int deleteJobMetricsHistoryBefore(
+            @Param("beforeTime") LocalDateTime beforeTime, @Param("limit") int limit);
 }
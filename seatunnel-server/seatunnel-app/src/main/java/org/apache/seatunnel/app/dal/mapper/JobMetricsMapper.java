@@ -17,6 +17,7 @@
 package org.apache.seatunnel.app.dal.mapper;
 
 import org.apache.seatunnel.app.dal.entity.JobMetrics;
+import org.apache.seatunnel.engine.core.job.JobStatus;
 
 import org.apache.ibatis.annotations.Param;
 
@@ -28,5 +29,16 @@ public interface JobMetricsMapper extends BaseMapper<JobMetrics> {
     List<JobMetrics> queryJobMetricsByInstanceId(
             @Param("jobInstanceId") Long jobInstanceId, @Param("workspaceId") Long workspaceId);
 
+    /** @param workspaceId the workspace to read from, {@code null} reads all workspaces */
+    List<JobMetrics> queryJobMetricsByInstanceIds(
+            @Param("jobInstanceIds") List<Long> jobInstanceIds,
+            @Param("workspaceId") Long workspaceId);
+
     void insertBatchMetrics(@Param("jobMetrics") List<JobMetrics> jobMetrics);
+
+    /** Update counters, qps, record delay and status of many pipeline rows in one statement. */
+    void updateBatchMetrics(@Param("jobMetrics") List<JobMetrics> jobMetrics);
+
+    void updateStatusByInstanceIds(
+            @Param("jobInstanceIds") List<Long> jobInstanceIds, @Param("status") JobStatus status);
 }
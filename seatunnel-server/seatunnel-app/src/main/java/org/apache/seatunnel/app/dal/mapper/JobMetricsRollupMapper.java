@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.dal.mapper;
+
+import org.apache.seatunnel.app.dal.entity.JobMetricsRollup;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface JobMetricsRollupMapper extends BaseMapper<JobMetricsRollup> {
+
+    void insertBatchRollups(@Param("rollups") List<JobMetricsRollup> rollups);
+
+    /** Query the rollups of all jobs with bucket times in [startTime, endTime) */
+    List<JobMetricsRollup> queryRollupsByTimeRange(
+            @Param("resolution") String resolution,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    /** Query the rollups of a job instance with bucket times in [startTime, endTime) */
+    List<JobMetricsRollup> queryRollupsByInstanceIdAndTimeRange(
+            @Param("jobInstanceId") Long jobInstanceId,
+            @Param("resolution") String resolution,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    /** The newest bucket time rolled up in the resolution, null when there is none */
+    LocalDateTime queryLastBucketTime(@Param("resolution") String resolution);
+
+    /** The oldest bucket time at or after startTime, any bucket time when it is null */
+    LocalDateTime queryFirstBucketTime(
+            @Param("resolution") String resolution, @Param("startTime") LocalDateTime startTime);
+
+    int deleteRollupsByTimeRange(
+            @Param("resolution") String resolution,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime);
+
+    /** Delete at most limit rollups older than beforeTime */
+    int deleteRollupsBefore(
+            @Param("resolution") String resolution,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("limit") int limit);
+}
@@ -31,4 +31,12 @@ public class DatabaseTables {
     private String database;
 
     private List<String> tables;
+
+    /** Why the tables of the database are missing, null when they were listed. */
+    private String errorMessage;
+
+    public DatabaseTables(String database, List<String> tables) {
+        this.database = database;
+        this.tables = tables;
+    }
 }
@@ -18,10 +18,9 @@
 package org.apache.seatunnel.app.interceptor;
 
 import org.apache.seatunnel.app.common.Constants;
-import org.apache.seatunnel.app.dal.dao.IUserDao;
 import org.apache.seatunnel.app.dal.entity.User;
-import org.apache.seatunnel.app.dal.entity.UserLoginLog;
-import org.apache.seatunnel.app.security.JwtUtils;
+import org.apache.seatunnel.app.security.AuthenticationCache;
+import org.apache.seatunnel.app.security.JobMetricsStreamTickets;
 import org.apache.seatunnel.app.security.UserContext;
 import org.apache.seatunnel.common.access.AccessInfo;
 
@@ -41,6 +40,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import static io.jsonwebtoken.Claims.EXPIRATION;
+import static org.apache.seatunnel.server.common.Constants.GET;
 import static org.apache.seatunnel.server.common.Constants.OPTIONS;
 import static org.apache.seatunnel.server.common.Constants.TOKEN;
 import static org.apache.seatunnel.server.common.Constants.USER_ID;
@@ -48,9 +48,9 @@ import static org.apache.seatunnel.server.common.Constants.USER_ID;
 @Slf4j
 public class AuthenticationInterceptor implements HandlerInterceptor {
 
-    @Resource private IUserDao userDaoImpl;
+    @Resource private AuthenticationCache authenticationCache;
 
-    @Resource private JwtUtils jwtUtils;
+    @Resource private JobMetricsStreamTickets jobMetricsStreamTickets;
 
     @Override
     @SuppressWarnings("MagicNumber")
@@ -67,13 +67,13 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
         }
 
         long currentTimestamp = System.currentTimeMillis();
-        final String token = request.getHeader(TOKEN);
+        final String token = getToken(request);
         if (StringUtils.isBlank(token)) {
             log.info("user does not exist");
             response.setStatus(HttpStatus.UNAUTHORIZED_401);
             return false;
         }
-        final Map<String, Object> map = jwtUtils.parseToken(token);
+        final Map<String, Object> map = authenticationCache.parseToken(token);
         final Integer userId = (Integer) map.get(USER_ID);
         if (Objects.isNull(userId)) {
             log.info("userId does not exist");
@@ -81,8 +81,7 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
             return false;
         }
         long workspaceIdFromToken = ((Number) map.get("workspaceId")).longValue();
-        final UserLoginLog userLoginLog = userDaoImpl.getLastLoginLog(userId, workspaceIdFromToken);
-        if (Objects.isNull(userLoginLog) || !userLoginLog.getTokenStatus()) {
+        if (!authenticationCache.isSessionValid(userId, workspaceIdFromToken, token)) {
             log.info("userLoginLog does not exist");
             response.setStatus(HttpStatus.UNAUTHORIZED_401);
             return false;
@@ -119,6 +118,22 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
         return true;
     }
 
+    private String getToken(HttpServletRequest request) {
+        String token = request.getHeader(TOKEN);
+        if (StringUtils.isBlank(token)
+                && GET.equals(request.getMethod())
+                && JobMetricsStreamTickets.STREAM_PATH.equals(
+                        request.getRequestURI().substring(request.getContextPath().length()))) {
+            // an EventSource can not send headers, it opens the stream with a single use ticket
+            token =
+                    jobMetricsStreamTickets.redeem(
+                            request.getParameter(JobMetricsStreamTickets.TICKET_PARAMETER),
+                            request.getParameter(
+                                    JobMetricsStreamTickets.JOB_INSTANCE_ID_PARAMETER));
+        }
+        return token;
+    }
+
     @Override
     public void postHandle(
             HttpServletRequest request,
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.scheduler;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.app.config.JobTrackerProperties;
+import org.apache.seatunnel.app.security.UserContext;
+import org.apache.seatunnel.app.security.UserContextHolder;
+import org.apache.seatunnel.app.service.IJobInstanceService;
+import org.apache.seatunnel.app.thirdparty.engine.SeaTunnelEngineProxy;
+import org.apache.seatunnel.app.thirdparty.metrics.RunningJobMetricsSnapshot;
+import org.apache.seatunnel.app.utils.JobUtils;
+import org.apache.seatunnel.common.utils.JsonUtils;
+import org.apache.seatunnel.engine.core.job.JobResult;
+import org.apache.seatunnel.engine.core.job.JobStatus;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Follows every job submitted by this node until it ends and then completes its job instance.
+ *
+ * <p>One scheduled watcher checks all tracked jobs per tick: jobs present in the running job
+ * metrics snapshot are still running and cost nothing, only the others are asked for their status
+ * through the pooled engine client. Completing a job instance is handed to a small fixed pool, so
+ * the number of threads does not grow with the number of running jobs.
+ */
+@Slf4j
+@Component
+public class JobCompletionTracker {
+
+    @Resource private IJobInstanceService jobInstanceService;
+
+    @Resource private RunningJobMetricsCollector runningJobMetricsCollector;
+
+    @Resource private JobTrackerProperties jobTrackerProperties;
+
+    private final Map<Long, TrackedJob> trackedJobs = new ConcurrentHashMap<>();
+
+    private ExecutorService completionExecutor;
+
+    @PostConstruct
+    public void init() {
+        completionExecutor =
+                Executors.newFixedThreadPool(
+                        Math.max(jobTrackerProperties.getCompletionThreads(), 1),
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("job-completion-%d")
+                                .setDaemon(true)
+                                .build());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        completionExecutor.shutdown();
+    }
+
+    /**
+     * Start following a submitted job. The current user context is kept with the job, completing
+     * the job instance later runs as the user who submitted it.
+     */
+    public void track(@NonNull Long jobInstanceId, @NonNull Long jobEngineId) {
+        UserContext userContext = null;
+        try {
+            userContext = UserContextHolder.getUserContext();
+        } catch (RuntimeException e) {
+            log.warn("No user context when tracking job instance {}", jobInstanceId);
+        }
+        trackedJobs.put(jobInstanceId, new TrackedJob(jobInstanceId, jobEngineId, userContext));
+    }
+
+    public boolean isTracked(@NonNull Long jobInstanceId) {
+        return trackedJobs.containsKey(jobInstanceId);
+    }
+
+    public int getTrackedJobCount() {
+        return trackedJobs.size();
+    }
+
+    @Scheduled(fixedDelayString = "${seatunnel-web.job-tracker.poll-interval-ms:3000}")
+    public void poll() {
+        if (trackedJobs.isEmpty()) {
+            return;
+        }
+        RunningJobMetricsSnapshot snapshot = runningJobMetricsCollector.getSnapshot();
+        long now = System.currentTimeMillis();
+        for (TrackedJob job : trackedJobs.values()) {
+            if (snapshot.isRunning(job.jobEngineId)) {
+                job.lastSeenMillis = now;
+                continue;
+            }
+            JobStatus jobStatus =
+                    SeaTunnelEngineProxy.getInstance().getJobStatus(job.jobEngineId.toString());
+            if (jobStatus == null) {
+                if (now - job.lastSeenMillis >= jobTrackerProperties.getStatusUnknownTimeoutMs()) {
+                    finish(
+                            job,
+                            JobStatus.FAILED,
+                            String.format(
+                                    "Job status is not available from engine for %d ms",
+                                    now - job.lastSeenMillis));
+                }
+                continue;
+            }
+            job.lastSeenMillis = now;
+            if (JobUtils.isJobEndStatus(jobStatus)) {
+                finish(
+                        job,
+                        jobStatus,
+                        jobStatus == JobStatus.FAILED ? getErrorMessage(job.jobEngineId) : null);
+            }
+        }
+    }
+
+    private void finish(TrackedJob job, JobStatus jobStatus, String errorMessage) {
+        if (!trackedJobs.remove(job.jobInstanceId, job)) {
+            return;
+        }
+        JobResult jobResult = new JobResult(jobStatus, errorMessage);
+        completionExecutor.execute(() -> complete(job, jobResult));
+    }
+
+    private void complete(TrackedJob job, JobResult jobResult) {
+        if (job.userContext != null) {
+            UserContextHolder.setUserContext(job.userContext);
+        }
+        try {
+            log.info(
+                    "Job instance {} ended with status {}",
+                    job.jobInstanceId,
+                    jobResult.getStatus());
+            jobInstanceService.complete(job.jobInstanceId, job.jobEngineId.toString(), jobResult);
+        } catch (Exception e) {
+            log.error("Complete job instance {} failed", job.jobInstanceId, e);
+        } finally {
+            UserContextHolder.clear();
+        }
+    }
+
+    private String getErrorMessage(Long jobEngineId) {
+        try {
+            JsonNode jsonNode =
+                    JsonUtils.stringToJsonNode(
+                            SeaTunnelEngineProxy.getInstance()
+                                    .getJobPipelineStatusStr(jobEngineId.toString()));
+            JsonNode errorMsg = jsonNode == null ? null : jsonNode.get("errorMsg");
+            return errorMsg == null || errorMsg.isNull() ? null : errorMsg.asText();
+        } catch (Exception e) {
+            log.warn("Can not get error message of job {} from engine", jobEngineId, e);
+            return null;
+        }
+    }
+
+    private static class TrackedJob {
+        private final Long jobInstanceId;
+        private final Long jobEngineId;
+        private final UserContext userContext;
+        private volatile long lastSeenMillis;
+
+        private TrackedJob(Long jobInstanceId, Long jobEngineId, UserContext userContext) {
+            this.jobInstanceId = jobInstanceId;
+            this.jobEngineId = jobEngineId;
+            this.userContext = userContext;
+            this.lastSeenMillis = System.currentTimeMillis();
+        }
+    }
+}
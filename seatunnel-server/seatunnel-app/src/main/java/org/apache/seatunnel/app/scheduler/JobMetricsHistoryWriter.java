@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.scheduler;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.app.config.JobMetricsHistoryProperties;
+import org.apache.seatunnel.app.dal.dao.IJobMetricsHistoryDao;
+import org.apache.seatunnel.app.dal.entity.JobMetricsHistory;
+import org.apache.seatunnel.app.domain.response.metrics.JobMetricsHistoryWriterMetricsRes;
+import org.apache.seatunnel.server.common.CodeGenerateUtils;
+
+import org.springframework.stereotype.Component;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind buffer of the metrics history of all running jobs.
+ *
+ * <p>Producers only append to a bounded lock-free queue and never wait for the database. A single
+ * flusher thread writes the queued samples in multi-row inserts, whenever a full batch is waiting
+ * or the flush interval passed. Slow or failing inserts pause the flusher with an exponential
+ * backoff, samples arriving while the queue is full are dropped and counted.
+ */
+@Slf4j
+@Component
+public class JobMetricsHistoryWriter {
+
+    /** A batch failing this often is dropped, so one bad row can not stall the history. */
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    @Resource private IJobMetricsHistoryDao jobMetricsHistoryDao;
+
+    @Resource private JobMetricsHistoryProperties jobMetricsHistoryProperties;
+
+    private final Queue<JobMetricsHistory> queue = new ConcurrentLinkedQueue<>();
+
+    /** Samples in the queue and in the pending batch, reserved before a sample is queued. */
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushFailedCount = new AtomicLong();
+    private final AtomicLong flushLatencyNanos = new AtomicLong();
+    private final AtomicLong maxFlushLatencyNanos = new AtomicLong();
+
+    private volatile long pausedUntilMillis;
+
+    // only touched by the flusher thread
+    private final List<JobMetricsHistory> pending = new ArrayList<>();
+    private int pendingAttempts;
+    private int consecutivePauses;
+
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    public void init() {
+        flusher =
+                Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("job-metrics-history-writer-%d")
+                                .setDaemon(true)
+                                .build());
+        long interval = Math.max(jobMetricsHistoryProperties.getWriteFlushIntervalMs(), 100L);
+        flusher.scheduleWithFixedDelay(
+                () -> flush(false), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+                return;
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        // the flusher is gone, write what is left once without honouring the pause
+        pausedUntilMillis = 0L;
+        flush(false);
+    }
+
+    /**
+     * Queue samples to be written, never blocks.
+     *
+     * @return the number of samples dropped because the queue is full
+     */
+    public int offer(@NonNull List<JobMetricsHistory> samples) {
+        int capacity = jobMetricsHistoryProperties.getWriteQueueCapacity();
+        int dropped = 0;
+        for (JobMetricsHistory sample : samples) {
+            if (queueSize.incrementAndGet() > capacity) {
+                queueSize.decrementAndGet();
+                dropped++;
+                continue;
+            }
+            queue.offer(sample);
+        }
+        enqueuedCount.addAndGet(samples.size() - dropped);
+        if (dropped > 0) {
+            droppedCount.addAndGet(dropped);
+            log.warn(
+                    "Job metrics history queue is full, dropped {} samples, {} dropped in total",
+                    dropped,
+                    droppedCount.get());
+        }
+        if (queueSize.get() >= getBatchSize()
+                && System.currentTimeMillis() >= pausedUntilMillis
+                && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(
+                        () -> {
+                            flushRequested.set(false);
+                            flush(true);
+                        });
+            } catch (RejectedExecutionException e) {
+                // shutting down, the remaining samples are written by destroy
+                flushRequested.set(false);
+            }
+        }
+        return dropped;
+    }
+
+    public JobMetricsHistoryWriterMetricsRes getMetrics() {
+        long flushes = flushCount.get();
+        return new JobMetricsHistoryWriterMetricsRes(
+                queueSize.get(),
+                jobMetricsHistoryProperties.getWriteQueueCapacity(),
+                enqueuedCount.get(),
+                droppedCount.get(),
+                writtenCount.get(),
+                flushes,
+                flushFailedCount.get(),
+                flushes == 0
+                        ? 0L
+                        : TimeUnit.NANOSECONDS.toMillis(flushLatencyNanos.get() / flushes),
+                TimeUnit.NANOSECONDS.toMillis(maxFlushLatencyNanos.get()),
+                Math.max(pausedUntilMillis - System.currentTimeMillis(), 0L));
+    }
+
+    private void flush(boolean fullBatchesOnly) {
+        try {
+            int batchSize = getBatchSize();
+            while (System.currentTimeMillis() >= pausedUntilMillis) {
+                JobMetricsHistory sample;
+                while (pending.size() < batchSize && (sample = queue.poll()) != null) {
+                    pending.add(sample);
+                }
+                if (pending.isEmpty() || (fullBatchesOnly && pending.size() < batchSize)) {
+                    return;
+                }
+                if (!write()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            // never let an exception cancel the scheduled flush
+            log.error("Flush job metrics history failed", e);
+        }
+    }
+
+    private boolean write() {
+        long start = System.nanoTime();
+        try {
+            // a retried batch keeps the ids it got before
+            int withoutId = (int) pending.stream().filter(h -> h.getId() == null).count();
+            if (withoutId > 0) {
+                long[] ids = CodeGenerateUtils.getInstance().genCodes(withoutId);
+                int next = 0;
+                for (JobMetricsHistory history : pending) {
+                    if (history.getId() == null) {
+                        history.setId(ids[next++]);
+                    }
+                }
+            }
+            jobMetricsHistoryDao.insertBatch(pending);
+        } catch (Exception e) {
+            flushFailedCount.incrementAndGet();
+            pendingAttempts++;
+            if (pendingAttempts >= MAX_WRITE_ATTEMPTS) {
+                log.error(
+                        "Write {} job metrics history samples failed {} times, drop them",
+                        pending.size(),
+                        pendingAttempts,
+                        e);
+                droppedCount.addAndGet(pending.size());
+                releasePending();
+            } else {
+                log.warn("Write {} job metrics history samples failed", pending.size(), e);
+            }
+            pause();
+            return false;
+        }
+        long latency = System.nanoTime() - start;
+        flushCount.incrementAndGet();
+        flushLatencyNanos.addAndGet(latency);
+        maxFlushLatencyNanos.accumulateAndGet(latency, Math::max);
+        writtenCount.addAndGet(pending.size());
+        releasePending();
+        if (TimeUnit.NANOSECONDS.toMillis(latency)
+                > jobMetricsHistoryProperties.getWriteSlowFlushMs()) {
+            log.warn(
+                    "Writing job metrics history took {} ms, database is under pressure",
+                    TimeUnit.NANOSECONDS.toMillis(latency));
+            pause();
+            return false;
+        }
+        consecutivePauses = 0;
+        return true;
+    }
+
+    private void releasePending() {
+        queueSize.addAndGet(-pending.size());
+        pending.clear();
+        pendingAttempts = 0;
+    }
+
+    private void pause() {
+        long interval = Math.max(jobMetricsHistoryProperties.getWriteFlushIntervalMs(), 100L);
+        long pauseMillis =
+                Math.min(
+                        interval << Math.min(consecutivePauses, 16),
+                        Math.max(jobMetricsHistoryProperties.getWriteMaxPauseMs(), interval));
+        consecutivePauses++;
+        pausedUntilMillis = System.currentTimeMillis() + pauseMillis;
+        log.info("Pause writing job metrics history for {} ms", pauseMillis);
+    }
+
+    private int getBatchSize() {
+        return Math.max(jobMetricsHistoryProperties.getWriteBatchSize(), 1);
+    }
+}
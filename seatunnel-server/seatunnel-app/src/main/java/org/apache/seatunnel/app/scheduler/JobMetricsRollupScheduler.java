@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.scheduler;
+
+import org.apache.seatunnel.app.common.JobMetricsResolution;
+import org.apache.seatunnel.app.config.JobMetricsHistoryProperties;
+import org.apache.seatunnel.app.dal.dao.IJobMetricsHistoryDao;
+import org.apache.seatunnel.app.dal.dao.IJobMetricsRollupDao;
+import org.apache.seatunnel.app.dal.entity.JobMetricsRollup;
+import org.apache.seatunnel.app.utils.JobMetricsRollupUtils;
+import org.apache.seatunnel.server.common.CodeGenerateUtils;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Resource;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Compacts the job metrics history in the background: raw rows are rolled up into minutes, minutes
+ * into hours and hours into days, then every resolution is expired after its retention.
+ *
+ * <p>Only complete buckets are rolled up, the newest bucket of a resolution is the watermark the
+ * next run continues from. Rows are never expired before the next resolution has rolled them up.
+ */
+@Slf4j
+@Component
+public class JobMetricsRollupScheduler {
+
+    @Resource private IJobMetricsHistoryDao jobMetricsHistoryDao;
+
+    @Resource private IJobMetricsRollupDao jobMetricsRollupDao;
+
+    @Resource private JobMetricsHistoryProperties jobMetricsHistoryProperties;
+
+    @Scheduled(
+            initialDelayString =
+                    "${seatunnel-web.job-metrics-history.compaction-interval-ms:60000}",
+            fixedDelayString = "${seatunnel-web.job-metrics-history.compaction-interval-ms:60000}")
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobMetricsHistoryProperties.isRollupEnabled()) {
+            LocalDateTime completeUntil =
+                    now.minus(
+                            jobMetricsHistoryProperties.getCompactionGraceMs(), ChronoUnit.MILLIS);
+            for (JobMetricsResolution resolution = JobMetricsResolution.MINUTE;
+                    resolution != null;
+                    resolution = resolution.getTarget()) {
+                try {
+                    completeUntil = rollup(resolution, resolution.bucketOf(completeUntil), now);
+                } catch (Exception e) {
+                    log.warn("Roll up job metrics history into {} failed", resolution.getCode(), e);
+                    break;
+                }
+            }
+        }
+        for (JobMetricsResolution resolution : JobMetricsResolution.values()) {
+            try {
+                expire(resolution, now);
+            } catch (Exception e) {
+                log.warn("Expire job metrics history of {} failed", resolution.getCode(), e);
+            }
+        }
+    }
+
+    /**
+     * Roll up the buckets of {@code resolution} that are complete before {@code end}.
+     *
+     * @return the time the resolution is rolled up until, before {@code end} when a long backlog is
+     *     left for the next run
+     */
+    private LocalDateTime rollup(
+            JobMetricsResolution resolution, LocalDateTime end, LocalDateTime now) {
+        JobMetricsResolution source = resolution.getSource();
+        LocalDateTime lastBucket = jobMetricsRollupDao.getLastBucketTime(resolution);
+        LocalDateTime from = lastBucket == null ? null : resolution.nextBucket(lastBucket);
+        long batchMillis =
+                resolution.getIntervalMillis()
+                        * Math.max(jobMetricsHistoryProperties.getCompactionBatchBuckets(), 1);
+        for (int batch = 0;
+                batch < Math.max(jobMetricsHistoryProperties.getCompactionMaxBatches(), 1);
+                batch++) {
+            // jump over periods without any data instead of scanning them bucket by bucket
+            LocalDateTime first =
+                    source == JobMetricsResolution.RAW
+                            ? jobMetricsHistoryDao.getFirstCreateTime(from)
+                            : jobMetricsRollupDao.getFirstBucketTime(source, from);
+            if (first == null || !resolution.bucketOf(first).isBefore(end)) {
+                return end;
+            }
+            LocalDateTime start = resolution.bucketOf(first);
+            LocalDateTime batchEnd = start.plus(batchMillis, ChronoUnit.MILLIS);
+            if (batchEnd.isAfter(end)) {
+                batchEnd = end;
+            }
+            List<JobMetricsRollup> rollups =
+                    source == JobMetricsResolution.RAW
+                            ? JobMetricsRollupUtils.rollupHistory(
+                                    jobMetricsHistoryDao.getByTimeRange(start, batchEnd),
+                                    resolution,
+                                    now)
+                            : JobMetricsRollupUtils.rollupRollups(
+                                    jobMetricsRollupDao.getByTimeRange(source, start, batchEnd),
+                                    resolution,
+                                    now);
+            long[] ids = CodeGenerateUtils.getInstance().genCodes(rollups.size());
+            for (int i = 0; i < rollups.size(); i++) {
+                rollups.get(i).setId(ids[i]);
+            }
+            jobMetricsRollupDao.replace(resolution, start, batchEnd, rollups);
+            log.debug(
+                    "Rolled up job metrics history into {} buckets from {} to {}, {} rows",
+                    resolution.getCode(),
+                    start,
+                    batchEnd,
+                    rollups.size());
+            from = batchEnd;
+        }
+        return from;
+    }
+
+    private void expire(JobMetricsResolution resolution, LocalDateTime now) {
+        long retentionMs = jobMetricsHistoryProperties.getRetentionMs(resolution);
+        if (retentionMs <= 0) {
+            return;
+        }
+        LocalDateTime before = now.minus(retentionMs, ChronoUnit.MILLIS);
+        JobMetricsResolution target = resolution.getTarget();
+        if (jobMetricsHistoryProperties.isRollupEnabled() && target != null) {
+            // keep what the next resolution has not rolled up yet
+            LocalDateTime rolledUp = jobMetricsRollupDao.getLastBucketTime(target);
+            if (rolledUp == null) {
+                return;
+            }
+            LocalDateTime rolledUpUntil = target.nextBucket(rolledUp);
+            if (rolledUpUntil.isBefore(before)) {
+                before = rolledUpUntil;
+            }
+        }
+        int batchSize = Math.max(jobMetricsHistoryProperties.getDeleteBatchSize(), 1);
+        long total = 0;
+        int deleted;
+        do {
+            deleted =
+                    resolution == JobMetricsResolution.RAW
+                            ? jobMetricsHistoryDao.deleteBefore(before, batchSize)
+                            : jobMetricsRollupDao.deleteBefore(resolution, before, batchSize);
+            total += deleted;
+        } while (deleted >= batchSize);
+        if (total > 0) {
+            log.info(
+                    "Expired {} job metrics history rows of {} before {}",
+                    total,
+                    resolution.getCode(),
+                    before);
+        }
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.scheduler;
+
+import org.apache.seatunnel.app.config.EngineMetricsProperties;
+import org.apache.seatunnel.app.config.JobTrackerProperties;
+import org.apache.seatunnel.app.dal.dao.IJobInstanceDao;
+import org.apache.seatunnel.app.dal.dao.IJobMetricsDao;
+import org.apache.seatunnel.app.dal.entity.JobInstance;
+import org.apache.seatunnel.app.dal.entity.JobMetrics;
+import org.apache.seatunnel.app.domain.response.engine.Engine;
+import org.apache.seatunnel.app.thirdparty.engine.SeaTunnelEngineProxy;
+import org.apache.seatunnel.app.thirdparty.metrics.EngineMetricsExtractorFactory;
+import org.apache.seatunnel.app.thirdparty.metrics.RunningJobMetricsSnapshot;
+import org.apache.seatunnel.app.utils.JobUtils;
+import org.apache.seatunnel.engine.core.job.JobStatus;
+import org.apache.seatunnel.server.common.CodeGenerateUtils;
+
+import org.apache.commons.lang3.StringUtils;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.google.common.collect.Lists;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Resource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Brings job instances and their pipeline metrics rows in the database in line with the engine, in
+ * the background, so that reading the job list never has to write.
+ *
+ * <p>Every tick reads the running job metrics snapshot once and diffs it against the database. Jobs
+ * the engine runs are marked running and their changed pipeline rows are written with one statement
+ * per batch. Jobs the database still holds as running but the engine does not report are asked for
+ * their status, at most {@code reconcileMaxStatusChecks} per tick, and the ones that moved on get
+ * one update per status. The final metrics of the ones that ended are fetched from the engine, the
+ * snapshot only holds running jobs. Jobs followed by {@link JobCompletionTracker} are left to it.
+ */
+@Slf4j
+@Component
+public class JobStatusReconciler {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Resource private IJobInstanceDao jobInstanceDao;
+
+    @Resource private IJobMetricsDao jobMetricsDao;
+
+    @Resource private RunningJobMetricsCollector runningJobMetricsCollector;
+
+    @Resource private JobCompletionTracker jobCompletionTracker;
+
+    @Resource private EngineMetricsProperties engineMetricsProperties;
+
+    @Resource private JobTrackerProperties jobTrackerProperties;
+
+    private int statusCheckOffset;
+
+    @Scheduled(fixedDelayString = "${seatunnel-web.job-tracker.reconcile-interval-ms:15000}")
+    public void reconcile() {
+        RunningJobMetricsSnapshot snapshot = runningJobMetricsCollector.getSnapshot();
+        if (snapshot.getAgeMillis() > engineMetricsProperties.getMaxStalenessMs()) {
+            // the engine is not reachable, an outdated snapshot would end jobs that still run
+            log.debug("Skip job status reconcile, running job metrics snapshot is outdated");
+            return;
+        }
+        try {
+            reconcileRunningJobs(snapshot);
+        } catch (Exception e) {
+            log.warn("Reconcile running jobs with engine failed", e);
+        }
+        try {
+            reconcileStoppedJobs(snapshot);
+        } catch (Exception e) {
+            log.warn("Reconcile stopped jobs with engine failed", e);
+        }
+    }
+
+    private void reconcileRunningJobs(RunningJobMetricsSnapshot snapshot) {
+        if (snapshot.size() == 0) {
+            return;
+        }
+        List<String> jobEngineIds =
+                snapshot.getAllJobMetrics().keySet().stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.toList());
+        List<JobInstance> jobInstances = new ArrayList<>();
+        for (List<String> part : Lists.partition(jobEngineIds, BATCH_SIZE)) {
+            jobInstances.addAll(jobInstanceDao.getJobInstancesByEngineIds(part));
+        }
+        if (jobInstances.isEmpty()) {
+            return;
+        }
+
+        List<Long> startedJobInstanceIds =
+                jobInstances.stream()
+                        .filter(jobInstance -> jobInstance.getJobStatus() != JobStatus.RUNNING)
+                        .map(JobInstance::getId)
+                        .collect(Collectors.toList());
+        for (List<Long> part : Lists.partition(startedJobInstanceIds, BATCH_SIZE)) {
+            jobInstanceDao.updateJobStatus(part, JobStatus.RUNNING, null);
+        }
+
+        List<Long> jobInstanceIds =
+                jobInstances.stream().map(JobInstance::getId).collect(Collectors.toList());
+        Map<Long, List<JobMetrics>> storedJobMetrics = new HashMap<>();
+        for (List<Long> part : Lists.partition(jobInstanceIds, BATCH_SIZE)) {
+            jobMetricsDao
+                    .getJobMetricsMapper()
+                    .queryJobMetricsByInstanceIds(part, null)
+                    .forEach(
+                            jobMetrics ->
+                                    storedJobMetrics
+                                            .computeIfAbsent(
+                                                    jobMetrics.getJobInstanceId(),
+                                                    id -> new ArrayList<>())
+                                            .add(jobMetrics));
+        }
+
+        List<JobMetrics> changedJobMetrics = new ArrayList<>();
+        List<JobMetrics> newJobMetrics = new ArrayList<>();
+        for (JobInstance jobInstance : jobInstances) {
+            HashMap<Integer, JobMetrics> runningJobMetrics =
+                    snapshot.getJobMetrics(Long.valueOf(jobInstance.getJobEngineId()));
+            if (runningJobMetrics == null) {
+                continue;
+            }
+            Set<Integer> storedPipelines = new HashSet<>();
+            for (JobMetrics stored :
+                    storedJobMetrics.getOrDefault(jobInstance.getId(), Collections.emptyList())) {
+                storedPipelines.add(stored.getPipelineId());
+                JobMetrics running = runningJobMetrics.get(stored.getPipelineId());
+                if (running != null && isChanged(stored, running)) {
+                    stored.setReadRowCount(running.getReadRowCount());
+                    stored.setWriteRowCount(running.getWriteRowCount());
+                    stored.setReadQps(running.getReadQps());
+                    stored.setWriteQps(running.getWriteQps());
+                    stored.setRecordDelay(running.getRecordDelay());
+                    stored.setStatus(JobStatus.RUNNING);
+                    changedJobMetrics.add(stored);
+                }
+            }
+            for (JobMetrics running : runningJobMetrics.values()) {
+                if (!storedPipelines.contains(running.getPipelineId())) {
+                    newJobMetrics.add(toJobMetrics(jobInstance, running, JobStatus.RUNNING));
+                }
+            }
+        }
+
+        writeJobMetrics(changedJobMetrics, newJobMetrics);
+        log.debug(
+                "Reconciled {} running jobs, {} started, {} pipeline rows updated, {} inserted",
+                jobInstances.size(),
+                startedJobInstanceIds.size(),
+                changedJobMetrics.size(),
+                newJobMetrics.size());
+    }
+
+    private void reconcileStoppedJobs(RunningJobMetricsSnapshot snapshot) {
+        List<JobInstance> candidates = new ArrayList<>();
+        for (JobInstance jobInstance : jobInstanceDao.getAllRunningJobInstance()) {
+            if (StringUtils.isEmpty(jobInstance.getJobEngineId())
+                    || snapshot.isRunning(Long.valueOf(jobInstance.getJobEngineId()))
+                    || jobCompletionTracker.isTracked(jobInstance.getId())) {
+                continue;
+            }
+            candidates.add(jobInstance);
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+        int maxStatusChecks = Math.max(jobTrackerProperties.getReconcileMaxStatusChecks(), 1);
+        if (candidates.size() > maxStatusChecks) {
+            // start where the last tick stopped, so no job waits behind the same others forever
+            Collections.rotate(candidates, -(statusCheckOffset % candidates.size()));
+            statusCheckOffset += maxStatusChecks;
+            candidates = candidates.subList(0, maxStatusChecks);
+        }
+
+        Map<JobStatus, List<Long>> statusChanges = new EnumMap<>(JobStatus.class);
+        Map<JobInstance, JobStatus> endedJobs = new HashMap<>();
+        for (JobInstance jobInstance : candidates) {
+            JobStatus jobStatus =
+                    SeaTunnelEngineProxy.getInstance().getJobStatus(jobInstance.getJobEngineId());
+            if (jobStatus == null || jobStatus == JobStatus.RUNNING) {
+                continue;
+            }
+            statusChanges
+                    .computeIfAbsent(jobStatus, status -> new ArrayList<>())
+                    .add(jobInstance.getId());
+            if (JobUtils.isJobEndStatus(jobStatus)) {
+                endedJobs.put(jobInstance, jobStatus);
+            }
+        }
+
+        if (!endedJobs.isEmpty()) {
+            try {
+                reconcileFinalMetrics(endedJobs);
+            } catch (Exception e) {
+                log.warn("Write final metrics of ended jobs failed", e);
+            }
+        }
+        Date now = new Date();
+        for (Map.Entry<JobStatus, List<Long>> entry : statusChanges.entrySet()) {
+            Date endTime = JobUtils.isJobEndStatus(entry.getKey()) ? now : null;
+            jobInstanceDao.updateJobStatus(entry.getValue(), entry.getKey(), endTime);
+            jobMetricsDao
+                    .getJobMetricsMapper()
+                    .updateStatusByInstanceIds(entry.getValue(), entry.getKey());
+            log.info("Job instances {} reconciled to status {}", entry.getValue(), entry.getKey());
+        }
+    }
+
+    /**
+     * Write the metrics the engine reports for the pipelines of ended jobs, one request per job.
+     * Pipelines the engine no longer knows keep their last counters.
+     */
+    private void reconcileFinalMetrics(Map<JobInstance, JobStatus> endedJobs) {
+        List<Long> jobInstanceIds =
+                endedJobs.keySet().stream().map(JobInstance::getId).collect(Collectors.toList());
+        Map<Long, List<JobMetrics>> storedJobMetrics = new HashMap<>();
+        for (List<Long> part : Lists.partition(jobInstanceIds, BATCH_SIZE)) {
+            jobMetricsDao
+                    .getJobMetricsMapper()
+                    .queryJobMetricsByInstanceIds(part, null)
+                    .forEach(
+                            jobMetrics ->
+                                    storedJobMetrics
+                                            .computeIfAbsent(
+                                                    jobMetrics.getJobInstanceId(),
+                                                    id -> new ArrayList<>())
+                                            .add(jobMetrics));
+        }
+
+        List<JobMetrics> changedJobMetrics = new ArrayList<>();
+        List<JobMetrics> newJobMetrics = new ArrayList<>();
+        for (Map.Entry<JobInstance, JobStatus> entry : endedJobs.entrySet()) {
+            JobInstance jobInstance = entry.getKey();
+            Map<Integer, JobMetrics> finalJobMetrics;
+            try {
+                finalJobMetrics =
+                        new EngineMetricsExtractorFactory(
+                                        new Engine(
+                                                jobInstance.getEngineName(),
+                                                jobInstance.getEngineVersion()))
+                                .getEngineMetricsExtractor()
+                                .getMetricsByJobEngineIdRTMap(jobInstance.getJobEngineId());
+            } catch (Exception e) {
+                log.warn(
+                        "Get final metrics of job instance {} from engine failed",
+                        jobInstance.getId(),
+                        e);
+                continue;
+            }
+            Set<Integer> storedPipelines = new HashSet<>();
+            for (JobMetrics stored :
+                    storedJobMetrics.getOrDefault(jobInstance.getId(), Collections.emptyList())) {
+                storedPipelines.add(stored.getPipelineId());
+                JobMetrics reported = finalJobMetrics.get(stored.getPipelineId());
+                if (reported != null) {
+                    stored.setReadRowCount(reported.getReadRowCount());
+                    stored.setWriteRowCount(reported.getWriteRowCount());
+                    stored.setReadQps(reported.getReadQps());
+                    stored.setWriteQps(reported.getWriteQps());
+                    stored.setRecordDelay(reported.getRecordDelay());
+                    stored.setStatus(entry.getValue());
+                    changedJobMetrics.add(stored);
+                }
+            }
+            for (JobMetrics reported : finalJobMetrics.values()) {
+                if (!storedPipelines.contains(reported.getPipelineId())) {
+                    newJobMetrics.add(toJobMetrics(jobInstance, reported, entry.getValue()));
+                }
+            }
+        }
+        writeJobMetrics(changedJobMetrics, newJobMetrics);
+    }
+
+    private void writeJobMetrics(
+            List<JobMetrics> changedJobMetrics, List<JobMetrics> newJobMetrics) {
+        for (List<JobMetrics> part : Lists.partition(changedJobMetrics, BATCH_SIZE)) {
+            jobMetricsDao.getJobMetricsMapper().updateBatchMetrics(part);
+        }
+        if (!newJobMetrics.isEmpty()) {
+            long[] ids = CodeGenerateUtils.getInstance().genCodes(newJobMetrics.size());
+            for (int i = 0; i < ids.length; i++) {
+                newJobMetrics.get(i).setId(ids[i]);
+            }
+            for (List<JobMetrics> part : Lists.partition(newJobMetrics, BATCH_SIZE)) {
+                jobMetricsDao.getJobMetricsMapper().insertBatchMetrics(part);
+            }
+        }
+    }
+
+    private static boolean isChanged(JobMetrics stored, JobMetrics running) {
+        return stored.getStatus() != JobStatus.RUNNING
+                || stored.getReadRowCount() != running.getReadRowCount()
+                || stored.getWriteRowCount() != running.getWriteRowCount()
+                || stored.getReadQps() != running.getReadQps()
+                || stored.getWriteQps() != running.getWriteQps()
+                || stored.getRecordDelay() != running.getRecordDelay();
+    }
+
+    /** A new pipeline row, the snapshot is shared by all readers and must not be modified. */
+    private static JobMetrics toJobMetrics(
+            JobInstance jobInstance, JobMetrics metrics, JobStatus status) {
+        return JobMetrics.builder()
+                .jobInstanceId(jobInstance.getId())
+                .pipelineId(metrics.getPipelineId())
+                .readRowCount(metrics.getReadRowCount())
+                .writeRowCount(metrics.getWriteRowCount())
+                .sourceTableNames(metrics.getSourceTableNames())
+                .sinkTableNames(metrics.getSinkTableNames())
+                .readQps(metrics.getReadQps())
+                .writeQps(metrics.getWriteQps())
+                .recordDelay(metrics.getRecordDelay())
+                .status(status)
+                .createUserId(jobInstance.getCreateUserId())
+                .updateUserId(jobInstance.getCreateUserId())
+                .workspaceId(jobInstance.getWorkspaceId())
+                .build();
+    }
+}
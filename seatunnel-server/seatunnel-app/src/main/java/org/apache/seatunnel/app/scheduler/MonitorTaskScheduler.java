@@ -17,10 +17,7 @@
 
 package org.apache.seatunnel.app.scheduler;
 
-import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
-
 import org.apache.seatunnel.app.dal.dao.IJobInstanceDao;
-import org.apache.seatunnel.app.dal.dao.IJobMetricsHistoryDao;
 import org.apache.seatunnel.app.dal.entity.JobInstance;
 import org.apache.seatunnel.app.dal.entity.JobMetricsHistory;
 import org.apache.seatunnel.app.domain.response.metrics.JobPipelineDetailMetricsRes;
@@ -32,7 +29,6 @@ import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
 
-import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
 
 import java.time.LocalDateTime;
@@ -40,49 +36,22 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class MonitorTaskScheduler {
 
-    private final ExecutorService executorService;
-
     @Resource private IJobInstanceDao jobInstanceDao;
 
     @Resource private IJobMetricsService jobMetricsService;
 
-    @Resource private IJobMetricsHistoryDao jobMetricsHistoryDao;
+    @Resource private JobMetricsHistoryWriter jobMetricsHistoryWriter;
 
     private final ConcurrentHashMap<Long, JobInstance> jobInstanceMap = new ConcurrentHashMap<>();
 
     private final Object mapLock = new Object();
 
-    public MonitorTaskScheduler() {
-        // Create thread pool
-        this.executorService =
-                new ThreadPoolExecutor(
-                        5,
-                        10,
-                        60L,
-                        TimeUnit.SECONDS,
-                        new LinkedBlockingQueue<>(100),
-                        new ThreadFactoryBuilder()
-                                .setNameFormat("task-processor-%d")
-                                .setUncaughtExceptionHandler(
-                                        (t, e) ->
-                                                log.error(
-                                                        "Thread {} encountered uncaught exception",
-                                                        t.getName(),
-                                                        e))
-                                .build(),
-                        new ThreadPoolExecutor.CallerRunsPolicy());
-    }
-
     @Scheduled(initialDelay = 0, fixedRate = 60000)
     public void updateJobInstance() {
         try {
@@ -129,50 +98,35 @@ public class MonitorTaskScheduler {
             instances = new ArrayList<>(jobInstanceMap.values());
         }
 
-        instances.forEach(
-                jobInstance -> {
-                    if (jobInstance.getJobStatus() != JobStatus.RUNNING) {
-                        return;
-                    }
-                    try {
-                        executorService.submit(
-                                () -> {
-                                    try {
-                                        Long jobInstanceId = jobInstance.getId();
-                                        List<JobPipelineDetailMetricsRes> metricsResList =
-                                                jobMetricsService.getJobPipelineDetailMetricsRes(
-                                                        jobInstance);
-
-                                        if (metricsResList != null && !metricsResList.isEmpty()) {
-                                            List<JobMetricsHistory> historyList =
-                                                    metricsResList.stream()
-                                                            .map(
-                                                                    metrics ->
-                                                                            convertToJobMetricsHistory(
-                                                                                    metrics,
-                                                                                    jobInstanceId))
-                                                            .collect(Collectors.toList());
-
-                                            jobMetricsHistoryDao.insertBatch(historyList);
-                                            log.debug(
-                                                    "Successfully saved metrics for job {}, total {} records",
-                                                    jobInstanceId,
-                                                    historyList.size());
-                                        }
-                                    } catch (Exception e) {
-                                        log.error("Error saving job metrics", e);
-                                    }
-                                });
-                    } catch (Exception e) {
-                        log.error("Task scheduling error", e);
-                    }
-                });
+        // metrics come from the shared running job snapshot, so all jobs are sampled in one pass
+        // and handed to the writer as one batch instead of one insert per job
+        LocalDateTime sampleTime = LocalDateTime.now();
+        List<JobMetricsHistory> historyList = new ArrayList<>();
+        for (JobInstance jobInstance : instances) {
+            if (jobInstance.getJobStatus() != JobStatus.RUNNING) {
+                continue;
+            }
+            try {
+                List<JobPipelineDetailMetricsRes> metricsResList =
+                        jobMetricsService.getJobPipelineDetailMetricsRes(jobInstance);
+                for (JobPipelineDetailMetricsRes metrics : metricsResList) {
+                    historyList.add(
+                            convertToJobMetricsHistory(metrics, jobInstance.getId(), sampleTime));
+                }
+            } catch (Exception e) {
+                log.error("Error collecting metrics of job {}", jobInstance.getId(), e);
+            }
+        }
+        if (!historyList.isEmpty()) {
+            jobMetricsHistoryWriter.offer(historyList);
+            log.debug("Queued {} metrics history records", historyList.size());
+        }
     }
 
     private JobMetricsHistory convertToJobMetricsHistory(
-            JobPipelineDetailMetricsRes metrics, Long jobInstanceId) {
+            JobPipelineDetailMetricsRes metrics, Long jobInstanceId, LocalDateTime sampleTime) {
+        // the id is generated by the writer when the row is flushed
         return JobMetricsHistory.builder()
-                .id(generateId())
                 .jobInstanceId(jobInstanceId)
                 .pipelineId(metrics.getPipelineId())
                 .readRowCount(metrics.getReadRowCount())
@@ -183,29 +137,10 @@ public class MonitorTaskScheduler {
                 .writeQps(metrics.getWriteQps())
                 .recordDelay(metrics.getRecordDelay())
                 .status(metrics.getStatus())
-                .createTime(LocalDateTime.now())
-                .updateTime(LocalDateTime.now())
+                .createTime(sampleTime)
+                .updateTime(sampleTime)
                 .createUserId(-1)
                 .updateUserId(-1)
                 .build();
     }
-
-    private Long generateId() {
-        // Here you can use a distributed ID generator, such as Snowflake algorithm
-        return System.currentTimeMillis();
-    }
-
-    @PreDestroy
-    public void shutdown() {
-        log.info("Shutting down task scheduler...");
-        executorService.shutdown();
-        try {
-            if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
-                executorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            executorService.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-    }
 }
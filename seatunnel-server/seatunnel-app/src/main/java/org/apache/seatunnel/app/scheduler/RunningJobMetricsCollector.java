@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.scheduler;
+
+import org.apache.seatunnel.app.config.EngineMetricsProperties;
+import org.apache.seatunnel.app.dal.entity.JobMetrics;
+import org.apache.seatunnel.app.thirdparty.engine.SeaTunnelEngineMetricsExtractor;
+import org.apache.seatunnel.app.thirdparty.metrics.RunningJobMetricsSnapshot;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Resource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pulls the metrics of all running jobs from the engine once per tick and publishes them as an
+ * immutable {@link RunningJobMetricsSnapshot}, so that the job list, the metrics APIs, the metrics
+ * history writer and the clients subscribed to pushed metrics share one engine round trip instead
+ * of asking per job.
+ */
+@Slf4j
+@Component
+public class RunningJobMetricsCollector {
+
+    @Resource private EngineMetricsProperties engineMetricsProperties;
+
+    @Resource private RunningJobMetricsPublisher runningJobMetricsPublisher;
+
+    private final Object refreshLock = new Object();
+
+    private volatile RunningJobMetricsSnapshot snapshot = RunningJobMetricsSnapshot.EMPTY;
+
+    private long lastFailureMillis;
+
+    @Scheduled(fixedDelayString = "${seatunnel-web.engine-metrics.collect-interval-ms:5000}")
+    public void collect() {
+        synchronized (refreshLock) {
+            refresh();
+        }
+    }
+
+    /** @return a snapshot no older than the configured max staleness, if the engine is reachable */
+    public RunningJobMetricsSnapshot getSnapshot() {
+        return getSnapshot(engineMetricsProperties.getMaxStalenessMs());
+    }
+
+    public RunningJobMetricsSnapshot getSnapshot(long maxStalenessMillis) {
+        RunningJobMetricsSnapshot current = snapshot;
+        if (current.getAgeMillis() <= maxStalenessMillis) {
+            return current;
+        }
+        synchronized (refreshLock) {
+            // another reader may have refreshed while we were waiting for the lock
+            current = snapshot;
+            if (current.getAgeMillis() <= maxStalenessMillis) {
+                return current;
+            }
+            if (System.currentTimeMillis() - lastFailureMillis
+                    < engineMetricsProperties.getCollectIntervalMs()) {
+                // the engine just failed, do not make every reader wait for it again
+                return current;
+            }
+            return refresh();
+        }
+    }
+
+    private RunningJobMetricsSnapshot refresh() {
+        try {
+            Map<Long, HashMap<Integer, JobMetrics>> allRunningJobMetrics =
+                    SeaTunnelEngineMetricsExtractor.getInstance().fetchAllRunningJobMetrics();
+            RunningJobMetricsSnapshot current =
+                    new RunningJobMetricsSnapshot(
+                            snapshot.getVersion() + 1,
+                            System.currentTimeMillis(),
+                            allRunningJobMetrics);
+            snapshot = current;
+            runningJobMetricsPublisher.publish(current);
+            log.debug(
+                    "Running job metrics snapshot {} collected, {} running jobs",
+                    current.getVersion(),
+                    current.size());
+            return current;
+        } catch (Exception e) {
+            // keep serving the last good snapshot, an empty one would make every job look finished
+            lastFailureMillis = System.currentTimeMillis();
+            log.warn("Failed to collect running job metrics from engine", e);
+            return snapshot;
+        }
+    }
+}
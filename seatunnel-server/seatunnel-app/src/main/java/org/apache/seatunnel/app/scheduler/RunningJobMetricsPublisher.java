@@ -0,0 +1,521 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.scheduler;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.app.config.JobMetricsPushProperties;
+import org.apache.seatunnel.app.dal.entity.JobMetrics;
+import org.apache.seatunnel.app.domain.response.metrics.JobMetricsUpdateRes;
+import org.apache.seatunnel.app.domain.response.metrics.JobPipelineDetailMetricsRes;
+import org.apache.seatunnel.app.thirdparty.metrics.RunningJobMetricsSnapshot;
+import org.apache.seatunnel.server.common.SeatunnelErrorEnum;
+import org.apache.seatunnel.server.common.SeatunnelException;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes the metrics of running jobs to subscribed clients as server-sent events, fed by the
+ * snapshots of {@link RunningJobMetricsCollector}, so open job pages cost no engine or database
+ * round trip per poll.
+ *
+ * <p>A new subscriber first gets the {@code history} kept per running job, then a {@code metrics}
+ * event with the changed pipelines whenever a snapshot differs, and {@code finished} once the job
+ * leaves the engine. Every subscriber has at most one send in flight: updates arriving meanwhile
+ * are coalesced per pipeline, and a subscriber that does not take an event for {@code
+ * slowSubscriberTimeoutMs} is dropped. Its blocked send is interrupted then, so a few stuck clients
+ * can not hold all sender threads.
+ */
+@Slf4j
+@Component
+public class RunningJobMetricsPublisher {
+
+    public static final String HISTORY_EVENT = "history";
+
+    public static final String METRICS_EVENT = "metrics";
+
+    public static final String FINISHED_EVENT = "finished";
+
+    @Resource private JobMetricsPushProperties jobMetricsPushProperties;
+
+    /** Guards the histories and the registration of subscribers against a concurrent publish. */
+    private final Object publishLock = new Object();
+
+    private final Map<Long, ArrayDeque<JobMetricsUpdateRes>> histories = new HashMap<>();
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ExecutorService senderExecutor;
+
+    @PostConstruct
+    public void init() {
+        senderExecutor =
+                Executors.newFixedThreadPool(
+                        Math.max(jobMetricsPushProperties.getSenderThreads(), 1),
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("job-metrics-push-%d")
+                                .setDaemon(true)
+                                .build());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        senderExecutor.shutdownNow();
+        for (Set<Subscriber> jobSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : jobSubscribers) {
+                if (subscriber.markClosed()) {
+                    subscriber.complete();
+                }
+            }
+        }
+        subscribers.clear();
+    }
+
+    /** Subscribe to the metrics of a running job, starting with the history kept for it. */
+    public SseEmitter subscribe(@NonNull Long jobInstanceId, @NonNull Long jobEngineId) {
+        checkEnabled();
+        if (subscriberCount.incrementAndGet() > jobMetricsPushProperties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new SeatunnelException(
+                    SeatunnelErrorEnum.ILLEGAL_STATE,
+                    String.format(
+                            "Too many job metrics subscriptions, at most %d are allowed",
+                            jobMetricsPushProperties.getMaxSubscribers()));
+        }
+        SseEmitter emitter = new SseEmitter(jobMetricsPushProperties.getSubscriptionTimeoutMs());
+        Subscriber subscriber = new Subscriber(jobInstanceId, jobEngineId, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        synchronized (publishLock) {
+            subscribers.compute(
+                    jobEngineId,
+                    (id, jobSubscribers) -> {
+                        Set<Subscriber> result =
+                                jobSubscribers == null
+                                        ? ConcurrentHashMap.newKeySet()
+                                        : jobSubscribers;
+                        result.add(subscriber);
+                        return result;
+                    });
+            ArrayDeque<JobMetricsUpdateRes> history = histories.get(jobEngineId);
+            subscriber.offerHistory(
+                    history == null ? Collections.emptyList() : new ArrayList<>(history));
+        }
+        return emitter;
+    }
+
+    /** A subscription to a job that has already ended, it only carries the final metrics. */
+    public SseEmitter subscribeFinished(
+            @NonNull Long jobInstanceId, @NonNull List<JobPipelineDetailMetricsRes> pipelines) {
+        checkEnabled();
+        SseEmitter emitter = new SseEmitter(jobMetricsPushProperties.getSubscriptionTimeoutMs());
+        try {
+            emitter.send(
+                    SseEmitter.event()
+                            .name(HISTORY_EVENT)
+                            .data(
+                                    Collections.singletonList(
+                                            new JobMetricsUpdateRes(
+                                                    0L, System.currentTimeMillis(), pipelines))));
+            emitter.send(SseEmitter.event().name(FINISHED_EVENT).data(jobInstanceId));
+            emitter.complete();
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /** Called with every snapshot the collector publishes. */
+    public void publish(@NonNull RunningJobMetricsSnapshot snapshot) {
+        if (!jobMetricsPushProperties.isEnabled()) {
+            return;
+        }
+        try {
+            Map<Long, HashMap<Integer, JobMetrics>> runningJobMetrics = snapshot.getAllJobMetrics();
+            long now = System.currentTimeMillis();
+            synchronized (publishLock) {
+                runningJobMetrics.forEach(
+                        (jobEngineId, pipelineMetrics) ->
+                                publishJob(snapshot, jobEngineId, pipelineMetrics, now));
+                // the history of a job is dropped together with the job
+                histories.keySet().retainAll(runningJobMetrics.keySet());
+                for (Map.Entry<Long, Set<Subscriber>> entry : subscribers.entrySet()) {
+                    boolean running = runningJobMetrics.containsKey(entry.getKey());
+                    for (Subscriber subscriber : entry.getValue()) {
+                        if (subscriber.dropIfSendTimedOut(now)) {
+                            continue;
+                        }
+                        if (running) {
+                            subscriber.offerHeartbeat(now);
+                        } else if (subscriber.seen
+                                || now - subscriber.subscribeMillis
+                                        >= jobMetricsPushProperties.getStartTimeoutMs()) {
+                            subscriber.offerFinished(now);
+                        }
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to push running job metrics snapshot {}", snapshot.getVersion(), e);
+        }
+    }
+
+    private void publishJob(
+            RunningJobMetricsSnapshot snapshot,
+            Long jobEngineId,
+            Map<Integer, JobMetrics> pipelineMetrics,
+            long now) {
+        List<JobPipelineDetailMetricsRes> pipelines = new ArrayList<>(pipelineMetrics.size());
+        for (JobMetrics metrics : pipelineMetrics.values()) {
+            pipelines.add(wrapperJobMetrics(metrics));
+        }
+        JobMetricsUpdateRes update =
+                new JobMetricsUpdateRes(
+                        snapshot.getVersion(), snapshot.getCreateTimeMillis(), pipelines);
+
+        ArrayDeque<JobMetricsUpdateRes> history =
+                histories.computeIfAbsent(jobEngineId, id -> new ArrayDeque<>());
+        JobMetricsUpdateRes previous = history.peekLast();
+        // the last update is always kept, the next one is pushed as the difference to it
+        if (history.size() >= Math.max(jobMetricsPushProperties.getHistorySize(), 1)) {
+            history.pollFirst();
+        }
+        history.addLast(update);
+
+        Set<Subscriber> jobSubscribers = subscribers.get(jobEngineId);
+        if (jobSubscribers == null || jobSubscribers.isEmpty()) {
+            return;
+        }
+        JobMetricsUpdateRes changed = getChangedPipelines(previous, update);
+        for (Subscriber subscriber : jobSubscribers) {
+            subscriber.seen = true;
+            if (changed != null) {
+                subscriber.offerUpdate(changed, now);
+            }
+        }
+    }
+
+    /** @return the pipelines of {@code update} that differ from {@code previous}, null if none */
+    private static JobMetricsUpdateRes getChangedPipelines(
+            JobMetricsUpdateRes previous, JobMetricsUpdateRes update) {
+        if (previous == null) {
+            return update;
+        }
+        Map<Integer, JobPipelineDetailMetricsRes> previousPipelines = new HashMap<>();
+        for (JobPipelineDetailMetricsRes pipeline : previous.getPipelines()) {
+            previousPipelines.put(pipeline.getPipelineId(), pipeline);
+        }
+        List<JobPipelineDetailMetricsRes> changed = new ArrayList<>();
+        for (JobPipelineDetailMetricsRes pipeline : update.getPipelines()) {
+            if (!Objects.equals(previousPipelines.get(pipeline.getPipelineId()), pipeline)) {
+                changed.add(pipeline);
+            }
+        }
+        if (changed.isEmpty()) {
+            return null;
+        }
+        return new JobMetricsUpdateRes(update.getVersion(), update.getTimestamp(), changed);
+    }
+
+    private static JobPipelineDetailMetricsRes wrapperJobMetrics(JobMetrics metrics) {
+        return new JobPipelineDetailMetricsRes(
+                metrics.getId(),
+                metrics.getPipelineId(),
+                metrics.getReadRowCount(),
+                metrics.getWriteRowCount(),
+                metrics.getSourceTableNames(),
+                metrics.getSinkTableNames(),
+                metrics.getReadQps(),
+                metrics.getWriteQps(),
+                metrics.getRecordDelay(),
+                metrics.getStatus());
+    }
+
+    private void checkEnabled() {
+        if (!jobMetricsPushProperties.isEnabled()) {
+            throw new SeatunnelException(
+                    SeatunnelErrorEnum.ILLEGAL_STATE, "Pushing job metrics is disabled");
+        }
+    }
+
+    private class Subscriber {
+        private final Long jobInstanceId;
+        private final Long jobEngineId;
+        private final SseEmitter emitter;
+        private final long subscribeMillis;
+
+        /** Whether the job has been running since the subscription, guarded by publishLock. */
+        private boolean seen;
+
+        private List<JobMetricsUpdateRes> pendingHistory;
+        private final Map<Integer, JobPipelineDetailMetricsRes> pendingPipelines =
+                new LinkedHashMap<>();
+        private long pendingVersion;
+        private long pendingTimestamp;
+        private boolean pendingHeartbeat;
+        private boolean pendingFinished;
+        private boolean sending;
+        private boolean closed;
+        private long sendStartMillis;
+        private long lastEventMillis;
+
+        /** The sender thread while it writes to the client, interrupted when the send times out. */
+        private Thread sendingThread;
+
+        private Subscriber(Long jobInstanceId, Long jobEngineId, SseEmitter emitter) {
+            this.jobInstanceId = jobInstanceId;
+            this.jobEngineId = jobEngineId;
+            this.emitter = emitter;
+            this.subscribeMillis = System.currentTimeMillis();
+        }
+
+        private synchronized void offerHistory(List<JobMetricsUpdateRes> history) {
+            pendingHistory = history;
+            schedule(subscribeMillis);
+        }
+
+        private void offerUpdate(JobMetricsUpdateRes update, long now) {
+            boolean dropped;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                // a newer value of a pipeline replaces the one the client has not taken yet
+                for (JobPipelineDetailMetricsRes pipeline : update.getPipelines()) {
+                    pendingPipelines.put(pipeline.getPipelineId(), pipeline);
+                }
+                pendingVersion = update.getVersion();
+                pendingTimestamp = update.getTimestamp();
+                dropped = schedule(now);
+            }
+            if (dropped) {
+                unregister();
+            }
+        }
+
+        private void offerHeartbeat(long now) {
+            boolean dropped;
+            synchronized (this) {
+                if (closed
+                        || now - lastEventMillis
+                                < jobMetricsPushProperties.getHeartbeatIntervalMs()) {
+                    return;
+                }
+                pendingHeartbeat = true;
+                dropped = schedule(now);
+            }
+            if (dropped) {
+                unregister();
+            }
+        }
+
+        private void offerFinished(long now) {
+            boolean dropped;
+            synchronized (this) {
+                if (closed || pendingFinished) {
+                    return;
+                }
+                pendingFinished = true;
+                dropped = schedule(now);
+            }
+            if (dropped) {
+                unregister();
+            }
+        }
+
+        /** @return true if the subscriber was dropped for not taking events */
+        private boolean schedule(long now) {
+            lastEventMillis = now;
+            if (sending) {
+                return isSendTimedOut(now) && dropSlow();
+            }
+            sending = true;
+            sendStartMillis = now;
+            senderExecutor.execute(this::drain);
+            return false;
+        }
+
+        /** Drop the subscriber when its send is blocked too long, even without new updates. */
+        private boolean dropIfSendTimedOut(long now) {
+            boolean dropped;
+            synchronized (this) {
+                dropped = !closed && sending && isSendTimedOut(now) && dropSlow();
+            }
+            if (dropped) {
+                unregister();
+            }
+            return dropped;
+        }
+
+        private boolean isSendTimedOut(long now) {
+            return now - sendStartMillis >= jobMetricsPushProperties.getSlowSubscriberTimeoutMs();
+        }
+
+        private boolean dropSlow() {
+            log.info("Drop slow job metrics subscriber of job instance {}", jobInstanceId);
+            closed = true;
+            // the write fails once interrupted and frees the sender thread, the container then
+            // completes the request
+            if (sendingThread != null) {
+                sendingThread.interrupt();
+            }
+            return true;
+        }
+
+        private void drain() {
+            while (true) {
+                List<JobMetricsUpdateRes> history;
+                JobMetricsUpdateRes update = null;
+                boolean heartbeat;
+                boolean finished;
+                boolean dropped;
+                boolean idle;
+                synchronized (this) {
+                    dropped = closed;
+                    history = pendingHistory;
+                    pendingHistory = null;
+                    if (!pendingPipelines.isEmpty()) {
+                        update =
+                                new JobMetricsUpdateRes(
+                                        pendingVersion,
+                                        pendingTimestamp,
+                                        new ArrayList<>(pendingPipelines.values()));
+                        pendingPipelines.clear();
+                    }
+                    heartbeat = pendingHeartbeat && history == null && update == null;
+                    pendingHeartbeat = false;
+                    finished = pendingFinished;
+                    idle = history == null && update == null && !heartbeat && !finished;
+                    if (dropped || idle) {
+                        sending = false;
+                    } else {
+                        sendStartMillis = System.currentTimeMillis();
+                        sendingThread = Thread.currentThread();
+                    }
+                }
+                if (dropped) {
+                    complete();
+                    return;
+                }
+                if (idle) {
+                    return;
+                }
+                try {
+                    if (history != null) {
+                        emitter.send(SseEmitter.event().name(HISTORY_EVENT).data(history));
+                    }
+                    if (update != null) {
+                        emitter.send(
+                                SseEmitter.event()
+                                        .name(METRICS_EVENT)
+                                        .id(String.valueOf(update.getVersion()))
+                                        .data(update));
+                    }
+                    if (heartbeat) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                    if (finished) {
+                        emitter.send(SseEmitter.event().name(FINISHED_EVENT).data(jobInstanceId));
+                        close();
+                        complete();
+                        return;
+                    }
+                } catch (Exception e) {
+                    // the client went away or the send timed out, the container completes the
+                    // request
+                    log.debug(
+                            "Push job metrics to subscriber of job instance {} failed",
+                            jobInstanceId,
+                            e);
+                    close();
+                    return;
+                } finally {
+                    synchronized (this) {
+                        sendingThread = null;
+                    }
+                    // an interrupt that came after the send returned must not hit the next task
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        private synchronized boolean markClosed() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            return true;
+        }
+
+        private void close() {
+            if (markClosed()) {
+                unregister();
+            }
+        }
+
+        private void unregister() {
+            subscribers.computeIfPresent(
+                    jobEngineId,
+                    (id, jobSubscribers) -> {
+                        jobSubscribers.remove(this);
+                        return jobSubscribers.isEmpty() ? null : jobSubscribers;
+                    });
+            subscriberCount.decrementAndGet();
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                log.debug(
+                        "Complete job metrics subscriber of job instance {} failed",
+                        jobInstanceId,
+                        e);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.security;
+
+import org.apache.seatunnel.app.config.AuthenticationCacheProperties;
+import org.apache.seatunnel.app.dal.dao.IUserDao;
+import org.apache.seatunnel.app.dal.entity.UserLoginLog;
+
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import lombok.Value;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.jsonwebtoken.Claims.EXPIRATION;
+
+/**
+ * Remembers the claims of verified tokens and the sessions found valid in the login log, so that an
+ * authenticated request neither verifies the token signature again nor queries the login log.
+ *
+ * <p>Only valid sessions are remembered and only for {@code sessionTtlMs}. Logging out and
+ * disabling or deleting a user drop the sessions of the user at once.
+ */
+@Component
+public class AuthenticationCache {
+
+    @Resource private AuthenticationCacheProperties cacheProperties;
+
+    @Resource private JwtUtils jwtUtils;
+
+    @Resource private IUserDao userDaoImpl;
+
+    private Cache<String, Map<String, Object>> tokenClaims;
+
+    private Cache<SessionKey, Boolean> validSessions;
+
+    // bumped by every invalidation, a session read before it must not be remembered after it
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        tokenClaims =
+                CacheBuilder.newBuilder()
+                        .maximumSize(cacheProperties.getMaximumSize())
+                        .expireAfterWrite(cacheProperties.getTokenTtlMs(), TimeUnit.MILLISECONDS)
+                        .build();
+        validSessions =
+                CacheBuilder.newBuilder()
+                        .maximumSize(cacheProperties.getMaximumSize())
+                        .expireAfterWrite(cacheProperties.getSessionTtlMs(), TimeUnit.MILLISECONDS)
+                        .build();
+    }
+
+    /** Like {@link JwtUtils#parseToken}, but a known token is not verified again. */
+    public Map<String, Object> parseToken(String token) {
+        if (!cacheProperties.isEnabled()) {
+            return jwtUtils.parseToken(token);
+        }
+        // keyed by hash, so the cache does not hold usable tokens
+        String tokenHash = hash(token);
+        Map<String, Object> claims = tokenClaims.getIfPresent(tokenHash);
+        if (claims != null && !isExpired(claims)) {
+            return claims;
+        }
+        // expired tokens are parsed again to fail exactly like before
+        tokenClaims.invalidate(tokenHash);
+        claims = Collections.unmodifiableMap(new HashMap<>(jwtUtils.parseToken(token)));
+        tokenClaims.put(tokenHash, claims);
+        return claims;
+    }
+
+    /** Whether the last login of the user in the workspace is still enabled. */
+    public boolean isSessionValid(Integer userId, Long workspaceId, String token) {
+        if (!cacheProperties.isEnabled()) {
+            return isSessionEnabled(userId, workspaceId);
+        }
+        SessionKey key = new SessionKey(userId, workspaceId, hash(token));
+        if (validSessions.getIfPresent(key) != null) {
+            return true;
+        }
+        long invalidationsBefore = invalidations.get();
+        boolean valid = isSessionEnabled(userId, workspaceId);
+        if (valid) {
+            validSessions.put(key, Boolean.TRUE);
+            if (invalidations.get() != invalidationsBefore) {
+                // the user logged out or was changed while the login log was read
+                validSessions.invalidate(key);
+            }
+        }
+        return valid;
+    }
+
+    /** Drop the remembered sessions of the user, e.g. on logout or when the user is disabled. */
+    public void invalidateUser(Integer userId) {
+        invalidations.incrementAndGet();
+        validSessions.asMap().keySet().removeIf(key -> key.getUserId().equals(userId));
+    }
+
+    private static String hash(String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    }
+
+    private boolean isSessionEnabled(Integer userId, Long workspaceId) {
+        UserLoginLog userLoginLog = userDaoImpl.getLastLoginLog(userId, workspaceId);
+        return !Objects.isNull(userLoginLog) && userLoginLog.getTokenStatus();
+    }
+
+    private static boolean isExpired(Map<String, Object> claims) {
+        Object expireDate = claims.get(EXPIRATION);
+        return !(expireDate instanceof Number)
+                || System.currentTimeMillis() - ((Number) expireDate).longValue() * 1000 > 0;
+    }
+
+    @Value
+    private static class SessionKey {
+        Integer userId;
+        Long workspaceId;
+        String tokenHash;
+    }
+}
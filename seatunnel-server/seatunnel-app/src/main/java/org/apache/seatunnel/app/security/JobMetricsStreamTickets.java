@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.security;
+
+import org.apache.seatunnel.app.config.JobMetricsPushProperties;
+
+import org.apache.commons.lang3.StringUtils;
+
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.NonNull;
+import lombok.Value;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single use tickets that open the metrics stream of one job instance.
+ *
+ * <p>The stream is opened by an EventSource, which can not send the token header. The client asks
+ * for a ticket with its token and opens the stream with the ticket instead, so the token never
+ * shows up in a URL. A ticket is valid for {@code stream-ticket-ttl-ms}, only for the job instance
+ * it was issued for and only once. The stream is then authenticated with the token the ticket was
+ * issued to, a logout in between still ends it. Tickets are kept by the node that issued them.
+ */
+@Component
+public class JobMetricsStreamTickets {
+
+    public static final String STREAM_PATH = "/seatunnel/api/v1/job/metrics/stream";
+
+    public static final String TICKET_PARAMETER = "ticket";
+
+    public static final String JOB_INSTANCE_ID_PARAMETER = "jobInstanceId";
+
+    private static final int TICKET_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Resource private JobMetricsPushProperties jobMetricsPushProperties;
+
+    private Cache<String, Ticket> tickets;
+
+    @PostConstruct
+    public void init() {
+        tickets =
+                CacheBuilder.newBuilder()
+                        .maximumSize(jobMetricsPushProperties.getMaxSubscribers())
+                        .expireAfterWrite(
+                                jobMetricsPushProperties.getStreamTicketTtlMs(),
+                                TimeUnit.MILLISECONDS)
+                        .build();
+    }
+
+    /** Issue a ticket that opens the metrics stream of {@code jobInstanceId} as {@code token}. */
+    public String issue(@NonNull String token, @NonNull Long jobInstanceId) {
+        byte[] bytes = new byte[TICKET_BYTES];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(
+                ticket,
+                new Ticket(
+                        token,
+                        jobInstanceId,
+                        System.currentTimeMillis()
+                                + jobMetricsPushProperties.getStreamTicketTtlMs()));
+        return ticket;
+    }
+
+    /**
+     * Use up {@code ticket}.
+     *
+     * @return the token the ticket was issued to, or null if the ticket is unknown, used, expired
+     *     or issued for another job instance
+     */
+    public String redeem(String ticket, String jobInstanceId) {
+        if (StringUtils.isAnyBlank(ticket, jobInstanceId)) {
+            return null;
+        }
+        Ticket issued = tickets.asMap().remove(ticket);
+        if (issued == null
+                // the map view may still hold an expired entry
+                || System.currentTimeMillis() > issued.getExpireMillis()
+                || !issued.getJobInstanceId().toString().equals(jobInstanceId)) {
+            return null;
+        }
+        return issued.getToken();
+    }
+
+    @Value
+    private static class Ticket {
+        String token;
+        Long jobInstanceId;
+        long expireMillis;
+    }
+}
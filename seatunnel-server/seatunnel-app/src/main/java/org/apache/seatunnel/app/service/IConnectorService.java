@@ -45,8 +45,8 @@ public interface IConnectorService {
 
     void sync() throws IOException;
 
-    FormStructure getConnectorFormStructure(
-            @NonNull String pluginType, @NonNull String connectorName);
+    /** @return the form structure of a connector, rendered as json */
+    String getConnectorFormStructure(@NonNull String pluginType, @NonNull String connectorName);
 
     FormStructure getTransformFormStructure(
             @NonNull String pluginType, @NonNull String connectorName);
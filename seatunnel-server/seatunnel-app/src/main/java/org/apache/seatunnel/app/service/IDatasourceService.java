@@ -18,8 +18,10 @@
 package org.apache.seatunnel.app.service;
 
 import org.apache.seatunnel.api.configuration.util.OptionRule;
+import org.apache.seatunnel.app.domain.dto.datasource.DatabaseTables;
 import org.apache.seatunnel.app.domain.response.PageInfo;
 import org.apache.seatunnel.app.domain.response.datasource.DatasourceDetailRes;
+import org.apache.seatunnel.app.domain.response.datasource.DatasourceMetadataCacheMetricsRes;
 import org.apache.seatunnel.app.domain.response.datasource.DatasourceRes;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginInfo;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
@@ -222,16 +224,52 @@ public interface IDatasourceService {
      * @param datasourceName datasourceName
      * @return List String databaseName
      */
-    List<String> queryDatabaseByDatasourceName(String datasourceName);
+    default List<String> queryDatabaseByDatasourceName(String datasourceName) {
+        return queryDatabaseByDatasourceName(datasourceName, false);
+    }
+
+    /**
+     * queryDatabaseByDatasourceName
+     *
+     * @param datasourceName datasourceName
+     * @param forceRefresh read from the datasource instead of the metadata cache
+     * @return List String databaseName
+     */
+    List<String> queryDatabaseByDatasourceName(String datasourceName, boolean forceRefresh);
+
+    /**
+     * queryTableNames
+     *
+     * @param datasourceName datasourceName
+     * @param databaseName databaseName
+     * @return List tableName
+     */
+    default List<String> queryTableNames(String datasourceName, String databaseName) {
+        return queryTableNames(datasourceName, databaseName, false);
+    }
 
     /**
      * queryTableNames
      *
      * @param datasourceName datasourceName
      * @param databaseName databaseName
+     * @param forceRefresh read from the datasource instead of the metadata cache
      * @return List tableName
      */
-    List<String> queryTableNames(String datasourceName, String databaseName);
+    List<String> queryTableNames(String datasourceName, String databaseName, boolean forceRefresh);
+
+    /**
+     * queryTableSchema
+     *
+     * @param datasourceName datasourceName
+     * @param databaseName databaseName
+     * @param tableName tableName
+     * @return List tableField
+     */
+    default List<TableField> queryTableSchema(
+            String datasourceName, String databaseName, String tableName) {
+        return queryTableSchema(datasourceName, databaseName, tableName, false);
+    }
 
     /**
      * queryTableSchema
@@ -239,14 +277,41 @@ public interface IDatasourceService {
      * @param datasourceName datasourceName
      * @param databaseName databaseName
      * @param tableName tableName
+     * @param forceRefresh read from the datasource instead of the metadata cache
      * @return List tableField
      */
-    List<TableField> queryTableSchema(String datasourceName, String databaseName, String tableName);
+    List<TableField> queryTableSchema(
+            String datasourceName, String databaseName, String tableName, boolean forceRefresh);
 
     default List<String> queryTableNames(
             String datasourceName, String databaseName, String filterName, Integer size) {
+        return queryTableNames(datasourceName, databaseName, filterName, size, false);
+    }
+
+    default List<String> queryTableNames(
+            String datasourceName,
+            String databaseName,
+            String filterName,
+            Integer size,
+            boolean forceRefresh) {
         return new ArrayList<>();
     }
 
+    /**
+     * queryAllTables
+     *
+     * @param datasourceName datasourceName
+     * @param forceRefresh read from the datasource instead of the metadata cache
+     * @return tables of every database, databases that could not be listed carry an error message
+     */
+    List<DatabaseTables> queryAllTables(String datasourceName, boolean forceRefresh);
+
+    /**
+     * hit, miss and load latency of the datasource metadata cache
+     *
+     * @return metrics
+     */
+    DatasourceMetadataCacheMetricsRes getMetadataCacheMetrics();
+
     List<String> getDatasourceNames(String workspaceName, String searchName);
 }
@@ -18,6 +18,7 @@ package org.apache.seatunnel.app.service;
 
 import org.apache.seatunnel.app.bean.engine.EngineDataType;
 import org.apache.seatunnel.app.domain.response.engine.Engine;
+import org.apache.seatunnel.app.domain.response.engine.EngineClientMetricsRes;
 
 import java.util.List;
 
@@ -26,4 +27,6 @@ public interface IEngineService {
     List<Engine> listSupportEngines();
 
     List<EngineDataType.DataType> listSupportDataTypes();
+
+    EngineClientMetricsRes getEngineClientMetrics();
 }
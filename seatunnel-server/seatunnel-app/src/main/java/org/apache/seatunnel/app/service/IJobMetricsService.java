@@ -20,13 +20,15 @@ package org.apache.seatunnel.app.service;
 import org.apache.seatunnel.app.dal.entity.JobInstance;
 import org.apache.seatunnel.app.dal.entity.JobMetricsHistory;
 import org.apache.seatunnel.app.domain.response.metrics.JobDAG;
+import org.apache.seatunnel.app.domain.response.metrics.JobMetricsHistoryWriterMetricsRes;
 import org.apache.seatunnel.app.domain.response.metrics.JobPipelineDetailMetricsRes;
 import org.apache.seatunnel.app.domain.response.metrics.JobPipelineSummaryMetricsRes;
 import org.apache.seatunnel.app.domain.response.metrics.JobSummaryMetricsRes;
-import org.apache.seatunnel.common.constants.JobMode;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.NonNull;
 
@@ -53,8 +55,7 @@ public interface IJobMetricsService {
 
     Map<Long, JobSummaryMetricsRes> getALLJobSummaryMetrics(
             @NonNull Map<Long, Long> jobInstanceIdAndJobEngineIdMap,
-            @NonNull List<Long> jobInstanceIdList,
-            @NonNull JobMode jobMode);
+            @NonNull List<Long> jobInstanceIdList);
 
     /**
      * Get job metrics history data
@@ -66,4 +67,31 @@ public interface IJobMetricsService {
 
     List<JobMetricsHistory> getJobMetricsHistory(
             Long jobInstanceId, String startTime, String endTime);
+
+    /**
+     * Get job metrics history data in the coarsest resolution that still has about {@code
+     * maxPoints} points in the time range
+     *
+     * <p>Without a time range and without {@code maxPoints} all raw data points of the job are
+     * returned, like {@link #getJobMetricsHistory(Long)}.
+     *
+     * @param startTime yyyy-MM-dd HH:mm:ss, the whole job when it or endTime is empty
+     * @param maxPoints the configured default when null and a time range is given
+     */
+    List<JobMetricsHistory> getJobMetricsHistory(
+            Long jobInstanceId, String startTime, String endTime, Integer maxPoints);
+
+    JobMetricsHistoryWriterMetricsRes getJobMetricsHistoryWriterMetrics();
+
+    /**
+     * Subscribe to the pipeline metrics of a job instance, they are pushed as server-sent events
+     * while the job runs
+     */
+    SseEmitter subscribeJobMetrics(@NonNull Long jobInstanceId);
+
+    /**
+     * Issue a single use ticket that opens the metrics stream of a job instance as the holder of
+     * {@code token}, for clients that can not send the token header
+     */
+    String createJobMetricsStreamTicket(@NonNull Long jobInstanceId, @NonNull String token);
 }
@@ -184,10 +184,10 @@ public class ConnectorServiceImpl extends SeatunnelBaseServiceImpl implements IC
     }
 
     @Override
-    public FormStructure getConnectorFormStructure(
+    public String getConnectorFormStructure(
             @NonNull String pluginType, @NonNull String connectorName) {
         funcPermissionCheck(SeatunnelFuncPermissionKeyConstant.CONNECTOR_FORM, 0);
-        FormStructure formStructure = connectorCache.getFormStructure(pluginType, connectorName);
+        String formStructure = connectorCache.getFormStructure(pluginType, connectorName);
         if (formStructure == null) {
             throw new SeatunnelException(
                     SeatunnelErrorEnum.CONNECTOR_NOT_FOUND, pluginType, connectorName);
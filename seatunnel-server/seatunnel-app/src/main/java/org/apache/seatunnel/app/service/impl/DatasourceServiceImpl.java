@@ -17,16 +17,21 @@
 
 package org.apache.seatunnel.app.service.impl;
 
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.app.config.ConnectorDataSourceMapperConfig;
+import org.apache.seatunnel.app.config.DatasourceAllTablesProperties;
 import org.apache.seatunnel.app.dal.dao.IDatasourceDao;
 import org.apache.seatunnel.app.dal.dao.IJobTaskDao;
 import org.apache.seatunnel.app.dal.dao.IVirtualTableDao;
 import org.apache.seatunnel.app.dal.entity.Datasource;
 import org.apache.seatunnel.app.dal.entity.JobTask;
 import org.apache.seatunnel.app.dal.entity.VirtualTable;
+import org.apache.seatunnel.app.domain.dto.datasource.DatabaseTables;
 import org.apache.seatunnel.app.domain.response.PageInfo;
 import org.apache.seatunnel.app.domain.response.datasource.DatasourceDetailRes;
+import org.apache.seatunnel.app.domain.response.datasource.DatasourceMetadataCacheMetricsRes;
 import org.apache.seatunnel.app.domain.response.datasource.DatasourceRes;
 import org.apache.seatunnel.app.domain.response.datasource.VirtualTableFieldRes;
 import org.apache.seatunnel.app.dynamicforms.FormStructure;
@@ -37,12 +42,14 @@ import org.apache.seatunnel.app.service.IJobDefinitionService;
 import org.apache.seatunnel.app.service.ITableSchemaService;
 import org.apache.seatunnel.app.service.WorkspaceService;
 import org.apache.seatunnel.app.thirdparty.datasource.DataSourceClientFactory;
+import org.apache.seatunnel.app.thirdparty.datasource.DatasourceMetadataCache;
 import org.apache.seatunnel.app.thirdparty.framework.SeaTunnelOptionRuleWrapper;
 import org.apache.seatunnel.app.utils.ConfigShadeUtil;
 import org.apache.seatunnel.app.utils.ServletUtils;
 import org.apache.seatunnel.common.access.AccessType;
 import org.apache.seatunnel.common.access.ResourceType;
 import org.apache.seatunnel.common.utils.JsonUtils;
+import org.apache.seatunnel.datasource.DataSourceClient;
 import org.apache.seatunnel.datasource.plugin.api.DataSourcePluginInfo;
 import org.apache.seatunnel.datasource.plugin.api.DatasourcePluginTypeEnum;
 import org.apache.seatunnel.datasource.plugin.api.model.TableField;
@@ -64,7 +71,10 @@ import org.springframework.stereotype.Service;
 
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
 
 import java.util.ArrayList;
@@ -73,8 +83,16 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class DatasourceServiceImpl extends SeatunnelBaseServiceImpl
         implements IDatasourceService, ApplicationContextAware {
@@ -102,6 +120,34 @@ public class DatasourceServiceImpl extends SeatunnelBaseServiceImpl
 
     @Resource private WorkspaceService workspaceService;
 
+    @Resource private DatasourceMetadataCache metadataCache;
+
+    @Resource private DatasourceAllTablesProperties allTablesProperties;
+
+    private ThreadPoolExecutor allTablesExecutor;
+
+    @PostConstruct
+    public void init() {
+        int threads = Math.max(allTablesProperties.getThreads(), 1);
+        allTablesExecutor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(
+                                Math.max(allTablesProperties.getQueueCapacity(), 1)),
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("datasource-all-tables-%d")
+                                .setDaemon(true)
+                                .build());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        allTablesExecutor.shutdownNow();
+    }
+
     @Override
     public String createDatasource(
             String datasourceName,
@@ -177,7 +223,9 @@ public class DatasourceServiceImpl extends SeatunnelBaseServiceImpl
             String configJson = JsonUtils.toJsonString(datasourceConfig);
             datasource.setDatasourceConfig(configJson);
         }
-        return datasourceDao.updateDatasourceById(datasource);
+        boolean success = datasourceDao.updateDatasourceById(datasource);
+        metadataCache.invalidate(datasourceId);
+        return success;
     }
 
     @Override
@@ -200,7 +248,9 @@ public class DatasourceServiceImpl extends SeatunnelBaseServiceImpl
             return true;
         }
         permCheck(datasource.getDatasourceName(), AccessType.DELETE);
-        return datasourceDao.deleteDatasourceById(datasourceId);
+        boolean success = datasourceDao.deleteDatasourceById(datasourceId);
+        metadataCache.invalidate(datasourceId);
+        return success;
     }
 
     @Override
@@ -261,7 +311,7 @@ public class DatasourceServiceImpl extends SeatunnelBaseServiceImpl
     }
 
     @Override
-    public List<String> queryDatabaseByDatasourceName(String datasourceName) {
+    public List<String> queryDatabaseByDatasourceName(String datasourceName, boolean forceRefresh) {
         funcPermissionCheck(SeatunnelFuncPermissionKeyConstant.DATASOURCE_DATABASES, 0);
         Datasource datasource = datasourceDao.queryDatasourceByName(datasourceName);
         if (null == datasource) {
@@ -274,8 +324,12 @@ public class DatasourceServiceImpl extends SeatunnelBaseServiceImpl
                     JsonUtils.toMap(config, String.class, String.class);
 
             configShadeUtil.decryptData(datasourceConfig);
-            return DataSourceClientFactory.getDataSourceClient()
-                    .getDatabases(pluginName, datasourceConfig);
+            return metadataCache.getDatabases(
+                    datasource,
+                    forceRefresh,
+                    () ->
+                            DataSourceClientFactory.getDataSourceClient()
+                                    .getDatabases(pluginName, datasourceConfig));
         }
         long dataSourceId = datasource.getId();
         boolean hasVirtualTable = virtualTableDao.checkHasVirtualTable(dataSourceId);
@@ -292,7 +346,11 @@ public class DatasourceServiceImpl extends SeatunnelBaseServiceImpl
 
     @Override
     public List<String> queryTableNames(
-            String datasourceName, String databaseName, String filterName, Integer size) {
+            String datasourceName,
+            String databaseName,
+            String filterName,
+            Integer size,
+            boolean forceRefresh) {
         Datasource datasource = datasourceDao.queryDatasourceByName(datasourceName);
         if (null == datasource) {
             throw new SeatunnelException(SeatunnelErrorEnum.DATASOURCE_NOT_FOUND, datasourceName);
@@ -305,15 +363,24 @@ public class DatasourceServiceImpl extends SeatunnelBaseServiceImpl
         String pluginName = datasource.getPluginName();
         if (BooleanUtils.isNotTrue(checkIsSupportVirtualTable(pluginName))) {
             configShadeUtil.decryptData(datasourceConfig);
-            return DataSourceClientFactory.getDataSourceClient()
-                    .getTables(pluginName, databaseName, datasourceConfig, options);
+            return metadataCache.getTableNames(
+                    datasource,
+                    databaseName,
+                    filterName,
+                    size,
+                    forceRefresh,
+                    () ->
+                            DataSourceClientFactory.getDataSourceClient()
+                                    .getTables(
+                                            pluginName, databaseName, datasourceConfig, options));
         }
         long dataSourceId = datasource.getId();
         return virtualTableDao.getVirtualTableNames(VIRTUAL_TABLE_DATABASE_NAME, dataSourceId);
     }
 
     @Override
-    public List<String> queryTableNames(String datasourceName, String databaseName) {
+    public List<String> queryTableNames(
+            String datasourceName, String databaseName, boolean forceRefresh) {
         Datasource datasource = datasourceDao.queryDatasourceByName(datasourceName);
         if (null == datasource) {
             throw new SeatunnelException(SeatunnelErrorEnum.DATASOURCE_NOT_FOUND, datasourceName);
@@ -324,8 +391,16 @@ public class DatasourceServiceImpl extends SeatunnelBaseServiceImpl
         String pluginName = datasource.getPluginName();
         if (BooleanUtils.isNotTrue(checkIsSupportVirtualTable(pluginName))) {
             configShadeUtil.decryptData(datasourceConfig);
-            return DataSourceClientFactory.getDataSourceClient()
-                    .getTables(pluginName, databaseName, datasourceConfig, options);
+            return metadataCache.getTableNames(
+                    datasource,
+                    databaseName,
+                    null,
+                    null,
+                    forceRefresh,
+                    () ->
+                            DataSourceClientFactory.getDataSourceClient()
+                                    .getTables(
+                                            pluginName, databaseName, datasourceConfig, options));
         }
         long dataSourceId = datasource.getId();
         return virtualTableDao.getVirtualTableNames(VIRTUAL_TABLE_DATABASE_NAME, dataSourceId);
@@ -333,7 +408,7 @@ public class DatasourceServiceImpl extends SeatunnelBaseServiceImpl
 
     @Override
     public List<TableField> queryTableSchema(
-            String datasourceName, String databaseName, String tableName) {
+            String datasourceName, String databaseName, String tableName, boolean forceRefresh) {
         Datasource datasource = datasourceDao.queryDatasourceByName(datasourceName);
         if (null == datasource) {
             throw new SeatunnelException(SeatunnelErrorEnum.DATASOURCE_NOT_FOUND, datasourceName);
@@ -345,12 +420,22 @@ public class DatasourceServiceImpl extends SeatunnelBaseServiceImpl
                 (ITableSchemaService) applicationContext.getBean("tableSchemaServiceImpl");
         if (BooleanUtils.isNotTrue(checkIsSupportVirtualTable(pluginName))) {
             configShadeUtil.decryptData(datasourceConfig);
-            List<TableField> tableFields =
-                    DataSourceClientFactory.getDataSourceClient()
-                            .getTableFields(pluginName, datasourceConfig, databaseName, tableName);
-
-            tableSchemaService.getAddSeaTunnelSchema(tableFields, pluginName);
-            return tableFields;
+            return metadataCache.getTableFields(
+                    datasource,
+                    databaseName,
+                    tableName,
+                    forceRefresh,
+                    () -> {
+                        List<TableField> tableFields =
+                                DataSourceClientFactory.getDataSourceClient()
+                                        .getTableFields(
+                                                pluginName,
+                                                datasourceConfig,
+                                                databaseName,
+                                                tableName);
+                        tableSchemaService.getAddSeaTunnelSchema(tableFields, pluginName);
+                        return tableFields;
+                    });
         }
         VirtualTable virtualTable = virtualTableDao.selectVirtualTableByTableName(tableName);
         if (virtualTable == null) {
@@ -364,6 +449,126 @@ public class DatasourceServiceImpl extends SeatunnelBaseServiceImpl
         return tableFields;
     }
 
+    @Override
+    public List<DatabaseTables> queryAllTables(String datasourceName, boolean forceRefresh) {
+        List<String> databases = queryDatabaseByDatasourceName(datasourceName, forceRefresh);
+        Datasource datasource = datasourceDao.queryDatasourceByName(datasourceName);
+        if (null == datasource) {
+            throw new SeatunnelException(SeatunnelErrorEnum.DATASOURCE_NOT_FOUND, datasourceName);
+        }
+        String pluginName = datasource.getPluginName();
+        if (BooleanUtils.isTrue(checkIsSupportVirtualTable(pluginName))) {
+            List<String> virtualTableNames =
+                    virtualTableDao.getVirtualTableNames(
+                            VIRTUAL_TABLE_DATABASE_NAME, datasource.getId());
+            return databases.stream()
+                    .map(database -> new DatabaseTables(database, virtualTableNames))
+                    .collect(Collectors.toList());
+        }
+        Map<String, String> datasourceConfig =
+                JsonUtils.toMap(datasource.getDatasourceConfig(), String.class, String.class);
+        configShadeUtil.decryptData(datasourceConfig);
+        DataSourceClient dataSourceClient = DataSourceClientFactory.getDataSourceClient();
+        if (BooleanUtils.isTrue(dataSourceClient.canAbleGetAllTables(pluginName))) {
+            return metadataCache.getAllTables(
+                    datasource,
+                    databases,
+                    forceRefresh,
+                    () ->
+                            dataSourceClient.getAllTables(pluginName, datasourceConfig, databases)
+                                    .entrySet().stream()
+                                    .map(
+                                            entry ->
+                                                    new DatabaseTables(
+                                                            entry.getKey(), entry.getValue()))
+                                    .collect(Collectors.toList()));
+        }
+        return queryAllTablesInParallel(datasource, databases, datasourceConfig, forceRefresh);
+    }
+
+    /**
+     * Lists the tables of every database on the bounded all-tables pool. Databases not listed
+     * before the request timeout, whose listing failed, or that did not fit in the queue of the
+     * pool, are returned without tables and with an error message, so one slow database does not
+     * hide the others.
+     */
+    private List<DatabaseTables> queryAllTablesInParallel(
+            Datasource datasource,
+            List<String> databases,
+            Map<String, String> datasourceConfig,
+            boolean forceRefresh) {
+        String pluginName = datasource.getPluginName();
+        List<Future<List<String>>> futures = new ArrayList<>(databases.size());
+        for (String database : databases) {
+            // every task gets its own params, channels are free to modify them
+            Map<String, String> requestParams = new HashMap<>(datasourceConfig);
+            try {
+                futures.add(
+                        allTablesExecutor.submit(
+                                () ->
+                                        metadataCache.getTableNames(
+                                                datasource,
+                                                database,
+                                                null,
+                                                null,
+                                                forceRefresh,
+                                                () ->
+                                                        DataSourceClientFactory
+                                                                .getDataSourceClient()
+                                                                .getTables(
+                                                                        pluginName,
+                                                                        database,
+                                                                        requestParams,
+                                                                        new HashMap<>()))));
+            } catch (RejectedExecutionException e) {
+                // the queue is full, report the database instead of queueing without bound
+                futures.add(null);
+            }
+        }
+        long timeoutMillis = allTablesProperties.getTimeoutMs();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        List<DatabaseTables> allTables = new ArrayList<>(databases.size());
+        for (int i = 0; i < databases.size(); i++) {
+            DatabaseTables databaseTables = new DatabaseTables(databases.get(i), new ArrayList<>());
+            Future<List<String>> future = futures.get(i);
+            if (future == null) {
+                databaseTables.setErrorMessage(
+                        "Too many databases are being listed, please try again later");
+                allTables.add(databaseTables);
+                continue;
+            }
+            try {
+                databaseTables.setTables(
+                        future.get(
+                                Math.max(deadline - System.currentTimeMillis(), 0L),
+                                TimeUnit.MILLISECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                databaseTables.setErrorMessage(
+                        String.format("List tables timed out after %d ms", timeoutMillis));
+            } catch (ExecutionException e) {
+                log.warn(
+                        "List tables of database {} in datasource {} failed",
+                        databases.get(i),
+                        datasource.getDatasourceName(),
+                        e.getCause());
+                databaseTables.setErrorMessage(e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                databaseTables.setErrorMessage("List tables interrupted");
+            }
+            allTables.add(databaseTables);
+        }
+        return allTables;
+    }
+
+    @Override
+    public DatasourceMetadataCacheMetricsRes getMetadataCacheMetrics() {
+        funcPermissionCheck(SeatunnelFuncPermissionKeyConstant.CLUSTER_METRICS_VIEW, 0);
+        return metadataCache.getMetrics();
+    }
+
     private List<TableField> convertTableSchema(String virtualTableFieldJson) {
         List<TableField> fields = new ArrayList<>();
         List<VirtualTableFieldRes> virtualTableFields =
@@ -19,8 +19,10 @@ package org.apache.seatunnel.app.service.impl;
 import org.apache.seatunnel.app.bean.engine.EngineDataType;
 import org.apache.seatunnel.app.common.EngineType;
 import org.apache.seatunnel.app.domain.response.engine.Engine;
+import org.apache.seatunnel.app.domain.response.engine.EngineClientMetricsRes;
 import org.apache.seatunnel.app.permission.constants.SeatunnelFuncPermissionKeyConstant;
 import org.apache.seatunnel.app.service.IEngineService;
+import org.apache.seatunnel.app.thirdparty.engine.SeaTunnelEngineProxy;
 
 import org.springframework.stereotype.Service;
 
@@ -50,4 +52,10 @@ public class EngineServiceImpl extends SeatunnelBaseServiceImpl implements IEngi
         funcPermissionCheck(SeatunnelFuncPermissionKeyConstant.ENGIN_TYPE, 0);
         return EngineDataType.getAllDataType();
     }
+
+    @Override
+    public EngineClientMetricsRes getEngineClientMetrics() {
+        funcPermissionCheck(SeatunnelFuncPermissionKeyConstant.CLUSTER_METRICS_VIEW, 0);
+        return SeaTunnelEngineProxy.getInstance().getClientMetrics();
+    }
 }
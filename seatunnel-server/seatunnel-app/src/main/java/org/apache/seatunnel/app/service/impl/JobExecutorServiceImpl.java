@@ -23,51 +23,41 @@ import org.apache.seatunnel.app.dal.entity.JobInstance;
 import org.apache.seatunnel.app.domain.request.job.JobExecParam;
 import org.apache.seatunnel.app.domain.response.engine.Engine;
 import org.apache.seatunnel.app.domain.response.executor.JobExecutorRes;
+import org.apache.seatunnel.app.scheduler.JobCompletionTracker;
 import org.apache.seatunnel.app.service.IJobExecutorService;
 import org.apache.seatunnel.app.service.IJobInstanceService;
+import org.apache.seatunnel.app.thirdparty.engine.JobConfigFileStore;
+import org.apache.seatunnel.app.thirdparty.engine.SeaTunnelClientPool;
 import org.apache.seatunnel.app.thirdparty.engine.SeaTunnelEngineProxy;
 import org.apache.seatunnel.app.thirdparty.metrics.EngineMetricsExtractorFactory;
 import org.apache.seatunnel.app.thirdparty.metrics.IEngineMetricsExtractor;
 import org.apache.seatunnel.app.utils.JobUtils;
 import org.apache.seatunnel.common.config.Common;
 import org.apache.seatunnel.common.config.DeployMode;
-import org.apache.seatunnel.engine.client.SeaTunnelClient;
 import org.apache.seatunnel.engine.client.job.ClientJobExecutionEnvironment;
 import org.apache.seatunnel.engine.client.job.ClientJobProxy;
-import org.apache.seatunnel.engine.common.config.ConfigProvider;
 import org.apache.seatunnel.engine.common.config.JobConfig;
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
 import org.apache.seatunnel.engine.common.config.YamlSeaTunnelConfigBuilder;
-import org.apache.seatunnel.engine.core.job.JobResult;
 import org.apache.seatunnel.engine.core.job.JobStatus;
 import org.apache.seatunnel.server.common.SeatunnelErrorEnum;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
-import com.hazelcast.client.config.ClientConfig;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Resource;
 
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.util.Date;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 @Slf4j
 @Service
 public class JobExecutorServiceImpl implements IJobExecutorService {
     @Resource private IJobInstanceService jobInstanceService;
     @Resource private IJobInstanceDao jobInstanceDao;
-    @Autowired private AsyncTaskExecutor taskExecutor;
+    @Resource private JobCompletionTracker jobCompletionTracker;
+    @Resource private JobConfigFileStore jobConfigFileStore;
 
     @Override
     public Result<Long> jobExecute(Long jobDefineId, JobExecParam executeParam) {
@@ -76,7 +66,9 @@ public class JobExecutorServiceImpl implements IJobExecutorService {
                 jobInstanceService.createExecuteResource(jobDefineId, executeParam);
         String jobConfig = executeResource.getJobConfig();
 
-        String configFile = writeJobConfigIntoConfFile(jobConfig, jobDefineId);
+        // named by content, so parallel executions with different placeholder values never
+        // share a file and repeated executions of the same config do not write it again
+        String configFile = jobConfigFileStore.materialize(jobDefineId, jobConfig);
 
         try {
             executeJobBySeaTunnel(configFile, executeResource.getJobInstanceId());
@@ -92,43 +84,26 @@ public class JobExecutorServiceImpl implements IJobExecutorService {
         }
     }
 
-    public String writeJobConfigIntoConfFile(String jobConfig, Long jobDefineId) {
-        String projectRoot = System.getProperty("user.dir");
-        String filePath =
-                projectRoot + File.separator + "profile" + File.separator + jobDefineId + ".conf";
-        try {
-            File file = new File(filePath);
-            if (!file.exists()) {
-                file.getParentFile().mkdirs();
-            }
-
-            FileWriter fileWriter = new FileWriter(file);
-            BufferedWriter bufferedWriter = new BufferedWriter(fileWriter);
-
-            bufferedWriter.write(jobConfig);
-            bufferedWriter.close();
-
-            log.info("File created and content written successfully.");
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        return filePath;
-    }
-
     private void executeJobBySeaTunnel(String filePath, Long jobInstanceId) {
         Common.setDeployMode(DeployMode.CLIENT);
         JobConfig jobConfig = new JobConfig();
         jobConfig.setName(jobInstanceId + "_job");
-        SeaTunnelClient seaTunnelClient;
+        SeaTunnelClientPool.Lease clientLease = null;
         ClientJobProxy clientJobProxy;
         try {
-            seaTunnelClient = createSeaTunnelClient();
+            clientLease = SeaTunnelEngineProxy.getInstance().leaseClient();
             SeaTunnelConfig seaTunnelConfig = new YamlSeaTunnelConfigBuilder().build();
             ClientJobExecutionEnvironment jobExecutionEnv =
-                    seaTunnelClient.createExecutionContext(filePath, jobConfig, seaTunnelConfig);
+                    clientLease.execute(
+                            client ->
+                                    client.createExecutionContext(
+                                            filePath, jobConfig, seaTunnelConfig));
             clientJobProxy = jobExecutionEnv.execute();
         } catch (Throwable e) {
             log.error("Job execution submission failed.", e);
+            if (clientLease != null) {
+                clientLease.close();
+            }
             JobInstance jobInstance = jobInstanceDao.getJobInstance(jobInstanceId);
             jobInstance.setJobStatus(JobStatus.FAILED);
             jobInstance.setEndTime(new Date());
@@ -137,49 +112,12 @@ public class JobExecutorServiceImpl implements IJobExecutorService {
             jobInstanceDao.update(jobInstance);
             throw new RuntimeException(e.getMessage(), e);
         }
+        // the job runs on the engine now, the shared client goes back to the pool
+        clientLease.close();
         JobInstance jobInstance = jobInstanceDao.getJobInstance(jobInstanceId);
         jobInstance.setJobEngineId(Long.toString(clientJobProxy.getJobId()));
         jobInstanceDao.update(jobInstance);
-        // Use Spring thread pool to handle asynchronous user retrieval
-        CompletableFuture.runAsync(
-                () -> {
-                    waitJobFinish(
-                            clientJobProxy,
-                            jobInstanceId,
-                            Long.toString(clientJobProxy.getJobId()),
-                            seaTunnelClient);
-                },
-                taskExecutor);
-    }
-
-    public void waitJobFinish(
-            ClientJobProxy clientJobProxy,
-            Long jobInstanceId,
-            String jobEngineId,
-            SeaTunnelClient seaTunnelClient) {
-        ExecutorService executor = Executors.newFixedThreadPool(1);
-        CompletableFuture<JobResult> future =
-                CompletableFuture.supplyAsync(clientJobProxy::waitForJobCompleteV2, executor);
-        JobResult jobResult = new JobResult(JobStatus.FAILED, "");
-        try {
-            jobResult = future.get();
-            executor.shutdown();
-        } catch (InterruptedException e) {
-            jobResult.setError(e.getMessage());
-            throw new RuntimeException(e);
-        } catch (ExecutionException e) {
-            jobResult.setError(e.getMessage());
-            throw new RuntimeException(e);
-        } finally {
-            seaTunnelClient.close();
-            log.info("and jobInstanceService.complete begin");
-            jobInstanceService.complete(jobInstanceId, jobEngineId, jobResult);
-        }
-    }
-
-    private SeaTunnelClient createSeaTunnelClient() {
-        ClientConfig clientConfig = ConfigProvider.locateAndGetClientConfig();
-        return new SeaTunnelClient(clientConfig);
+        jobCompletionTracker.track(jobInstanceId, clientJobProxy.getJobId());
     }
 
     @Override
@@ -210,14 +148,9 @@ public class JobExecutorServiceImpl implements IJobExecutorService {
     public Result<Void> jobStore(Long jobInstanceId) {
         JobInstance jobInstance = jobInstanceDao.getJobInstance(jobInstanceId);
 
-        String projectRoot = System.getProperty("user.dir");
         String filePath =
-                projectRoot
-                        + File.separator
-                        + "profile"
-                        + File.separator
-                        + jobInstance.getJobDefineId()
-                        + ".conf";
+                jobConfigFileStore.materialize(
+                        jobInstance.getJobDefineId(), jobInstance.getJobConfig());
         log.info("jobStore filePath:{}", filePath);
         SeaTunnelEngineProxy.getInstance()
                 .restoreJob(filePath, jobInstanceId, Long.valueOf(jobInstance.getJobEngineId()));
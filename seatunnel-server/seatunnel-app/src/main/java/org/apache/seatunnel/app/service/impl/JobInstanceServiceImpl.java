@@ -32,16 +32,21 @@ import org.apache.seatunnel.api.options.ConnectorCommonOptions;
 import org.apache.seatunnel.app.bean.connector.ConnectorCache;
 import org.apache.seatunnel.app.config.ConnectorDataSourceMapperConfig;
 import org.apache.seatunnel.app.config.EncryptionConfig;
+import org.apache.seatunnel.app.config.JobConfigCacheProperties;
+import org.apache.seatunnel.app.dal.dao.IDatasourceDao;
 import org.apache.seatunnel.app.dal.dao.IJobDefinitionDao;
 import org.apache.seatunnel.app.dal.dao.IJobInstanceDao;
 import org.apache.seatunnel.app.dal.dao.IJobLineDao;
 import org.apache.seatunnel.app.dal.dao.IJobTaskDao;
 import org.apache.seatunnel.app.dal.dao.IJobVersionDao;
+import org.apache.seatunnel.app.dal.dao.IVirtualTableDao;
+import org.apache.seatunnel.app.dal.entity.Datasource;
 import org.apache.seatunnel.app.dal.entity.JobDefinition;
 import org.apache.seatunnel.app.dal.entity.JobInstance;
 import org.apache.seatunnel.app.dal.entity.JobLine;
 import org.apache.seatunnel.app.dal.entity.JobTask;
 import org.apache.seatunnel.app.dal.entity.JobVersion;
+import org.apache.seatunnel.app.dal.entity.VirtualTable;
 import org.apache.seatunnel.app.domain.request.connector.BusinessMode;
 import org.apache.seatunnel.app.domain.request.connector.SceneMode;
 import org.apache.seatunnel.app.domain.request.job.DataSourceOption;
@@ -63,6 +68,7 @@ import org.apache.seatunnel.app.service.IVirtualTableService;
 import org.apache.seatunnel.app.thirdparty.datasource.DataSourceConfigSwitcherUtils;
 import org.apache.seatunnel.app.thirdparty.transfrom.TransformConfigSwitcherUtils;
 import org.apache.seatunnel.app.utils.ConfigShadeUtil;
+import org.apache.seatunnel.app.utils.JobConfigTemplate;
 import org.apache.seatunnel.app.utils.JobUtils;
 import org.apache.seatunnel.app.utils.SeaTunnelConfigUtil;
 import org.apache.seatunnel.app.utils.ServletUtils;
@@ -78,18 +84,28 @@ import org.apache.seatunnel.server.common.SeatunnelException;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.PostConstruct;
 import javax.annotation.Resource;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -97,6 +113,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -136,6 +156,14 @@ public class JobInstanceServiceImpl extends SeatunnelBaseServiceImpl
 
     @Autowired private EncryptionConfig encryptionConfig;
 
+    @Resource private IDatasourceDao datasourceDao;
+
+    @Resource private IVirtualTableDao virtualTableDao;
+
+    @Resource private JobConfigCacheProperties jobConfigCacheProperties;
+
+    private Cache<String, JobConfigTemplate> jobConfigCache;
+
     @Override
     public JobExecutorRes createExecuteResource(
             @NonNull Long jobDefineId, JobExecParam executeParam) {
@@ -178,6 +206,19 @@ public class JobInstanceServiceImpl extends SeatunnelBaseServiceImpl
                 jobInstance.getJobType());
     }
 
+    @PostConstruct
+    public void init() {
+        if (jobConfigCacheProperties.isEnabled()) {
+            jobConfigCache =
+                    CacheBuilder.newBuilder()
+                            .maximumSize(jobConfigCacheProperties.getMaximumSize())
+                            .expireAfterAccess(
+                                    jobConfigCacheProperties.getExpireAfterAccessMs(),
+                                    TimeUnit.MILLISECONDS)
+                            .build();
+        }
+    }
+
     @Override
     public String generateJobConfig(
             Long jobId,
@@ -185,9 +226,40 @@ public class JobInstanceServiceImpl extends SeatunnelBaseServiceImpl
             List<JobLine> lines,
             String envStr,
             JobExecParam executeParam) {
-        checkSceneMode(tasks);
         BusinessMode businessMode =
                 BusinessMode.valueOf(jobDefinitionDao.getJob(jobId).getJobType());
+        JobConfigTemplate template;
+        if (jobConfigCache == null) {
+            template = compileJobConfig(businessMode, tasks, lines, envStr, executeParam);
+        } else {
+            String cacheKey =
+                    getJobConfigCacheKey(jobId, businessMode, tasks, lines, envStr, executeParam);
+            try {
+                template =
+                        jobConfigCache.get(
+                                cacheKey,
+                                () ->
+                                        compileJobConfig(
+                                                businessMode, tasks, lines, envStr, executeParam));
+            } catch (ExecutionException | UncheckedExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new SeatunnelException(
+                        SeatunnelErrorEnum.ERROR_CONFIG, ExceptionUtils.getMessage(e.getCause()));
+            }
+        }
+        return template.render(JobUtils.getPlaceholderValues(executeParam));
+    }
+
+    /** Render the whole job config, its placeholders are left to be filled per execution. */
+    private JobConfigTemplate compileJobConfig(
+            BusinessMode businessMode,
+            List<JobTask> tasks,
+            List<JobLine> lines,
+            String envStr,
+            JobExecParam executeParam) {
+        checkSceneMode(tasks);
         Config envConfig = filterEmptyValue(ConfigFactory.parseString(envStr));
         JobUtils.updateDataSource(executeParam, tasks);
 
@@ -358,7 +430,83 @@ public class JobInstanceServiceImpl extends SeatunnelBaseServiceImpl
                                         .setComments(false)
                                         .setOriginComments(false));
         String jobConfig = SeaTunnelConfigUtil.generateConfig(env, sources, transforms, sinks);
-        return JobUtils.replaceJobConfigPlaceholders(jobConfig, executeParam);
+        return JobConfigTemplate.compile(jobConfig);
+    }
+
+    /**
+     * Digest of everything the rendered config depends on besides the placeholder values: the tasks
+     * as stored, the edges of the lines, the env, the datasources the execution switches to and the
+     * datasources and virtual tables the tasks read. Editing any of them changes the key.
+     */
+    private String getJobConfigCacheKey(
+            Long jobId,
+            BusinessMode businessMode,
+            List<JobTask> tasks,
+            List<JobLine> lines,
+            String envStr,
+            JobExecParam executeParam) {
+        Map<String, String> datasourceOverrides =
+                executeParam == null || executeParam.getDatasource() == null
+                        ? Collections.emptyMap()
+                        : new TreeMap<>(executeParam.getDatasource());
+        Set<Long> datasourceIds = new TreeSet<>();
+        for (JobTask task : tasks) {
+            if (task.getDataSourceId() != null) {
+                datasourceIds.add(task.getDataSourceId());
+            }
+        }
+        for (String datasourceId : datasourceOverrides.values()) {
+            if (NumberUtils.isDigits(datasourceId)) {
+                datasourceIds.add(Long.parseLong(datasourceId));
+            }
+        }
+
+        List<Object> parts = new ArrayList<>();
+        parts.add(businessMode);
+        parts.add(encryptionConfig.getType());
+        parts.add(envStr);
+        parts.add(datasourceOverrides);
+        parts.addAll(tasks);
+        // only the edges are rendered, the ids of the lines do not change the config
+        for (JobLine line : lines) {
+            parts.add(line.getInputPluginId() + "->" + line.getTargetPluginId());
+        }
+        if (!datasourceIds.isEmpty()) {
+            List<Datasource> datasources =
+                    datasourceDao.selectDatasourceByIds(new ArrayList<>(datasourceIds));
+            datasources.sort(Comparator.comparing(Datasource::getId));
+            for (Datasource datasource : datasources) {
+                // rendering checks this for every datasource, a cached config must not skip it
+                permissionCheck(
+                        datasource.getDatasourceName(),
+                        ResourceType.DATASOURCE,
+                        AccessType.READ,
+                        UserContextHolder.getAccessInfo());
+                parts.add(datasource);
+            }
+        }
+        for (JobTask task : tasks) {
+            parts.add(findVirtualTable(task));
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (Object part : parts) {
+            hasher.putString(String.valueOf(part), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        return jobId + ":" + hasher.hash();
+    }
+
+    private VirtualTable findVirtualTable(JobTask task) {
+        if (task.getDataSourceOption() == null
+                || SceneMode.MULTIPLE_TABLE.name().equals(task.getSceneMode())) {
+            return null;
+        }
+        DataSourceOption dataSourceOption =
+                JsonUtils.parseObject(task.getDataSourceOption(), DataSourceOption.class);
+        if (dataSourceOption == null || CollectionUtils.isEmpty(dataSourceOption.getTables())) {
+            return null;
+        }
+        return virtualTableDao.selectVirtualTableByTableName(dataSourceOption.getTables().get(0));
     }
 
     @Override
@@ -16,28 +16,39 @@
  */
 package org.apache.seatunnel.app.service.impl;
 
-import org.apache.seatunnel.app.common.EngineType;
+import org.apache.seatunnel.app.common.JobMetricsResolution;
+import org.apache.seatunnel.app.config.JobMetricsHistoryProperties;
 import org.apache.seatunnel.app.dal.dao.IJobInstanceDao;
 import org.apache.seatunnel.app.dal.dao.IJobInstanceHistoryDao;
 import org.apache.seatunnel.app.dal.dao.IJobMetricsDao;
+import org.apache.seatunnel.app.dal.dao.IJobMetricsHistoryDao;
+import org.apache.seatunnel.app.dal.dao.IJobMetricsRollupDao;
 import org.apache.seatunnel.app.dal.entity.JobInstance;
 import org.apache.seatunnel.app.dal.entity.JobInstanceHistory;
 import org.apache.seatunnel.app.dal.entity.JobMetrics;
 import org.apache.seatunnel.app.dal.entity.JobMetricsHistory;
+import org.apache.seatunnel.app.dal.entity.JobMetricsRollup;
 import org.apache.seatunnel.app.dal.mapper.JobMetricsHistoryMapper;
 import org.apache.seatunnel.app.domain.response.engine.Engine;
 import org.apache.seatunnel.app.domain.response.metrics.JobDAG;
+import org.apache.seatunnel.app.domain.response.metrics.JobMetricsHistoryWriterMetricsRes;
 import org.apache.seatunnel.app.domain.response.metrics.JobPipelineDetailMetricsRes;
 import org.apache.seatunnel.app.domain.response.metrics.JobPipelineSummaryMetricsRes;
 import org.apache.seatunnel.app.domain.response.metrics.JobSummaryMetricsRes;
 import org.apache.seatunnel.app.permission.constants.SeatunnelFuncPermissionKeyConstant;
+import org.apache.seatunnel.app.scheduler.JobMetricsHistoryWriter;
+import org.apache.seatunnel.app.scheduler.JobStatusReconciler;
+import org.apache.seatunnel.app.scheduler.RunningJobMetricsCollector;
+import org.apache.seatunnel.app.scheduler.RunningJobMetricsPublisher;
+import org.apache.seatunnel.app.security.JobMetricsStreamTickets;
 import org.apache.seatunnel.app.service.IJobMetricsService;
 import org.apache.seatunnel.app.thirdparty.engine.SeaTunnelEngineProxy;
 import org.apache.seatunnel.app.thirdparty.metrics.EngineMetricsExtractorFactory;
 import org.apache.seatunnel.app.thirdparty.metrics.IEngineMetricsExtractor;
+import org.apache.seatunnel.app.thirdparty.metrics.RunningJobMetricsSnapshot;
+import org.apache.seatunnel.app.utils.JobMetricsRollupUtils;
 import org.apache.seatunnel.app.utils.JobUtils;
 import org.apache.seatunnel.app.utils.ServletUtils;
-import org.apache.seatunnel.common.constants.JobMode;
 import org.apache.seatunnel.common.utils.JsonUtils;
 import org.apache.seatunnel.engine.core.job.JobStatus;
 import org.apache.seatunnel.server.common.CodeGenerateUtils;
@@ -52,14 +63,22 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Resource;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -69,6 +88,10 @@ import java.util.stream.Collectors;
 @Service
 @Slf4j
 public class JobMetricsServiceImpl extends SeatunnelBaseServiceImpl implements IJobMetricsService {
+
+    private static final DateTimeFormatter HISTORY_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     @Resource private IJobMetricsDao jobMetricsDao;
 
     @Resource private IJobInstanceHistoryDao jobInstanceHistoryDao;
@@ -77,6 +100,20 @@ public class JobMetricsServiceImpl extends SeatunnelBaseServiceImpl implements I
 
     @Autowired private JobMetricsHistoryMapper jobMetricsHistoryMapper;
 
+    @Resource private RunningJobMetricsCollector runningJobMetricsCollector;
+
+    @Resource private RunningJobMetricsPublisher runningJobMetricsPublisher;
+
+    @Resource private JobMetricsStreamTickets jobMetricsStreamTickets;
+
+    @Resource private IJobMetricsHistoryDao jobMetricsHistoryDao;
+
+    @Resource private IJobMetricsRollupDao jobMetricsRollupDao;
+
+    @Resource private JobMetricsHistoryProperties jobMetricsHistoryProperties;
+
+    @Resource private JobMetricsHistoryWriter jobMetricsHistoryWriter;
+
     @Override
     public List<JobPipelineSummaryMetricsRes> getJobPipelineSummaryMetrics(
             @NonNull Long jobInstanceId) {
@@ -108,329 +145,73 @@ public class JobMetricsServiceImpl extends SeatunnelBaseServiceImpl implements I
                 jobInstanceId, Long.parseLong(jobEngineId), readCount, writeCount, jobStatus);
     }
 
+    /**
+     * Summaries for a page of the job list. This is a pure read: jobs the engine reports as running
+     * are summed from the running job metrics snapshot, all others from their database rows.
+     * Writing engine state back to the database is left to {@link JobStatusReconciler}.
+     */
     @Override
     public Map<Long, JobSummaryMetricsRes> getALLJobSummaryMetrics(
             @NonNull Map<Long, Long> jobInstanceIdAndJobEngineIdMap,
-            @NonNull List<Long> jobInstanceIdList,
-            @NonNull JobMode jobMode) {
-        log.info("jobInstanceIdAndJobEngineIdMap={}", jobInstanceIdAndJobEngineIdMap);
+            @NonNull List<Long> jobInstanceIdList) {
         int userId = ServletUtils.getCurrentUserId();
         funcPermissionCheck(SeatunnelFuncPermissionKeyConstant.JOB_METRICS_SUMMARY, userId);
+        Map<Long, JobSummaryMetricsRes> result = new HashMap<>();
+        if (jobInstanceIdList.isEmpty()) {
+            return result;
+        }
         List<JobInstance> allJobInstance = jobInstanceDao.getAllJobInstance(jobInstanceIdList);
         if (allJobInstance.isEmpty()) {
             log.warn(
                     "getALLJobSummaryMetrics : allJobInstance is empty, task id list is {}",
                     jobInstanceIdList);
-            return new HashMap<>();
+            return result;
         }
-        Map<Long, JobSummaryMetricsRes> result = null;
-        Map<Long, HashMap<Integer, JobMetrics>> allRunningJobMetricsFromEngine =
-                getAllRunningJobMetricsFromEngine(
-                        allJobInstance.get(0).getEngineName(),
-                        allJobInstance.get(0).getEngineVersion());
-
-        if (JobMode.BATCH == jobMode) {
-            result =
-                    getMatricsListIfTaskTypeIsBatch(
-                            allJobInstance,
-                            allRunningJobMetricsFromEngine,
-                            jobInstanceIdAndJobEngineIdMap);
-        } else if (JobMode.STREAMING == jobMode) {
-            result =
-                    getMatricsListIfTaskTypeIsStreaming(
-                            allJobInstance,
-                            allRunningJobMetricsFromEngine,
-                            jobInstanceIdAndJobEngineIdMap);
-        }
-
-        log.info("result is {}", result == null ? "null" : result.toString());
-        return result;
-    }
-
-    private Map<Long, JobSummaryMetricsRes> getMatricsListIfTaskTypeIsBatch(
-            List<JobInstance> allJobInstance,
-            Map<Long, HashMap<Integer, JobMetrics>> allRunningJobMetricsFromEngine,
-            Map<Long, Long> jobInstanceIdAndJobEngineIdMap) {
+        RunningJobMetricsSnapshot snapshot = runningJobMetricsCollector.getSnapshot();
+        Map<Long, List<JobMetrics>> jobMetricsFromDb =
+                jobMetricsDao.getByInstanceIds(jobInstanceIdList).stream()
+                        .collect(Collectors.groupingBy(JobMetrics::getJobInstanceId));
 
-        HashMap<Long, JobSummaryMetricsRes> jobSummaryMetricsResMap = new HashMap<>();
-
-        log.info("allRunningJobMetricsFromEngine is {}", allRunningJobMetricsFromEngine.toString());
-
-        // Traverse all jobInstances in allJobInstance
         for (JobInstance jobInstance : allJobInstance) {
-            log.info("jobEngineId={}", jobInstance.getJobEngineId());
-
-            if (jobInstance.getJobStatus() == null
-                    || jobInstance.getJobStatus() == JobStatus.FAILED
-                    || jobInstance.getJobStatus() == JobStatus.RUNNING) {
-                // Obtain monitoring information from the collection of running jobs returned from
-                // the engine
-                if (!allRunningJobMetricsFromEngine.isEmpty()
-                        && allRunningJobMetricsFromEngine.containsKey(
-                                jobInstanceIdAndJobEngineIdMap.get(jobInstance.getId()))) {
-                    JobSummaryMetricsRes jobMetricsFromEngineRes =
-                            getRunningJobMetricsFromEngine(
-                                    allRunningJobMetricsFromEngine,
-                                    jobInstanceIdAndJobEngineIdMap,
-                                    jobInstance);
-                    jobSummaryMetricsResMap.put(jobInstance.getId(), jobMetricsFromEngineRes);
-                    modifyAndUpdateJobInstanceAndJobMetrics(
-                            jobInstance,
-                            allRunningJobMetricsFromEngine,
-                            jobInstanceIdAndJobEngineIdMap);
-
-                } else {
-                    log.info(
-                            "The job does not exist on the engine, it is directly returned from the database");
-                    JobSummaryMetricsRes jobMetricsFromDb =
-                            getJobSummaryMetricsResByDb(
-                                    jobInstance,
-                                    Long.toString(
-                                            jobInstanceIdAndJobEngineIdMap.get(
-                                                    jobInstance.getId())));
-                    if (jobMetricsFromDb != null) {
-                        jobSummaryMetricsResMap.put(jobInstance.getId(), jobMetricsFromDb);
-                    }
-                    if (jobInstance.getJobStatus() == JobStatus.RUNNING) {
-                        // Set the job status of jobInstance and jobMetrics in the database to
-                        // finished
-                        jobInstance.setJobStatus(JobStatus.FINISHED);
-                        jobInstanceDao.getJobInstanceMapper().updateById(jobInstance);
-                    }
-                }
-            } else if (jobInstance.getJobStatus() == JobStatus.FINISHED
-                    || jobInstance.getJobStatus() == JobStatus.CANCELED) {
-                // If the status of the job is finished or cancelled, the monitoring information is
-                // directly obtained from MySQL
-                JobSummaryMetricsRes jobMetricsFromDb =
-                        getJobSummaryMetricsResByDb(
-                                jobInstance,
-                                Long.toString(
-                                        jobInstanceIdAndJobEngineIdMap.get(jobInstance.getId())));
-                log.info("jobStatus=finish oe canceled,JobSummaryMetricsRes={}", jobMetricsFromDb);
-                jobSummaryMetricsResMap.put(jobInstance.getId(), jobMetricsFromDb);
+            Long jobEngineId = jobInstanceIdAndJobEngineIdMap.get(jobInstance.getId());
+            if (jobEngineId == null) {
+                // not submitted to the engine yet, there is nothing to summarize
+                continue;
             }
-        }
-
-        return jobSummaryMetricsResMap;
-    }
-
-    private void modifyAndUpdateJobInstanceAndJobMetrics(
-            JobInstance jobInstance,
-            Map<Long, HashMap<Integer, JobMetrics>> allRunningJobMetricsFromEngine,
-            Map<Long, Long> jobInstanceIdAndJobEngineIdMap) {
-        jobInstance.setJobStatus(JobStatus.RUNNING);
-        HashMap<Integer, JobMetrics> jobMetricsFromEngine =
-                allRunningJobMetricsFromEngine.get(
-                        jobInstanceIdAndJobEngineIdMap.get(jobInstance.getId()));
-        List<JobMetrics> jobMetricsFromDb = jobMetricsDao.getByInstanceId(jobInstance.getId());
-        log.info("001jobMetricsFromDb={}", jobMetricsFromDb);
-
-        if (jobMetricsFromDb.isEmpty()) {
-            log.info("002jobMetricsFromDb == null");
-            syncMetricsToDbRunning(jobInstance, jobMetricsFromEngine);
-            jobInstanceDao.update(jobInstance);
-        } else {
-            jobMetricsFromDb.forEach(
-                    jobMetrics ->
-                            jobMetrics.setReadRowCount(
-                                    jobMetricsFromEngine
-                                            .get(jobMetrics.getPipelineId())
-                                            .getReadRowCount()));
-            jobMetricsFromDb.forEach(
-                    jobMetrics ->
-                            jobMetrics.setWriteRowCount(
-                                    jobMetricsFromEngine
-                                            .get(jobMetrics.getPipelineId())
-                                            .getWriteRowCount()));
-            jobMetricsFromDb.forEach(jobMetrics -> jobMetrics.setStatus(JobStatus.RUNNING));
-
-            updateJobInstanceAndMetrics(jobInstance, jobMetricsFromDb);
-        }
-    }
-
-    private Map<Long, JobSummaryMetricsRes> getMatricsListIfTaskTypeIsStreaming(
-            List<JobInstance> allJobInstance,
-            Map<Long, HashMap<Integer, JobMetrics>> allRunningJobMetricsFromEngine,
-            Map<Long, Long> jobInstanceIdAndJobEngineIdMap) {
-
-        HashMap<Long, JobSummaryMetricsRes> jobSummaryMetricsResMap = new HashMap<>();
-
-        // Traverse all jobInstances in allJobInstance
-        for (JobInstance jobInstance : allJobInstance) {
-
-            try {
-                if (jobInstance.getJobStatus() != null
-                        && jobInstance.getJobStatus() == JobStatus.CANCELED) {
-                    // If the status of the job is finished or cancelled
-                    // the monitoring information is directly obtained from MySQL
-                    JobSummaryMetricsRes jobMetricsFromDb =
-                            getJobSummaryMetricsResByDb(
-                                    jobInstance,
-                                    Long.toString(
-                                            jobInstanceIdAndJobEngineIdMap.get(
-                                                    jobInstance.getId())));
-                    jobSummaryMetricsResMap.put(jobInstance.getId(), jobMetricsFromDb);
-
-                } else if (jobInstance.getJobStatus() != null
-                        && (jobInstance.getJobStatus() == JobStatus.FINISHED
-                                || jobInstance.getJobStatus() == JobStatus.FAILED)) {
-                    // Obtain monitoring information from the collection of running jobs returned
-                    // from
-                    // the engine
-                    if (!allRunningJobMetricsFromEngine.isEmpty()
-                            && allRunningJobMetricsFromEngine.containsKey(
-                                    jobInstanceIdAndJobEngineIdMap.get(jobInstance.getId()))) {
-                        // If it can be found, update the information in MySQL and return it to the
-                        // front-end data
-                        modifyAndUpdateJobInstanceAndJobMetrics(
-                                jobInstance,
-                                allRunningJobMetricsFromEngine,
-                                jobInstanceIdAndJobEngineIdMap);
-
-                        // Return data from the front-end
-                        JobSummaryMetricsRes jobMetricsFromEngineRes =
-                                getRunningJobMetricsFromEngine(
-                                        allRunningJobMetricsFromEngine,
-                                        jobInstanceIdAndJobEngineIdMap,
-                                        jobInstance);
-                        jobSummaryMetricsResMap.put(jobInstance.getId(), jobMetricsFromEngineRes);
-                    } else {
-                        // If not found, obtain information from MySQL
-                        JobSummaryMetricsRes jobMetricsFromDb =
-                                getJobSummaryMetricsResByDb(
-                                        jobInstance,
-                                        Long.toString(
-                                                jobInstanceIdAndJobEngineIdMap.get(
-                                                        jobInstance.getId())));
-                        jobSummaryMetricsResMap.put(jobInstance.getId(), jobMetricsFromDb);
-                    }
-                } else {
-                    // Obtain monitoring information from the collection of running jobs returned
-                    // from
-                    // the engine
-                    if (!allRunningJobMetricsFromEngine.isEmpty()
-                            && allRunningJobMetricsFromEngine.containsKey(
-                                    jobInstanceIdAndJobEngineIdMap.get(jobInstance.getId()))) {
-                        modifyAndUpdateJobInstanceAndJobMetrics(
-                                jobInstance,
-                                allRunningJobMetricsFromEngine,
-                                jobInstanceIdAndJobEngineIdMap);
-                        // Return data from the front-end
-                        JobSummaryMetricsRes jobMetricsFromEngineRes =
-                                getRunningJobMetricsFromEngine(
-                                        allRunningJobMetricsFromEngine,
-                                        jobInstanceIdAndJobEngineIdMap,
-                                        jobInstance);
-                        jobSummaryMetricsResMap.put(jobInstance.getId(), jobMetricsFromEngineRes);
-                    } else {
-                        JobStatus jobStatus = null;
-                        try {
-                            jobStatus =
-                                    getJobStatusByJobEngineId(
-                                            String.valueOf(
-                                                    jobInstanceIdAndJobEngineIdMap.get(
-                                                            jobInstance.getId())));
-                        } catch (Exception e) {
-                            log.warn(
-                                    "getMetricsListIfTaskTypeIsStreaming getJobStatusByJobEngineId is exception jobInstanceId is : {}",
-                                    jobInstance.getId());
-                        }
-
-                        if (jobStatus != null) {
-                            jobInstance.setJobStatus(jobStatus);
-                            jobInstanceDao.update(jobInstance);
-                            JobSummaryMetricsRes jobSummaryMetricsResByDb =
-                                    getJobSummaryMetricsResByDb(
-                                            jobInstance,
-                                            String.valueOf(
-                                                    jobInstanceIdAndJobEngineIdMap.get(
-                                                            jobInstance.getId())));
-                            jobSummaryMetricsResMap.put(
-                                    jobInstance.getId(), jobSummaryMetricsResByDb);
-                            List<JobMetrics> jobMetricsFromDb =
-                                    getJobMetricsFromDb(
-                                            jobInstance,
-                                            String.valueOf(
-                                                    jobInstanceIdAndJobEngineIdMap.get(
-                                                            jobInstance.getId())));
-                            if (!jobMetricsFromDb.isEmpty()) {
-                                JobStatus finalJobStatusByJobEngineId = jobStatus;
-                                jobMetricsFromDb.forEach(
-                                        jobMetrics ->
-                                                jobMetrics.setStatus(finalJobStatusByJobEngineId));
-                                for (JobMetrics jobMetrics : jobMetricsFromDb) {
-                                    jobMetricsDao.getJobMetricsMapper().updateById(jobMetrics);
-                                }
-                            }
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                throw new RuntimeException(e);
+            HashMap<Integer, JobMetrics> runningJobMetrics = snapshot.getJobMetrics(jobEngineId);
+            if (runningJobMetrics != null) {
+                result.put(
+                        jobInstance.getId(),
+                        summaryJobMetrics(
+                                jobInstance.getId(),
+                                jobEngineId,
+                                runningJobMetrics.values(),
+                                JobStatus.RUNNING));
+                continue;
+            }
+            List<JobMetrics> pipelineMetrics = jobMetricsFromDb.get(jobInstance.getId());
+            if (CollectionUtils.isNotEmpty(pipelineMetrics)) {
+                result.put(
+                        jobInstance.getId(),
+                        summaryJobMetrics(
+                                jobInstance.getId(),
+                                jobEngineId,
+                                pipelineMetrics,
+                                jobInstance.getJobStatus()));
             }
         }
-        return jobSummaryMetricsResMap;
+        return result;
     }
 
-    private JobSummaryMetricsRes getRunningJobMetricsFromEngine(
-            Map<Long, HashMap<Integer, JobMetrics>> allRunningJobMetricsFromEngine,
-            Map<Long, Long> jobInstanceIdAndJobEngineIdMap,
-            JobInstance jobInstance) {
-
-        // If there is job information in the engine
-        HashMap<Integer, JobMetrics> jobMetricsFromEngine =
-                allRunningJobMetricsFromEngine.get(
-                        jobInstanceIdAndJobEngineIdMap.get(jobInstance.getId()));
-        log.info("0706jobMetricsFromEngine={}", jobMetricsFromEngine);
-        long readCount =
-                jobMetricsFromEngine.values().stream().mapToLong(JobMetrics::getReadRowCount).sum();
-        long writeCount =
-                jobMetricsFromEngine.values().stream()
-                        .mapToLong(JobMetrics::getWriteRowCount)
-                        .sum();
-
-        log.info("jobInstance={}", jobInstance);
-
+    private JobSummaryMetricsRes summaryJobMetrics(
+            Long jobInstanceId,
+            Long jobEngineId,
+            Collection<JobMetrics> pipelineMetrics,
+            JobStatus jobStatus) {
+        long readCount = pipelineMetrics.stream().mapToLong(JobMetrics::getReadRowCount).sum();
+        long writeCount = pipelineMetrics.stream().mapToLong(JobMetrics::getWriteRowCount).sum();
         return new JobSummaryMetricsRes(
-                jobInstance.getId(), 1L, readCount, writeCount, JobStatus.RUNNING);
-    }
-
-    private JobSummaryMetricsRes getJobSummaryMetricsResByDb(
-            JobInstance jobInstance, String jobEngineId) {
-        List<JobMetrics> jobMetricsFromDb = getJobMetricsFromDb(jobInstance, jobEngineId);
-        if (!jobMetricsFromDb.isEmpty()) {
-            long readCount = jobMetricsFromDb.stream().mapToLong(JobMetrics::getReadRowCount).sum();
-            long writeCount =
-                    jobMetricsFromDb.stream().mapToLong(JobMetrics::getWriteRowCount).sum();
-            return new JobSummaryMetricsRes(
-                    jobInstance.getId(),
-                    Long.parseLong(jobInstance.getJobEngineId()),
-                    readCount,
-                    writeCount,
-                    jobInstance.getJobStatus());
-        }
-        return null;
-    }
-
-    private Map<Long, HashMap<Integer, JobMetrics>> getAllRunningJobMetricsFromEngine(
-            EngineType engineName, String engineVersion) {
-        Engine engine = new Engine(engineName, engineVersion);
-
-        IEngineMetricsExtractor engineMetricsExtractor =
-                (new EngineMetricsExtractorFactory(engine)).getEngineMetricsExtractor();
-
-        return engineMetricsExtractor.getAllRunningJobMetrics();
-    }
-
-    private void updateJobInstanceAndMetrics(JobInstance jobInstance, List<JobMetrics> jobMetrics) {
-        if (jobInstance != null && jobMetrics != null) {
-            jobInstanceDao.update(jobInstance);
-            // jobMetricsFromDb
-            for (JobMetrics jobMetric : jobMetrics) {
-                jobMetricsDao.getJobMetricsMapper().updateById(jobMetric);
-            }
-        }
+                jobInstanceId, jobEngineId, readCount, writeCount, jobStatus);
     }
 
     private JobStatus getJobStatusByJobEngineId(String jobEngineId) {
@@ -461,12 +242,26 @@ public class JobMetricsServiceImpl extends SeatunnelBaseServiceImpl implements I
                 }
             }
         } else {
-            // If job is not end state, get metrics from engine.
-            jobMetrics = getJobMetricsFromEngine(jobInstance, jobInstance.getJobEngineId());
+            // If job is not end state, get metrics from the running jobs snapshot or the engine.
+            jobMetrics = getRunningJobMetricsFromSnapshot(jobInstance);
+            if (jobMetrics == null) {
+                jobMetrics = getJobMetricsFromEngine(jobInstance, jobInstance.getJobEngineId());
+            }
         }
         return jobMetrics;
     }
 
+    private List<JobMetrics> getRunningJobMetricsFromSnapshot(@NonNull JobInstance jobInstance) {
+        if (StringUtils.isEmpty(jobInstance.getJobEngineId())) {
+            return null;
+        }
+        HashMap<Integer, JobMetrics> jobMetrics =
+                runningJobMetricsCollector
+                        .getSnapshot()
+                        .getJobMetrics(Long.valueOf(jobInstance.getJobEngineId()));
+        return jobMetrics == null ? null : new ArrayList<>(jobMetrics.values());
+    }
+
     @Override
     public List<JobPipelineDetailMetricsRes> getJobPipelineDetailMetricsRes(
             @NonNull Long jobInstanceId) {
@@ -485,13 +280,57 @@ public class JobMetricsServiceImpl extends SeatunnelBaseServiceImpl implements I
         if (JobUtils.isJobEndStatus(jobInstance.getJobStatus())) {
             return new ArrayList<>();
         }
-        List<JobMetrics> jobPipelineDetailMetrics =
-                getJobMetricsFromEngine(jobInstance, jobInstance.getJobEngineId());
+        List<JobMetrics> jobPipelineDetailMetrics = getRunningJobMetricsFromSnapshot(jobInstance);
+        if (jobPipelineDetailMetrics == null) {
+            // not in the snapshot yet, e.g. still scheduling or started after the last collection
+            if (StringUtils.isEmpty(jobInstance.getJobEngineId())) {
+                return new ArrayList<>();
+            }
+            jobPipelineDetailMetrics =
+                    getJobMetricsFromEngine(jobInstance, jobInstance.getJobEngineId());
+        }
         return jobPipelineDetailMetrics.stream()
                 .map(this::wrapperJobMetrics)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public SseEmitter subscribeJobMetrics(@NonNull Long jobInstanceId) {
+        int userId = ServletUtils.getCurrentUserId();
+        funcPermissionCheck(SeatunnelFuncPermissionKeyConstant.JOB_DETAIL, userId);
+        JobInstance jobInstance = jobInstanceDao.getJobInstance(jobInstanceId);
+        if (jobInstance == null) {
+            throw new SeatunnelException(
+                    SeatunnelErrorEnum.RESOURCE_NOT_FOUND, "Job instance not found");
+        }
+        if (JobUtils.isJobEndStatus(jobInstance.getJobStatus())) {
+            return runningJobMetricsPublisher.subscribeFinished(
+                    jobInstanceId,
+                    getJobPipelineDetailMetrics(jobInstance).stream()
+                            .map(this::wrapperJobMetrics)
+                            .collect(Collectors.toList()));
+        }
+        if (StringUtils.isEmpty(jobInstance.getJobEngineId())) {
+            throw new SeatunnelException(
+                    SeatunnelErrorEnum.ILLEGAL_STATE,
+                    String.format(
+                            "Job instance %s is not submitted to the engine yet", jobInstanceId));
+        }
+        return runningJobMetricsPublisher.subscribe(
+                jobInstanceId, Long.valueOf(jobInstance.getJobEngineId()));
+    }
+
+    @Override
+    public String createJobMetricsStreamTicket(@NonNull Long jobInstanceId, @NonNull String token) {
+        int userId = ServletUtils.getCurrentUserId();
+        funcPermissionCheck(SeatunnelFuncPermissionKeyConstant.JOB_DETAIL, userId);
+        if (jobInstanceDao.getJobInstance(jobInstanceId) == null) {
+            throw new SeatunnelException(
+                    SeatunnelErrorEnum.RESOURCE_NOT_FOUND, "Job instance not found");
+        }
+        return jobMetricsStreamTickets.issue(token, jobInstanceId);
+    }
+
     @Override
     public JobDAG getJobDAG(@NonNull Long jobInstanceId) {
         int userId = ServletUtils.getCurrentUserId();
@@ -683,37 +522,109 @@ public class JobMetricsServiceImpl extends SeatunnelBaseServiceImpl implements I
                 metrics.getStatus());
     }
 
-    private void syncMetricsToDbRunning(
-            @NonNull JobInstance jobInstance, @NonNull Map<Integer, JobMetrics> jobMetricsMap) {
-        int userId = ServletUtils.getCurrentUserId();
-        ArrayList<JobMetrics> list = new ArrayList<>();
-        for (Map.Entry<Integer, JobMetrics> entry : jobMetricsMap.entrySet()) {
-            JobMetrics jobMetrics = entry.getValue();
-            jobMetrics.setId(CodeGenerateUtils.getInstance().genCode());
-            jobMetrics.setJobInstanceId(jobInstance.getId());
-            jobMetrics.setCreateUserId(userId);
-            jobMetrics.setUpdateUserId(userId);
-            jobMetrics.setWorkspaceId(ServletUtils.getCurrentWorkspaceId());
-            list.add(jobMetrics);
-        }
-        if (!list.isEmpty()) {
-            log.info("003list={}", list);
-            jobMetricsDao.getJobMetricsMapper().insertBatchMetrics(list);
-        }
-    }
-
     @Override
-    @NonNull public List<JobMetricsHistory> getJobMetricsHistory(@NonNull Long jobInstanceId) {
+    @NonNull
+    public List<JobMetricsHistory> getJobMetricsHistory(@NonNull Long jobInstanceId) {
         return jobMetricsHistoryMapper.queryJobMetricsHistoryByInstanceId(jobInstanceId);
     }
 
     @Override
     public List<JobMetricsHistory> getJobMetricsHistory(
             Long jobInstanceId, String startTime, String endTime) {
+        return getJobMetricsHistory(jobInstanceId, startTime, endTime, null);
+    }
+
+    @Override
+    public JobMetricsHistoryWriterMetricsRes getJobMetricsHistoryWriterMetrics() {
+        return jobMetricsHistoryWriter.getMetrics();
+    }
+
+    @Override
+    public List<JobMetricsHistory> getJobMetricsHistory(
+            Long jobInstanceId, String startTime, String endTime, Integer maxPoints) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start;
+        LocalDateTime end;
         if (StringUtils.isNotEmpty(startTime) && StringUtils.isNotEmpty(endTime)) {
-            return jobMetricsHistoryMapper.queryJobMetricsHistoryByInstanceIdAndTimeRange(
-                    jobInstanceId, startTime, endTime);
+            start = parseHistoryTime("startTime", startTime);
+            // the end time is given in seconds, include the whole second
+            end = parseHistoryTime("endTime", endTime).plusSeconds(1);
+        } else if (maxPoints == null) {
+            // without a range or a number of points all raw rows are returned, as before rollups
+            return getJobMetricsHistory(jobInstanceId);
+        } else {
+            JobInstance jobInstance = jobInstanceDao.getJobInstance(jobInstanceId);
+            if (jobInstance == null || jobInstance.getCreateTime() == null) {
+                return new ArrayList<>();
+            }
+            start =
+                    LocalDateTime.ofInstant(
+                            jobInstance.getCreateTime().toInstant(), ZoneId.systemDefault());
+            end = now;
+        }
+        if (!start.isBefore(end)) {
+            return new ArrayList<>();
+        }
+        int points =
+                maxPoints == null || maxPoints <= 0
+                        ? jobMetricsHistoryProperties.getDefaultMaxPoints()
+                        : maxPoints;
+        JobMetricsResolution resolution =
+                jobMetricsHistoryProperties.isRollupEnabled()
+                        ? JobMetricsRollupUtils.chooseResolution(
+                                Duration.between(start, end).toMillis(),
+                                points,
+                                candidate -> isHistoryRetained(candidate, start, now))
+                        : JobMetricsResolution.RAW;
+        return queryJobMetricsHistory(jobInstanceId, resolution, start, end);
+    }
+
+    /**
+     * Query the history in {@code resolution}. The part not rolled up into it yet is filled from
+     * the finer resolutions, so the newest points of a running job are never missing.
+     */
+    private List<JobMetricsHistory> queryJobMetricsHistory(
+            Long jobInstanceId,
+            JobMetricsResolution resolution,
+            LocalDateTime start,
+            LocalDateTime end) {
+        if (resolution == JobMetricsResolution.RAW) {
+            return jobMetricsHistoryDao.getByJobInstanceIdAndTimeRange(jobInstanceId, start, end);
+        }
+        LocalDateTime lastBucket = jobMetricsRollupDao.getLastBucketTime(resolution);
+        LocalDateTime rolledUpUntil =
+                lastBucket == null ? start : resolution.nextBucket(lastBucket);
+        List<JobMetricsHistory> histories = new ArrayList<>();
+        if (start.isBefore(rolledUpUntil)) {
+            LocalDateTime rollupEnd = end.isBefore(rolledUpUntil) ? end : rolledUpUntil;
+            for (JobMetricsRollup rollup :
+                    jobMetricsRollupDao.getByJobInstanceIdAndTimeRange(
+                            jobInstanceId, resolution, start, rollupEnd)) {
+                histories.add(JobMetricsRollupUtils.toHistory(rollup));
+            }
+        }
+        if (rolledUpUntil.isBefore(end)) {
+            histories.addAll(
+                    queryJobMetricsHistory(
+                            jobInstanceId,
+                            resolution.getSource(),
+                            start.isAfter(rolledUpUntil) ? start : rolledUpUntil,
+                            end));
+        }
+        return histories;
+    }
+
+    private boolean isHistoryRetained(
+            JobMetricsResolution resolution, LocalDateTime start, LocalDateTime now) {
+        long retentionMs = jobMetricsHistoryProperties.getRetentionMs(resolution);
+        return retentionMs <= 0 || !start.isBefore(now.minus(retentionMs, ChronoUnit.MILLIS));
+    }
+
+    private static LocalDateTime parseHistoryTime(String name, String time) {
+        try {
+            return LocalDateTime.parse(time, HISTORY_TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new SeatunnelException(SeatunnelErrorEnum.INVALID_PARAM, name, e.getMessage());
         }
-        return getJobMetricsHistory(jobInstanceId);
     }
 }
@@ -20,6 +20,7 @@ import org.apache.seatunnel.shade.com.fasterxml.jackson.core.type.TypeReference;
 import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
 
 import org.apache.seatunnel.app.config.ConnectorDataSourceMapperConfig;
+import org.apache.seatunnel.app.config.JobConfigCacheProperties;
 import org.apache.seatunnel.app.dal.dao.IJobLineDao;
 import org.apache.seatunnel.app.dal.dao.IJobTaskDao;
 import org.apache.seatunnel.app.dal.dao.IJobVersionDao;
@@ -64,22 +65,31 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.PostConstruct;
 import javax.annotation.Resource;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.apache.seatunnel.app.utils.TaskOptionUtils.getTransformOption;
 
@@ -87,6 +97,8 @@ import static org.apache.seatunnel.app.utils.TaskOptionUtils.getTransformOption;
 @Slf4j
 public class JobTaskServiceImpl extends SeatunnelBaseServiceImpl implements IJobTaskService {
 
+    private static final int LINE_BATCH_SIZE = 500;
+
     @Resource(name = "jobLineDaoImpl")
     private IJobLineDao jobLineDao;
 
@@ -102,6 +114,24 @@ public class JobTaskServiceImpl extends SeatunnelBaseServiceImpl implements IJob
 
     @Resource private ConnectorDataSourceMapperConfig connectorDataSourceMapperConfig;
 
+    @Resource private JobConfigCacheProperties jobConfigCacheProperties;
+
+    /** Result of the schema check per job version and DAG digest, empty when the DAG is fine. */
+    private Cache<String, Optional<JobTaskCheckRes>> dagCheckCache;
+
+    @PostConstruct
+    public void init() {
+        if (jobConfigCacheProperties.isEnabled()) {
+            dagCheckCache =
+                    CacheBuilder.newBuilder()
+                            .maximumSize(jobConfigCacheProperties.getDagCheckMaximumSize())
+                            .expireAfterAccess(
+                                    jobConfigCacheProperties.getExpireAfterAccessMs(),
+                                    TimeUnit.MILLISECONDS)
+                            .build();
+        }
+    }
+
     private void checkConfigIntegrity(JobVersion version, JobTaskInfo jobTaskInfo) {
         if (StringUtils.isEmpty(version.getEnv())) {
             throw new SeatunnelException(
@@ -112,11 +142,11 @@ public class JobTaskServiceImpl extends SeatunnelBaseServiceImpl implements IJob
                 jobTaskInfo.getPlugins().stream()
                         .collect(Collectors.toMap(PluginConfig::getPluginId, Function.identity()));
 
-        List<String> allPluginIdsFromEdge =
-                Stream.concat(
-                                jobTaskInfo.getEdges().stream().map(Edge::getInputPluginId),
-                                jobTaskInfo.getEdges().stream().map(Edge::getTargetPluginId))
-                        .collect(Collectors.toList());
+        Set<String> allPluginIdsFromEdge = new HashSet<>();
+        for (Edge edge : jobTaskInfo.getEdges()) {
+            allPluginIdsFromEdge.add(edge.getInputPluginId());
+            allPluginIdsFromEdge.add(edge.getTargetPluginId());
+        }
 
         jobTaskInfo.getPlugins().stream()
                 .filter(p -> !allPluginIdsFromEdge.contains(p.getPluginId()))
@@ -128,33 +158,16 @@ public class JobTaskServiceImpl extends SeatunnelBaseServiceImpl implements IJob
                                     "plugin '" + p.getName() + "' is not used in any edge");
                         });
 
-        jobTaskInfo
-                .getEdges()
-                .forEach(
-                        e -> {
-                            jobTaskInfo.getPlugins().stream()
-                                    .filter(
-                                            p ->
-                                                    Objects.equals(
-                                                            p.getPluginId(), e.getInputPluginId()))
-                                    .findFirst()
-                                    .orElseThrow(
-                                            () ->
-                                                    new SeatunnelException(
-                                                            SeatunnelErrorEnum.ERROR_CONFIG,
-                                                            "input plugin not found"));
-                            jobTaskInfo.getPlugins().stream()
-                                    .filter(
-                                            p ->
-                                                    Objects.equals(
-                                                            p.getPluginId(), e.getTargetPluginId()))
-                                    .findFirst()
-                                    .orElseThrow(
-                                            () ->
-                                                    new SeatunnelException(
-                                                            SeatunnelErrorEnum.ERROR_CONFIG,
-                                                            "target plugin not found"));
-                        });
+        for (Edge edge : jobTaskInfo.getEdges()) {
+            if (!pluginConfigMap.containsKey(edge.getInputPluginId())) {
+                throw new SeatunnelException(
+                        SeatunnelErrorEnum.ERROR_CONFIG, "input plugin not found");
+            }
+            if (!pluginConfigMap.containsKey(edge.getTargetPluginId())) {
+                throw new SeatunnelException(
+                        SeatunnelErrorEnum.ERROR_CONFIG, "target plugin not found");
+            }
+        }
 
         List<String> inputTransformId =
                 jobTaskInfo.getEdges().stream()
@@ -234,36 +247,63 @@ public class JobTaskServiceImpl extends SeatunnelBaseServiceImpl implements IJob
         funcPermissionCheck(SeatunnelFuncPermissionKeyConstant.JOB_TASK_DAG_CREATE, 0);
         JobVersion version = jobVersionDao.getVersionById(jobVersionId);
         List<JobTask> tasks = jobTaskDao.getTasksByVersionId(jobVersionId);
-        List<PluginConfig> pluginConfigs =
-                tasks.stream()
-                        .map(JobTaskServiceImpl::getPluginConfigFromJobTask)
-                        .collect(Collectors.toList());
-        JobTaskInfo taskInfo = new JobTaskInfo(jobDAG.getEdges(), pluginConfigs);
-        checkConfigIntegrity(version, taskInfo);
-        List<JobLine> lines =
-                jobDAG.getEdges().stream()
-                        .map(
-                                e -> {
-                                    try {
-                                        return JobLine.builder()
-                                                .id(CodeGenerateUtils.getInstance().genCode())
-                                                .inputPluginId(e.getInputPluginId())
-                                                .targetPluginId(e.getTargetPluginId())
-                                                .versionId(jobVersionId)
-                                                .build();
-                                    } catch (CodeGenerateUtils.CodeGenerateException ex) {
-                                        throw new SeatunnelException(
-                                                SeatunnelErrorEnum.ILLEGAL_STATE, ex.getMessage());
-                                    }
-                                })
-                        .collect(Collectors.toList());
+
+        String dagCheckKey =
+                dagCheckCache == null
+                        ? null
+                        : getDagCheckCacheKey(jobVersionId, version, tasks, jobDAG.getEdges());
+        Optional<JobTaskCheckRes> dagCheck =
+                dagCheckKey == null ? null : dagCheckCache.getIfPresent(dagCheckKey);
+        JobTaskInfo taskInfo = null;
+        if (dagCheck == null) {
+            List<PluginConfig> pluginConfigs =
+                    tasks.stream()
+                            .map(JobTaskServiceImpl::getPluginConfigFromJobTask)
+                            .collect(Collectors.toList());
+            taskInfo = new JobTaskInfo(jobDAG.getEdges(), pluginConfigs);
+            checkConfigIntegrity(version, taskInfo);
+        }
+
+        // the saved line of an unchanged edge is kept, only changed edges are written
+        Map<String, Deque<JobLine>> savedLines = new HashMap<>();
+        for (JobLine line : jobLineDao.getLinesByVersionId(jobVersionId)) {
+            savedLines
+                    .computeIfAbsent(
+                            getEdgeKey(line.getInputPluginId(), line.getTargetPluginId()),
+                            key -> new ArrayDeque<>())
+                    .add(line);
+        }
+        List<JobLine> lines = new ArrayList<>(jobDAG.getEdges().size());
+        List<JobLine> addedLines = new ArrayList<>();
+        for (Edge edge : jobDAG.getEdges()) {
+            Deque<JobLine> sameEdgeLines =
+                    savedLines.get(getEdgeKey(edge.getInputPluginId(), edge.getTargetPluginId()));
+            JobLine line = sameEdgeLines == null ? null : sameEdgeLines.poll();
+            if (line == null) {
+                line =
+                        JobLine.builder()
+                                .inputPluginId(edge.getInputPluginId())
+                                .targetPluginId(edge.getTargetPluginId())
+                                .versionId(jobVersionId)
+                                .build();
+                addedLines.add(line);
+            }
+            lines.add(line);
+        }
+        List<Long> removedLineIds = new ArrayList<>();
+        savedLines.values().forEach(rest -> rest.forEach(line -> removedLineIds.add(line.getId())));
 
         try {
-            JobTaskCheckRes jobTaskCheckRes = checkPluginSchemaIntegrity(taskInfo);
-            if (jobTaskCheckRes != null) {
-                return jobTaskCheckRes;
+            if (dagCheck == null) {
+                dagCheck = Optional.ofNullable(checkPluginSchemaIntegrity(taskInfo));
+                if (dagCheckKey != null) {
+                    dagCheckCache.put(dagCheckKey, dagCheck);
+                }
             }
-            // check the config can be generated
+            if (dagCheck.isPresent()) {
+                return dagCheck.get();
+            }
+            // check the config can be generated, an unchanged config comes from the config cache
             jobInstanceService.generateJobConfig(
                     version.getJobId(), tasks, lines, version.getEnv(), null);
             // TODO check schema output and input matched
@@ -274,11 +314,51 @@ public class JobTaskServiceImpl extends SeatunnelBaseServiceImpl implements IJob
             throw new SeatunnelException(SeatunnelErrorEnum.ERROR_CONFIG, e.getMessage());
         }
 
-        jobLineDao.deleteLinesByVersionId(jobVersionId);
-        jobLineDao.insertLines(lines);
+        for (List<Long> part : Lists.partition(removedLineIds, LINE_BATCH_SIZE)) {
+            jobLineDao.deleteLinesByIds(part);
+        }
+        if (!addedLines.isEmpty()) {
+            long[] ids;
+            try {
+                ids = CodeGenerateUtils.getInstance().genCodes(addedLines.size());
+            } catch (CodeGenerateUtils.CodeGenerateException ex) {
+                throw new SeatunnelException(SeatunnelErrorEnum.ILLEGAL_STATE, ex.getMessage());
+            }
+            for (int i = 0; i < ids.length; i++) {
+                addedLines.get(i).setId(ids[i]);
+            }
+            for (List<JobLine> part : Lists.partition(addedLines, LINE_BATCH_SIZE)) {
+                jobLineDao.insertLines(part);
+            }
+        }
         return null;
     }
 
+    private static String getEdgeKey(String inputPluginId, String targetPluginId) {
+        return inputPluginId + "->" + targetPluginId;
+    }
+
+    /**
+     * Digest of everything the DAG check reads: the env of the version, the tasks as stored and the
+     * edges in order. An edited task or env changes the digest and is checked again.
+     */
+    private static String getDagCheckCacheKey(
+            long jobVersionId, JobVersion version, List<JobTask> tasks, List<Edge> edges) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(String.valueOf(version.getEnv()), StandardCharsets.UTF_8)
+                .putByte((byte) 0);
+        for (JobTask task : tasks) {
+            hasher.putString(String.valueOf(task), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        for (Edge edge : edges) {
+            hasher.putString(
+                            getEdgeKey(edge.getInputPluginId(), edge.getTargetPluginId()),
+                            StandardCharsets.UTF_8)
+                    .putByte((byte) 0);
+        }
+        return jobVersionId + ":" + hasher.hash();
+    }
+
     private JobTaskCheckRes checkPluginSchemaIntegrity(JobTaskInfo taskInfo) throws IOException {
 
         List<PluginConfig> source =
@@ -297,13 +377,16 @@ public class JobTaskServiceImpl extends SeatunnelBaseServiceImpl implements IJob
                                         Collectors.mapping(
                                                 Edge::getTargetPluginId, Collectors.toList())));
 
+        // an edge is checked once, however many paths from the sources lead to it
+        Set<String> checkedEdges = new HashSet<>();
         for (PluginConfig config : source) {
             List<String> nextConfigs = edgeMap.get(config.getPluginId());
             if (nextConfigs != null) {
                 for (String nextConfigId : nextConfigs) {
                     PluginConfig nextConfig = pluginMap.get(nextConfigId);
                     JobTaskCheckRes res =
-                            checkNextTaskSchema(config, nextConfig, pluginMap, edgeMap);
+                            checkNextTaskSchema(
+                                    config, nextConfig, pluginMap, edgeMap, checkedEdges);
                     if (res != null) {
                         return res;
                     }
@@ -317,8 +400,12 @@ public class JobTaskServiceImpl extends SeatunnelBaseServiceImpl implements IJob
             PluginConfig config,
             PluginConfig nextConfig,
             Map<String, PluginConfig> pluginMap,
-            Map<String, List<String>> edgeMap)
+            Map<String, List<String>> edgeMap,
+            Set<String> checkedEdges)
             throws IOException {
+        if (!checkedEdges.add(getEdgeKey(config.getPluginId(), nextConfig.getPluginId()))) {
+            return null;
+        }
         Map<String, Object> options = nextConfig.getTransformOptions();
         if (options != null && !options.isEmpty()) {
             Transform transform = Transform.valueOf(nextConfig.getConnectorType().toUpperCase());
@@ -399,7 +486,11 @@ public class JobTaskServiceImpl extends SeatunnelBaseServiceImpl implements IJob
             for (String nextConfigId : nextConfigIds) {
                 JobTaskCheckRes res =
                         checkNextTaskSchema(
-                                nextConfig, pluginMap.get(nextConfigId), pluginMap, edgeMap);
+                                nextConfig,
+                                pluginMap.get(nextConfigId),
+                                pluginMap,
+                                edgeMap,
+                                checkedEdges);
                 if (res != null) {
                     return res;
                 }
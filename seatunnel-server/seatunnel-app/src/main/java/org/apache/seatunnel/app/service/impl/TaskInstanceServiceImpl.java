@@ -103,17 +103,16 @@ public class TaskInstanceServiceImpl extends SeatunnelBaseServiceImpl
             return result;
         }
         addRunningTimeToResult(filteredRecords);
-        jobPipelineSummaryMetrics(filteredRecords, jobMode);
+        jobPipelineSummaryMetrics(filteredRecords);
         pageInfo.setTotal((int) jobInstanceIPage.getTotal());
         pageInfo.setTotalList(filteredRecords);
         result.setData(pageInfo);
         return result;
     }
 
-    private void populateExecutionMetricsData(
-            JobMode jobMode, List<SeaTunnelJobInstanceDto> records) {
+    private void populateExecutionMetricsData(List<SeaTunnelJobInstanceDto> records) {
         addRunningTimeToResult(records);
-        jobPipelineSummaryMetrics(records, jobMode);
+        jobPipelineSummaryMetrics(records);
     }
 
     private void addRunningTimeToResult(List<SeaTunnelJobInstanceDto> records) {
@@ -145,7 +144,7 @@ public class TaskInstanceServiceImpl extends SeatunnelBaseServiceImpl
         }
     }
 
-    private void jobPipelineSummaryMetrics(List<SeaTunnelJobInstanceDto> records, JobMode jobMode) {
+    private void jobPipelineSummaryMetrics(List<SeaTunnelJobInstanceDto> records) {
         try {
             ArrayList<Long> jobInstanceIdList = new ArrayList<>();
             HashMap<Long, Long> jobInstanceIdAndJobEngineIdMap = new HashMap<>();
@@ -160,7 +159,7 @@ public class TaskInstanceServiceImpl extends SeatunnelBaseServiceImpl
 
             Map<Long, JobSummaryMetricsRes> jobSummaryMetrics =
                     jobMetricsService.getALLJobSummaryMetrics(
-                            jobInstanceIdAndJobEngineIdMap, jobInstanceIdList, jobMode);
+                            jobInstanceIdAndJobEngineIdMap, jobInstanceIdList);
 
             for (SeaTunnelJobInstanceDto taskInstance : records) {
                 if (jobSummaryMetrics.get(taskInstance.getId()) != null) {
@@ -197,8 +196,7 @@ public class TaskInstanceServiceImpl extends SeatunnelBaseServiceImpl
                     SeatunnelErrorEnum.RESOURCE_NOT_FOUND, "Job instance not found");
         }
         SeaTunnelJobInstanceDto executionDetails = convertToDto(jobInstance);
-        populateExecutionMetricsData(
-                jobInstance.getJobType(), Collections.singletonList(executionDetails));
+        populateExecutionMetricsData(Collections.singletonList(executionDetails));
         return Result.success(executionDetails);
     }
 
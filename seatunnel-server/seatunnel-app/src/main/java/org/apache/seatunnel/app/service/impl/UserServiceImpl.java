@@ -33,6 +33,7 @@ import org.apache.seatunnel.app.domain.request.user.UserLoginReq;
 import org.apache.seatunnel.app.domain.response.PageInfo;
 import org.apache.seatunnel.app.domain.response.user.AddUserRes;
 import org.apache.seatunnel.app.domain.response.user.UserSimpleInfoRes;
+import org.apache.seatunnel.app.security.AuthenticationCache;
 import org.apache.seatunnel.app.security.JwtUtils;
 import org.apache.seatunnel.app.security.UserContextHolder;
 import org.apache.seatunnel.app.security.authentication.strategy.IAuthenticationStrategy;
@@ -74,6 +75,8 @@ public class UserServiceImpl extends SeatunnelBaseServiceImpl implements IUserSe
 
     @Resource private JwtUtils jwtUtils;
 
+    @Resource private AuthenticationCache authenticationCache;
+
     @Value("${user.default.passwordSalt:seatunnel}")
     private String defaultSalt;
 
@@ -156,6 +159,7 @@ public class UserServiceImpl extends SeatunnelBaseServiceImpl implements IUserSe
         permCheck(user.getUsername(), AccessType.DELETE);
         userDaoImpl.delete(id);
         roleServiceImpl.deleteByUserId(id);
+        authenticationCache.invalidateUser(id);
     }
 
     @Override
@@ -195,6 +199,7 @@ public class UserServiceImpl extends SeatunnelBaseServiceImpl implements IUserSe
         if (user != null) {
             permCheck(user.getUsername(), AccessType.UPDATE);
             userDaoImpl.disable(id);
+            authenticationCache.invalidateUser(id);
         }
     }
 
@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.thirdparty.datasource;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.app.config.DatasourceMetadataCacheProperties;
+import org.apache.seatunnel.app.dal.entity.Datasource;
+import org.apache.seatunnel.app.domain.dto.datasource.DatabaseTables;
+import org.apache.seatunnel.app.domain.response.datasource.DatasourceMetadataCacheMetricsRes;
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded cache of the databases, tables and table schemas read from datasources.
+ *
+ * <p>Entries are keyed by the datasource id and its last update time, so editing a datasource never
+ * serves metadata of the old connection settings, and are dropped explicitly when the datasource is
+ * updated or deleted. An entry read after {@code refreshAfterWriteMs} is still served and reloaded
+ * in the background, which keeps the metadata the UI keeps browsing warm without making a user wait
+ * for the remote system.
+ */
+@Slf4j
+@Component
+public class DatasourceMetadataCache {
+
+    @Resource private DatasourceMetadataCacheProperties cacheProperties;
+
+    private Cache<MetadataKey, CachedMetadata> cache;
+
+    private ThreadPoolExecutor refreshExecutor;
+
+    private final Set<MetadataKey> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong loadFailedCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+    private final AtomicLong loadLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLoadLatencyNanos = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        cache =
+                CacheBuilder.newBuilder()
+                        .maximumSize(cacheProperties.getMaximumSize())
+                        .expireAfterWrite(
+                                cacheProperties.getExpireAfterWriteMs(), TimeUnit.MILLISECONDS)
+                        .recordStats()
+                        .build();
+        int refreshThreads = Math.max(cacheProperties.getRefreshThreads(), 1);
+        refreshExecutor =
+                new ThreadPoolExecutor(
+                        refreshThreads,
+                        refreshThreads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(1000),
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("datasource-metadata-refresh-%d")
+                                .setDaemon(true)
+                                .build());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    public List<String> getDatabases(
+            Datasource datasource, boolean forceRefresh, Supplier<List<String>> loader) {
+        return get(
+                new MetadataKey(
+                        datasource.getId(), version(datasource), "databases", null, null, null),
+                forceRefresh,
+                loader,
+                UnaryOperator.identity());
+    }
+
+    public List<String> getTableNames(
+            Datasource datasource,
+            String databaseName,
+            String filterName,
+            Integer size,
+            boolean forceRefresh,
+            Supplier<List<String>> loader) {
+        return get(
+                new MetadataKey(
+                        datasource.getId(),
+                        version(datasource),
+                        "tables",
+                        databaseName,
+                        filterName,
+                        size),
+                forceRefresh,
+                loader,
+                UnaryOperator.identity());
+    }
+
+    public List<TableField> getTableFields(
+            Datasource datasource,
+            String databaseName,
+            String tableName,
+            boolean forceRefresh,
+            Supplier<List<TableField>> loader) {
+        return get(
+                new MetadataKey(
+                        datasource.getId(),
+                        version(datasource),
+                        "schema",
+                        databaseName,
+                        tableName,
+                        null),
+                forceRefresh,
+                loader,
+                DatasourceMetadataCache::copyTableField);
+    }
+
+    public List<DatabaseTables> getAllTables(
+            Datasource datasource,
+            List<String> databaseNames,
+            boolean forceRefresh,
+            Supplier<List<DatabaseTables>> loader) {
+        return get(
+                new MetadataKey(
+                        datasource.getId(),
+                        version(datasource),
+                        "all-tables",
+                        null,
+                        String.join(",", databaseNames),
+                        null),
+                forceRefresh,
+                loader,
+                databaseTables ->
+                        new DatabaseTables(
+                                databaseTables.getDatabase(),
+                                new ArrayList<>(databaseTables.getTables())));
+    }
+
+    /** Drop everything cached for the datasource, whatever version it was loaded for. */
+    public void invalidate(Long datasourceId) {
+        cache.asMap().keySet().removeIf(key -> key.getDatasourceId().equals(datasourceId));
+    }
+
+    public DatasourceMetadataCacheMetricsRes getMetrics() {
+        long loads = loadCount.get();
+        return new DatasourceMetadataCacheMetricsRes(
+                cache.size(),
+                hitCount.get(),
+                missCount.get(),
+                loads,
+                loadFailedCount.get(),
+                refreshCount.get(),
+                cache.stats().evictionCount(),
+                loads == 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(loadLatencyNanos.get() / loads),
+                TimeUnit.NANOSECONDS.toMillis(maxLoadLatencyNanos.get()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> get(
+            MetadataKey key,
+            boolean forceRefresh,
+            Supplier<List<T>> loader,
+            UnaryOperator<T> copier) {
+        if (!cacheProperties.isEnabled()) {
+            return loader.get();
+        }
+        if (forceRefresh) {
+            cache.invalidate(key);
+        }
+        CachedMetadata cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            if (System.currentTimeMillis() - cached.getLoadedMillis()
+                    >= cacheProperties.getRefreshAfterWriteMs()) {
+                refreshAsync(key, cached, loader);
+            }
+        } else {
+            missCount.incrementAndGet();
+            try {
+                // concurrent misses of the same key wait for one load
+                cached = cache.get(key, () -> load(loader));
+            } catch (ExecutionException | UncheckedExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new RuntimeException(e.getCause());
+            }
+        }
+        // callers own what they get back, the cached copy is never handed out
+        List<T> metadata = new ArrayList<>();
+        for (Object value : cached.getValue()) {
+            metadata.add(copier.apply((T) value));
+        }
+        return metadata;
+    }
+
+    private void refreshAsync(MetadataKey key, CachedMetadata cached, Supplier<?> loader) {
+        if (!refreshingKeys.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(
+                    () -> {
+                        try {
+                            CachedMetadata refreshed = load(loader);
+                            // an entry invalidated meanwhile must not come back
+                            if (cache.asMap().replace(key, cached, refreshed)) {
+                                refreshCount.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            log.warn("Refresh datasource metadata {} failed", key, e);
+                        } finally {
+                            refreshingKeys.remove(key);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            // refreshing is best effort, the entry is reloaded once it expires
+            refreshingKeys.remove(key);
+        }
+    }
+
+    private CachedMetadata load(Supplier<?> loader) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            List<?> value = (List<?>) loader.get();
+            failed = false;
+            return new CachedMetadata(
+                    value == null
+                            ? Collections.emptyList()
+                            : Collections.unmodifiableList(new ArrayList<>(value)),
+                    System.currentTimeMillis());
+        } finally {
+            long latency = System.nanoTime() - start;
+            loadCount.incrementAndGet();
+            loadLatencyNanos.addAndGet(latency);
+            maxLoadLatencyNanos.accumulateAndGet(latency, Math::max);
+            if (failed) {
+                loadFailedCount.incrementAndGet();
+            }
+        }
+    }
+
+    private static long version(Datasource datasource) {
+        return datasource.getUpdateTime() == null ? 0L : datasource.getUpdateTime().getTime();
+    }
+
+    private static TableField copyTableField(TableField tableField) {
+        TableField copy = new TableField();
+        copy.setType(tableField.getType());
+        copy.setName(tableField.getName());
+        copy.setComment(tableField.getComment());
+        copy.setPrimaryKey(tableField.getPrimaryKey());
+        copy.setDefaultValue(tableField.getDefaultValue());
+        copy.setNullable(tableField.getNullable());
+        copy.setProperties(
+                tableField.getProperties() == null
+                        ? null
+                        : new HashMap<>(tableField.getProperties()));
+        copy.setUnSupport(tableField.getUnSupport());
+        copy.setOutputDataType(tableField.getOutputDataType());
+        return copy;
+    }
+
+    @Value
+    private static class MetadataKey {
+        Long datasourceId;
+        long version;
+        String kind;
+        String databaseName;
+        String name;
+        Integer size;
+    }
+
+    @Value
+    private static class CachedMetadata {
+        List<?> value;
+        long loadedMillis;
+    }
+}
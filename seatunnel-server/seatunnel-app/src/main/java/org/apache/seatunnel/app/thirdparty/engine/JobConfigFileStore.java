@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.thirdparty.engine;
+
+import org.apache.seatunnel.app.config.JobConfigFileProperties;
+import org.apache.seatunnel.server.common.SeatunnelErrorEnum;
+import org.apache.seatunnel.server.common.SeatunnelException;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.google.common.hash.Hashing;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Hands job configs to the engine client, which only takes a file path.
+ *
+ * <p>A config is written once to a file named after the job and the digest of its content, through
+ * a temporary file that is moved into place atomically. Every execution with the same content
+ * reuses the file without writing it again, executions of one job with different placeholder values
+ * get files of their own instead of overwriting each other. Files not used for {@code retentionMs}
+ * are deleted, a job instance can always write its config again from the database.
+ *
+ * <p>Handing out a file and deleting it exclude each other, so a file is never deleted between
+ * being marked as used and its path being returned.
+ */
+@Slf4j
+@Component
+public class JobConfigFileStore {
+
+    private static final Pattern CONFIG_FILE_PATTERN =
+            Pattern.compile("\\d+-[0-9a-f]{64}\\.conf|\\d+-.*\\.tmp");
+
+    @Resource private JobConfigFileProperties jobConfigFileProperties;
+
+    // materializing files shares the read lock, deleting one takes the write lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** @return the path of a file holding exactly {@code jobConfig} */
+    public String materialize(@NonNull Long jobDefineId, @NonNull String jobConfig) {
+        Path directory = getDirectory();
+        String digest = Hashing.sha256().hashString(jobConfig, StandardCharsets.UTF_8).toString();
+        Path file = directory.resolve(jobDefineId + "-" + digest + ".conf");
+        lock.readLock().lock();
+        try {
+            if (touch(file)) {
+                return file.toString();
+            }
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, jobDefineId + "-", ".tmp");
+            try {
+                Files.write(tempFile, jobConfig.getBytes(StandardCharsets.UTF_8));
+                try {
+                    Files.move(
+                            tempFile,
+                            file,
+                            StandardCopyOption.ATOMIC_MOVE,
+                            StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            log.info("Job config of job {} written to {}", jobDefineId, file);
+            return file.toString();
+        } catch (IOException e) {
+            throw new SeatunnelException(
+                    SeatunnelErrorEnum.ILLEGAL_STATE,
+                    String.format("Write job config to %s failed: %s", file, e.getMessage()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${seatunnel-web.job-config-file.cleanup-interval-ms:3600000}",
+            fixedDelayString = "${seatunnel-web.job-config-file.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        Path directory = getDirectory();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        long expireBefore = System.currentTimeMillis() - jobConfigFileProperties.getRetentionMs();
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (!CONFIG_FILE_PATTERN.matcher(file.getFileName().toString()).matches()) {
+                    continue;
+                }
+                try {
+                    if (Files.getLastModifiedTime(file).toMillis() < expireBefore
+                            && deleteIfUnused(file, expireBefore)) {
+                        deleted++;
+                    }
+                } catch (NoSuchFileException e) {
+                    // deleted by another node sharing the directory
+                } catch (IOException e) {
+                    log.warn("Delete unused job config file {} failed", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("List job config files in {} failed", directory, e);
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} unused job config files", deleted);
+        }
+    }
+
+    // look at the modification time again, the file may have been handed out meanwhile
+    private boolean deleteIfUnused(Path file, long expireBefore) throws IOException {
+        lock.writeLock().lock();
+        try {
+            return Files.getLastModifiedTime(file).toMillis() < expireBefore
+                    && Files.deleteIfExists(file);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // mark an existing file as used so that the cleanup keeps it
+    private static boolean touch(Path file) throws IOException {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private static Path getDirectory() {
+        return Paths.get(System.getProperty("user.dir") + File.separator + "profile");
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.thirdparty.engine;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.app.domain.response.engine.EngineClientMetricsRes;
+import org.apache.seatunnel.engine.client.SeaTunnelClient;
+import org.apache.seatunnel.server.common.SeatunnelErrorEnum;
+import org.apache.seatunnel.server.common.SeatunnelException;
+
+import com.hazelcast.client.HazelcastClientNotActiveException;
+import com.hazelcast.client.HazelcastClientOfflineException;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.core.HazelcastInstanceNotActiveException;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A small, fixed size pool of long-lived {@link SeaTunnelClient}s.
+ *
+ * <p>Hazelcast clients are thread safe, so a slot is shared by every caller that lands on it and
+ * the pool only spreads load over {@code poolSize} connections. A slot connects lazily, without
+ * holding up the callers that only return or inspect it, is replaced when the engine reports the
+ * client as no longer active, backs off exponentially when reconnecting fails and is closed after
+ * it has been idle for {@code idleTimeoutMillis}. A replaced client is closed once the last lease
+ * on it is returned, so calls still running on it are not cut off.
+ */
+@Slf4j
+public class SeaTunnelClientPool implements AutoCloseable {
+
+    private final ClientConfig clientConfig;
+
+    private final long idleTimeoutMillis;
+
+    private final long reconnectBackoffMillis;
+
+    private final long maxReconnectBackoffMillis;
+
+    private final Slot[] slots;
+
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    private final ScheduledExecutorService evictor;
+
+    private final AtomicLong handshakeCount = new AtomicLong();
+    private final AtomicLong handshakeFailedCount = new AtomicLong();
+    private final AtomicLong invalidatedCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong requestFailedCount = new AtomicLong();
+    private final AtomicLong requestLatencyNanos = new AtomicLong();
+    private final AtomicLong maxRequestLatencyNanos = new AtomicLong();
+
+    public SeaTunnelClientPool(
+            @NonNull ClientConfig clientConfig,
+            int poolSize,
+            long idleTimeoutMillis,
+            long reconnectBackoffMillis,
+            long maxReconnectBackoffMillis) {
+        this.clientConfig = clientConfig;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.reconnectBackoffMillis = Math.max(reconnectBackoffMillis, 0L);
+        this.maxReconnectBackoffMillis =
+                Math.max(maxReconnectBackoffMillis, this.reconnectBackoffMillis);
+        this.slots = new Slot[Math.max(poolSize, 1)];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot(i);
+        }
+        this.evictor =
+                Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("seatunnel-client-evictor-%d")
+                                .setDaemon(true)
+                                .build());
+        if (idleTimeoutMillis > 0) {
+            long period = Math.max(idleTimeoutMillis / 2, 1000L);
+            evictor.scheduleWithFixedDelay(
+                    this::evictIdleClients, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Run {@code action} with a pooled client. The client must not be closed or kept by the caller
+     * after the action returns, use {@link #lease()} for long running work.
+     */
+    public <T> T execute(@NonNull Function<SeaTunnelClient, T> action) {
+        try (Lease lease = lease()) {
+            return lease.execute(action);
+        }
+    }
+
+    /**
+     * Borrow a client until the returned lease is closed. A leased client is never closed by idle
+     * eviction, so this is the way to hold a client across a long wait on the engine.
+     */
+    public Lease lease() {
+        int index = (nextSlot.getAndIncrement() & Integer.MAX_VALUE) % slots.length;
+        Slot slot = slots[index];
+        return new Lease(slot, slot.acquire());
+    }
+
+    public EngineClientMetricsRes getMetrics() {
+        int connected = 0;
+        int leased = 0;
+        for (Slot slot : slots) {
+            synchronized (slot) {
+                if (slot.current != null) {
+                    connected++;
+                    leased += slot.current.leases;
+                }
+                leased += slot.retiredLeases;
+            }
+        }
+        long requests = requestCount.get();
+        return new EngineClientMetricsRes(
+                slots.length,
+                connected,
+                leased,
+                handshakeCount.get(),
+                handshakeFailedCount.get(),
+                invalidatedCount.get(),
+                evictedCount.get(),
+                requests,
+                requestFailedCount.get(),
+                requests == 0
+                        ? 0L
+                        : TimeUnit.NANOSECONDS.toMillis(requestLatencyNanos.get() / requests),
+                TimeUnit.NANOSECONDS.toMillis(maxRequestLatencyNanos.get()));
+    }
+
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+        for (Slot slot : slots) {
+            PooledClient client;
+            synchronized (slot) {
+                client = slot.current;
+                slot.current = null;
+            }
+            if (client != null) {
+                closeQuietly(client.client);
+            }
+        }
+    }
+
+    private void evictIdleClients() {
+        long now = System.currentTimeMillis();
+        for (Slot slot : slots) {
+            PooledClient idleClient = null;
+            synchronized (slot) {
+                if (slot.current != null
+                        && slot.current.leases == 0
+                        && now - slot.lastUsedMillis >= idleTimeoutMillis) {
+                    idleClient = slot.current;
+                    slot.current = null;
+                }
+            }
+            if (idleClient != null) {
+                evictedCount.incrementAndGet();
+                log.info("Close SeaTunnel client of slot {} after being idle.", slot.index);
+                closeQuietly(idleClient.client);
+            }
+        }
+    }
+
+    private void recordRequest(long startNanos, boolean failed) {
+        long latency = System.nanoTime() - startNanos;
+        requestCount.incrementAndGet();
+        requestLatencyNanos.addAndGet(latency);
+        maxRequestLatencyNanos.accumulateAndGet(latency, Math::max);
+        if (failed) {
+            requestFailedCount.incrementAndGet();
+        }
+    }
+
+    private static boolean isClientBroken(Throwable e) {
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof HazelcastClientNotActiveException
+                    || cause instanceof HazelcastClientOfflineException
+                    || cause instanceof HazelcastInstanceNotActiveException) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    private static void closeQuietly(SeaTunnelClient client) {
+        if (client == null) {
+            return;
+        }
+        try {
+            client.close();
+        } catch (Exception e) {
+            log.warn("Close SeaTunnel client failed.", e);
+        }
+    }
+
+    /** A client with the number of leases currently held on it. */
+    private static class PooledClient {
+        private final SeaTunnelClient client;
+        private int leases;
+        private boolean retired;
+
+        private PooledClient(SeaTunnelClient client) {
+            this.client = client;
+        }
+    }
+
+    private class Slot {
+        private final int index;
+        // only one caller connects a slot at a time, the others wait here, not on the slot
+        private final Object connectLock = new Object();
+        private PooledClient current;
+        // leases still held on clients replaced after they broke
+        private int retiredLeases;
+        private long lastUsedMillis;
+        private int failedAttempts;
+        private long nextAttemptMillis;
+
+        private Slot(int index) {
+            this.index = index;
+        }
+
+        private PooledClient acquire() {
+            PooledClient client = tryAcquire();
+            if (client != null) {
+                return client;
+            }
+            synchronized (connectLock) {
+                client = tryAcquire();
+                if (client != null) {
+                    return client;
+                }
+                return connect();
+            }
+        }
+
+        private synchronized PooledClient tryAcquire() {
+            if (current == null) {
+                return null;
+            }
+            current.leases++;
+            lastUsedMillis = System.currentTimeMillis();
+            return current;
+        }
+
+        private void release(PooledClient client) {
+            boolean close;
+            synchronized (this) {
+                client.leases--;
+                lastUsedMillis = System.currentTimeMillis();
+                if (client.retired) {
+                    retiredLeases--;
+                }
+                close = client.retired && client.leases == 0;
+            }
+            if (close) {
+                closeQuietly(client.client);
+            }
+        }
+
+        // called with connectLock held, the handshake runs without the slot monitor
+        private PooledClient connect() {
+            long now = System.currentTimeMillis();
+            synchronized (this) {
+                if (now < nextAttemptMillis) {
+                    throw new SeatunnelException(
+                            SeatunnelErrorEnum.ILLEGAL_STATE,
+                            String.format(
+                                    "SeaTunnel engine is unreachable, next reconnect in %d ms",
+                                    nextAttemptMillis - now));
+                }
+            }
+            handshakeCount.incrementAndGet();
+            SeaTunnelClient client;
+            try {
+                client = new SeaTunnelClient(clientConfig);
+            } catch (RuntimeException e) {
+                handshakeFailedCount.incrementAndGet();
+                long backoff;
+                synchronized (this) {
+                    backoff =
+                            Math.min(
+                                    reconnectBackoffMillis << Math.min(failedAttempts, 16),
+                                    maxReconnectBackoffMillis);
+                    failedAttempts++;
+                    nextAttemptMillis = now + backoff;
+                }
+                log.warn(
+                        "Connect to SeaTunnel engine failed, slot {} retries in {} ms.",
+                        index,
+                        backoff,
+                        e);
+                throw e;
+            }
+            synchronized (this) {
+                failedAttempts = 0;
+                nextAttemptMillis = 0L;
+                current = new PooledClient(client);
+                current.leases++;
+                lastUsedMillis = System.currentTimeMillis();
+                return current;
+            }
+        }
+
+        private void invalidate(PooledClient brokenClient) {
+            boolean close;
+            synchronized (this) {
+                if (current != brokenClient) {
+                    // already replaced by another caller
+                    return;
+                }
+                current = null;
+                brokenClient.retired = true;
+                retiredLeases += brokenClient.leases;
+                close = brokenClient.leases == 0;
+            }
+            invalidatedCount.incrementAndGet();
+            log.warn(
+                    "SeaTunnel client of slot {} is no longer active, reconnect on demand.", index);
+            // calls still running on the client fail by themselves, the client is closed after them
+            if (close) {
+                closeQuietly(brokenClient.client);
+            }
+        }
+    }
+
+    /** A borrowed client, closing the lease returns it to the pool without closing the client. */
+    public final class Lease implements AutoCloseable {
+        private final Slot slot;
+        private final PooledClient pooledClient;
+        private boolean released;
+
+        private Lease(Slot slot, PooledClient pooledClient) {
+            this.slot = slot;
+            this.pooledClient = pooledClient;
+        }
+
+        public SeaTunnelClient getClient() {
+            return pooledClient.client;
+        }
+
+        public <T> T execute(@NonNull Function<SeaTunnelClient, T> action) {
+            long start = System.nanoTime();
+            try {
+                T result = action.apply(pooledClient.client);
+                recordRequest(start, false);
+                return result;
+            } catch (RuntimeException e) {
+                recordRequest(start, true);
+                if (isClientBroken(e)) {
+                    slot.invalidate(pooledClient);
+                }
+                throw e;
+            }
+        }
+
+        /** Drop the client from the pool, e.g. after it failed outside {@link #execute}. */
+        public void invalidate() {
+            slot.invalidate(pooledClient);
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                slot.release(pooledClient);
+            }
+        }
+    }
+}
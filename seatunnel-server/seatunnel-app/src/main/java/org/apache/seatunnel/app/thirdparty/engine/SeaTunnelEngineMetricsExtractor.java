@@ -36,14 +36,13 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.OptionalDouble;
 
 @Slf4j
 /** Engine metrics extractor SeaTunnel Engine implement. */
@@ -98,11 +97,10 @@ public class SeaTunnelEngineMetricsExtractor implements IEngineMetricsExtractor
                 return new ArrayList<>();
             }
 
-            JsonNode jsonNode = JsonUtils.stringToJsonNode(metricsContent);
             LinkedHashMap<Integer, JobMetrics> metricsMap =
-                    extractMetrics(jobPipelineStatus, jsonNode);
-            return Arrays.asList(metricsMap.values().toArray(new JobMetrics[0]));
-        } catch (JsonProcessingException e) {
+                    extractMetrics(jobPipelineStatus, metricsContent);
+            return new ArrayList<>(metricsMap.values());
+        } catch (IOException e) {
             throw new SeatunnelException(
                     SeatunnelErrorEnum.LOAD_ENGINE_METRICS_JSON_ERROR,
                     "SeaTunnel",
@@ -195,9 +193,8 @@ public class SeaTunnelEngineMetricsExtractor implements IEngineMetricsExtractor
                 return new HashMap<>();
             }
 
-            JsonNode jsonNode = JsonUtils.stringToJsonNode(metricsContent);
-            return extractMetrics(jobPipelineStatus, jsonNode);
-        } catch (JsonProcessingException e) {
+            return extractMetrics(jobPipelineStatus, metricsContent);
+        } catch (IOException e) {
             throw new SeatunnelException(
                     SeatunnelErrorEnum.LOAD_ENGINE_METRICS_JSON_ERROR,
                     "SeaTunnel",
@@ -206,77 +203,31 @@ public class SeaTunnelEngineMetricsExtractor implements IEngineMetricsExtractor
     }
 
     private LinkedHashMap<Integer, JobMetrics> extractMetrics(
-            LinkedHashMap<Integer, String> jobPipelineStatus, JsonNode jsonNode) {
+            LinkedHashMap<Integer, String> jobPipelineStatus, String metricsContent)
+            throws IOException {
         LinkedHashMap<Integer, JobMetrics> metricsMap = new LinkedHashMap<>();
-        JsonNode sourceReceivedCount = jsonNode.get("SourceReceivedCount");
-        if (sourceReceivedCount != null && sourceReceivedCount.isArray()) {
-            for (JsonNode node : sourceReceivedCount) {
-                Integer pipelineId = node.get("tags").get("pipelineId").asInt();
-                JobMetrics currPipelineMetrics =
-                        getOrCreatePipelineMetricsMap(metricsMap, jobPipelineStatus, pipelineId);
-                currPipelineMetrics.setReadRowCount(
-                        currPipelineMetrics.getReadRowCount() + node.get("value").asLong());
-            }
-        }
-
-        JsonNode sinkWriteCount = jsonNode.get("SinkWriteCount");
-        if (sinkWriteCount != null && sinkWriteCount.isArray()) {
-            for (JsonNode node : jsonNode.get("SinkWriteCount")) {
-                Integer pipelineId = node.get("tags").get("pipelineId").asInt();
-                JobMetrics currPipelineMetrics =
-                        getOrCreatePipelineMetricsMap(metricsMap, jobPipelineStatus, pipelineId);
-                currPipelineMetrics.setWriteRowCount(
-                        currPipelineMetrics.getWriteRowCount() + node.get("value").asLong());
-            }
-        }
-
-        JsonNode sinkWriteQPS = jsonNode.get("SinkWriteQPS");
-        if (sinkWriteQPS != null && sinkWriteQPS.isArray()) {
-            for (JsonNode node : jsonNode.get("SinkWriteQPS")) {
-                Integer pipelineId = node.get("tags").get("pipelineId").asInt();
-                JobMetrics currPipelineMetrics =
-                        getOrCreatePipelineMetricsMap(metricsMap, jobPipelineStatus, pipelineId);
-                currPipelineMetrics.setWriteQps(
-                        currPipelineMetrics.getWriteQps()
-                                + (new Double(node.get("value").asDouble())).longValue());
-            }
-        }
-
-        JsonNode sourceReceivedQPS = jsonNode.get("SourceReceivedQPS");
-        if (sourceReceivedQPS != null && sourceReceivedQPS.isArray()) {
-            for (JsonNode node : jsonNode.get("SourceReceivedQPS")) {
-                Integer pipelineId = node.get("tags").get("pipelineId").asInt();
-                JobMetrics currPipelineMetrics =
-                        getOrCreatePipelineMetricsMap(metricsMap, jobPipelineStatus, pipelineId);
-                currPipelineMetrics.setReadQps(
-                        currPipelineMetrics.getReadQps()
-                                + (new Double(node.get("value").asDouble())).longValue());
-            }
-        }
-
-        JsonNode cdcRecordEmitDelay = jsonNode.get("CDCRecordEmitDelay");
-        if (cdcRecordEmitDelay != null && cdcRecordEmitDelay.isArray()) {
-            Map<Integer, List<Long>> dataMap = new HashMap<>();
-            for (JsonNode node : jsonNode.get("CDCRecordEmitDelay")) {
-                Integer pipelineId = node.get("tags").get("pipelineId").asInt();
-                long value = node.get("value").asLong();
-                dataMap.computeIfAbsent(pipelineId, n -> new ArrayList<>()).add(value);
-            }
-            dataMap.forEach(
-                    (key, value) -> {
-                        JobMetrics currPipelineMetrics =
-                                getOrCreatePipelineMetricsMap(metricsMap, jobPipelineStatus, key);
-                        OptionalDouble average = value.stream().mapToDouble(a -> a).average();
-                        currPipelineMetrics.setRecordDelay(
-                                Double.valueOf(average.isPresent() ? average.getAsDouble() : 0)
-                                        .longValue());
-                    });
-        }
+        SeaTunnelEngineMetricsParser.parseJobMetrics(metricsContent)
+                .forEach(
+                        (pipelineId, pipelineMetrics) ->
+                                fillPipelineMetrics(
+                                        getOrCreatePipelineMetricsMap(
+                                                metricsMap, jobPipelineStatus, pipelineId),
+                                        pipelineMetrics));
         return metricsMap;
     }
 
     @Override
     public Map<Long, HashMap<Integer, JobMetrics>> getAllRunningJobMetrics() {
+        try {
+            return fetchAllRunningJobMetrics();
+        } catch (Exception e) {
+            log.error("Failed to fetch running job metrics", e);
+        }
+        return new HashMap<>();
+    }
+
+    @Override
+    public Map<Long, HashMap<Integer, JobMetrics>> fetchAllRunningJobMetrics() {
         HashMap<Long, HashMap<Integer, JobMetrics>> allRunningJobMetricsHashMap = new HashMap<>();
 
         try {
@@ -285,94 +236,38 @@ public class SeaTunnelEngineMetricsExtractor implements IEngineMetricsExtractor
             if (StringUtils.isEmpty(allJobMetricsContent)) {
                 return new HashMap<>();
             }
-            JsonNode jsonNode = JsonUtils.stringToJsonNode(allJobMetricsContent);
-            for (JsonNode item : jsonNode) {
-                LinkedHashMap<Integer, JobMetrics> metricsMap = new LinkedHashMap<>();
-
-                JsonNode sourceReceivedCount = item.get("metrics").get("SourceReceivedCount");
-                long jobEngineId = 0L;
-                if (sourceReceivedCount != null && sourceReceivedCount.isArray()) {
-                    for (JsonNode node : sourceReceivedCount) {
-                        jobEngineId = node.get("tags").get("jobId").asLong();
-                        Integer pipelineId = node.get("tags").get("pipelineId").asInt();
-                        JobMetrics currPipelineMetrics =
-                                getOrCreatePipelineMetricsMapStatusRunning(metricsMap, pipelineId);
-                        currPipelineMetrics.setReadRowCount(
-                                currPipelineMetrics.getReadRowCount() + node.get("value").asLong());
-                    }
-                }
-
-                JsonNode sinkWriteCount = item.get("metrics").get("SinkWriteCount");
-                if (sinkWriteCount != null && sinkWriteCount.isArray()) {
-                    for (JsonNode node : sinkWriteCount) {
-                        jobEngineId = node.get("tags").get("jobId").asLong();
-                        Integer pipelineId = node.get("tags").get("pipelineId").asInt();
-                        JobMetrics currPipelineMetrics =
-                                getOrCreatePipelineMetricsMapStatusRunning(metricsMap, pipelineId);
-                        currPipelineMetrics.setWriteRowCount(
-                                currPipelineMetrics.getWriteRowCount()
-                                        + node.get("value").asLong());
-                    }
-                }
-
-                JsonNode sinkWriteQPS = item.get("metrics").get("SinkWriteQPS");
-                if (sinkWriteQPS != null && sinkWriteQPS.isArray()) {
-                    for (JsonNode node : sinkWriteQPS) {
-                        Integer pipelineId = node.get("tags").get("pipelineId").asInt();
-                        JobMetrics currPipelineMetrics =
-                                getOrCreatePipelineMetricsMapStatusRunning(metricsMap, pipelineId);
-                        currPipelineMetrics.setWriteQps(
-                                currPipelineMetrics.getWriteQps()
-                                        + (new Double(node.get("value").asDouble())).longValue());
-                    }
-                }
-
-                JsonNode sourceReceivedQPS = item.get("metrics").get("SourceReceivedQPS");
-                if (sourceReceivedQPS != null && sourceReceivedQPS.isArray()) {
-                    for (JsonNode node : sourceReceivedQPS) {
-                        Integer pipelineId = node.get("tags").get("pipelineId").asInt();
-                        JobMetrics currPipelineMetrics =
-                                getOrCreatePipelineMetricsMapStatusRunning(metricsMap, pipelineId);
-                        currPipelineMetrics.setReadQps(
-                                currPipelineMetrics.getReadQps()
-                                        + (new Double(node.get("value").asDouble())).longValue());
-                    }
-                }
-
-                JsonNode cdcRecordEmitDelay = item.get("metrics").get("CDCRecordEmitDelay");
-                if (cdcRecordEmitDelay != null && cdcRecordEmitDelay.isArray()) {
-                    Map<Integer, List<Long>> dataMap = new HashMap<>();
-                    for (JsonNode node : cdcRecordEmitDelay) {
-                        Integer pipelineId = node.get("tags").get("pipelineId").asInt();
-                        long value = node.get("value").asLong();
-                        dataMap.computeIfAbsent(pipelineId, n -> new ArrayList<>()).add(value);
-                    }
-                    dataMap.forEach(
-                            (key, value) -> {
-                                JobMetrics currPipelineMetrics =
-                                        getOrCreatePipelineMetricsMapStatusRunning(metricsMap, key);
-                                OptionalDouble average =
-                                        value.stream().mapToDouble(a -> a).average();
-                                currPipelineMetrics.setRecordDelay(
-                                        Double.valueOf(
-                                                        average.isPresent()
-                                                                ? average.getAsDouble()
-                                                                : 0)
-                                                .longValue());
+            SeaTunnelEngineMetricsParser.parseRunningJobMetrics(allJobMetricsContent)
+                    .forEach(
+                            (jobEngineId, pipelines) -> {
+                                LinkedHashMap<Integer, JobMetrics> metricsMap =
+                                        new LinkedHashMap<>();
+                                pipelines.forEach(
+                                        (pipelineId, pipelineMetrics) ->
+                                                fillPipelineMetrics(
+                                                        getOrCreatePipelineMetricsMapStatusRunning(
+                                                                metricsMap, pipelineId),
+                                                        pipelineMetrics));
+                                log.debug("jobEngineId={},metricsMap={}", jobEngineId, metricsMap);
+                                allRunningJobMetricsHashMap.put(jobEngineId, metricsMap);
                             });
-                }
-
-                log.info("jobEngineId={},metricsMap={}", jobEngineId, metricsMap);
-
-                allRunningJobMetricsHashMap.put(jobEngineId, metricsMap);
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to fetch running job metrics", e);
+        } catch (IOException e) {
+            throw new SeatunnelException(
+                    SeatunnelErrorEnum.LOAD_ENGINE_METRICS_JSON_ERROR,
+                    "SeaTunnel",
+                    ExceptionUtils.getMessage(e));
         }
         return allRunningJobMetricsHashMap;
     }
 
+    private void fillPipelineMetrics(
+            JobMetrics jobMetrics, SeaTunnelEngineMetricsParser.PipelineMetrics pipelineMetrics) {
+        jobMetrics.setReadRowCount(pipelineMetrics.getReadRowCount());
+        jobMetrics.setWriteRowCount(pipelineMetrics.getWriteRowCount());
+        jobMetrics.setReadQps(pipelineMetrics.getReadQps());
+        jobMetrics.setWriteQps(pipelineMetrics.getWriteQps());
+        jobMetrics.setRecordDelay(pipelineMetrics.getRecordDelay());
+    }
+
     private JobMetrics getOrCreatePipelineMetricsMapStatusRunning(
             LinkedHashMap<Integer, JobMetrics> metricsMap, Integer pipelineId) {
         JobMetrics currPipelineMetrics = metricsMap.get(pipelineId);
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.thirdparty.engine;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonFactory;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Single pass parser of the metrics json returned by the SeaTunnel engine.
+ *
+ * <p>The payload of a multi-table CDC job holds one measurement per table and metric, so instead of
+ * building a tree and walking it once per metric, the token stream is read once and every
+ * measurement is added to a primitive per pipeline accumulator.
+ */
+public final class SeaTunnelEngineMetricsParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String METRICS = "metrics";
+    private static final String TAGS = "tags";
+    private static final String VALUE = "value";
+    private static final String JOB_ID = "jobId";
+    private static final String PIPELINE_ID = "pipelineId";
+
+    private SeaTunnelEngineMetricsParser() {}
+
+    /**
+     * Parse the metrics of a single job, e.g. {@code {"SourceReceivedCount":[{"tags":{...},
+     * "value":1}], ...}}.
+     */
+    public static LinkedHashMap<Integer, PipelineMetrics> parseJobMetrics(String content)
+            throws IOException {
+        JobAccumulator job = new JobAccumulator();
+        try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                readMetrics(parser, job);
+            }
+        }
+        return job.pipelines;
+    }
+
+    /**
+     * Parse the metrics of all running jobs, a collection of {@code {"metrics":{...}}} items. The
+     * job id of an item is taken from the tags of its measurements.
+     */
+    public static Map<Long, LinkedHashMap<Integer, PipelineMetrics>> parseRunningJobMetrics(
+            String content) throws IOException {
+        Map<Long, LinkedHashMap<Integer, PipelineMetrics>> jobs = new LinkedHashMap<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+            JsonToken root = parser.nextToken();
+            if (root != JsonToken.START_ARRAY && root != JsonToken.START_OBJECT) {
+                return jobs;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && !token.isStructEnd()) {
+                if (token == JsonToken.FIELD_NAME) {
+                    // items may also come as the values of an object keyed by job id
+                    token = parser.nextToken();
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                JobAccumulator job = new JobAccumulator();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    if (parser.nextToken() == JsonToken.START_OBJECT && METRICS.equals(field)) {
+                        readMetrics(parser, job);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                jobs.put(job.jobId, job.pipelines);
+            }
+        }
+        return jobs;
+    }
+
+    /** Reads a metrics object, the parser must be positioned on its START_OBJECT. */
+    private static void readMetrics(JsonParser parser, JobAccumulator job) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            MetricType type = MetricType.of(parser.getCurrentName());
+            if (parser.nextToken() != JsonToken.START_ARRAY || type == null) {
+                parser.skipChildren();
+                continue;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                if (token == JsonToken.START_OBJECT) {
+                    readMeasurement(parser, type, job);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    /** Reads one {@code {"tags":{...},"value":...}} measurement. */
+    private static void readMeasurement(JsonParser parser, MetricType type, JobAccumulator job)
+            throws IOException {
+        int pipelineId = 0;
+        boolean hasPipelineId = false;
+        long longValue = 0L;
+        double doubleValue = 0D;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (TAGS.equals(field) && token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String tag = parser.getCurrentName();
+                    JsonToken tagValue = parser.nextToken();
+                    if (tagValue.isScalarValue() && PIPELINE_ID.equals(tag)) {
+                        pipelineId = parser.getValueAsInt();
+                        hasPipelineId = true;
+                    } else if (tagValue.isScalarValue() && JOB_ID.equals(tag)) {
+                        job.jobId = parser.getValueAsLong();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if (VALUE.equals(field) && token.isScalarValue()) {
+                longValue = parser.getValueAsLong();
+                doubleValue = parser.getValueAsDouble();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (hasPipelineId) {
+            job.pipeline(pipelineId).add(type, longValue, doubleValue);
+        }
+    }
+
+    private enum MetricType {
+        SOURCE_RECEIVED_COUNT,
+        SINK_WRITE_COUNT,
+        SINK_WRITE_QPS,
+        SOURCE_RECEIVED_QPS,
+        CDC_RECORD_EMIT_DELAY;
+
+        private static MetricType of(String name) {
+            switch (name) {
+                case "SourceReceivedCount":
+                    return SOURCE_RECEIVED_COUNT;
+                case "SinkWriteCount":
+                    return SINK_WRITE_COUNT;
+                case "SinkWriteQPS":
+                    return SINK_WRITE_QPS;
+                case "SourceReceivedQPS":
+                    return SOURCE_RECEIVED_QPS;
+                case "CDCRecordEmitDelay":
+                    return CDC_RECORD_EMIT_DELAY;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    private static final class JobAccumulator {
+        private long jobId;
+        private final LinkedHashMap<Integer, PipelineMetrics> pipelines = new LinkedHashMap<>();
+
+        private PipelineMetrics pipeline(int pipelineId) {
+            PipelineMetrics metrics = pipelines.get(pipelineId);
+            if (metrics == null) {
+                metrics = new PipelineMetrics(pipelineId);
+                pipelines.put(pipelineId, metrics);
+            }
+            return metrics;
+        }
+    }
+
+    /** Aggregated metrics of one pipeline. */
+    @Getter
+    public static final class PipelineMetrics {
+        private final int pipelineId;
+        private long readRowCount;
+        private long writeRowCount;
+        private long readQps;
+        private long writeQps;
+        private long recordDelaySum;
+        private int recordDelayCount;
+
+        private PipelineMetrics(int pipelineId) {
+            this.pipelineId = pipelineId;
+        }
+
+        /** @return the average CDC record emit delay over all tables of the pipeline */
+        public long getRecordDelay() {
+            return recordDelayCount == 0 ? 0L : (long) ((double) recordDelaySum / recordDelayCount);
+        }
+
+        private void add(MetricType type, long longValue, double doubleValue) {
+            switch (type) {
+                case SOURCE_RECEIVED_COUNT:
+                    readRowCount += longValue;
+                    break;
+                case SINK_WRITE_COUNT:
+                    writeRowCount += longValue;
+                    break;
+                case SINK_WRITE_QPS:
+                    writeQps += (long) doubleValue;
+                    break;
+                case SOURCE_RECEIVED_QPS:
+                    readQps += (long) doubleValue;
+                    break;
+                case CDC_RECORD_EMIT_DELAY:
+                    recordDelaySum += longValue;
+                    recordDelayCount++;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
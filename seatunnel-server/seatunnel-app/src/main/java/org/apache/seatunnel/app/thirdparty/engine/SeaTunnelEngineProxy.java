@@ -16,7 +16,9 @@
  */
 package org.apache.seatunnel.app.thirdparty.engine;
 
-import org.apache.seatunnel.engine.client.SeaTunnelClient;
+import org.apache.seatunnel.app.common.Constants;
+import org.apache.seatunnel.app.domain.response.engine.EngineClientMetricsRes;
+import org.apache.seatunnel.app.utils.PropertyUtils;
 import org.apache.seatunnel.engine.common.config.ConfigProvider;
 import org.apache.seatunnel.engine.common.config.JobConfig;
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
@@ -24,7 +26,6 @@ import org.apache.seatunnel.engine.common.config.YamlSeaTunnelConfigBuilder;
 import org.apache.seatunnel.engine.core.job.JobDAGInfo;
 import org.apache.seatunnel.engine.core.job.JobStatus;
 
-import com.hazelcast.client.config.ClientConfig;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,7 +35,7 @@ import java.util.concurrent.ExecutionException;
 @Slf4j
 public class SeaTunnelEngineProxy {
 
-    private ClientConfig clientConfig = null;
+    private final SeaTunnelClientPool clientPool;
 
     private static class SeaTunnelEngineProxyHolder {
         private static final SeaTunnelEngineProxy INSTANCE = new SeaTunnelEngineProxy();
@@ -45,70 +46,61 @@ public class SeaTunnelEngineProxy {
     }
 
     private SeaTunnelEngineProxy() {
-        clientConfig = ConfigProvider.locateAndGetClientConfig();
+        clientPool =
+                new SeaTunnelClientPool(
+                        ConfigProvider.locateAndGetClientConfig(),
+                        PropertyUtils.getInt(
+                                Constants.ENGINE_CLIENT_POOL_SIZE,
+                                Constants.DEFAULT_ENGINE_CLIENT_POOL_SIZE),
+                        PropertyUtils.getLong(
+                                Constants.ENGINE_CLIENT_IDLE_TIMEOUT_MILLIS,
+                                Constants.DEFAULT_ENGINE_CLIENT_IDLE_TIMEOUT_MILLIS),
+                        PropertyUtils.getLong(
+                                Constants.ENGINE_CLIENT_RECONNECT_BACKOFF_MILLIS,
+                                Constants.DEFAULT_ENGINE_CLIENT_RECONNECT_BACKOFF_MILLIS),
+                        PropertyUtils.getLong(
+                                Constants.ENGINE_CLIENT_MAX_RECONNECT_BACKOFF_MILLIS,
+                                Constants.DEFAULT_ENGINE_CLIENT_MAX_RECONNECT_BACKOFF_MILLIS));
+        Runtime.getRuntime().addShutdownHook(new Thread(clientPool::close));
     }
 
     public String getMetricsContent(@NonNull String jobEngineId) {
-        SeaTunnelClient seaTunnelClient = new SeaTunnelClient(clientConfig);
-        try {
-            return seaTunnelClient.getJobMetrics(Long.valueOf(jobEngineId));
-        } finally {
-            seaTunnelClient.close();
-        }
+        return clientPool.execute(client -> client.getJobMetrics(Long.valueOf(jobEngineId)));
     }
 
     public String getJobPipelineStatusStr(@NonNull String jobEngineId) {
-        SeaTunnelClient seaTunnelClient = new SeaTunnelClient(clientConfig);
-        try {
-            return seaTunnelClient.getJobDetailStatus(Long.valueOf(jobEngineId));
-        } finally {
-            seaTunnelClient.close();
-        }
+        return clientPool.execute(client -> client.getJobDetailStatus(Long.valueOf(jobEngineId)));
     }
 
     public JobDAGInfo getJobInfo(@NonNull String jobEngineId) {
-        SeaTunnelClient seaTunnelClient = new SeaTunnelClient(clientConfig);
-        try {
-            return seaTunnelClient.getJobInfo(Long.valueOf(jobEngineId));
-        } finally {
-            seaTunnelClient.close();
-        }
+        return clientPool.execute(client -> client.getJobInfo(Long.valueOf(jobEngineId)));
     }
 
     public JobStatus getJobStatus(@NonNull String jobEngineId) {
-        SeaTunnelClient seaTunnelClient = new SeaTunnelClient(clientConfig);
         try {
-            return JobStatus.valueOf(seaTunnelClient.getJobStatus(Long.valueOf(jobEngineId)));
+            return clientPool.execute(
+                    client -> JobStatus.valueOf(client.getJobStatus(Long.valueOf(jobEngineId))));
         } catch (Exception e) {
             log.warn("Can not get job from engine.", e);
             return null;
-        } finally {
-            seaTunnelClient.close();
         }
     }
 
     public Map<String, String> getClusterHealthMetrics() {
-        SeaTunnelClient seaTunnelClient = new SeaTunnelClient(clientConfig);
-        try {
-            return seaTunnelClient.getClusterHealthMetrics();
-        } finally {
-            seaTunnelClient.close();
-        }
+        return clientPool.execute(client -> client.getClusterHealthMetrics());
     }
 
     public String getAllRunningJobMetricsContent() {
-
-        SeaTunnelClient seaTunnelClient = new SeaTunnelClient(clientConfig);
-        try {
-            return seaTunnelClient.getJobClient().getRunningJobMetrics();
-        } finally {
-            seaTunnelClient.close();
-        }
+        return clientPool.execute(client -> client.getJobClient().getRunningJobMetrics());
     }
 
     public void pauseJob(@NonNull String jobEngineId) {
-        try (SeaTunnelClient seaTunnelClient = new SeaTunnelClient(clientConfig)) {
-            seaTunnelClient.getJobClient().savePointJob(Long.valueOf(jobEngineId));
+        try {
+            clientPool.execute(
+                    client -> {
+                        client.getJobClient().savePointJob(Long.valueOf(jobEngineId));
+                        return null;
+                    });
         } catch (Exception e) {
             log.warn("Can not pause job from engine.", e);
         }
@@ -119,12 +111,27 @@ public class SeaTunnelEngineProxy {
         JobConfig jobConfig = new JobConfig();
         jobConfig.setName(jobInstanceId + "_job");
         SeaTunnelConfig seaTunnelConfig = new YamlSeaTunnelConfigBuilder().build();
-        try (SeaTunnelClient seaTunnelClient = new SeaTunnelClient(clientConfig)) {
-            seaTunnelClient
-                    .restoreExecutionContext(filePath, jobConfig, seaTunnelConfig, jobEngineId)
-                    .execute();
-        } catch (ExecutionException | InterruptedException e) {
-            throw new RuntimeException(e);
-        }
+        clientPool.execute(
+                client -> {
+                    try {
+                        return client.restoreExecutionContext(
+                                        filePath, jobConfig, seaTunnelConfig, jobEngineId)
+                                .execute();
+                    } catch (ExecutionException | InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+    }
+
+    /**
+     * Borrow a pooled client for work that outlives a single call, such as submitting a job and
+     * waiting for it to complete. The lease must be closed once the client is no longer needed.
+     */
+    public SeaTunnelClientPool.Lease leaseClient() {
+        return clientPool.lease();
+    }
+
+    public EngineClientMetricsRes getClientMetrics() {
+        return clientPool.getMetrics();
     }
 }
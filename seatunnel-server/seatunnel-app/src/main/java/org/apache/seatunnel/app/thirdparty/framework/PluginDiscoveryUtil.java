@@ -21,12 +21,15 @@ import org.apache.seatunnel.api.configuration.util.OptionRule;
 import org.apache.seatunnel.api.source.SupportColumnProjection;
 import org.apache.seatunnel.api.table.factory.Factory;
 import org.apache.seatunnel.api.table.factory.FactoryUtil;
+import org.apache.seatunnel.api.table.factory.TableSinkFactory;
 import org.apache.seatunnel.api.table.factory.TableSourceFactory;
+import org.apache.seatunnel.api.table.factory.TableTransformFactory;
 import org.apache.seatunnel.app.domain.response.connector.ConnectorFeature;
 import org.apache.seatunnel.app.domain.response.connector.ConnectorInfo;
 import org.apache.seatunnel.app.dynamicforms.FormStructure;
 import org.apache.seatunnel.common.config.Common;
 import org.apache.seatunnel.common.constants.PluginType;
+import org.apache.seatunnel.common.utils.FileUtils;
 import org.apache.seatunnel.plugin.discovery.AbstractPluginDiscovery;
 import org.apache.seatunnel.plugin.discovery.seatunnel.SeaTunnelSinkPluginDiscovery;
 
@@ -35,7 +38,10 @@ import lombok.NonNull;
 import java.io.IOException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -76,6 +82,12 @@ public class PluginDiscoveryUtil {
             factories =
                     FactoryUtil.discoverFactories(Thread.currentThread().getContextClassLoader());
         }
+        return getConnectorFeatures(factories);
+    }
+
+    /** @return the features of the source connectors among {@code factories} */
+    public static Map<PluginIdentifier, ConnectorFeature> getConnectorFeatures(
+            @NonNull List<Factory> factories) {
         Map<PluginIdentifier, ConnectorFeature> featureMap = new ConcurrentHashMap<>();
         factories.forEach(
                 plugin -> {
@@ -130,6 +142,82 @@ public class PluginDiscoveryUtil {
         return new SeaTunnelSinkPluginDiscovery().getAllPlugin();
     }
 
+    /**
+     * The jars under the connectors dir in a stable order, each of them can be discovered on its
+     * own. Empty if there is no connectors dir and the connectors are on the classpath.
+     */
+    public static List<URL> getConnectorJars() throws IOException {
+        Path connectorDir = Common.connectorDir();
+        if (!connectorDir.toFile().exists()) {
+            return new ArrayList<>();
+        }
+        List<URL> jars = new ArrayList<>(FileUtils.searchJarFiles(connectorDir));
+        jars.sort(Comparator.comparing(URL::toString));
+        return jars;
+    }
+
+    /** The class loader plugins are discovered from besides the connector jars. */
+    public static ClassLoader getClasspathClassLoader() {
+        // connector jars are loaded by children of the system class loader, see getAllConnectors
+        return Common.connectorDir().toFile().exists()
+                ? ClassLoader.getSystemClassLoader()
+                : Thread.currentThread().getContextClassLoader();
+    }
+
+    /**
+     * A class loader of one connector jar, it stays open while the factories found on it are used
+     * and is closed by the caller.
+     */
+    public static URLClassLoader newConnectorClassLoader(@NonNull URL jar) {
+        return new URLClassLoader(new URL[] {jar});
+    }
+
+    /** @return the factories of one connector jar, without the ones of the classpath */
+    public static List<Factory> discoverConnectorFactories(
+            @NonNull URLClassLoader connectorClassLoader) {
+        return FactoryUtil.discoverFactories(connectorClassLoader).stream()
+                .filter(factory -> factory.getClass().getClassLoader() == connectorClassLoader)
+                .collect(Collectors.toList());
+    }
+
+    public static List<Factory> discoverFactories(@NonNull ClassLoader classLoader) {
+        return FactoryUtil.discoverFactories(classLoader);
+    }
+
+    /** Group {@code factories} by plugin type the same way {@link #getAllConnectors()} does. */
+    public static Map<PluginType, LinkedHashMap<PluginIdentifier, OptionRule>> getPlugins(
+            @NonNull List<Factory> factories) {
+        Map<PluginType, LinkedHashMap<PluginIdentifier, OptionRule>> plugins = new HashMap<>();
+        for (Factory factory : factories) {
+            if (factory instanceof TableSourceFactory) {
+                plugins.computeIfAbsent(PluginType.SOURCE, k -> new LinkedHashMap<>())
+                        .put(
+                                PluginIdentifier.of(
+                                        "seatunnel",
+                                        PluginType.SOURCE.getType(),
+                                        factory.factoryIdentifier()),
+                                FactoryUtil.sourceFullOptionRule((TableSourceFactory) factory));
+            } else if (factory instanceof TableSinkFactory) {
+                plugins.computeIfAbsent(PluginType.SINK, k -> new LinkedHashMap<>())
+                        .put(
+                                PluginIdentifier.of(
+                                        "seatunnel",
+                                        PluginType.SINK.getType(),
+                                        factory.factoryIdentifier()),
+                                FactoryUtil.sinkFullOptionRule((TableSinkFactory) factory));
+            } else if (factory instanceof TableTransformFactory) {
+                plugins.computeIfAbsent(PluginType.TRANSFORM, k -> new LinkedHashMap<>())
+                        .put(
+                                PluginIdentifier.of(
+                                        "seatunnel",
+                                        PluginType.TRANSFORM.getType(),
+                                        factory.factoryIdentifier()),
+                                factory.optionRule());
+            }
+        }
+        return plugins;
+    }
+
     public static ConcurrentMap<String, FormStructure> getDownloadedConnectorFormStructures(
             @NonNull Map<PluginType, LinkedHashMap<PluginIdentifier, OptionRule>> allPlugins,
             @NonNull PluginType pluginType) {
@@ -45,5 +45,11 @@ public interface IEngineMetricsExtractor {
     /** Obtain all running task metrics in the engine cluster */
     Map<Long, HashMap<Integer, JobMetrics>> getAllRunningJobMetrics();
 
+    /**
+     * Same as {@link #getAllRunningJobMetrics()}, but failures to reach the engine are thrown
+     * instead of being reported as "no running job".
+     */
+    Map<Long, HashMap<Integer, JobMetrics>> fetchAllRunningJobMetrics();
+
     Map<Integer, JobMetrics> getMetricsByJobEngineIdRTMap(@NonNull String jobEngineId);
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.thirdparty.metrics;
+
+import org.apache.seatunnel.app.dal.entity.JobMetrics;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Metrics of every running job taken from the engine in a single call. A snapshot is never modified
+ * after it is published, readers get their own copies of the {@link JobMetrics}.
+ */
+public final class RunningJobMetricsSnapshot {
+
+    public static final RunningJobMetricsSnapshot EMPTY =
+            new RunningJobMetricsSnapshot(0L, 0L, Collections.emptyMap());
+
+    @Getter private final long version;
+
+    @Getter private final long createTimeMillis;
+
+    private final Map<Long, Map<Integer, JobMetrics>> jobMetrics;
+
+    public RunningJobMetricsSnapshot(
+            long version,
+            long createTimeMillis,
+            Map<Long, ? extends Map<Integer, JobMetrics>> jobMetrics) {
+        this.version = version;
+        this.createTimeMillis = createTimeMillis;
+        Map<Long, Map<Integer, JobMetrics>> copy = new HashMap<>(jobMetrics.size());
+        jobMetrics.forEach(
+                (jobEngineId, pipelineMetrics) ->
+                        copy.put(
+                                jobEngineId,
+                                Collections.unmodifiableMap(copyPipelineMetrics(pipelineMetrics))));
+        this.jobMetrics = Collections.unmodifiableMap(copy);
+    }
+
+    public long getAgeMillis() {
+        return System.currentTimeMillis() - createTimeMillis;
+    }
+
+    public boolean isRunning(Long jobEngineId) {
+        return jobEngineId != null && jobMetrics.containsKey(jobEngineId);
+    }
+
+    public int size() {
+        return jobMetrics.size();
+    }
+
+    /** @return a copy of the pipeline metrics of the job, or null if the job is not running */
+    public HashMap<Integer, JobMetrics> getJobMetrics(Long jobEngineId) {
+        Map<Integer, JobMetrics> pipelineMetrics = jobMetrics.get(jobEngineId);
+        return pipelineMetrics == null ? null : copyPipelineMetrics(pipelineMetrics);
+    }
+
+    /** @return a copy of the pipeline metrics of every running job */
+    public Map<Long, HashMap<Integer, JobMetrics>> getAllJobMetrics() {
+        Map<Long, HashMap<Integer, JobMetrics>> copy = new HashMap<>(jobMetrics.size());
+        jobMetrics.forEach(
+                (jobEngineId, pipelineMetrics) ->
+                        copy.put(jobEngineId, copyPipelineMetrics(pipelineMetrics)));
+        return copy;
+    }
+
+    private static LinkedHashMap<Integer, JobMetrics> copyPipelineMetrics(
+            Map<Integer, JobMetrics> pipelineMetrics) {
+        LinkedHashMap<Integer, JobMetrics> copy = new LinkedHashMap<>(pipelineMetrics.size());
+        pipelineMetrics.forEach((pipelineId, metrics) -> copy.put(pipelineId, copyOf(metrics)));
+        return copy;
+    }
+
+    private static JobMetrics copyOf(JobMetrics metrics) {
+        return JobMetrics.builder()
+                .pipelineId(metrics.getPipelineId())
+                .readRowCount(metrics.getReadRowCount())
+                .writeRowCount(metrics.getWriteRowCount())
+                .sourceTableNames(metrics.getSourceTableNames())
+                .sinkTableNames(metrics.getSinkTableNames())
+                .readQps(metrics.getReadQps())
+                .writeQps(metrics.getWriteQps())
+                .recordDelay(metrics.getRecordDelay())
+                .status(metrics.getStatus())
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.utils;
+
+import org.apache.seatunnel.server.common.SeatunnelErrorEnum;
+import org.apache.seatunnel.server.common.SeatunnelException;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A rendered job config with its placeholders located once, so that it can be filled with the
+ * placeholder values of every execution without scanning the text again.
+ *
+ * <p>{@code ${name}} and {@code ${name:default}} are slots, a placeholder escaped with one or two
+ * backslashes is kept as literal text without them.
+ */
+public final class JobConfigTemplate {
+
+    private static final Pattern PLACEHOLDER_PATTERN =
+            Pattern.compile("(\\\\{0,2})\\$\\{(\\w+)(?::(.*?))?\\}");
+
+    // literals[i] is followed by slot i, the last literal ends the config
+    private final String[] literals;
+    private final String[] names;
+    private final String[] defaultValues;
+    private final int literalLength;
+
+    private JobConfigTemplate(List<String> literals, List<String> names, List<String> defaults) {
+        this.literals = literals.toArray(new String[0]);
+        this.names = names.toArray(new String[0]);
+        this.defaultValues = defaults.toArray(new String[0]);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    public static JobConfigTemplate compile(@NonNull String jobConfig) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> defaults = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(jobConfig);
+        int last = 0;
+        while (matcher.find()) {
+            literal.append(jobConfig, last, matcher.start());
+            last = matcher.end();
+            String escapeCharacter = matcher.group(1);
+            if (escapeCharacter != null && !escapeCharacter.isEmpty()) {
+                // remove the escape character and keep the placeholder as text
+                literal.append(matcher.group().replace("\\\\${", "${").replace("\\${", "${"));
+                continue;
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            names.add(matcher.group(2));
+            defaults.add(matcher.group(3));
+        }
+        literal.append(jobConfig, last, jobConfig.length());
+        literals.add(literal.toString());
+        return new JobConfigTemplate(literals, names, defaults);
+    }
+
+    public int getPlaceholderCount() {
+        return names.length;
+    }
+
+    /** Fill every slot with its value, or its default when there is no value. */
+    public String render(@NonNull Map<String, String> placeholderValues) {
+        if (names.length == 0) {
+            return literals[0];
+        }
+        StringBuilder result = new StringBuilder(literalLength + names.length * 16);
+        for (int i = 0; i < names.length; i++) {
+            result.append(literals[i]);
+            String replacement = placeholderValues.getOrDefault(names[i], defaultValues[i]);
+            if (replacement == null) {
+                throw new SeatunnelException(
+                        SeatunnelErrorEnum.JOB_NO_VALUE_FOUND_FOR_PLACEHOLDER, names[i]);
+            }
+            result.append(replacement);
+        }
+        return result.append(literals[names.length]).toString();
+    }
+}
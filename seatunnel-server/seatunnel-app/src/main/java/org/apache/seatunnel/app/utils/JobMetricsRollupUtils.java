@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.utils;
+
+import org.apache.seatunnel.app.common.JobMetricsResolution;
+import org.apache.seatunnel.app.dal.entity.JobMetricsHistory;
+import org.apache.seatunnel.app.dal.entity.JobMetricsRollup;
+import org.apache.seatunnel.engine.core.job.JobStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/** Downsamples job metrics history into coarser resolutions and reads it back. */
+public class JobMetricsRollupUtils {
+
+    private JobMetricsRollupUtils() {}
+
+    /** Aggregate raw history rows, in create time order, into buckets of {@code resolution}. */
+    public static List<JobMetricsRollup> rollupHistory(
+            List<JobMetricsHistory> histories, JobMetricsResolution resolution, LocalDateTime now) {
+        Map<BucketKey, Bucket> buckets = new LinkedHashMap<>();
+        for (JobMetricsHistory history : histories) {
+            BucketKey key =
+                    new BucketKey(
+                            history.getJobInstanceId(),
+                            history.getPipelineId(),
+                            resolution.bucketOf(history.getCreateTime()));
+            Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket());
+            bucket.add(
+                    1,
+                    history.getReadQps(),
+                    history.getReadQps(),
+                    history.getReadQps(),
+                    history.getWriteQps(),
+                    history.getWriteQps(),
+                    history.getWriteQps(),
+                    history.getRecordDelay(),
+                    history.getRecordDelay(),
+                    history.getRecordDelay());
+            bucket.last(
+                    history.getReadRowCount(),
+                    history.getWriteRowCount(),
+                    history.getSourceTableNames(),
+                    history.getSinkTableNames(),
+                    history.getStatus());
+        }
+        return toRollups(buckets, resolution, now);
+    }
+
+    /** Aggregate rollups of a finer resolution, in bucket time order, into {@code resolution}. */
+    public static List<JobMetricsRollup> rollupRollups(
+            List<JobMetricsRollup> rollups, JobMetricsResolution resolution, LocalDateTime now) {
+        Map<BucketKey, Bucket> buckets = new LinkedHashMap<>();
+        for (JobMetricsRollup rollup : rollups) {
+            BucketKey key =
+                    new BucketKey(
+                            rollup.getJobInstanceId(),
+                            rollup.getPipelineId(),
+                            resolution.bucketOf(rollup.getBucketTime()));
+            Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket());
+            bucket.add(
+                    rollup.getSampleCount(),
+                    rollup.getReadQpsMin(),
+                    rollup.getReadQpsMax(),
+                    rollup.getReadQpsAvg(),
+                    rollup.getWriteQpsMin(),
+                    rollup.getWriteQpsMax(),
+                    rollup.getWriteQpsAvg(),
+                    rollup.getRecordDelayMin(),
+                    rollup.getRecordDelayMax(),
+                    rollup.getRecordDelayAvg());
+            bucket.last(
+                    rollup.getReadRowCount(),
+                    rollup.getWriteRowCount(),
+                    rollup.getSourceTableNames(),
+                    rollup.getSinkTableNames(),
+                    rollup.getStatus());
+        }
+        return toRollups(buckets, resolution, now);
+    }
+
+    /** A rollup as a history point, with the averages as its QPS and delay. */
+    public static JobMetricsHistory toHistory(JobMetricsRollup rollup) {
+        return JobMetricsHistory.builder()
+                .id(rollup.getId())
+                .jobInstanceId(rollup.getJobInstanceId())
+                .pipelineId(rollup.getPipelineId())
+                .readRowCount(rollup.getReadRowCount())
+                .writeRowCount(rollup.getWriteRowCount())
+                .sourceTableNames(rollup.getSourceTableNames())
+                .sinkTableNames(rollup.getSinkTableNames())
+                .readQps(Math.round(rollup.getReadQpsAvg()))
+                .writeQps(Math.round(rollup.getWriteQpsAvg()))
+                .recordDelay(Math.round(rollup.getRecordDelayAvg()))
+                .status(rollup.getStatus())
+                .createTime(rollup.getBucketTime())
+                .updateTime(rollup.getUpdateTime())
+                .build();
+    }
+
+    /**
+     * @return the coarsest available resolution that still has {@code maxPoints} points in the
+     *     range, or the finest available one when none has that many
+     */
+    public static JobMetricsResolution chooseResolution(
+            long rangeMillis, int maxPoints, Predicate<JobMetricsResolution> available) {
+        JobMetricsResolution chosen = null;
+        for (JobMetricsResolution resolution : JobMetricsResolution.values()) {
+            if (!available.test(resolution)) {
+                continue;
+            }
+            if (chosen == null || rangeMillis / resolution.getIntervalMillis() >= maxPoints) {
+                chosen = resolution;
+            }
+        }
+        return chosen == null ? JobMetricsResolution.RAW : chosen;
+    }
+
+    private static List<JobMetricsRollup> toRollups(
+            Map<BucketKey, Bucket> buckets, JobMetricsResolution resolution, LocalDateTime now) {
+        List<JobMetricsRollup> rollups = new ArrayList<>(buckets.size());
+        for (Map.Entry<BucketKey, Bucket> entry : buckets.entrySet()) {
+            BucketKey key = entry.getKey();
+            Bucket bucket = entry.getValue();
+            rollups.add(
+                    JobMetricsRollup.builder()
+                            .jobInstanceId(key.jobInstanceId)
+                            .pipelineId(key.pipelineId)
+                            .resolution(resolution.getCode())
+                            .bucketTime(key.bucketTime)
+                            .sampleCount(bucket.samples)
+                            .readRowCount(bucket.readRowCount)
+                            .writeRowCount(bucket.writeRowCount)
+                            .sourceTableNames(bucket.sourceTableNames)
+                            .sinkTableNames(bucket.sinkTableNames)
+                            .readQpsMin(bucket.readQpsMin)
+                            .readQpsMax(bucket.readQpsMax)
+                            .readQpsAvg(bucket.readQpsSum / bucket.samples)
+                            .writeQpsMin(bucket.writeQpsMin)
+                            .writeQpsMax(bucket.writeQpsMax)
+                            .writeQpsAvg(bucket.writeQpsSum / bucket.samples)
+                            .recordDelayMin(bucket.recordDelayMin)
+                            .recordDelayMax(bucket.recordDelayMax)
+                            .recordDelayAvg(bucket.recordDelaySum / bucket.samples)
+                            .status(bucket.status)
+                            .createTime(now)
+                            .updateTime(now)
+                            .build());
+        }
+        return rollups;
+    }
+
+    private static class BucketKey {
+        private final Long jobInstanceId;
+        private final Integer pipelineId;
+        private final LocalDateTime bucketTime;
+
+        private BucketKey(Long jobInstanceId, Integer pipelineId, LocalDateTime bucketTime) {
+            this.jobInstanceId = jobInstanceId;
+            this.pipelineId = pipelineId;
+            this.bucketTime = bucketTime;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BucketKey)) {
+                return false;
+            }
+            BucketKey that = (BucketKey) o;
+            return Objects.equals(jobInstanceId, that.jobInstanceId)
+                    && Objects.equals(pipelineId, that.pipelineId)
+                    && Objects.equals(bucketTime, that.bucketTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jobInstanceId, pipelineId, bucketTime);
+        }
+    }
+
+    private static class Bucket {
+        private long samples;
+        private long readQpsMin = Long.MAX_VALUE;
+        private long readQpsMax = Long.MIN_VALUE;
+        private double readQpsSum;
+        private long writeQpsMin = Long.MAX_VALUE;
+        private long writeQpsMax = Long.MIN_VALUE;
+        private double writeQpsSum;
+        private long recordDelayMin = Long.MAX_VALUE;
+        private long recordDelayMax = Long.MIN_VALUE;
+        private double recordDelaySum;
+        private long readRowCount;
+        private long writeRowCount;
+        private String sourceTableNames;
+        private String sinkTableNames;
+        private JobStatus status;
+
+        /** Add {@code samples} samples, averages are weighted by how many samples they cover. */
+        private void add(
+                long samples,
+                long readQpsMin,
+                long readQpsMax,
+                double readQpsAvg,
+                long writeQpsMin,
+                long writeQpsMax,
+                double writeQpsAvg,
+                long recordDelayMin,
+                long recordDelayMax,
+                double recordDelayAvg) {
+            samples = Math.max(samples, 1L);
+            this.samples += samples;
+            this.readQpsMin = Math.min(this.readQpsMin, readQpsMin);
+            this.readQpsMax = Math.max(this.readQpsMax, readQpsMax);
+            this.readQpsSum += readQpsAvg * samples;
+            this.writeQpsMin = Math.min(this.writeQpsMin, writeQpsMin);
+            this.writeQpsMax = Math.max(this.writeQpsMax, writeQpsMax);
+            this.writeQpsSum += writeQpsAvg * samples;
+            this.recordDelayMin = Math.min(this.recordDelayMin, recordDelayMin);
+            this.recordDelayMax = Math.max(this.recordDelayMax, recordDelayMax);
+            this.recordDelaySum += recordDelayAvg * samples;
+        }
+
+        /** Keep the values of the newest sample, the input is in time order. */
+        private void last(
+                long readRowCount,
+                long writeRowCount,
+                String sourceTableNames,
+                String sinkTableNames,
+                JobStatus status) {
+            this.readRowCount = readRowCount;
+            this.writeRowCount = writeRowCount;
+            this.sourceTableNames = sourceTableNames;
+            this.sinkTableNames = sinkTableNames;
+            this.status = status;
+        }
+    }
+}
@@ -19,21 +19,15 @@ package org.apache.seatunnel.app.utils;
 import org.apache.seatunnel.app.dal.entity.JobTask;
 import org.apache.seatunnel.app.domain.request.job.JobExecParam;
 import org.apache.seatunnel.engine.core.job.JobStatus;
-import org.apache.seatunnel.server.common.SeatunnelErrorEnum;
-import org.apache.seatunnel.server.common.SeatunnelException;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class JobUtils {
 
     // The maximum length of the job execution error message, 4KB
     private static final int ERROR_MESSAGE_MAX_LENGTH = 4096;
-    private static final Pattern placeholderPattern =
-            Pattern.compile("(\\\\{0,2})\\$\\{(\\w+)(?::(.*?))?\\}");
 
     public static String getJobInstanceErrorMessage(String message) {
         if (message == null) {
@@ -72,33 +66,13 @@ public class JobUtils {
     // Replace placeholders in job config with actual values
     public static String replaceJobConfigPlaceholders(
             String jobConfigString, JobExecParam jobExecParam) {
-        Map<String, String> placeholderValues =
-                (jobExecParam != null && jobExecParam.getPlaceholderValues() != null)
-                        ? jobExecParam.getPlaceholderValues()
-                        : Collections.emptyMap();
-        Matcher matcher = placeholderPattern.matcher(jobConfigString);
-        StringBuffer result = new StringBuffer();
-
-        while (matcher.find()) {
-            String escapeCharacter = matcher.group(1);
-            String placeholderName = matcher.group(2);
-
-            if (escapeCharacter != null && !escapeCharacter.isEmpty()) {
-                String withoutEscape =
-                        matcher.group().replace("\\\\${", "${").replace("\\${", "${");
-                matcher.appendReplacement(result, Matcher.quoteReplacement(withoutEscape));
-                // remove the escape character and continue
-                continue;
-            }
-            String replacement = placeholderValues.getOrDefault(placeholderName, matcher.group(3));
-            if (replacement == null) {
-                throw new SeatunnelException(
-                        SeatunnelErrorEnum.JOB_NO_VALUE_FOUND_FOR_PLACEHOLDER, placeholderName);
-            }
-            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
-        }
+        return JobConfigTemplate.compile(jobConfigString)
+                .render(getPlaceholderValues(jobExecParam));
+    }
 
-        matcher.appendTail(result);
-        return result.toString();
+    public static Map<String, String> getPlaceholderValues(JobExecParam jobExecParam) {
+        return (jobExecParam != null && jobExecParam.getPlaceholderValues() != null)
+                ? jobExecParam.getPlaceholderValues()
+                : Collections.emptyMap();
     }
 }
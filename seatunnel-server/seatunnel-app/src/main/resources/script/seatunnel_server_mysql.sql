@@ -313,3 +313,43 @@ create table t_st_job_metrics_history
 create index idx_job_instance_id_create_time
     on t_st_job_metrics_history (job_instance_id, create_time);
 
+-- used to roll up and expire the history of all jobs by time
+create index idx_create_time
+    on t_st_job_metrics_history (create_time);
+
+DROP TABLE IF EXISTS `t_st_job_metrics_rollup`;
+-- t_st_job_metrics_history aggregated per pipeline into 1m, 1h and 1d buckets
+create table t_st_job_metrics_rollup
+(
+    id                 bigint                                    not null
+        primary key,
+    job_instance_id    bigint                                    not null,
+    pipeline_id        int(20)                                   not null,
+    resolution         varchar(8)                                not null,
+    bucket_time        timestamp(3)                              not null,
+    sample_count       bigint                                    not null,
+    read_row_count     bigint                                    not null,
+    write_row_count    bigint                                    not null,
+    source_table_names varchar(200)                              null,
+    sink_table_names   varchar(200)                              null,
+    read_qps_min       bigint                                    null,
+    read_qps_max       bigint                                    null,
+    read_qps_avg       double                                    null,
+    write_qps_min      bigint                                    null,
+    write_qps_max      bigint                                    null,
+    write_qps_avg      double                                    null,
+    record_delay_min   bigint                                    null,
+    record_delay_max   bigint                                    null,
+    record_delay_avg   double                                    null,
+    status             varchar(20)                               null,
+    create_time        timestamp(3) default CURRENT_TIMESTAMP(3) not null,
+    update_time        timestamp(3) default CURRENT_TIMESTAMP(3) not null on update CURRENT_TIMESTAMP(3),
+    constraint uk_resolution_bucket_time_job_pipeline
+        unique (resolution, bucket_time, job_instance_id, pipeline_id)
+)
+    collate = utf8mb4_bin
+    row_format = DYNAMIC;
+
+create index idx_job_instance_id_resolution_bucket_time
+    on t_st_job_metrics_rollup (job_instance_id, resolution, bucket_time);
+
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.bean.connector;
+
+import org.apache.seatunnel.api.configuration.util.OptionRule;
+import org.apache.seatunnel.api.table.factory.Factory;
+import org.apache.seatunnel.api.table.factory.TableTransformFactory;
+import org.apache.seatunnel.app.config.ConnectorCacheProperties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+
+class ConnectorCacheTest {
+
+    private static final String TRANSFORM = "transform";
+
+    @TempDir Path tempDir;
+
+    private final ConnectorCacheProperties properties = new ConnectorCacheProperties();
+
+    // the connector jars in discovery order, and the transform each one holds
+    private final List<URL> jars = Collections.synchronizedList(new ArrayList<>());
+
+    private final Map<String, String> transforms = Collections.synchronizedMap(new HashMap<>());
+
+    private final List<String> discovered = Collections.synchronizedList(new ArrayList<>());
+
+    private final Map<String, TrackingClassLoader> classLoaders =
+            Collections.synchronizedMap(new HashMap<>());
+
+    private final List<ConnectorCache> caches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        properties.setDiscoveryThreads(2);
+        properties.setSnapshotDir(tempDir.resolve("snapshot").toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        caches.forEach(ConnectorCache::close);
+    }
+
+    @Test
+    void restartTakesUnchangedJarsFromTheSnapshot() throws IOException {
+        addJar("a.jar", "Copy", "a");
+        addJar("b.jar", "Filter", "b");
+        String copyForm = startCache().getFormStructure(TRANSFORM, "Copy");
+        Assertions.assertNotNull(copyForm);
+        Assertions.assertEquals(Arrays.asList("a.jar", "b.jar"), sorted(discovered));
+
+        // a jar discovered again would lose its plugins
+        transforms.put("a.jar", null);
+        ConnectorCache restarted = startCache();
+
+        Assertions.assertEquals(copyForm, restarted.getFormStructure(TRANSFORM, "Copy"));
+        Assertions.assertNotNull(restarted.getFormStructure(TRANSFORM, "Filter"));
+        // the option rules of a plugin taken from the snapshot are loaded from its jar
+        Assertions.assertNotNull(restarted.getOptionRule(TRANSFORM, "Filter"));
+    }
+
+    @Test
+    void restartDiscoversJarsChangedSince() throws IOException {
+        addJar("a.jar", "Copy", "a");
+        addJar("b.jar", "Filter", "b");
+        startCache();
+
+        transforms.put("a.jar", null);
+        changeJar("b.jar", "FilterRowKind", "bb");
+        ConnectorCache restarted = startCache();
+
+        Assertions.assertNotNull(restarted.getFormStructure(TRANSFORM, "Copy"));
+        Assertions.assertNotNull(restarted.getFormStructure(TRANSFORM, "FilterRowKind"));
+        Assertions.assertNull(restarted.getFormStructure(TRANSFORM, "Filter"));
+    }
+
+    @Test
+    void refreshDiscoversOnlyAddedAndChangedJars() throws IOException {
+        addJar("a.jar", "Copy", "a");
+        addJar("b.jar", "Filter", "b");
+        addJar("d.jar", "Sql", "d");
+        ConnectorCache cache = startCache();
+        TrackingClassLoader removedLoader = classLoaders.get("a.jar");
+        TrackingClassLoader changedLoader = classLoaders.get("b.jar");
+        TrackingClassLoader unchangedLoader = classLoaders.get("d.jar");
+
+        discovered.clear();
+        jars.remove(jar("a.jar"));
+        changeJar("b.jar", "FilterRowKind", "bb");
+        addJar("c.jar", "Split", "c");
+        cache.refresh();
+
+        Assertions.assertEquals(Arrays.asList("b.jar", "c.jar"), sorted(discovered));
+        Assertions.assertNull(cache.getFormStructure(TRANSFORM, "Copy"));
+        Assertions.assertNull(cache.getFormStructure(TRANSFORM, "Filter"));
+        Assertions.assertNotNull(cache.getFormStructure(TRANSFORM, "FilterRowKind"));
+        Assertions.assertNotNull(cache.getFormStructure(TRANSFORM, "Split"));
+        Assertions.assertNotNull(cache.getFormStructure(TRANSFORM, "Sql"));
+        Assertions.assertTrue(removedLoader.closed);
+        Assertions.assertTrue(changedLoader.closed);
+        Assertions.assertFalse(unchangedLoader.closed);
+        Assertions.assertFalse(classLoaders.get("b.jar").closed);
+    }
+
+    @Test
+    void brokenJarIsSkippedAndDiscoveredAgainOnRefresh() throws IOException {
+        addJar("a.jar", "Copy", "a");
+        addJar("broken.jar", null, "broken");
+        ConnectorCache cache = startCache();
+
+        Assertions.assertNotNull(cache.getFormStructure(TRANSFORM, "Copy"));
+        Assertions.assertTrue(classLoaders.get("broken.jar").closed);
+
+        discovered.clear();
+        transforms.put("broken.jar", "Replace");
+        cache.refresh();
+
+        Assertions.assertEquals(Collections.singletonList("broken.jar"), discovered);
+        Assertions.assertNotNull(cache.getFormStructure(TRANSFORM, "Replace"));
+        Assertions.assertFalse(classLoaders.get("broken.jar").closed);
+    }
+
+    private ConnectorCache startCache() throws IOException {
+        ConnectorCache cache =
+                new ConnectorCache() {
+                    @Override
+                    List<URL> getConnectorJars() {
+                        return new ArrayList<>(jars);
+                    }
+
+                    @Override
+                    URLClassLoader newClassLoader(URL jar) {
+                        TrackingClassLoader classLoader = new TrackingClassLoader(jar);
+                        classLoaders.put(name(jar), classLoader);
+                        return classLoader;
+                    }
+
+                    @Override
+                    List<Factory> discoverFactories(URLClassLoader classLoader) {
+                        if (classLoader == null) {
+                            return Collections.emptyList();
+                        }
+                        String jarName = name(classLoader.getURLs()[0]);
+                        discovered.add(jarName);
+                        String transform = transforms.get(jarName);
+                        if (transform == null) {
+                            throw new ServiceConfigurationError("Broken jar " + jarName);
+                        }
+                        return Collections.singletonList(new FakeTransformFactory(transform));
+                    }
+                };
+        ReflectionTestUtils.setField(cache, "connectorCacheProperties", properties);
+        cache.init();
+        caches.add(cache);
+        return cache;
+    }
+
+    private void addJar(String jarName, String transform, String content) throws IOException {
+        Path path = tempDir.resolve(jarName);
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        jars.add(path.toUri().toURL());
+        transforms.put(jarName, transform);
+    }
+
+    private void changeJar(String jarName, String transform, String content) throws IOException {
+        // the size changes with the content, the modification time may not within a second
+        Files.write(tempDir.resolve(jarName), content.getBytes(StandardCharsets.UTF_8));
+        transforms.put(jarName, transform);
+    }
+
+    private URL jar(String jarName) throws IOException {
+        return tempDir.resolve(jarName).toUri().toURL();
+    }
+
+    private static String name(URL jar) {
+        String path = jar.getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static List<String> sorted(List<String> values) {
+        List<String> copy = new ArrayList<>(values);
+        Collections.sort(copy);
+        return copy;
+    }
+
+    private static class TrackingClassLoader extends URLClassLoader {
+        private volatile boolean closed;
+
+        private TrackingClassLoader(URL jar) {
+            super(new URL[] {jar});
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    private static class FakeTransformFactory implements TableTransformFactory {
+        private final String factoryIdentifier;
+
+        private FakeTransformFactory(String factoryIdentifier) {
+            this.factoryIdentifier = factoryIdentifier;
+        }
+
+        @Override
+        public String factoryIdentifier() {
+            return factoryIdentifier;
+        }
+
+        @Override
+        public OptionRule optionRule() {
+            return OptionRule.builder().build();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.scheduler;
+
+import org.apache.seatunnel.app.config.JobMetricsHistoryProperties;
+import org.apache.seatunnel.app.dal.dao.IJobMetricsHistoryDao;
+import org.apache.seatunnel.app.dal.entity.JobMetricsHistory;
+import org.apache.seatunnel.app.domain.response.metrics.JobMetricsHistoryWriterMetricsRes;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+class JobMetricsHistoryWriterTest {
+
+    private final JobMetricsHistoryProperties properties = new JobMetricsHistoryProperties();
+
+    private final IJobMetricsHistoryDao dao = Mockito.mock(IJobMetricsHistoryDao.class);
+
+    private final List<List<JobMetricsHistory>> batches =
+            Collections.synchronizedList(new ArrayList<>());
+
+    private final List<Long> attemptMillis = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicInteger writing = new AtomicInteger();
+
+    private final AtomicInteger maxConcurrentWrites = new AtomicInteger();
+
+    private final List<String> writerThreads = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile RuntimeException failure;
+
+    private JobMetricsHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        // only full batches are written unless a test asks for the interval
+        properties.setWriteFlushIntervalMs(60000L);
+        doAnswer(
+                        invocation -> {
+                            attemptMillis.add(System.currentTimeMillis());
+                            writerThreads.add(Thread.currentThread().getName());
+                            maxConcurrentWrites.accumulateAndGet(
+                                    writing.incrementAndGet(), Math::max);
+                            try {
+                                Thread.sleep(5);
+                                if (failure != null) {
+                                    throw failure;
+                                }
+                                List<JobMetricsHistory> batch = invocation.getArgument(0);
+                                batches.add(new ArrayList<>(batch));
+                                return null;
+                            } finally {
+                                writing.decrementAndGet();
+                            }
+                        })
+                .when(dao)
+                .insertBatch(anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            failure = null;
+            writer.destroy();
+        }
+    }
+
+    @Test
+    void dropSamplesBeyondTheQueueCapacity() {
+        properties.setWriteQueueCapacity(3);
+        properties.setWriteBatchSize(10);
+        startWriter();
+
+        Assertions.assertEquals(0, writer.offer(samples(2)));
+        Assertions.assertEquals(2, writer.offer(samples(3)));
+
+        JobMetricsHistoryWriterMetricsRes metrics = writer.getMetrics();
+        Assertions.assertEquals(3, metrics.getQueueSize());
+        Assertions.assertEquals(3, metrics.getEnqueuedCount());
+        Assertions.assertEquals(2, metrics.getDroppedCount());
+        Assertions.assertTrue(batches.isEmpty());
+
+        // the samples left in the queue are written on shutdown
+        writer.destroy();
+        writer = null;
+        Assertions.assertEquals(3, batches.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void oneFlusherWritesFullBatchesOfAllProducers() throws InterruptedException {
+        properties.setWriteQueueCapacity(1000);
+        properties.setWriteBatchSize(4);
+        startWriter();
+        int producers = 8;
+        int samplesPerProducer = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < producers; i++) {
+            executor.execute(
+                    () -> {
+                        await(start);
+                        for (int j = 0; j < samplesPerProducer; j++) {
+                            writer.offer(samples(1));
+                        }
+                    });
+        }
+        start.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(10))
+                .until(
+                        () ->
+                                writer.getMetrics().getWrittenCount()
+                                        == producers * (long) samplesPerProducer);
+
+        Assertions.assertEquals(1, maxConcurrentWrites.get());
+        Assertions.assertTrue(batches.stream().allMatch(batch -> batch.size() == 4));
+        Assertions.assertTrue(
+                writerThreads.stream()
+                        .allMatch(name -> name.startsWith("job-metrics-history-writer")));
+        // every sample got its own id
+        Assertions.assertEquals(
+                producers * samplesPerProducer,
+                batches.stream()
+                        .flatMap(List::stream)
+                        .map(JobMetricsHistory::getId)
+                        .distinct()
+                        .count());
+        Assertions.assertEquals(0, writer.getMetrics().getQueueSize());
+    }
+
+    @Test
+    void failedFlushesBackOffAndDropTheBatchAfterThreeAttempts() {
+        properties.setWriteQueueCapacity(100);
+        properties.setWriteBatchSize(2);
+        properties.setWriteFlushIntervalMs(100L);
+        properties.setWriteMaxPauseMs(1000L);
+        failure = new RuntimeException("database is down");
+        startWriter();
+
+        writer.offer(samples(2));
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(10))
+                .until(() -> writer.getMetrics().getDroppedCount() == 2);
+        JobMetricsHistoryWriterMetricsRes metrics = writer.getMetrics();
+        Assertions.assertEquals(3, metrics.getFlushFailedCount());
+        Assertions.assertEquals(0, metrics.getQueueSize());
+        Assertions.assertTrue(metrics.getPausedRemainingMillis() > 0);
+        // the pause doubles after every failure, 100 ms and then 200 ms
+        Assertions.assertTrue(attemptMillis.get(1) - attemptMillis.get(0) >= 100);
+        Assertions.assertTrue(attemptMillis.get(2) - attemptMillis.get(1) >= 200);
+
+        // the writer recovers once the database does
+        failure = null;
+        writer.offer(samples(2));
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(10))
+                .until(() -> writer.getMetrics().getWrittenCount() == 2);
+        Assertions.assertEquals(1, batches.size());
+    }
+
+    private void startWriter() {
+        writer = new JobMetricsHistoryWriter();
+        ReflectionTestUtils.setField(writer, "jobMetricsHistoryDao", dao);
+        ReflectionTestUtils.setField(writer, "jobMetricsHistoryProperties", properties);
+        writer.init();
+    }
+
+    private static List<JobMetricsHistory> samples(int count) {
+        List<JobMetricsHistory> samples = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            JobMetricsHistory sample = new JobMetricsHistory();
+            sample.setJobInstanceId(1L);
+            samples.add(sample);
+        }
+        return samples;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
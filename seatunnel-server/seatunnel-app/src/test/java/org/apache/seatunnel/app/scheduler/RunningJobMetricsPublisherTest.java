@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.scheduler;
+
+import org.apache.seatunnel.app.config.JobMetricsPushProperties;
+import org.apache.seatunnel.app.dal.entity.JobMetrics;
+import org.apache.seatunnel.app.domain.response.metrics.JobMetricsUpdateRes;
+import org.apache.seatunnel.app.thirdparty.metrics.RunningJobMetricsSnapshot;
+import org.apache.seatunnel.engine.core.job.JobStatus;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.InterruptedIOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class RunningJobMetricsPublisherTest {
+
+    private static final Long JOB_INSTANCE_ID = 1L;
+
+    private static final Long JOB_ENGINE_ID = 100L;
+
+    private static final Pattern EVENT_NAME = Pattern.compile("event:(\\w+)");
+
+    private final JobMetricsPushProperties properties = new JobMetricsPushProperties();
+
+    private RunningJobMetricsPublisher publisher;
+
+    private long version;
+
+    @BeforeEach
+    void setUp() {
+        // one sender thread, so a send that is never aborted would starve every other subscriber
+        properties.setSenderThreads(1);
+        publisher = new RunningJobMetricsPublisher();
+        ReflectionTestUtils.setField(publisher, "jobMetricsPushProperties", properties);
+        publisher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.destroy();
+    }
+
+    @Test
+    void pushHistoryThenChangedPipelinesThenFinished() throws Exception {
+        publish(metrics(1, 10L), metrics(2, 20L));
+        Client client = subscribe();
+        client.awaitEvent(RunningJobMetricsPublisher.HISTORY_EVENT);
+
+        publish(metrics(1, 10L), metrics(2, 25L));
+        client.awaitEvent(RunningJobMetricsPublisher.METRICS_EVENT);
+        JobMetricsUpdateRes update = client.lastUpdate();
+        Assertions.assertEquals(1, update.getPipelines().size());
+        Assertions.assertEquals(2, update.getPipelines().get(0).getPipelineId());
+        Assertions.assertEquals(25L, update.getPipelines().get(0).getReadRowCount());
+
+        // the job left the engine
+        publishSnapshot(Collections.emptyMap());
+        client.awaitEvent(RunningJobMetricsPublisher.FINISHED_EVENT);
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> client.completed);
+        Assertions.assertEquals(0, publisher.getSubscriberCount());
+    }
+
+    @Test
+    void abortBlockedSendOfSlowSubscriber() throws Exception {
+        properties.setSlowSubscriberTimeoutMs(100L);
+        publish(metrics(1, 10L));
+        Client slow = subscribe();
+        slow.awaitEvent(RunningJobMetricsPublisher.HISTORY_EVENT);
+
+        slow.block = true;
+        publish(metrics(1, 11L));
+        Assertions.assertTrue(slow.blocked.await(5, TimeUnit.SECONDS));
+
+        // later snapshots find the send blocked beyond the timeout even without new updates
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(5))
+                .until(
+                        () -> {
+                            publish(metrics(1, 11L));
+                            return slow.interrupted;
+                        });
+        Assertions.assertEquals(0, publisher.getSubscriberCount());
+
+        // the only sender thread is free again
+        Client next = subscribe();
+        next.awaitEvent(RunningJobMetricsPublisher.HISTORY_EVENT);
+        Assertions.assertEquals(1, publisher.getSubscriberCount());
+    }
+
+    private Client subscribe() throws Exception {
+        Client client = new Client();
+        SseEmitter emitter = publisher.subscribe(JOB_INSTANCE_ID, JOB_ENGINE_ID);
+        Class<?> handlerType = Class.forName(ResponseBodyEmitter.class.getName() + "$Handler");
+        Object handler =
+                Proxy.newProxyInstance(
+                        handlerType.getClassLoader(),
+                        new Class<?>[] {handlerType},
+                        (proxy, method, args) -> {
+                            if ("send".equals(method.getName())) {
+                                client.send(args[0]);
+                            } else if ("complete".equals(method.getName())
+                                    || "completeWithError".equals(method.getName())) {
+                                client.completed = true;
+                            }
+                            return null;
+                        });
+        // what the container does once the handler method returned the emitter
+        ReflectionTestUtils.invokeMethod(emitter, "initialize", handler);
+        return client;
+    }
+
+    private void publish(JobMetrics... pipelines) {
+        Map<Integer, JobMetrics> pipelineMetrics = new HashMap<>();
+        for (JobMetrics metrics : pipelines) {
+            pipelineMetrics.put(metrics.getPipelineId(), metrics);
+        }
+        publishSnapshot(Collections.singletonMap(JOB_ENGINE_ID, pipelineMetrics));
+    }
+
+    private void publishSnapshot(Map<Long, Map<Integer, JobMetrics>> jobMetrics) {
+        publisher.publish(
+                new RunningJobMetricsSnapshot(++version, System.currentTimeMillis(), jobMetrics));
+    }
+
+    private static JobMetrics metrics(int pipelineId, long readRowCount) {
+        return JobMetrics.builder()
+                .pipelineId(pipelineId)
+                .readRowCount(readRowCount)
+                .status(JobStatus.RUNNING)
+                .build();
+    }
+
+    /** Collects what the publisher sends, blocking like a client that stopped reading. */
+    private static class Client {
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        private final List<JobMetricsUpdateRes> updates =
+                Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile boolean block;
+        private volatile boolean interrupted;
+        private volatile boolean completed;
+
+        private void send(Object data) throws InterruptedIOException {
+            if (block) {
+                blocked.countDown();
+                try {
+                    new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    // a blocking servlet write fails the same way when its thread is interrupted
+                    interrupted = true;
+                    throw new InterruptedIOException();
+                }
+            }
+            if (data instanceof String) {
+                Matcher matcher = EVENT_NAME.matcher((String) data);
+                while (matcher.find()) {
+                    events.add(matcher.group(1));
+                }
+            } else if (data instanceof JobMetricsUpdateRes) {
+                updates.add((JobMetricsUpdateRes) data);
+            }
+        }
+
+        private void awaitEvent(String name) {
+            Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> events.contains(name));
+        }
+
+        private JobMetricsUpdateRes lastUpdate() {
+            return updates.get(updates.size() - 1);
+        }
+    }
+}
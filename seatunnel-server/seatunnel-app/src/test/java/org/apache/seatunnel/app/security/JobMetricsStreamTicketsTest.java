@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.security;
+
+import org.apache.seatunnel.app.config.JobMetricsPushProperties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JobMetricsStreamTicketsTest {
+
+    private static final String TOKEN = "token-of-the-session";
+
+    @Test
+    void ticketOpensTheStreamOnce() {
+        JobMetricsStreamTickets tickets = newTickets(30000L);
+        String ticket = tickets.issue(TOKEN, 1L);
+
+        Assertions.assertFalse(ticket.contains(TOKEN));
+        Assertions.assertEquals(TOKEN, tickets.redeem(ticket, "1"));
+        Assertions.assertNull(tickets.redeem(ticket, "1"));
+    }
+
+    @Test
+    void ticketOpensOnlyTheStreamOfItsJobInstance() {
+        JobMetricsStreamTickets tickets = newTickets(30000L);
+        String ticket = tickets.issue(TOKEN, 1L);
+
+        Assertions.assertNull(tickets.redeem(ticket, "2"));
+        // a failed attempt uses the ticket up as well
+        Assertions.assertNull(tickets.redeem(ticket, "1"));
+        Assertions.assertNull(tickets.redeem(null, "1"));
+        Assertions.assertNull(tickets.redeem(tickets.issue(TOKEN, 1L), null));
+    }
+
+    @Test
+    void expiredTicketIsRejected() throws InterruptedException {
+        JobMetricsStreamTickets tickets = newTickets(1L);
+        String ticket = tickets.issue(TOKEN, 1L);
+        Thread.sleep(20);
+
+        Assertions.assertNull(tickets.redeem(ticket, "1"));
+    }
+
+    private static JobMetricsStreamTickets newTickets(long ttlMs) {
+        JobMetricsPushProperties properties = new JobMetricsPushProperties();
+        properties.setStreamTicketTtlMs(ttlMs);
+        JobMetricsStreamTickets tickets = new JobMetricsStreamTickets();
+        ReflectionTestUtils.setField(tickets, "jobMetricsPushProperties", properties);
+        tickets.init();
+        return tickets;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.service.impl;
+
+import org.apache.seatunnel.app.config.JobConfigCacheProperties;
+import org.apache.seatunnel.app.dal.dao.IJobLineDao;
+import org.apache.seatunnel.app.dal.dao.IJobTaskDao;
+import org.apache.seatunnel.app.dal.dao.IJobVersionDao;
+import org.apache.seatunnel.app.dal.entity.JobLine;
+import org.apache.seatunnel.app.dal.entity.JobTask;
+import org.apache.seatunnel.app.dal.entity.JobVersion;
+import org.apache.seatunnel.app.domain.request.job.Edge;
+import org.apache.seatunnel.app.domain.request.job.JobDAG;
+import org.apache.seatunnel.app.service.IJobInstanceService;
+import org.apache.seatunnel.server.common.SeatunnelException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.google.common.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobTaskServiceImplTest {
+
+    private static final long VERSION_ID = 1L;
+
+    private final IJobLineDao jobLineDao = Mockito.mock(IJobLineDao.class);
+
+    private final IJobTaskDao jobTaskDao = Mockito.mock(IJobTaskDao.class);
+
+    private final IJobVersionDao jobVersionDao = Mockito.mock(IJobVersionDao.class);
+
+    private final IJobInstanceService jobInstanceService = Mockito.mock(IJobInstanceService.class);
+
+    private final JobVersion version =
+            JobVersion.builder().id(VERSION_ID).jobId(10L).env("{\"job.mode\":\"BATCH\"}").build();
+
+    private final List<JobTask> tasks =
+            new ArrayList<>(
+                    Arrays.asList(
+                            task("src", "source"), task("sink1", "sink"), task("sink2", "sink")));
+
+    private JobTaskServiceImpl jobTaskService;
+
+    @BeforeEach
+    void setUp() {
+        jobTaskService = new JobTaskServiceImpl();
+        ReflectionTestUtils.setField(jobTaskService, "jobLineDao", jobLineDao);
+        ReflectionTestUtils.setField(jobTaskService, "jobTaskDao", jobTaskDao);
+        ReflectionTestUtils.setField(jobTaskService, "jobVersionDao", jobVersionDao);
+        ReflectionTestUtils.setField(jobTaskService, "jobInstanceService", jobInstanceService);
+        ReflectionTestUtils.setField(
+                jobTaskService, "jobConfigCacheProperties", new JobConfigCacheProperties());
+        jobTaskService.init();
+        when(jobVersionDao.getVersionById(VERSION_ID)).thenReturn(version);
+        when(jobTaskDao.getTasksByVersionId(VERSION_ID))
+                .thenAnswer(invocation -> new ArrayList<>(tasks));
+    }
+
+    @Test
+    void unchangedEdgesKeepTheirLines() {
+        savedLines(line(11L, "src", "sink1"), line(12L, "src", "sink2"));
+
+        Assertions.assertNull(saveJobDAG(edge("src", "sink1"), edge("src", "sink2")));
+
+        verify(jobLineDao, never()).deleteLinesByIds(anyList());
+        verify(jobLineDao, never()).insertLines(anyList());
+        Assertions.assertEquals(Arrays.asList(11L, 12L), lineIdsOfGeneratedConfig());
+    }
+
+    @Test
+    void onlyAddedAndRemovedEdgesAreWritten() {
+        savedLines(line(11L, "src", "sink1"), line(12L, "src", "old"));
+
+        Assertions.assertNull(saveJobDAG(edge("src", "sink1"), edge("src", "sink2")));
+
+        verify(jobLineDao).deleteLinesByIds(Collections.singletonList(12L));
+        List<JobLine> inserted = insertedLines();
+        Assertions.assertEquals(1, inserted.size());
+        Assertions.assertEquals("src", inserted.get(0).getInputPluginId());
+        Assertions.assertEquals("sink2", inserted.get(0).getTargetPluginId());
+        Assertions.assertEquals(VERSION_ID, inserted.get(0).getVersionId());
+        Assertions.assertNotNull(inserted.get(0).getId());
+        Assertions.assertEquals(
+                Arrays.asList(11L, inserted.get(0).getId()), lineIdsOfGeneratedConfig());
+    }
+
+    @Test
+    void duplicateEdgesGetOneLineEach() {
+        savedLines(line(11L, "src", "sink1"), line(13L, "src", "sink2"), line(14L, "src", "sink2"));
+
+        Assertions.assertNull(
+                saveJobDAG(edge("src", "sink1"), edge("src", "sink1"), edge("src", "sink2")));
+
+        // one saved line of the duplicated edge is kept, the surplus line is removed
+        verify(jobLineDao).deleteLinesByIds(Collections.singletonList(14L));
+        List<JobLine> inserted = insertedLines();
+        Assertions.assertEquals(1, inserted.size());
+        Assertions.assertEquals("sink1", inserted.get(0).getTargetPluginId());
+        Assertions.assertEquals(
+                Arrays.asList(11L, inserted.get(0).getId(), 13L), lineIdsOfGeneratedConfig());
+    }
+
+    @Test
+    void editedTaskIsCheckedAgain() {
+        savedLines(line(11L, "src", "sink1"), line(12L, "src", "sink2"));
+        saveJobDAG(edge("src", "sink1"), edge("src", "sink2"));
+        // saving the same DAG again reuses the check result
+        saveJobDAG(edge("src", "sink1"), edge("src", "sink2"));
+        Assertions.assertEquals(1L, dagCheckCacheSize());
+
+        // a source can not be the target of an edge
+        tasks.set(2, task("sink2", "source"));
+        SeatunnelException exception =
+                Assertions.assertThrows(
+                        SeatunnelException.class,
+                        () -> saveJobDAG(edge("src", "sink1"), edge("src", "sink2")));
+        Assertions.assertTrue(exception.getMessage().contains("plugin line not match"));
+    }
+
+    @Test
+    void editedEnvIsCheckedAgain() {
+        savedLines(line(11L, "src", "sink1"), line(12L, "src", "sink2"));
+        saveJobDAG(edge("src", "sink1"), edge("src", "sink2"));
+
+        version.setEnv("");
+        SeatunnelException exception =
+                Assertions.assertThrows(
+                        SeatunnelException.class,
+                        () -> saveJobDAG(edge("src", "sink1"), edge("src", "sink2")));
+        Assertions.assertTrue(exception.getMessage().contains("job env can't be empty"));
+        verify(jobInstanceService, times(1))
+                .generateJobConfig(anyLong(), anyList(), anyList(), any(), any());
+    }
+
+    private Object saveJobDAG(Edge... edges) {
+        return jobTaskService.saveJobDAG(VERSION_ID, new JobDAG(Arrays.asList(edges)));
+    }
+
+    private void savedLines(JobLine... lines) {
+        when(jobLineDao.getLinesByVersionId(VERSION_ID)).thenReturn(Arrays.asList(lines));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<JobLine> insertedLines() {
+        ArgumentCaptor<List<JobLine>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jobLineDao).insertLines(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> lineIdsOfGeneratedConfig() {
+        ArgumentCaptor<List<JobLine>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jobInstanceService)
+                .generateJobConfig(eq(10L), anyList(), captor.capture(), any(), any());
+        return captor.getValue().stream().map(JobLine::getId).collect(Collectors.toList());
+    }
+
+    private long dagCheckCacheSize() {
+        Cache<?, ?> cache =
+                (Cache<?, ?>) ReflectionTestUtils.getField(jobTaskService, "dagCheckCache");
+        return cache.size();
+    }
+
+    private static JobTask task(String pluginId, String type) {
+        return JobTask.builder()
+                .versionId(VERSION_ID)
+                .pluginId(pluginId)
+                .name(pluginId)
+                .type(type)
+                .config("{}")
+                .build();
+    }
+
+    private static JobLine line(Long id, String inputPluginId, String targetPluginId) {
+        return JobLine.builder()
+                .id(id)
+                .versionId(VERSION_ID)
+                .inputPluginId(inputPluginId)
+                .targetPluginId(targetPluginId)
+                .build();
+    }
+
+    private static Edge edge(String inputPluginId, String targetPluginId) {
+        return new Edge(inputPluginId, targetPluginId);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.thirdparty.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SeaTunnelEngineMetricsParserTest {
+
+    private static final String JOB_METRICS =
+            "{\"SourceReceivedCount\":["
+                    + "{\"tags\":{\"jobId\":\"1001\",\"pipelineId\":\"1\"},\"value\":10},"
+                    + "{\"tags\":{\"jobId\":\"1001\",\"pipelineId\":\"1\"},\"value\":5},"
+                    + "{\"tags\":{\"jobId\":\"1001\",\"pipelineId\":\"2\"},\"value\":7}],"
+                    + "\"SinkWriteCount\":["
+                    + "{\"value\":12,\"tags\":{\"jobId\":\"1001\",\"pipelineId\":\"1\"}}],"
+                    + "\"SinkWriteQPS\":["
+                    + "{\"tags\":{\"jobId\":\"1001\",\"pipelineId\":\"1\"},\"value\":1.9},"
+                    + "{\"tags\":{\"jobId\":\"1001\",\"pipelineId\":\"1\"},\"value\":2.9}],"
+                    + "\"SourceReceivedQPS\":["
+                    + "{\"tags\":{\"jobId\":\"1001\",\"pipelineId\":\"2\"},\"value\":\"3.5\"}],"
+                    + "\"CDCRecordEmitDelay\":["
+                    + "{\"tags\":{\"jobId\":\"1001\",\"pipelineId\":\"1\"},\"value\":100},"
+                    + "{\"tags\":{\"jobId\":\"1001\",\"pipelineId\":\"1\"},\"value\":201}],"
+                    + "\"IntermediateQueueSize\":[{\"tags\":{\"pipelineId\":\"1\"},\"value\":9}],"
+                    + "\"SourceReceivedBytes\":{\"nested\":[1,2,3]}}";
+
+    @Test
+    public void testParseJobMetrics() throws IOException {
+        LinkedHashMap<Integer, SeaTunnelEngineMetricsParser.PipelineMetrics> pipelines =
+                SeaTunnelEngineMetricsParser.parseJobMetrics(JOB_METRICS);
+
+        assertEquals(2, pipelines.size());
+        SeaTunnelEngineMetricsParser.PipelineMetrics first = pipelines.get(1);
+        assertEquals(15, first.getReadRowCount());
+        assertEquals(12, first.getWriteRowCount());
+        // every measurement is truncated before being summed
+        assertEquals(3, first.getWriteQps());
+        assertEquals(150, first.getRecordDelay());
+
+        SeaTunnelEngineMetricsParser.PipelineMetrics second = pipelines.get(2);
+        assertEquals(7, second.getReadRowCount());
+        assertEquals(3, second.getReadQps());
+        assertEquals(0, second.getRecordDelay());
+    }
+
+    @Test
+    public void testParseRunningJobMetrics() throws IOException {
+        String content =
+                "[{\"metrics\":"
+                        + JOB_METRICS
+                        + "},{\"metrics\":{\"SinkWriteCount\":["
+                        + "{\"tags\":{\"jobId\":\"1002\",\"pipelineId\":\"1\"},\"value\":42}]}}]";
+
+        Map<Long, LinkedHashMap<Integer, SeaTunnelEngineMetricsParser.PipelineMetrics>> jobs =
+                SeaTunnelEngineMetricsParser.parseRunningJobMetrics(content);
+
+        assertEquals(2, jobs.size());
+        assertEquals(15, jobs.get(1001L).get(1).getReadRowCount());
+        assertEquals(42, jobs.get(1002L).get(1).getWriteRowCount());
+    }
+
+    @Test
+    public void testParseRunningJobMetricsKeyedByJobId() throws IOException {
+        String content = "{\"1001\":{\"metrics\":" + JOB_METRICS + "}}";
+
+        Map<Long, LinkedHashMap<Integer, SeaTunnelEngineMetricsParser.PipelineMetrics>> jobs =
+                SeaTunnelEngineMetricsParser.parseRunningJobMetrics(content);
+
+        assertEquals(1, jobs.size());
+        assertEquals(7, jobs.get(1001L).get(2).getReadRowCount());
+    }
+
+    @Test
+    public void testParseEmptyMetrics() throws IOException {
+        assertTrue(SeaTunnelEngineMetricsParser.parseJobMetrics("{}").isEmpty());
+        assertTrue(SeaTunnelEngineMetricsParser.parseRunningJobMetrics("[]").isEmpty());
+    }
+}
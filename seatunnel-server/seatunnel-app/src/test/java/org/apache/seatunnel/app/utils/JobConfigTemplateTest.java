@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.utils;
+
+import org.apache.seatunnel.server.common.SeatunnelException;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JobConfigTemplateTest {
+
+    @Test
+    public void testRenderSameTemplateWithDifferentValues() {
+        JobConfigTemplate template =
+                JobConfigTemplate.compile(
+                        "env {\n  job.name=${jobName:demo}\n}\nsource { query=\"${where}\" }");
+        assertEquals(2, template.getPlaceholderCount());
+
+        Map<String, String> values = new HashMap<>();
+        values.put("where", "id > 1");
+        assertEquals(
+                "env {\n  job.name=demo\n}\nsource { query=\"id > 1\" }", template.render(values));
+
+        values.put("jobName", "nightly");
+        values.put("where", "id > 2");
+        assertEquals(
+                "env {\n  job.name=nightly\n}\nsource { query=\"id > 2\" }",
+                template.render(values));
+    }
+
+    @Test
+    public void testEscapedPlaceholdersAreKeptAsText() {
+        JobConfigTemplate template = JobConfigTemplate.compile("a=\\${a}\nb=\\\\${b:x}\nc=${c:$1}");
+        assertEquals(1, template.getPlaceholderCount());
+        assertEquals("a=${a}\nb=${b:x}\nc=$1", template.render(Collections.emptyMap()));
+    }
+
+    @Test
+    public void testMissingValueWithoutDefault() {
+        JobConfigTemplate template = JobConfigTemplate.compile("a=${a}");
+        assertThrows(SeatunnelException.class, () -> template.render(Collections.emptyMap()));
+        assertEquals(
+                "no placeholder",
+                JobConfigTemplate.compile("no placeholder").render(Collections.emptyMap()));
+    }
+}
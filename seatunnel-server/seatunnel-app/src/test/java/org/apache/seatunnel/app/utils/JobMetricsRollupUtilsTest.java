@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.app.utils;
+
+import org.apache.seatunnel.app.common.JobMetricsResolution;
+import org.apache.seatunnel.app.dal.entity.JobMetricsHistory;
+import org.apache.seatunnel.app.dal.entity.JobMetricsRollup;
+import org.apache.seatunnel.engine.core.job.JobStatus;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+class JobMetricsRollupUtilsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 2, 0, 0);
+
+    @Test
+    void rollupHistoryIntoMinutes() {
+        LocalDateTime minute = LocalDateTime.of(2024, 1, 1, 10, 5);
+        List<JobMetricsRollup> rollups =
+                JobMetricsRollupUtils.rollupHistory(
+                        Arrays.asList(
+                                history(1, minute.plusSeconds(5), 10, 100, 3),
+                                history(2, minute.plusSeconds(5), 1, 1, 1),
+                                history(1, minute.plusSeconds(10), 30, 200, 1),
+                                history(1, minute.plusSeconds(65), 7, 300, 2)),
+                        JobMetricsResolution.MINUTE,
+                        NOW);
+        Assertions.assertEquals(3, rollups.size());
+
+        JobMetricsRollup first = rollups.get(0);
+        Assertions.assertEquals(1, first.getPipelineId());
+        Assertions.assertEquals(minute, first.getBucketTime());
+        Assertions.assertEquals("1m", first.getResolution());
+        Assertions.assertEquals(2, first.getSampleCount());
+        Assertions.assertEquals(10, first.getReadQpsMin());
+        Assertions.assertEquals(30, first.getReadQpsMax());
+        Assertions.assertEquals(20.0, first.getReadQpsAvg());
+        Assertions.assertEquals(1, first.getRecordDelayMin());
+        Assertions.assertEquals(3, first.getRecordDelayMax());
+        Assertions.assertEquals(200, first.getReadRowCount());
+
+        Assertions.assertEquals(2, rollups.get(1).getPipelineId());
+        Assertions.assertEquals(minute.plusMinutes(1), rollups.get(2).getBucketTime());
+        Assertions.assertEquals(300, rollups.get(2).getReadRowCount());
+    }
+
+    @Test
+    void rollupRollupsWeightsAverages() {
+        LocalDateTime hour = LocalDateTime.of(2024, 1, 1, 10, 0);
+        List<JobMetricsRollup> minutes =
+                JobMetricsRollupUtils.rollupHistory(
+                        Arrays.asList(
+                                history(1, hour.plusSeconds(1), 10, 1, 0),
+                                history(1, hour.plusSeconds(2), 10, 2, 0),
+                                history(1, hour.plusSeconds(3), 10, 3, 0),
+                                history(1, hour.plusMinutes(59), 50, 4, 0)),
+                        JobMetricsResolution.MINUTE,
+                        NOW);
+        List<JobMetricsRollup> hours =
+                JobMetricsRollupUtils.rollupRollups(minutes, JobMetricsResolution.HOUR, NOW);
+        Assertions.assertEquals(1, hours.size());
+        JobMetricsRollup rollup = hours.get(0);
+        Assertions.assertEquals(hour, rollup.getBucketTime());
+        Assertions.assertEquals(4, rollup.getSampleCount());
+        Assertions.assertEquals(20.0, rollup.getReadQpsAvg());
+        Assertions.assertEquals(50, rollup.getReadQpsMax());
+        Assertions.assertEquals(4, rollup.getReadRowCount());
+        Assertions.assertEquals(20, JobMetricsRollupUtils.toHistory(rollup).getReadQps());
+    }
+
+    @Test
+    void chooseCoarsestResolutionWithEnoughPoints() {
+        long day = 86400000L;
+        Assertions.assertEquals(
+                JobMetricsResolution.RAW,
+                JobMetricsRollupUtils.chooseResolution(600000L, 500, r -> true));
+        Assertions.assertEquals(
+                JobMetricsResolution.MINUTE,
+                JobMetricsRollupUtils.chooseResolution(day, 500, r -> true));
+        Assertions.assertEquals(
+                JobMetricsResolution.HOUR,
+                JobMetricsRollupUtils.chooseResolution(30 * day, 500, r -> true));
+        Assertions.assertEquals(
+                JobMetricsResolution.HOUR,
+                JobMetricsRollupUtils.chooseResolution(
+                        600000L, 500, r -> r.compareTo(JobMetricsResolution.HOUR) >= 0));
+    }
+
+    private static JobMetricsHistory history(
+            int pipelineId, LocalDateTime time, long readQps, long readRowCount, long delay) {
+        return JobMetricsHistory.builder()
+                .jobInstanceId(1L)
+                .pipelineId(pipelineId)
+                .readQps(readQps)
+                .readRowCount(readRowCount)
+                .recordDelay(delay)
+                .status(JobStatus.RUNNING)
+                .createTime(time)
+                .build();
+    }
+}
@@ -14,74 +14,163 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.seatunnel.server.common;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
-/** Rewriting based on Twitter snowflake algorithm */
+/**
+ * Rewriting based on Twitter snowflake algorithm.
+ *
+ * <p>A code is 40 bits of milliseconds since 2021, 5 bits of worker id and 8 bits of sequence, so
+ * codes stay below 2^53 and are exact as JSON numbers in the browser until 2055. They are always
+ * larger than the codes of the former layout with 7 low bits.
+ *
+ * <p>The last timestamp and sequence are packed into one atomic long and advanced by CAS, callers
+ * never block each other. When the sequence of a millisecond runs out the generator borrows the
+ * following milliseconds instead of spinning, and only waits once it is more than {@link
+ * #MAX_BORROW_MILLIS} ahead of the clock.
+ */
 public class CodeGenerateUtils {
 
     // start timestamp
     private static final long START_TIMESTAMP = 1609430400000L; // 2021-01-01 00:00:00
-    // Each machine generates 32 in the same millisecond
-    private static final long LOW_DIGIT_BIT = 5L;
-    private static final long MIDDLE_BIT = 2L;
-    private static final long MAX_LOW_DIGIT = ~(-1L << LOW_DIGIT_BIT);
+    // Each worker generates 256 in the same millisecond
+    private static final long SEQUENCE_BIT = 8L;
+    private static final long WORKER_ID_BIT = 5L;
+    private static final long MAX_SEQUENCE = ~(-1L << SEQUENCE_BIT);
+    public static final int MAX_WORKER_ID = (int) ~(-1L << WORKER_ID_BIT);
     // The displacement to the left
-    private static final long MIDDLE_LEFT = LOW_DIGIT_BIT;
-    private static final long HIGH_DIGIT_LEFT = LOW_DIGIT_BIT + MIDDLE_BIT;
-    private final long machineHash;
-    private long lowDigit = 0L;
-    private long recordMillisecond = -1L;
+    private static final long WORKER_ID_LEFT = SEQUENCE_BIT;
+    private static final long TIMESTAMP_LEFT = SEQUENCE_BIT + WORKER_ID_BIT;
+    private static final long MAX_BORROW_MILLIS = 1000L;
+
+    /** System property and environment variable that pin the worker id of this node. */
+    public static final String WORKER_ID_PROPERTY = "seatunnel.web.worker-id";
+
+    public static final String WORKER_ID_ENV = "SEATUNNEL_WEB_WORKER_ID";
+
+    private final long workerId;
+    // milliseconds since START_TIMESTAMP << SEQUENCE_BIT | sequence of the last code
+    private final AtomicLong state = new AtomicLong();
 
     private static final long SYSTEM_TIMESTAMP = System.currentTimeMillis();
     private static final long SYSTEM_NANOTIME = System.nanoTime();
     private static final int I = 1000000;
 
-    private CodeGenerateUtils() throws CodeGenerateException {
-        try {
-            this.machineHash =
-                    Math.abs(Objects.hash(InetAddress.getLocalHost().getHostName()))
-                            % (2 << (MIDDLE_BIT - 1));
-        } catch (UnknownHostException e) {
-            throw new CodeGenerateException(e.getMessage());
+    CodeGenerateUtils(int workerId) throws CodeGenerateException {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new CodeGenerateException(
+                    String.format(
+                            "Worker id %d is out of range, it must be between 0 and %d",
+                            workerId, MAX_WORKER_ID));
         }
+        this.workerId = workerId;
     }
 
-    private static CodeGenerateUtils INSTANCE = null;
+    private static volatile CodeGenerateUtils INSTANCE = null;
 
-    public static synchronized CodeGenerateUtils getInstance() throws CodeGenerateException {
-        if (INSTANCE == null) {
-            INSTANCE = new CodeGenerateUtils();
+    public static CodeGenerateUtils getInstance() throws CodeGenerateException {
+        CodeGenerateUtils instance = INSTANCE;
+        if (instance == null) {
+            synchronized (CodeGenerateUtils.class) {
+                instance = INSTANCE;
+                if (instance == null) {
+                    instance = new CodeGenerateUtils(defaultWorkerId());
+                    INSTANCE = instance;
+                }
+            }
         }
-        return INSTANCE;
+        return instance;
     }
 
-    public synchronized long genCode() throws CodeGenerateException {
-        long nowtMillisecond = systemMillisecond();
-        if (nowtMillisecond < recordMillisecond) {
-            throw new CodeGenerateException("New code exception because time is set back.");
+    /**
+     * Pin the worker id of this node. Nodes sharing a database need distinct worker ids, without
+     * one the id is taken from {@link #WORKER_ID_PROPERTY}, {@link #WORKER_ID_ENV} or the host name
+     * hash.
+     */
+    public static synchronized void configure(int workerId) throws CodeGenerateException {
+        if (INSTANCE == null || INSTANCE.workerId != workerId) {
+            INSTANCE = new CodeGenerateUtils(workerId);
         }
-        if (nowtMillisecond == recordMillisecond) {
-            lowDigit = (lowDigit + 1) & MAX_LOW_DIGIT;
-            if (lowDigit == 0L) {
-                while (nowtMillisecond <= recordMillisecond) {
-                    nowtMillisecond = systemMillisecond();
-                }
+    }
+
+    /** Whether {@link #WORKER_ID_PROPERTY} or {@link #WORKER_ID_ENV} pins the worker id. */
+    public static boolean isWorkerIdPinned() {
+        String configured = pinnedWorkerId();
+        return configured != null && !configured.trim().isEmpty();
+    }
+
+    public int getWorkerId() {
+        return (int) workerId;
+    }
+
+    public long genCode() throws CodeGenerateException {
+        return toCode(reserve(1));
+    }
+
+    /** Generate {@code count} increasing codes, reserving up to a millisecond of them at once. */
+    public long[] genCodes(int count) throws CodeGenerateException {
+        long[] codes = new long[Math.max(count, 0)];
+        int index = 0;
+        while (index < codes.length) {
+            int size = (int) Math.min(codes.length - index, MAX_SEQUENCE + 1);
+            long first = reserve(size);
+            for (int i = 0; i < size; i++) {
+                codes[index++] = toCode(first + i);
+            }
+        }
+        return codes;
+    }
+
+    private long reserve(int count) {
+        while (true) {
+            long current = state.get();
+            long now = systemMillisecond() - START_TIMESTAMP;
+            long first = Math.max(current + 1, now << SEQUENCE_BIT);
+            long last = first + count - 1;
+            if ((last >>> SEQUENCE_BIT) - now > MAX_BORROW_MILLIS) {
+                // far ahead of the clock, let it catch up instead of borrowing more
+                Thread.yield();
+                continue;
+            }
+            if (state.compareAndSet(current, last)) {
+                return first;
             }
-        } else {
-            lowDigit = 0L;
         }
-        recordMillisecond = nowtMillisecond;
-        return (nowtMillisecond - START_TIMESTAMP) << HIGH_DIGIT_LEFT
-                | machineHash << MIDDLE_LEFT
-                | lowDigit;
     }
 
-    private long systemMillisecond() {
+    private long toCode(long stateValue) {
+        return (stateValue >>> SEQUENCE_BIT) << TIMESTAMP_LEFT
+                | workerId << WORKER_ID_LEFT
+                | stateValue & MAX_SEQUENCE;
+    }
+
+    private static String pinnedWorkerId() {
+        return System.getProperty(WORKER_ID_PROPERTY, System.getenv(WORKER_ID_ENV));
+    }
+
+    private static int defaultWorkerId() throws CodeGenerateException {
+        String configured = pinnedWorkerId();
+        if (configured != null && !configured.trim().isEmpty()) {
+            try {
+                return Integer.parseInt(configured.trim());
+            } catch (NumberFormatException e) {
+                throw new CodeGenerateException(
+                        String.format("Worker id %s is not a number", configured));
+            }
+        }
+        try {
+            return Math.floorMod(
+                    Objects.hash(InetAddress.getLocalHost().getHostName()), MAX_WORKER_ID + 1);
+        } catch (UnknownHostException e) {
+            throw new CodeGenerateException(e.getMessage());
+        }
+    }
+
+    private static long systemMillisecond() {
         return SYSTEM_TIMESTAMP + (System.nanoTime() - SYSTEM_NANOTIME) / I;
     }
 
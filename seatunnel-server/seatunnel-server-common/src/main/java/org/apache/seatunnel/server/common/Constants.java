@@ -26,5 +26,7 @@ public class Constants {
 
     public static final String OPTIONS = "OPTIONS";
 
+    public static final String GET = "GET";
+
     public static final String METRICS_QUERY_KEY_SPLIT = "::";
 }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.server.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class CodeGenerateUtilsTest {
+
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @Test
+    public void testCodesAreUniqueAcrossThreads() throws Exception {
+        CodeGenerateUtils generator = new CodeGenerateUtils(3);
+        int threads = 8;
+        int codesPerThread = 20000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    long[] codes = new long[codesPerThread];
+                                    for (int i = 0; i < codesPerThread; i++) {
+                                        codes[i] = generator.genCode();
+                                    }
+                                    return codes;
+                                }));
+            }
+            Set<Long> all = new HashSet<>();
+            for (Future<long[]> future : futures) {
+                long previous = 0L;
+                for (long code : future.get()) {
+                    Assertions.assertTrue(code > previous);
+                    Assertions.assertTrue(code <= MAX_SAFE_INTEGER);
+                    Assertions.assertEquals(3, code >>> 8 & 31);
+                    Assertions.assertTrue(all.add(code));
+                    previous = code;
+                }
+            }
+            Assertions.assertEquals(threads * codesPerThread, all.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGenCodesIncreasesAndInterleavesWithGenCode() {
+        CodeGenerateUtils generator = new CodeGenerateUtils(0);
+        long before = generator.genCode();
+        long[] codes = generator.genCodes(1000);
+        long after = generator.genCode();
+        Assertions.assertEquals(1000, codes.length);
+        long previous = before;
+        for (long code : codes) {
+            Assertions.assertTrue(code > previous);
+            previous = code;
+        }
+        Assertions.assertTrue(after > previous);
+        Assertions.assertEquals(0, generator.genCodes(0).length);
+    }
+
+    @Test
+    public void testCodesAreLargerThanFormerLayout() {
+        long formerLayoutNow = (System.currentTimeMillis() - 1609430400000L) << 7 | 127;
+        Assertions.assertTrue(new CodeGenerateUtils(0).genCode() > formerLayoutNow);
+    }
+
+    @Test
+    public void testWorkerIdIsValidated() {
+        Assertions.assertThrows(
+                CodeGenerateUtils.CodeGenerateException.class, () -> new CodeGenerateUtils(32));
+        Assertions.assertThrows(
+                CodeGenerateUtils.CodeGenerateException.class, () -> new CodeGenerateUtils(-1));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark;
+
+import org.apache.seatunnel.app.common.Result;
+import org.apache.seatunnel.app.common.SeaTunnelWebCluster;
+import org.apache.seatunnel.app.common.TokenProvider;
+import org.apache.seatunnel.app.controller.JobConfigControllerWrapper;
+import org.apache.seatunnel.app.controller.JobDefinitionControllerWrapper;
+import org.apache.seatunnel.app.controller.JobTaskControllerWrapper;
+import org.apache.seatunnel.app.controller.SeatunnelDatasourceControllerWrapper;
+import org.apache.seatunnel.app.dal.entity.User;
+import org.apache.seatunnel.app.domain.request.job.Edge;
+import org.apache.seatunnel.app.domain.request.job.JobConfig;
+import org.apache.seatunnel.app.domain.request.job.JobDAG;
+import org.apache.seatunnel.app.domain.response.job.JobTaskCheckRes;
+import org.apache.seatunnel.app.security.AuthenticationCache;
+import org.apache.seatunnel.app.security.UserContext;
+import org.apache.seatunnel.common.access.AccessInfo;
+import org.apache.seatunnel.common.constants.JobMode;
+import org.apache.seatunnel.server.common.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One {@link SeaTunnelWebCluster} per JVM for the benchmarks that need the running application,
+ * with helpers to call services as the logged in admin and to create FakeSource jobs.
+ */
+public final class BenchmarkCluster {
+
+    private static final JobDefinitionControllerWrapper jobDefinitionControllerWrapper =
+            new JobDefinitionControllerWrapper();
+    private static final JobConfigControllerWrapper jobConfigControllerWrapper =
+            new JobConfigControllerWrapper();
+    private static final JobTaskControllerWrapper jobTaskControllerWrapper =
+            new JobTaskControllerWrapper();
+    private static final SeatunnelDatasourceControllerWrapper seatunnelDatasourceControllerWrapper =
+            new SeatunnelDatasourceControllerWrapper();
+
+    private static SeaTunnelWebCluster cluster;
+
+    private BenchmarkCluster() {}
+
+    public static synchronized void start() {
+        if (cluster == null) {
+            cluster = new SeaTunnelWebCluster();
+            cluster.start();
+        }
+    }
+
+    public static synchronized void stop() {
+        if (cluster != null) {
+            cluster.stop();
+            cluster = null;
+        }
+    }
+
+    public static <T> T getBean(Class<T> type) {
+        return cluster.getApplicationContext().getBean(type);
+    }
+
+    /** The user context the web layer builds for the admin token, to call services directly. */
+    public static UserContext getAdminUserContext() {
+        Map<String, Object> claims =
+                getBean(AuthenticationCache.class).parseToken(TokenProvider.getToken());
+        User user = new User();
+        user.setId((Integer) claims.get(Constants.USER_ID));
+        user.setUsername((String) claims.get("name"));
+        AccessInfo accessInfo = new AccessInfo();
+        accessInfo.setUsername(user.getUsername());
+        accessInfo.setWorkspaceName((String) claims.get("workspaceName"));
+        return new UserContext(user, ((Number) claims.get("workspaceId")).longValue(), accessInfo);
+    }
+
+    /**
+     * Create a FakeSource to Console job and return its id, which is also the id of its version. A
+     * streaming job keeps running until it is stopped.
+     */
+    public static long createFakeSourceJob(String jobName, JobMode jobMode) {
+        long jobId = jobDefinitionControllerWrapper.createJobDefinition(jobName);
+        JobConfig jobConfig = jobConfigControllerWrapper.populateJobConfigObject(jobName);
+        jobConfig.getEnv().put("job.mode", jobMode);
+        checkSuccess(jobConfigControllerWrapper.updateJobConfig(jobId, jobConfig));
+
+        String sourceDatasourceId =
+                seatunnelDatasourceControllerWrapper.createFakeSourceDatasource(
+                        "source_" + jobName);
+        String sinkDatasourceId =
+                seatunnelDatasourceControllerWrapper.createConsoleDatasource("console_" + jobName);
+        String sourcePluginId =
+                jobTaskControllerWrapper.createFakeSourcePlugin(sourceDatasourceId, jobId);
+        String transformPluginId = jobTaskControllerWrapper.createReplaceTransformPlugin(jobId);
+        String sinkPluginId =
+                jobTaskControllerWrapper.createConsoleSinkPlugin(sinkDatasourceId, jobId);
+
+        JobDAG jobDAG = new JobDAG();
+        List<Edge> edges = new ArrayList<>();
+        edges.add(new Edge(sourcePluginId, transformPluginId));
+        edges.add(new Edge(transformPluginId, sinkPluginId));
+        jobDAG.setEdges(edges);
+        Result<JobTaskCheckRes> result = jobTaskControllerWrapper.saveJobDAG(jobId, jobDAG);
+        checkSuccess(result);
+        return jobId;
+    }
+
+    public static void checkSuccess(Result<?> result) {
+        if (!result.isSuccess()) {
+            throw new IllegalStateException(
+                    String.format("Request failed: %s %s", result.getCode(), result.getMsg()));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark.legacy;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Objects;
+
+/**
+ * The code generator as it was before it became lock free: synchronized, 32 codes per millisecond
+ * and busy waiting for the next millisecond once they are used up. Kept as the baseline of
+ * CodeGenerateBenchmark.
+ */
+public class LegacyCodeGenerator {
+
+    private static final long START_TIMESTAMP = 1609430400000L; // 2021-01-01 00:00:00
+    private static final long LOW_DIGIT_BIT = 5L;
+    private static final long MIDDLE_BIT = 2L;
+    private static final long MAX_LOW_DIGIT = ~(-1L << LOW_DIGIT_BIT);
+    private static final long MIDDLE_LEFT = LOW_DIGIT_BIT;
+    private static final long HIGH_DIGIT_LEFT = LOW_DIGIT_BIT + MIDDLE_BIT;
+    private static final long SYSTEM_TIMESTAMP = System.currentTimeMillis();
+    private static final long SYSTEM_NANOTIME = System.nanoTime();
+    private static final int I = 1000000;
+
+    private final long machineHash;
+    private long lowDigit = 0L;
+    private long recordMillisecond = -1L;
+
+    public LegacyCodeGenerator() {
+        try {
+            this.machineHash =
+                    Math.abs(Objects.hash(InetAddress.getLocalHost().getHostName()))
+                            % (2 << (MIDDLE_BIT - 1));
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    public synchronized long genCode() {
+        long nowtMillisecond = systemMillisecond();
+        if (nowtMillisecond < recordMillisecond) {
+            throw new IllegalStateException("New code exception because time is set back.");
+        }
+        if (nowtMillisecond == recordMillisecond) {
+            lowDigit = (lowDigit + 1) & MAX_LOW_DIGIT;
+            if (lowDigit == 0L) {
+                while (nowtMillisecond <= recordMillisecond) {
+                    nowtMillisecond = systemMillisecond();
+                }
+            }
+        } else {
+            lowDigit = 0L;
+        }
+        recordMillisecond = nowtMillisecond;
+        return (nowtMillisecond - START_TIMESTAMP) << HIGH_DIGIT_LEFT
+                | machineHash << MIDDLE_LEFT
+                | lowDigit;
+    }
+
+    private long systemMillisecond() {
+        return SYSTEM_TIMESTAMP + (System.nanoTime() - SYSTEM_NANOTIME) / I;
+    }
+}
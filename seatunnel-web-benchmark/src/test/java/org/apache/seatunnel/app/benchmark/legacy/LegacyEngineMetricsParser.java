@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark.legacy;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+
+import org.apache.seatunnel.app.dal.entity.JobMetrics;
+import org.apache.seatunnel.common.utils.JsonUtils;
+import org.apache.seatunnel.engine.core.job.JobStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * Metrics parsing as SeaTunnelEngineMetricsExtractor did it before SeaTunnelEngineMetricsParser:
+ * the payload is read into a JsonNode tree that is walked once per metric. Kept as the baseline of
+ * EngineMetricsParserBenchmark, the pipeline status the extractor looked up on the engine is taken
+ * as running.
+ */
+public final class LegacyEngineMetricsParser {
+
+    private LegacyEngineMetricsParser() {}
+
+    public static LinkedHashMap<Integer, JobMetrics> parseJobMetrics(String metricsContent)
+            throws JsonProcessingException {
+        return extractMetrics(JsonUtils.stringToJsonNode(metricsContent));
+    }
+
+    public static Map<Long, HashMap<Integer, JobMetrics>> parseRunningJobMetrics(
+            String allJobMetricsContent) throws JsonProcessingException {
+        HashMap<Long, HashMap<Integer, JobMetrics>> allRunningJobMetricsHashMap = new HashMap<>();
+        JsonNode jsonNode = JsonUtils.stringToJsonNode(allJobMetricsContent);
+        for (JsonNode item : jsonNode) {
+            JsonNode metrics = item.get("metrics");
+            long jobEngineId = 0L;
+            JsonNode sourceReceivedCount = metrics.get("SourceReceivedCount");
+            if (sourceReceivedCount != null && sourceReceivedCount.isArray()) {
+                for (JsonNode node : sourceReceivedCount) {
+                    jobEngineId = node.get("tags").get("jobId").asLong();
+                }
+            }
+            allRunningJobMetricsHashMap.put(jobEngineId, extractMetrics(metrics));
+        }
+        return allRunningJobMetricsHashMap;
+    }
+
+    private static LinkedHashMap<Integer, JobMetrics> extractMetrics(JsonNode jsonNode) {
+        LinkedHashMap<Integer, JobMetrics> metricsMap = new LinkedHashMap<>();
+        JsonNode sourceReceivedCount = jsonNode.get("SourceReceivedCount");
+        if (sourceReceivedCount != null && sourceReceivedCount.isArray()) {
+            for (JsonNode node : sourceReceivedCount) {
+                Integer pipelineId = node.get("tags").get("pipelineId").asInt();
+                JobMetrics currPipelineMetrics = getOrCreatePipelineMetrics(metricsMap, pipelineId);
+                currPipelineMetrics.setReadRowCount(
+                        currPipelineMetrics.getReadRowCount() + node.get("value").asLong());
+            }
+        }
+
+        JsonNode sinkWriteCount = jsonNode.get("SinkWriteCount");
+        if (sinkWriteCount != null && sinkWriteCount.isArray()) {
+            for (JsonNode node : jsonNode.get("SinkWriteCount")) {
+                Integer pipelineId = node.get("tags").get("pipelineId").asInt();
+                JobMetrics currPipelineMetrics = getOrCreatePipelineMetrics(metricsMap, pipelineId);
+                currPipelineMetrics.setWriteRowCount(
+                        currPipelineMetrics.getWriteRowCount() + node.get("value").asLong());
+            }
+        }
+
+        JsonNode sinkWriteQPS = jsonNode.get("SinkWriteQPS");
+        if (sinkWriteQPS != null && sinkWriteQPS.isArray()) {
+            for (JsonNode node : jsonNode.get("SinkWriteQPS")) {
+                Integer pipelineId = node.get("tags").get("pipelineId").asInt();
+                JobMetrics currPipelineMetrics = getOrCreatePipelineMetrics(metricsMap, pipelineId);
+                currPipelineMetrics.setWriteQps(
+                        currPipelineMetrics.getWriteQps()
+                                + (new Double(node.get("value").asDouble())).longValue());
+            }
+        }
+
+        JsonNode sourceReceivedQPS = jsonNode.get("SourceReceivedQPS");
+        if (sourceReceivedQPS != null && sourceReceivedQPS.isArray()) {
+            for (JsonNode node : jsonNode.get("SourceReceivedQPS")) {
+                Integer pipelineId = node.get("tags").get("pipelineId").asInt();
+                JobMetrics currPipelineMetrics = getOrCreatePipelineMetrics(metricsMap, pipelineId);
+                currPipelineMetrics.setReadQps(
+                        currPipelineMetrics.getReadQps()
+                                + (new Double(node.get("value").asDouble())).longValue());
+            }
+        }
+
+        JsonNode cdcRecordEmitDelay = jsonNode.get("CDCRecordEmitDelay");
+        if (cdcRecordEmitDelay != null && cdcRecordEmitDelay.isArray()) {
+            Map<Integer, List<Long>> dataMap = new HashMap<>();
+            for (JsonNode node : jsonNode.get("CDCRecordEmitDelay")) {
+                Integer pipelineId = node.get("tags").get("pipelineId").asInt();
+                long value = node.get("value").asLong();
+                dataMap.computeIfAbsent(pipelineId, n -> new ArrayList<>()).add(value);
+            }
+            dataMap.forEach(
+                    (key, value) -> {
+                        JobMetrics currPipelineMetrics =
+                                getOrCreatePipelineMetrics(metricsMap, key);
+                        OptionalDouble average = value.stream().mapToDouble(a -> a).average();
+                        currPipelineMetrics.setRecordDelay(
+                                Double.valueOf(average.isPresent() ? average.getAsDouble() : 0)
+                                        .longValue());
+                    });
+        }
+        return metricsMap;
+    }
+
+    private static JobMetrics getOrCreatePipelineMetrics(
+            LinkedHashMap<Integer, JobMetrics> metricsMap, Integer pipelineId) {
+        JobMetrics currPipelineMetrics = metricsMap.get(pipelineId);
+        if (currPipelineMetrics == null) {
+            currPipelineMetrics = new JobMetrics();
+            currPipelineMetrics.setStatus(JobStatus.RUNNING);
+            currPipelineMetrics.setPipelineId(pipelineId);
+            metricsMap.put(pipelineId, currPipelineMetrics);
+        }
+        return currPipelineMetrics;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark.legacy;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table fields as the MySQL channels read them before the batched information_schema query: one
+ * getPrimaryKeys and one getColumns call per table. Kept as the baseline of
+ * MysqlTableFieldsBenchmark.
+ */
+public final class LegacyMysqlTableFieldsReader {
+
+    private LegacyMysqlTableFieldsReader() {}
+
+    public static Map<String, List<TableField>> getTableFields(
+            Connection connection, String database, List<String> tables) throws SQLException {
+        Map<String, List<TableField>> tableFields = new LinkedHashMap<>();
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String table : tables) {
+            tableFields.put(table, getTableFields(metaData, database, table));
+        }
+        return tableFields;
+    }
+
+    private static List<TableField> getTableFields(
+            DatabaseMetaData metaData, String database, String table) throws SQLException {
+        List<TableField> tableFields = new ArrayList<>();
+        String primaryKey = getPrimaryKey(metaData, database, table);
+        try (ResultSet resultSet = metaData.getColumns(database, null, table, null)) {
+            while (resultSet.next()) {
+                TableField tableField = new TableField();
+                String columnName = resultSet.getString("COLUMN_NAME");
+                tableField.setPrimaryKey(columnName.equals(primaryKey));
+                tableField.setName(columnName);
+                tableField.setType(resultSet.getString("TYPE_NAME"));
+                tableField.setComment(resultSet.getString("REMARKS"));
+                Object nullable = resultSet.getObject("IS_NULLABLE");
+                tableField.setNullable(Boolean.TRUE.toString().equals(nullable.toString()));
+                tableFields.add(tableField);
+            }
+        }
+        return tableFields;
+    }
+
+    private static String getPrimaryKey(DatabaseMetaData metaData, String database, String table)
+            throws SQLException {
+        try (ResultSet primaryKeysInfo = metaData.getPrimaryKeys(database, "%", table)) {
+            while (primaryKeysInfo.next()) {
+                return primaryKeysInfo.getString("COLUMN_NAME");
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark.legacy;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Placeholder replacement as JobUtils did it before job config templates: the whole config is
+ * scanned with a regex on every execution. Kept as the baseline of JobConfigPlaceholderBenchmark.
+ */
+public final class LegacyPlaceholderReplacer {
+
+    private static final Pattern PLACEHOLDER_PATTERN =
+            Pattern.compile("(\\\\{0,2})\\$\\{(\\w+)(?::(.*?))?\\}");
+
+    private LegacyPlaceholderReplacer() {}
+
+    public static String replace(String jobConfigString, Map<String, String> placeholderValues) {
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(jobConfigString);
+        StringBuffer result = new StringBuffer();
+
+        while (matcher.find()) {
+            String escapeCharacter = matcher.group(1);
+            String placeholderName = matcher.group(2);
+
+            if (escapeCharacter != null && !escapeCharacter.isEmpty()) {
+                String withoutEscape =
+                        matcher.group().replace("\\\\${", "${").replace("\\${", "${");
+                matcher.appendReplacement(result, Matcher.quoteReplacement(withoutEscape));
+                continue;
+            }
+            String replacement = placeholderValues.getOrDefault(placeholderName, matcher.group(3));
+            if (replacement == null) {
+                throw new IllegalArgumentException(
+                        "No value found for placeholder " + placeholderName);
+            }
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+
+        matcher.appendTail(result);
+        return result.toString();
+    }
+}
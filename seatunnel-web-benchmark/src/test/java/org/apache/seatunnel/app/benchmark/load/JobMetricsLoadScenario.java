@@ -0,0 +1,320 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark.load;
+
+import org.apache.seatunnel.app.benchmark.BenchmarkCluster;
+import org.apache.seatunnel.app.common.Result;
+import org.apache.seatunnel.app.controller.JobExecutorControllerWrapper;
+import org.apache.seatunnel.app.controller.JobMetricsControllerWrapper;
+import org.apache.seatunnel.app.controller.TaskInstanceControllerWrapper;
+import org.apache.seatunnel.app.domain.response.executor.JobExecutionStatus;
+import org.apache.seatunnel.common.constants.JobMode;
+import org.apache.seatunnel.engine.core.job.JobStatus;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+
+import java.lang.management.ManagementFactory;
+import java.net.URLEncoder;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Macro load scenario: {@code users} clients poll the job metrics summary and the job list while
+ * {@code jobs} streaming FakeSource jobs run, then the latency percentiles of both endpoints, the
+ * allocation rate of the JVM and the number of SQL statements per request are printed.
+ *
+ * <p>The application runs in this JVM, so the allocation rate covers the server and the clients.
+ */
+public class JobMetricsLoadScenario {
+
+    private static final String SUMMARY = "job/metrics/summary";
+
+    private static final String JOB_LIST = "task/jobMetrics";
+
+    private final int users = Integer.getInteger("users", 20);
+
+    private final int jobs = Integer.getInteger("jobs", 5);
+
+    private final long durationMillis =
+            TimeUnit.SECONDS.toMillis(Long.getLong("durationSeconds", 60L));
+
+    private final long warmupMillis = TimeUnit.SECONDS.toMillis(Long.getLong("warmupSeconds", 10L));
+
+    private final long pollIntervalMillis = Long.getLong("pollIntervalMs", 0L);
+
+    private final List<Long> jobInstanceIds = new ArrayList<>();
+
+    private final List<LatencyRecorder> summaryRecorders = new ArrayList<>();
+
+    private final List<LatencyRecorder> jobListRecorders = new ArrayList<>();
+
+    private final JobExecutorControllerWrapper jobExecutorControllerWrapper =
+            new JobExecutorControllerWrapper();
+
+    public static void main(String[] args) throws Exception {
+        int exitCode = 0;
+        try {
+            BenchmarkCluster.start();
+            new JobMetricsLoadScenario().run();
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            BenchmarkCluster.stop();
+        }
+        // the engine and the application leave non daemon threads behind
+        System.exit(exitCode);
+    }
+
+    private void run() throws Exception {
+        startJobs();
+        SqlStatementCounter sqlStatementCounter = new SqlStatementCounter();
+        BenchmarkCluster.getBean(SqlSessionFactory.class)
+                .getConfiguration()
+                .addInterceptor(sqlStatementCounter);
+        try {
+            runLoad(sqlStatementCounter);
+        } finally {
+            sqlStatementCounter.stop();
+            stopJobs();
+        }
+    }
+
+    private void startJobs() throws InterruptedException {
+        for (int i = 0; i < jobs; i++) {
+            long jobId =
+                    BenchmarkCluster.createFakeSourceJob(
+                            "load_" + System.currentTimeMillis() + "_" + i, JobMode.STREAMING);
+            Result<Long> result = jobExecutorControllerWrapper.jobExecutor(jobId);
+            BenchmarkCluster.checkSuccess(result);
+            jobInstanceIds.add(result.getData());
+        }
+        long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2);
+        for (Long jobInstanceId : jobInstanceIds) {
+            while (true) {
+                Result<JobExecutionStatus> status =
+                        jobExecutorControllerWrapper.getJobExecutionStatus(jobInstanceId);
+                BenchmarkCluster.checkSuccess(status);
+                JobStatus jobStatus = status.getData().getJobStatus();
+                if (jobStatus == JobStatus.RUNNING) {
+                    break;
+                }
+                if (jobStatus == JobStatus.FAILED
+                        || jobStatus == JobStatus.CANCELED
+                        || jobStatus == JobStatus.FINISHED) {
+                    throw new IllegalStateException(
+                            String.format(
+                                    "Job instance %s ended as %s: %s",
+                                    jobInstanceId, jobStatus, status.getData().getErrorMessage()));
+                }
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException(
+                            "Job instance " + jobInstanceId + " is not running after 2 minutes");
+                }
+                Thread.sleep(500);
+            }
+        }
+        System.out.printf("%d streaming jobs are running: %s%n", jobs, jobInstanceIds);
+    }
+
+    private void stopJobs() {
+        for (Long jobInstanceId : jobInstanceIds) {
+            try {
+                jobExecutorControllerWrapper.jobPause(jobInstanceId);
+            } catch (RuntimeException e) {
+                System.err.printf("Stop job instance %s failed: %s%n", jobInstanceId, e);
+            }
+        }
+    }
+
+    private void runLoad(SqlStatementCounter sqlStatementCounter) throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(users);
+        long warmupEnd = System.currentTimeMillis() + warmupMillis;
+        long end = warmupEnd + durationMillis;
+        for (int i = 0; i < users; i++) {
+            LatencyRecorder summaryRecorder = new LatencyRecorder();
+            LatencyRecorder jobListRecorder = new LatencyRecorder();
+            summaryRecorders.add(summaryRecorder);
+            jobListRecorders.add(jobListRecorder);
+            int user = i;
+            Thread thread =
+                    new Thread(
+                            () -> {
+                                try {
+                                    poll(user, summaryRecorder, jobListRecorder, warmupEnd, end);
+                                } finally {
+                                    finished.countDown();
+                                }
+                            },
+                            "load-user-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        long sleep = warmupEnd - System.currentTimeMillis();
+        if (sleep > 0) {
+            Thread.sleep(sleep);
+        }
+        sqlStatementCounter.start();
+        Map<Long, Long> allocatedAtStart = getAllocatedBytes();
+        long start = System.currentTimeMillis();
+        finished.await();
+        long elapsedMillis = System.currentTimeMillis() - start;
+        sqlStatementCounter.stop();
+        Map<Long, Long> allocatedAtEnd = getAllocatedBytes();
+
+        report(sqlStatementCounter, elapsedMillis, allocatedAtStart, allocatedAtEnd);
+    }
+
+    private void poll(
+            int user,
+            LatencyRecorder summaryRecorder,
+            LatencyRecorder jobListRecorder,
+            long warmupEnd,
+            long end) {
+        JobMetricsControllerWrapper jobMetricsControllerWrapper = new JobMetricsControllerWrapper();
+        TaskInstanceControllerWrapper taskInstanceControllerWrapper =
+                new TaskInstanceControllerWrapper();
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        String startDate =
+                URLEncoder.encode(
+                        dateFormat.format(new Date(System.currentTimeMillis() - 86_400_000L)));
+        String endDate =
+                URLEncoder.encode(
+                        dateFormat.format(new Date(System.currentTimeMillis() + 86_400_000L)));
+        boolean warmingUp = true;
+        for (long n = user; ; n++) {
+            long now = System.currentTimeMillis();
+            if (now >= end) {
+                return;
+            }
+            if (warmingUp && now >= warmupEnd) {
+                warmingUp = false;
+                summaryRecorder.reset();
+                jobListRecorder.reset();
+            }
+            long start = System.nanoTime();
+            boolean success;
+            LatencyRecorder recorder;
+            try {
+                if ((n & 1) == 0) {
+                    recorder = summaryRecorder;
+                    Long jobInstanceId = jobInstanceIds.get((int) (n / 2 % jobInstanceIds.size()));
+                    success = jobMetricsControllerWrapper.summary(jobInstanceId).isSuccess();
+                } else {
+                    recorder = jobListRecorder;
+                    success =
+                            taskInstanceControllerWrapper
+                                    .getTaskInstanceList(
+                                            null,
+                                            null,
+                                            null,
+                                            startDate,
+                                            endDate,
+                                            JobMode.STREAMING,
+                                            1,
+                                            10)
+                                    .isSuccess();
+                }
+            } catch (RuntimeException e) {
+                recorder = (n & 1) == 0 ? summaryRecorder : jobListRecorder;
+                success = false;
+            }
+            recorder.record(System.nanoTime() - start, success);
+            if (pollIntervalMillis > 0) {
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void report(
+            SqlStatementCounter sqlStatementCounter,
+            long elapsedMillis,
+            Map<Long, Long> allocatedAtStart,
+            Map<Long, Long> allocatedAtEnd) {
+        System.out.printf(
+                "%n%d users, %d running jobs, %d ms measured after %d ms warmup%n",
+                users, jobs, elapsedMillis, warmupMillis);
+        System.out.printf(
+                "%-20s %8s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        LatencyRecorder.Summary summary = LatencyRecorder.summarize(summaryRecorders);
+        LatencyRecorder.Summary jobList = LatencyRecorder.summarize(jobListRecorders);
+        printLatency(SUMMARY, summary, elapsedMillis);
+        printLatency(JOB_LIST, jobList, elapsedMillis);
+
+        // threads started or ended during the measurement are not counted
+        long allocatedBytes = 0L;
+        for (Map.Entry<Long, Long> entry : allocatedAtEnd.entrySet()) {
+            Long before = allocatedAtStart.get(entry.getKey());
+            if (before != null && entry.getValue() >= before) {
+                allocatedBytes += entry.getValue() - before;
+            }
+        }
+        int requests = summary.getCount() + jobList.getCount();
+        System.out.printf(
+                "%nallocation rate: %.1f MB/s, %.1f KB per request%n",
+                allocatedBytes / 1048576D / Math.max(elapsedMillis, 1L) * 1000D,
+                requests == 0 ? 0D : allocatedBytes / 1024D / requests);
+
+        Map<String, Long> sqlCounts = sqlStatementCounter.getCounts();
+        long sqlTotal = sqlCounts.values().stream().mapToLong(Long::longValue).sum();
+        System.out.printf(
+                "SQL statements: %d total, %.2f per request, %s%n",
+                sqlTotal, requests == 0 ? 0D : (double) sqlTotal / requests, sqlCounts);
+    }
+
+    private static void printLatency(
+            String endpoint, LatencyRecorder.Summary summary, long elapsedMillis) {
+        System.out.printf(
+                "%-20s %8d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint,
+                summary.getCount(),
+                summary.getErrors(),
+                summary.getCount() * 1000D / Math.max(elapsedMillis, 1L),
+                summary.percentileMillis(50),
+                summary.percentileMillis(90),
+                summary.percentileMillis(99),
+                summary.percentileMillis(100));
+    }
+
+    private static Map<Long, Long> getAllocatedBytes() {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] threadIds = threadMXBean.getAllThreadIds();
+        long[] allocated = threadMXBean.getThreadAllocatedBytes(threadIds);
+        Map<Long, Long> allocatedBytes = new HashMap<>(threadIds.length);
+        for (int i = 0; i < threadIds.length; i++) {
+            if (allocated[i] >= 0) {
+                allocatedBytes.put(threadIds[i], allocated[i]);
+            }
+        }
+        return allocatedBytes;
+    }
+}
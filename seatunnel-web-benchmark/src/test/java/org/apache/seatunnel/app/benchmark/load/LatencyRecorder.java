@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark.load;
+
+import java.util.Arrays;
+import java.util.List;
+
+/** Latencies of one endpoint recorded by one thread, merged into percentiles at the end. */
+public class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+
+    private int size;
+
+    private int errors;
+
+    public void record(long latencyNanos, boolean success) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size << 1);
+        }
+        latencies[size++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public void reset() {
+        size = 0;
+        errors = 0;
+    }
+
+    public static Summary summarize(List<LatencyRecorder> recorders) {
+        int total = 0;
+        int errors = 0;
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.size;
+            errors += recorder.errors;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.latencies, 0, merged, offset, recorder.size);
+            offset += recorder.size;
+        }
+        Arrays.sort(merged);
+        return new Summary(merged, errors);
+    }
+
+    public static class Summary {
+        private final long[] sortedLatencies;
+        private final int errors;
+
+        private Summary(long[] sortedLatencies, int errors) {
+            this.sortedLatencies = sortedLatencies;
+            this.errors = errors;
+        }
+
+        public int getCount() {
+            return sortedLatencies.length;
+        }
+
+        public int getErrors() {
+            return errors;
+        }
+
+        /** @return the latency in milliseconds below which {@code percentile} of the calls fall */
+        public double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0D;
+            }
+            int index = (int) Math.ceil(percentile / 100D * sortedLatencies.length) - 1;
+            index = Math.min(Math.max(index, 0), sortedLatencies.length - 1);
+            return sortedLatencies[index] / 1_000_000D;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark.load;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+
+import java.sql.Connection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Counts the statements MyBatis prepares, grouped by their leading keyword. */
+@Intercepts(
+        @Signature(
+                type = StatementHandler.class,
+                method = "prepare",
+                args = {Connection.class, Integer.class}))
+public class SqlStatementCounter implements Interceptor {
+
+    private static final String[] TYPES = {"select", "insert", "update", "delete", "other"};
+
+    private final LongAdder[] counters = new LongAdder[TYPES.length];
+
+    private volatile boolean enabled;
+
+    public SqlStatementCounter() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (enabled) {
+            StatementHandler handler = (StatementHandler) invocation.getTarget();
+            counters[typeOf(handler.getBoundSql().getSql())].increment();
+        }
+        return invocation.proceed();
+    }
+
+    /** Start counting from zero, statements issued while setting up the scenario are ignored. */
+    public void start() {
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+        enabled = true;
+    }
+
+    public void stop() {
+        enabled = false;
+    }
+
+    public Map<String, Long> getCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (int i = 0; i < TYPES.length; i++) {
+            counts.put(TYPES[i], counters[i].sum());
+        }
+        return counts;
+    }
+
+    private static int typeOf(String sql) {
+        String keyword = sql.trim();
+        int end = 0;
+        while (end < keyword.length() && Character.isLetter(keyword.charAt(end))) {
+            end++;
+        }
+        keyword = keyword.substring(0, end).toLowerCase(Locale.ROOT);
+        for (int i = 0; i < TYPES.length - 1; i++) {
+            if (TYPES[i].equals(keyword)) {
+                return i;
+            }
+        }
+        return TYPES.length - 1;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark.micro;
+
+import org.apache.seatunnel.app.benchmark.legacy.LegacyCodeGenerator;
+import org.apache.seatunnel.server.common.CodeGenerateUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codes per millisecond of {@link CodeGenerateUtils}, alone and with contending threads, against
+ * the synchronized generator it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodeGenerateBenchmark {
+
+    private static final int BULK_SIZE = 256;
+
+    private final CodeGenerateUtils codeGenerate = CodeGenerateUtils.getInstance();
+
+    private final LegacyCodeGenerator legacyCodeGenerator = new LegacyCodeGenerator();
+
+    @Benchmark
+    public long genCode() {
+        return codeGenerate.genCode();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public long[] genCodes() {
+        return codeGenerate.genCodes(BULK_SIZE);
+    }
+
+    @Benchmark
+    public long legacyGenCode() {
+        return legacyCodeGenerator.genCode();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long genCodeContended() {
+        return codeGenerate.genCode();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long legacyGenCodeContended() {
+        return legacyCodeGenerator.genCode();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark.micro;
+
+import org.apache.seatunnel.app.benchmark.legacy.LegacyEngineMetricsParser;
+import org.apache.seatunnel.app.dal.entity.JobMetrics;
+import org.apache.seatunnel.app.thirdparty.engine.SeaTunnelEngineMetricsParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing the metrics the engine reports for one job and for all running jobs, which is what
+ * SeaTunnelEngineMetricsExtractor spends its time on besides the engine round trip, against the
+ * JsonNode tree walk it replaced. A multi-table job adds the per-table metrics the engine reports
+ * next to the job ones, which neither parser aggregates but both have to get through.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EngineMetricsParserBenchmark {
+
+    // measured metrics first, the others are skipped by the parser
+    private static final String[] METRIC_NAMES = {
+        "SourceReceivedCount",
+        "SinkWriteCount",
+        "SourceReceivedQPS",
+        "SinkWriteQPS",
+        "CDCRecordEmitDelay",
+        "SourceReceivedBytes",
+        "SinkWriteBytes",
+        "IntermediateQueueSize"
+    };
+
+    // per-table metrics of a multi-table job, "<metric>#<table>"
+    private static final String[] TABLE_METRIC_NAMES = {
+        "SourceReceivedCount", "SinkWriteCount", "SourceReceivedQPS", "SinkWriteQPS"
+    };
+
+    @Param({"1", "10", "100"})
+    public int jobCount;
+
+    @Param({"1", "1000"})
+    public int tableCount;
+
+    @Param({"1", "4"})
+    public int pipelineCount;
+
+    @Param({"4"})
+    public int parallelism;
+
+    private String jobMetricsContent;
+
+    private String runningJobMetricsContent;
+
+    @Setup
+    public void setUp() {
+        jobMetricsContent = jobMetrics(1000L);
+        StringBuilder running = new StringBuilder("[");
+        for (int job = 0; job < jobCount; job++) {
+            if (job > 0) {
+                running.append(',');
+            }
+            running.append("{\"metrics\":").append(jobMetrics(1000L + job)).append('}');
+        }
+        runningJobMetricsContent = running.append(']').toString();
+    }
+
+    private String jobMetrics(long jobId) {
+        StringBuilder metrics = new StringBuilder("{");
+        for (int m = 0; m < METRIC_NAMES.length; m++) {
+            if (m > 0) {
+                metrics.append(',');
+            }
+            metrics.append('"').append(METRIC_NAMES[m]).append("\":[");
+            for (int pipeline = 1; pipeline <= pipelineCount; pipeline++) {
+                for (int task = 0; task < parallelism; task++) {
+                    if (pipeline > 1 || task > 0) {
+                        metrics.append(',');
+                    }
+                    metrics.append("{\"tags\":{\"jobId\":\"")
+                            .append(jobId)
+                            .append("\",\"pipelineId\":\"")
+                            .append(pipeline)
+                            .append("\",\"taskID\":\"")
+                            .append(task)
+                            .append("\"},\"value\":")
+                            .append(m % 2 == 0 ? "123456" : "78.9")
+                            .append('}');
+                }
+            }
+            metrics.append(']');
+        }
+        if (tableCount > 1) {
+            for (int table = 0; table < tableCount; table++) {
+                for (String metricName : TABLE_METRIC_NAMES) {
+                    metrics.append(",\"")
+                            .append(metricName)
+                            .append("#db.table_")
+                            .append(table)
+                            .append("\":[");
+                    for (int task = 0; task < parallelism; task++) {
+                        if (task > 0) {
+                            metrics.append(',');
+                        }
+                        metrics.append("{\"tags\":{\"jobId\":\"")
+                                .append(jobId)
+                                .append("\",\"pipelineId\":\"1\",\"taskID\":\"")
+                                .append(task)
+                                .append("\"},\"value\":123456}");
+                    }
+                    metrics.append(']');
+                }
+            }
+        }
+        return metrics.append('}').toString();
+    }
+
+    @Benchmark
+    public LinkedHashMap<Integer, SeaTunnelEngineMetricsParser.PipelineMetrics> parseJobMetrics()
+            throws IOException {
+        return SeaTunnelEngineMetricsParser.parseJobMetrics(jobMetricsContent);
+    }
+
+    @Benchmark
+    public Map<Long, LinkedHashMap<Integer, SeaTunnelEngineMetricsParser.PipelineMetrics>>
+            parseRunningJobMetrics() throws IOException {
+        return SeaTunnelEngineMetricsParser.parseRunningJobMetrics(runningJobMetricsContent);
+    }
+
+    @Benchmark
+    public LinkedHashMap<Integer, JobMetrics> legacyParseJobMetrics() throws IOException {
+        return LegacyEngineMetricsParser.parseJobMetrics(jobMetricsContent);
+    }
+
+    @Benchmark
+    public Map<Long, HashMap<Integer, JobMetrics>> legacyParseRunningJobMetrics()
+            throws IOException {
+        return LegacyEngineMetricsParser.parseRunningJobMetrics(runningJobMetricsContent);
+    }
+}
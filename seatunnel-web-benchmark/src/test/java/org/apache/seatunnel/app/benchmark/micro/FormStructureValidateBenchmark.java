@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark.micro;
+
+import org.apache.seatunnel.app.dynamicforms.AbstractFormOption;
+import org.apache.seatunnel.app.dynamicforms.FormLocale;
+import org.apache.seatunnel.app.dynamicforms.FormOptionBuilder;
+import org.apache.seatunnel.app.dynamicforms.FormStructure;
+import org.apache.seatunnel.app.dynamicforms.FormStructureValidate;
+import org.apache.seatunnel.app.dynamicforms.validate.AbstractValidate;
+import org.apache.seatunnel.app.dynamicforms.validate.ValidateBuilder;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validating a connector form, which happens for every form built while connectors are loaded. The
+ * form has pairs of inputs with either a union or a mutually exclusive rule, shown depending on a
+ * select.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormStructureValidateBenchmark {
+
+    @Param({"10", "100"})
+    public int optionCount;
+
+    private FormStructure formStructure;
+
+    @Setup
+    public void setUp() {
+        FormLocale locale = new FormLocale();
+        List<AbstractFormOption> options = new ArrayList<>();
+        options.add(
+                FormOptionBuilder.builder()
+                        .withLabel("checkType")
+                        .withField("checkType")
+                        .staticSelectOptionBuilder()
+                        .addSelectOptions(
+                                new ImmutablePair("no", "no"), new ImmutablePair("all", "all"))
+                        .formStaticSelectOption()
+                        .withDefaultValue("no")
+                        .withValidate(
+                                ValidateBuilder.builder()
+                                        .nonEmptyValidateBuilder()
+                                        .nonEmptyValidate()));
+        options.add(
+                FormOptionBuilder.builder()
+                        .withLabel("city")
+                        .withField("city")
+                        .dynamicSelectOptionBuilder()
+                        .withSelectApi("getCity")
+                        .formDynamicSelectOption());
+
+        for (int i = 0; i + 1 < optionCount; i += 2) {
+            String first = "field_" + i;
+            String second = "field_" + (i + 1);
+            locale.addEnUS(first, first).addZhCN(first, first);
+            locale.addEnUS(first + "_required", first).addZhCN(first + "_required", first);
+            boolean union = i % 4 == 0;
+            for (String field : new String[] {first, second}) {
+                AbstractValidate validate =
+                        union
+                                ? ValidateBuilder.builder()
+                                        .unionNonEmptyValidateBuilder()
+                                        .fields(first, second)
+                                        .unionNonEmptyValidate()
+                                        .withI18nMessage(first + "_required")
+                                : ValidateBuilder.builder()
+                                        .mutuallyExclusiveValidateBuilder()
+                                        .fields(first, second)
+                                        .mutuallyExclusiveValidate();
+                options.add(
+                        FormOptionBuilder.builder()
+                                .withI18nLabel(first)
+                                .withField(field)
+                                .inputOptionBuilder()
+                                .formTextInputOption()
+                                .withShow("checkType", Collections.singletonList("all"))
+                                .withValidate(validate));
+            }
+        }
+
+        formStructure =
+                FormStructure.builder()
+                        .name("benchmarkForm")
+                        .addFormOption(options.toArray(new AbstractFormOption[0]))
+                        .withLocale(locale)
+                        .addApi("getCity", "/api/get_city", FormStructure.HttpMethod.GET)
+                        .build();
+    }
+
+    @Benchmark
+    public FormStructure validateFormStructure() {
+        FormStructureValidate.validateFormStructure(formStructure);
+        return formStructure;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark.micro;
+
+import org.apache.seatunnel.app.benchmark.BenchmarkCluster;
+import org.apache.seatunnel.app.dal.dao.IJobLineDao;
+import org.apache.seatunnel.app.dal.dao.IJobTaskDao;
+import org.apache.seatunnel.app.dal.dao.IJobVersionDao;
+import org.apache.seatunnel.app.dal.entity.JobLine;
+import org.apache.seatunnel.app.dal.entity.JobTask;
+import org.apache.seatunnel.app.dal.entity.JobVersion;
+import org.apache.seatunnel.app.security.UserContext;
+import org.apache.seatunnel.app.security.UserContextHolder;
+import org.apache.seatunnel.app.service.IJobInstanceService;
+import org.apache.seatunnel.common.constants.JobMode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IJobInstanceService#generateJobConfig} of a FakeSource job inside the running application,
+ * with and without the job config cache. Each parameter runs in its own fork, so the cache switch
+ * is picked up when the application starts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GenerateJobConfigBenchmark {
+
+    @Param({"true", "false"})
+    private boolean jobConfigCacheEnabled;
+
+    private IJobInstanceService jobInstanceService;
+
+    private UserContext userContext;
+
+    private long jobId;
+
+    private List<JobTask> tasks;
+
+    private List<JobLine> lines;
+
+    private String env;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty(
+                "seatunnel-web.job-config-cache.enabled", String.valueOf(jobConfigCacheEnabled));
+        BenchmarkCluster.start();
+        jobId =
+                BenchmarkCluster.createFakeSourceJob(
+                        "benchmark_generate_job_config_" + System.currentTimeMillis(),
+                        JobMode.BATCH);
+        jobInstanceService = BenchmarkCluster.getBean(IJobInstanceService.class);
+        userContext = BenchmarkCluster.getAdminUserContext();
+
+        UserContextHolder.setUserContext(userContext);
+        try {
+            JobVersion version =
+                    BenchmarkCluster.getBean(IJobVersionDao.class).getLatestVersion(jobId);
+            tasks =
+                    BenchmarkCluster.getBean(IJobTaskDao.class)
+                            .getTasksByVersionId(version.getId());
+            lines =
+                    BenchmarkCluster.getBean(IJobLineDao.class)
+                            .getLinesByVersionId(version.getId());
+            env = version.getEnv();
+        } finally {
+            UserContextHolder.clear();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkCluster.stop();
+    }
+
+    @Benchmark
+    public String generateJobConfig() {
+        UserContextHolder.setUserContext(userContext);
+        try {
+            return jobInstanceService.generateJobConfig(jobId, tasks, lines, env, null);
+        } finally {
+            UserContextHolder.clear();
+        }
+    }
+}
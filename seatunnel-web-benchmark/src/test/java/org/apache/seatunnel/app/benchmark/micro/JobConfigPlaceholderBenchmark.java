@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark.micro;
+
+import org.apache.seatunnel.app.benchmark.legacy.LegacyPlaceholderReplacer;
+import org.apache.seatunnel.app.domain.request.job.JobExecParam;
+import org.apache.seatunnel.app.utils.JobConfigTemplate;
+import org.apache.seatunnel.app.utils.JobUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filling the placeholders of a rendered job config: scanning it per execution through {@link
+ * JobUtils}, rendering a precompiled {@link JobConfigTemplate} and the regex replacement used
+ * before templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobConfigPlaceholderBenchmark {
+
+    @Param({"0", "10", "100"})
+    public int placeholderCount;
+
+    @Param({"20", "200"})
+    public int sourceCount;
+
+    private String jobConfig;
+
+    private JobExecParam jobExecParam;
+
+    private JobConfigTemplate template;
+
+    @Setup
+    public void setUp() {
+        Map<String, String> placeholderValues = new HashMap<>();
+        StringBuilder config = new StringBuilder();
+        config.append("env {\n  job.mode = \"BATCH\"\n  parallelism = 1\n}\nsource {\n");
+        for (int i = 0; i < sourceCount; i++) {
+            config.append("  FakeSource {\n")
+                    .append("    plugin_output = \"fake_")
+                    .append(i)
+                    .append("\"\n")
+                    .append("    row.num = 100\n")
+                    .append("    schema = { fields { name = \"string\", age = \"int\" } }\n");
+            if (i < placeholderCount) {
+                config.append("    split.num = ${split_num_").append(i).append("}\n");
+                placeholderValues.put("split_num_" + i, String.valueOf(i + 1));
+            }
+            config.append("  }\n");
+        }
+        for (int i = sourceCount; i < placeholderCount; i++) {
+            config.append("  # ${comment_").append(i).append(":none}\n");
+        }
+        config.append("}\nsink {\n  Console {\n    plugin_input = \"fake_0\"\n  }\n}\n");
+
+        jobConfig = config.toString();
+        jobExecParam = new JobExecParam();
+        jobExecParam.setPlaceholderValues(placeholderValues);
+        template = JobConfigTemplate.compile(jobConfig);
+    }
+
+    @Benchmark
+    public String replaceJobConfigPlaceholders() {
+        return JobUtils.replaceJobConfigPlaceholders(jobConfig, jobExecParam);
+    }
+
+    @Benchmark
+    public String renderCompiledTemplate() {
+        return template.render(jobExecParam.getPlaceholderValues());
+    }
+
+    @Benchmark
+    public String legacyReplaceJobConfigPlaceholders() {
+        return LegacyPlaceholderReplacer.replace(jobConfig, jobExecParam.getPlaceholderValues());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.benchmark.micro;
+
+import org.apache.seatunnel.app.benchmark.legacy.LegacyMysqlTableFieldsReader;
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.MysqlMetadataUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.YamlProcessor;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading the fields of many tables of one MySQL database, which is what the MySQL channels spend
+ * their time on when a multi-table source is edited, with one information_schema query per batch of
+ * tables against the two metadata round trips per table it replaced. Runs against the MySQL
+ * database of the integration tests, whose latency to the benchmark host is part of the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MysqlTableFieldsBenchmark {
+
+    private static final String TABLE_PREFIX = "st_bench_fields_";
+
+    @Param({"10", "100", "1000"})
+    public int tableCount;
+
+    private Connection connection;
+
+    private String database;
+
+    private List<String> tables;
+
+    @Setup
+    public void setUp() throws SQLException {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        // the default profile is the one that runs against MySQL
+        yaml.setDocumentMatchers(
+                properties ->
+                        properties.containsKey("spring.config.activate.on-profile")
+                                ? YamlProcessor.MatchStatus.NOT_FOUND
+                                : YamlProcessor.MatchStatus.FOUND);
+        Properties properties = yaml.getObject();
+        Properties info = new Properties();
+        info.put("user", properties.getProperty("spring.datasource.username"));
+        info.put("password", properties.getProperty("spring.datasource.password"));
+        connection =
+                DriverManager.getConnection(properties.getProperty("spring.datasource.url"), info);
+        database = connection.getCatalog();
+        tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            for (int i = 0; i < tableCount; i++) {
+                String table = TABLE_PREFIX + i;
+                tables.add(table);
+                statement.execute("DROP TABLE IF EXISTS " + table);
+                statement.execute(
+                        "CREATE TABLE "
+                                + table
+                                + " (tenant_id INT, id BIGINT UNSIGNED COMMENT 'row id', "
+                                + "name VARCHAR(64) NOT NULL, enabled TINYINT(1), "
+                                + "amount DECIMAL(10,2), created DATETIME, attrs JSON, "
+                                + "body TEXT, PRIMARY KEY (tenant_id, id))");
+            }
+        }
+        // both sides of the benchmark have to read the same fields
+        Map<String, List<TableField>> expected = legacyGetTableFields();
+        Map<String, List<TableField>> actual = getTableFields();
+        if (!Objects.equals(expected, actual)) {
+            throw new IllegalStateException(
+                    "Batched table fields " + actual + " differ from " + expected);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : tables) {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+            }
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public Map<String, List<TableField>> getTableFields() throws SQLException {
+        return MysqlMetadataUtils.getTableFields(
+                connection,
+                database,
+                tables,
+                nullable -> Boolean.TRUE.toString().equals(nullable.toString()));
+    }
+
+    @Benchmark
+    public Map<String, List<TableField>> legacyGetTableFields() throws SQLException {
+        return LegacyMysqlTableFieldsReader.getTableFields(connection, database, tables);
+    }
+}
@@ -82,6 +82,10 @@ public class SeaTunnelWebCluster {
         assertTrue(isRunning());
     }
 
+    public ConfigurableApplicationContext getApplicationContext() {
+        return applicationContext;
+    }
+
     public boolean isRunning() {
         return server.isMasterNode();
     }
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.app.test;
+
+import org.apache.seatunnel.datasource.plugin.api.model.TableField;
+import org.apache.seatunnel.datasource.plugin.api.utils.MysqlMetadataUtils;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.config.YamlProcessor;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The batched information_schema lookup of the MySQL channels gives the same fields as the
+ * getColumns and getPrimaryKeys calls of Connector/J it replaces, on the MySQL database the
+ * integration tests run against.
+ */
+@EnabledIfSystemProperty(named = "dbType", matches = "mysql")
+public class MysqlTableFieldsTest {
+
+    private static final List<String> TABLES =
+            Arrays.asList("st_fields_types", "st_fields_composite_key", "st_fields_no_key");
+
+    private static final String[] CREATE_TABLES = {
+        "CREATE TABLE st_fields_types (id BIGINT UNSIGNED PRIMARY KEY COMMENT 'row id', "
+                + "flag TINYINT(1), flag_unsigned TINYINT(1) UNSIGNED, level TINYINT, "
+                + "amount DECIMAL(10,2) UNSIGNED ZEROFILL, ratio DOUBLE, price FLOAT(7,2), "
+                + "counter MEDIUMINT UNSIGNED, enabled BIT(1), location POINT, shape GEOMETRY, "
+                + "attrs JSON, state ENUM('a','b'), tags SET('x','y'), born YEAR, "
+                + "created DATETIME(3), name VARCHAR(32) NOT NULL, body LONGTEXT, data BLOB)",
+        "CREATE TABLE st_fields_composite_key (user_id INT, order_id INT, code VARCHAR(32), "
+                + "PRIMARY KEY (user_id, order_id), UNIQUE KEY uk_code (code))",
+        "CREATE TABLE st_fields_no_key (name VARCHAR(32))"
+    };
+
+    private static String url;
+
+    private static Properties info;
+
+    @BeforeAll
+    public static void createTables() throws SQLException {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        // the default profile is the one that runs against MySQL
+        yaml.setDocumentMatchers(
+                properties ->
+                        properties.containsKey("spring.config.activate.on-profile")
+                                ? YamlProcessor.MatchStatus.NOT_FOUND
+                                : YamlProcessor.MatchStatus.FOUND);
+        Properties properties = yaml.getObject();
+        url = properties.getProperty("spring.datasource.url");
+        info = new Properties();
+        info.put("user", properties.getProperty("spring.datasource.username"));
+        info.put("password", properties.getProperty("spring.datasource.password"));
+        try (Connection connection = DriverManager.getConnection(url, info);
+                Statement statement = connection.createStatement()) {
+            dropTables(statement);
+            for (String createTable : CREATE_TABLES) {
+                statement.execute(createTable);
+            }
+        }
+    }
+
+    @AfterAll
+    public static void dropTables() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, info);
+                Statement statement = connection.createStatement()) {
+            dropTables(statement);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "",
+                "&tinyInt1isBit=false",
+                "&transformedBitIsBoolean=true",
+                "&useInformationSchema=true"
+            })
+    public void testSameFieldsAsConnectorJ(String connectionProperties) throws SQLException {
+        try (Connection connection =
+                DriverManager.getConnection(url + connectionProperties, info)) {
+            String database = connection.getCatalog();
+            Map<String, List<TableField>> tableFields =
+                    MysqlMetadataUtils.getTableFields(connection, database, TABLES, "YES"::equals);
+
+            Assertions.assertEquals(TABLES, new ArrayList<>(tableFields.keySet()));
+            for (String table : TABLES) {
+                Assertions.assertEquals(
+                        describe(getTableFields(connection.getMetaData(), database, table)),
+                        describe(tableFields.get(table)),
+                        table);
+            }
+        }
+    }
+
+    /** What the MySQL channels read for a single table. */
+    private static List<TableField> getTableFields(
+            DatabaseMetaData metaData, String database, String table) throws SQLException {
+        String primaryKey = null;
+        try (ResultSet primaryKeys = metaData.getPrimaryKeys(database, "%", table)) {
+            if (primaryKeys.next()) {
+                primaryKey = primaryKeys.getString("COLUMN_NAME");
+            }
+        }
+        List<TableField> fields = new ArrayList<>();
+        try (ResultSet columns = metaData.getColumns(database, null, table, null)) {
+            while (columns.next()) {
+                TableField field = new TableField();
+                field.setName(columns.getString("COLUMN_NAME"));
+                field.setPrimaryKey(field.getName().equals(primaryKey));
+                field.setType(columns.getString("TYPE_NAME"));
+                field.setComment(columns.getString("REMARKS"));
+                field.setNullable("YES".equals(columns.getObject("IS_NULLABLE")));
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static Map<String, String> describe(List<TableField> fields) {
+        Map<String, String> description = new LinkedHashMap<>();
+        for (TableField field : fields) {
+            description.put(
+                    field.getName(),
+                    String.join(
+                            "|",
+                            field.getType(),
+                            String.valueOf(field.getPrimaryKey()),
+                            String.valueOf(field.getComment()),
+                            String.valueOf(field.getNullable())));
+        }
+        return description;
+    }
+
+    private static void dropTables(Statement statement) throws SQLException {
+        for (String table : TABLES) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+        }
+    }
+}